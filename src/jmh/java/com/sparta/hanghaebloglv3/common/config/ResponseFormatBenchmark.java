@@ -0,0 +1,98 @@
+package com.sparta.hanghaebloglv3.common.config;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.sparta.hanghaebloglv3.comment.dto.CommentResponseDto;
+import com.sparta.hanghaebloglv3.post.dto.PostResponseDto;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * ResponseFormatBenchmark.
+ * 게시글 목록 한 페이지(게시글 30개, 댓글 5개씩)를 JSON, CBOR, Smile 로 직렬화하는 시간.
+ * 직렬화 크기(gzip 전후)는 setup 에서 한 번 출력.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class ResponseFormatBenchmark {
+
+	private static final int POST_COUNT = 30;
+	private static final int COMMENTS_PER_POST = 5;
+	private static final int USER_COUNT = 10;
+
+	private List<PostResponseDto> posts;
+	private ObjectMapper jsonMapper;
+	private ObjectMapper cborMapper;
+	private ObjectMapper smileMapper;
+
+	@Setup
+	public void setUp() throws IOException {
+		// Spring Boot 기본 설정과 같이 날짜는 문자열로
+		BinaryContentConfig config = new BinaryContentConfig();
+		jsonMapper = this.builder().build();
+		cborMapper = config.cborHttpMessageConverter(this.builder()).getObjectMapper();
+		smileMapper = config.smileHttpMessageConverter(this.builder()).getObjectMapper();
+
+		LocalDateTime now = LocalDateTime.now();
+		posts = new ArrayList<>(POST_COUNT);
+		long commentId = 0;
+		for (int i = 0; i < POST_COUNT; i++) {
+			PostResponseDto post = new PostResponseDto(i, "title " + i, "content ".repeat(1 + i % 30), "user" + i % USER_COUNT,
+					now.minusHours(i), now.minusMinutes(i), i % 7, i * 13L, i * 5L);
+			for (int j = 0; j < COMMENTS_PER_POST; j++) {
+				post.addCommentResponseDtoList(CommentResponseDto.builder()
+						.commentId(++commentId)
+						.postId(i)
+						.content("comment " + commentId)
+						.userName("user" + (i + j) % USER_COUNT)
+						.createdAt(now.minusMinutes(commentId))
+						.modifiedAt(now.minusMinutes(commentId))
+						.heartCount(j % 3)
+						.build());
+			}
+			posts.add(post);
+		}
+
+		System.out.printf("%n[bytes] json %d (gzip %d), cbor %d (gzip %d), smile %d (gzip %d)%n",
+				this.json().length, gzip(this.json()).length,
+				this.cbor().length, gzip(this.cbor()).length,
+				this.smile().length, gzip(this.smile()).length);
+	}
+
+	@Benchmark
+	public byte[] json() throws JsonProcessingException {
+		return jsonMapper.writeValueAsBytes(posts);
+	}
+
+	@Benchmark
+	public byte[] cbor() throws JsonProcessingException {
+		return cborMapper.writeValueAsBytes(posts);
+	}
+
+	@Benchmark
+	public byte[] smile() throws JsonProcessingException {
+		return smileMapper.writeValueAsBytes(posts);
+	}
+
+	private Jackson2ObjectMapperBuilder builder() {
+		return new Jackson2ObjectMapperBuilder().featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+	}
+
+	private static byte[] gzip(byte[] bytes) throws IOException {
+		ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+		try (GZIPOutputStream gzipOutputStream = new GZIPOutputStream(outputStream)) {
+			gzipOutputStream.write(bytes);
+		}
+		return outputStream.toByteArray();
+	}
+}
@@ -0,0 +1,65 @@
+package com.sparta.hanghaebloglv3.common.ratelimit;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * RateLimiterBenchmark.
+ * RateLimitFilter 가 요청마다 수행하는 작업(route 판별 + 버킷 조회 + CAS)의 비용 측정.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class RateLimiterBenchmark {
+
+	private static final int USER_COUNT = 10_000;
+
+	private RateLimiter rateLimiter;
+	private String[] usernames;
+
+	@Setup
+	public void setUp() {
+		rateLimiter = new RateLimiter(100_000);
+		usernames = new String[USER_COUNT];
+		for (int i = 0; i < USER_COUNT; i++) {
+			usernames[i] = "user" + i;
+		}
+	}
+
+	@State(Scope.Thread)
+	public static class Cursor {
+		int index;
+	}
+
+	// 한 사용자가 같은 API를 계속 호출 (대부분 거절되는 경로)
+	@Benchmark
+	public long singleUserFeed() {
+		RateLimitRoute route = RateLimitRoute.resolve("GET", "/api/post");
+		return rateLimiter.tryAcquireForUser(route, "user0", System.nanoTime());
+	}
+
+	// 같은 사용자 key 에 4개 스레드가 동시에 CAS 경쟁
+	@Benchmark
+	@Threads(4)
+	public long singleUserFeedContended() {
+		RateLimitRoute route = RateLimitRoute.resolve("GET", "/api/post");
+		return rateLimiter.tryAcquireForUser(route, "user0", System.nanoTime());
+	}
+
+	// 여러 사용자가 좋아요 API를 나눠서 호출
+	@Benchmark
+	@Threads(4)
+	public long distinctUsersHeart(Cursor cursor) {
+		String username = usernames[cursor.index++ % USER_COUNT];
+		RateLimitRoute route = RateLimitRoute.resolve("POST", "/api/heart-feed/1");
+		return rateLimiter.tryAcquireForUser(route, username, System.nanoTime());
+	}
+
+	// 비로그인 요청 (IP 기준)
+	@Benchmark
+	public long anonymousLogin() {
+		RateLimitRoute route = RateLimitRoute.resolve("POST", "/api/user/login");
+		return rateLimiter.tryAcquireForIp(route, "10.0.0.1", System.nanoTime());
+	}
+}
@@ -0,0 +1,46 @@
+package com.sparta.hanghaebloglv3.common.timing;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * RequestTimingBenchmark.
+ * 게시글 단건 조회 한 번에 추가되는 구간 기록 비용 (jwt, user, service 2회, repository 3회, ser, 헤더 생성).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class RequestTimingBenchmark {
+
+	@Benchmark
+	public String postDetailRequest() {
+		RequestTiming timing = RequestTiming.start();
+		try {
+			this.phase(TimingPhase.JWT);
+			this.phase(TimingPhase.USER);
+			for (int i = 0; i < 2; i++) {
+				RequestTiming.enter(TimingPhase.APP);
+				this.phase(TimingPhase.DB);
+				RequestTiming.exit();
+			}
+			this.phase(TimingPhase.DB);
+			this.phase(TimingPhase.SER);
+			timing.toHeaderValue();
+			return timing.toLogFields(timing.getElapsedNanos());
+		} finally {
+			RequestTiming.clear();
+		}
+	}
+
+	// 요청 스레드가 아닐 때 (스케줄러 등) enter/exit 비용
+	@Benchmark
+	public void inactive() {
+		this.phase(TimingPhase.DB);
+	}
+
+	private void phase(TimingPhase phase) {
+		RequestTiming.enter(phase);
+		RequestTiming.exit();
+	}
+}
@@ -0,0 +1,155 @@
+package com.sparta.hanghaebloglv3.loadtest;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * BlogClient.
+ * 블로그 API 호출 + 응답 시간 기록. 응답을 받지 못한 요청은 status 0 으로 기록하고 null 반환.
+ * 피드, 게시글 상세 조회는 readBaseUrl 로 보낸다. (servlet 서버와 reactive 읽기 서버 비교용)
+ */
+public class BlogClient {
+
+	public static final String PASSWORD = "Passw0rd!";
+
+	private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+	private final String baseUrl;
+	private final String readBaseUrl;
+	private final HttpClient httpClient;
+	private final ObjectMapper objectMapper = new ObjectMapper();
+
+	public BlogClient(String baseUrl, String readBaseUrl, ExecutorService executor) {
+		this.baseUrl = baseUrl;
+		this.readBaseUrl = readBaseUrl;
+		this.httpClient = HttpClient.newBuilder()
+				.version(HttpClient.Version.HTTP_1_1)
+				.connectTimeout(Duration.ofSeconds(5))
+				.executor(executor)
+				.build();
+	}
+
+	/**
+	 * Signup and login, return access token (Authorization header value).
+	 */
+	public String signupAndLogin(String username, ScenarioStats stats) {
+		HttpResponse<String> signup = this.send(this.postJson(baseUrl, "/api/user/signup", null,
+				Map.of("username", username, "password", PASSWORD)), stats);
+		if (signup == null || signup.statusCode() != 200) {
+			return null;
+		}
+		return this.login(username, stats);
+	}
+
+	/**
+	 * Signup as admin (이미 가입되어 있으면 로그인만), return access token.
+	 */
+	public String signupAdminAndLogin(String username, String adminToken, ScenarioStats stats) {
+		this.send(this.postJson(baseUrl, "/api/user/signup", null,
+				Map.of("username", username, "password", PASSWORD, "admin", true, "adminToken", adminToken)), stats);
+		return this.login(username, stats);
+	}
+
+	public String login(String username, ScenarioStats stats) {
+		HttpResponse<String> login = this.send(this.postJson(baseUrl, "/api/user/login", null,
+				Map.of("id", username, "password", PASSWORD)), stats);
+		if (login == null || login.statusCode() != 200) {
+			return null;
+		}
+		return login.headers().firstValue("Authorization").orElse(null);
+	}
+
+	public HttpResponse<String> createPost(String token, String title, String content, ScenarioStats stats) {
+		return this.send(this.postJson(baseUrl, "/api/post", token, Map.of("title", title, "content", content)), stats);
+	}
+
+	public HttpResponse<String> createComment(String token, long postId, String content, ScenarioStats stats) {
+		return this.send(this.postJson(baseUrl, "/api/comment", token, Map.of("postId", postId, "content", content)), stats);
+	}
+
+	public HttpResponse<String> heartPost(String token, long postId, ScenarioStats stats) {
+		return this.send(this.request(baseUrl, "/api/heart-feed/" + postId, token)
+				.POST(HttpRequest.BodyPublishers.noBody())
+				.build(), stats);
+	}
+
+	public HttpResponse<String> getPost(String token, long postId, ScenarioStats stats) {
+		return this.send(this.request(readBaseUrl, "/api/post/" + postId, token).GET().build(), stats);
+	}
+
+	public HttpResponse<String> getFeed(String token, String query, ScenarioStats stats) {
+		return this.send(this.request(readBaseUrl, "/api/feed" + query, token).GET().build(), stats);
+	}
+
+	/**
+	 * Get metric value from read server actuator (응답 시간은 기록하지 않음), 실패하면 NaN.
+	 */
+	public double getMetric(String token, String pathAndQuery) {
+		try {
+			HttpResponse<String> response = httpClient.send(this.request(readBaseUrl, "/actuator/metrics/" + pathAndQuery, token).GET().build(),
+					HttpResponse.BodyHandlers.ofString());
+			if (response.statusCode() != 200) {
+				return Double.NaN;
+			}
+			return this.readTree(response).path("measurements").path(0).path("value").asDouble(Double.NaN);
+		} catch (IOException e) {
+			return Double.NaN;
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return Double.NaN;
+		}
+	}
+
+	public JsonNode readTree(HttpResponse<String> response) {
+		try {
+			return objectMapper.readTree(response.body());
+		} catch (JsonProcessingException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	private HttpResponse<String> send(HttpRequest request, ScenarioStats stats) {
+		long startedAt = System.nanoTime();
+		try {
+			HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+			stats.record(response.statusCode(), System.nanoTime() - startedAt);
+			return response;
+		} catch (IOException e) {
+			stats.record(0, System.nanoTime() - startedAt);
+			return null;
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return null;
+		}
+	}
+
+	private HttpRequest postJson(String url, String path, String token, Map<String, ?> body) {
+		try {
+			return this.request(url, path, token)
+					.header("Content-Type", "application/json")
+					.POST(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(body)))
+					.build();
+		} catch (JsonProcessingException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	private HttpRequest.Builder request(String url, String path, String token) {
+		HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(url + path)).timeout(REQUEST_TIMEOUT);
+		if (token != null) {
+			builder.header("Authorization", token);
+		}
+		return builder;
+	}
+}
@@ -0,0 +1,51 @@
+package com.sparta.hanghaebloglv3.loadtest;
+
+import com.sparta.hanghaebloglv3.HanghaeBlogLv3Application;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.nio.file.Path;
+
+/**
+ * LoadTestMain.
+ * ./gradlew loadTest --args="users=200 posts=1000 duration=30 scenarios=feed_browse,heart_storm"
+ * baseUrl 을 주지 않으면 애플리케이션을 loadtest 프로필(MySQL 모드 H2)로 같은 JVM 에 띄운 뒤 실행한다.
+ * servlet / reactive 읽기 비교 : 같은 MySQL 로 bootRun(8080), reactiveRun(8081) 을 띄우고
+ * baseUrl=http://localhost:8080 adminToken=... scenarios=feed_browse,post_detail 에 readBaseUrl 을 8080, 8081 로 바꿔 두 번 실행해 리포트를 비교.
+ */
+public class LoadTestMain {
+
+	private static final Logger log = LoggerFactory.getLogger(LoadTestMain.class);
+
+	public static void main(String[] args) throws Exception {
+		LoadTestOptions options = new LoadTestOptions(args);
+
+		ConfigurableApplicationContext context = null;
+		String baseUrl = options.getBaseUrl();
+		if (baseUrl.isEmpty()) {
+			context = new SpringApplicationBuilder(HanghaeBlogLv3Application.class)
+					.profiles("loadtest")
+					.run("--server.port=0");
+			baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+		}
+
+		String readBaseUrl = options.getReadBaseUrl().isEmpty() ? baseUrl : options.getReadBaseUrl();
+
+		int exitCode = 0;
+		try {
+			LoadTestReport report = new LoadTestRunner(options, baseUrl, readBaseUrl).run();
+			Path path = report.write(options.getReportDir());
+			log.info("report : {}", path.toAbsolutePath());
+		} catch (RuntimeException e) {
+			log.error("load test failed", e);
+			exitCode = 1;
+		} finally {
+			if (context != null) {
+				context.close();
+			}
+		}
+		System.exit(exitCode);
+	}
+}
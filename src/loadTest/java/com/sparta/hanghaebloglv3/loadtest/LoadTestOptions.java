@@ -0,0 +1,108 @@
+package com.sparta.hanghaebloglv3.loadtest;
+
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * LoadTestOptions.
+ * ./gradlew loadTest --args="users=200 posts=1000 duration=30" 처럼 key=value 로 받는 실행 옵션.
+ */
+public class LoadTestOptions {
+
+	private final Map<String, String> values = new LinkedHashMap<>();
+
+	public LoadTestOptions(String[] args) {
+		for (String arg : args) {
+			int index = arg.indexOf('=');
+			if (index <= 0) {
+				throw new IllegalArgumentException("option must be key=value : " + arg);
+			}
+			values.put(arg.substring(0, index), arg.substring(index + 1));
+		}
+	}
+
+	// 비어 있으면 애플리케이션을 같은 JVM 에 H2 로 띄움, 지정하면 이미 떠 있는 서버로 요청
+	public String getBaseUrl() {
+		return values.getOrDefault("baseUrl", "");
+	}
+
+	// 피드, 게시글 상세 요청만 보낼 서버 (예: reactive 읽기 서버 http://localhost:8081), 비어 있으면 baseUrl 과 같음
+	public String getReadBaseUrl() {
+		return values.getOrDefault("readBaseUrl", "");
+	}
+
+	// 관리자 가입 암호, 지정하면 관리자로 로그인해서 읽기 서버의 /actuator/metrics (스레드 수, heap) 를 같이 기록
+	public String getAdminToken() {
+		return values.getOrDefault("adminToken", "");
+	}
+
+	public int getUsers() {
+		return this.getInt("users", 100);
+	}
+
+	public int getPosts() {
+		return this.getInt("posts", 500);
+	}
+
+	public int getCommentsPerPost() {
+		return this.getInt("commentsPerPost", 3);
+	}
+
+	public int getStormUsers() {
+		return this.getInt("stormUsers", 300);
+	}
+
+	public int getConcurrency() {
+		return this.getInt("concurrency", 32);
+	}
+
+	public int getWarmupSeconds() {
+		return this.getInt("warmup", 5);
+	}
+
+	public int getDurationSeconds() {
+		return this.getInt("duration", 20);
+	}
+
+	public int getFeedPages() {
+		return this.getInt("feedPages", 3);
+	}
+
+	public List<Scenario> getScenarios() {
+		String scenarios = values.get("scenarios");
+		if (scenarios == null) {
+			return List.of(Scenario.values());
+		}
+		return Arrays.stream(scenarios.split(","))
+				.map(name -> Scenario.valueOf(name.trim().toUpperCase()))
+				.toList();
+	}
+
+	public Path getReportDir() {
+		return Path.of(values.getOrDefault("reportDir", "build/reports/loadtest"));
+	}
+
+	// 리포트에 그대로 남겨서 같은 조건의 결과끼리 비교할 수 있게 함
+	public Map<String, Object> toMap() {
+		Map<String, Object> map = new LinkedHashMap<>();
+		map.put("baseUrl", this.getBaseUrl().isEmpty() ? "embedded-h2" : this.getBaseUrl());
+		map.put("readBaseUrl", this.getReadBaseUrl().isEmpty() ? map.get("baseUrl") : this.getReadBaseUrl());
+		map.put("users", this.getUsers());
+		map.put("posts", this.getPosts());
+		map.put("commentsPerPost", this.getCommentsPerPost());
+		map.put("stormUsers", this.getStormUsers());
+		map.put("concurrency", this.getConcurrency());
+		map.put("warmupSeconds", this.getWarmupSeconds());
+		map.put("durationSeconds", this.getDurationSeconds());
+		map.put("feedPages", this.getFeedPages());
+		return map;
+	}
+
+	private int getInt(String key, int defaultValue) {
+		String value = values.get(key);
+		return value == null ? defaultValue : Integer.parseInt(value);
+	}
+}
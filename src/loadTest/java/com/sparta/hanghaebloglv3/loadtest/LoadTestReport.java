@@ -0,0 +1,92 @@
+package com.sparta.hanghaebloglv3.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * LoadTestReport.
+ * 릴리즈 간 비교를 위해 실행 조건과 시나리오 별 처리량, 응답 시간 백분위, 오류율을 JSON 으로 남긴다.
+ */
+public class LoadTestReport {
+
+	private static final DateTimeFormatter FILE_NAME_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+	private static final double[] PERCENTILES = {50, 90, 95, 99, 99.9};
+
+	private final LocalDateTime startedAt = LocalDateTime.now();
+	private final Map<String, Object> root = new LinkedHashMap<>();
+	private final Map<String, Object> scenarios = new LinkedHashMap<>();
+
+	public LoadTestReport(LoadTestOptions options) {
+		root.put("startedAt", startedAt.toString());
+		root.put("javaVersion", Runtime.version().toString());
+		root.put("availableProcessors", Runtime.getRuntime().availableProcessors());
+		root.put("options", options.toMap());
+		root.put("scenarios", scenarios);
+	}
+
+	public void addSeed(ScenarioStats stats) {
+		root.put("seed", this.toMap(stats));
+	}
+
+	public void addScenario(ScenarioStats stats) {
+		scenarios.put(stats.getName(), this.toMap(stats));
+	}
+
+	// readServer : 실행 중 읽기 서버의 스레드 수, heap 사용량 (adminToken 을 준 경우)
+	public void addScenario(ScenarioStats stats, Map<String, Object> readServer) {
+		Map<String, Object> map = this.toMap(stats);
+		map.put("readServer", readServer);
+		scenarios.put(stats.getName(), map);
+	}
+
+	public void addHeartStorm(ScenarioStats stats, LoadTestRunner.HeartStormResult result) {
+		Map<String, Object> map = this.toMap(stats);
+		map.put("postId", result.postId());
+		map.put("succeeded", result.succeeded());
+		map.put("heartCount", result.heartCount());
+		map.put("consistent", result.succeeded() == result.heartCount());
+		scenarios.put(stats.getName(), map);
+	}
+
+	/**
+	 * Write report to dir, return file path.
+	 */
+	public Path write(Path dir) throws IOException {
+		Files.createDirectories(dir);
+		Path path = dir.resolve("loadtest-" + startedAt.format(FILE_NAME_FORMAT) + ".json");
+		new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(path.toFile(), root);
+		return path;
+	}
+
+	private Map<String, Object> toMap(ScenarioStats stats) {
+		Map<String, Object> map = new LinkedHashMap<>();
+		map.put("requests", stats.getRequests());
+		map.put("errors", stats.getErrors());
+		map.put("errorRate", stats.getErrorRate());
+		map.put("elapsedSeconds", stats.getElapsedSeconds());
+		map.put("throughputPerSecond", stats.getThroughput());
+		map.put("latencyMillis", this.toLatencyMap(stats.getLatency()));
+		map.put("statusCounts", stats.getStatusCounts());
+		return map;
+	}
+
+	// 기록 단위는 us, 리포트는 ms
+	private Map<String, Object> toLatencyMap(Histogram histogram) {
+		Map<String, Object> map = new LinkedHashMap<>();
+		map.put("mean", histogram.getMean() / 1000.0);
+		for (double percentile : PERCENTILES) {
+			map.put("p" + String.valueOf(percentile).replace(".0", "").replace(".", ""), histogram.getValueAtPercentile(percentile) / 1000.0);
+		}
+		map.put("max", histogram.getMaxValue() / 1000.0);
+		return map;
+	}
+}
@@ -0,0 +1,156 @@
+package com.sparta.hanghaebloglv3.loadtest;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * LoadTestRunner.
+ * seed 데이터 생성 후 시나리오를 하나씩 순서대로 실행하고 결과를 LoadTestReport 에 모은다.
+ * Java 17 이라 virtual thread 대신 worker 수만큼의 platform thread pool 을 사용한다.
+ */
+public class LoadTestRunner {
+
+	private static final Logger log = LoggerFactory.getLogger(LoadTestRunner.class);
+	private static final String ADMIN_USERNAME = "loadadmin";
+
+	private final LoadTestOptions options;
+	private final BlogClient client;
+	private final ExecutorService workers;
+
+	public LoadTestRunner(LoadTestOptions options, String baseUrl, String readBaseUrl) {
+		this.options = options;
+		this.workers = Executors.newFixedThreadPool(options.getConcurrency());
+		this.client = new BlogClient(baseUrl, readBaseUrl, Executors.newFixedThreadPool(4));
+	}
+
+	/**
+	 * Seed data and run scenarios.
+	 */
+	public LoadTestReport run() throws InterruptedException {
+		LoadTestReport report = new LoadTestReport(options);
+		ServerMetricsSampler sampler = null;
+		try {
+			ScenarioStats seedStats = new ScenarioStats("SEED");
+			seedStats.start();
+			SeedData seed = SeedData.create(client, options, workers, seedStats);
+			seedStats.stop();
+			report.addSeed(seedStats);
+			log.info("seeded in {}s", String.format("%.1f", seedStats.getElapsedSeconds()));
+
+			if (!options.getAdminToken().isEmpty()) {
+				String adminToken = client.signupAdminAndLogin(ADMIN_USERNAME, options.getAdminToken(), new ScenarioStats("ADMIN"));
+				if (adminToken == null) {
+					throw new IllegalStateException("failed to login as admin, check adminToken");
+				}
+				sampler = new ServerMetricsSampler(client, adminToken);
+			}
+
+			for (Scenario scenario : options.getScenarios()) {
+				ScenarioStats stats = new ScenarioStats(scenario.name());
+				Optional<Scenario.Iteration> iteration = scenario.getIteration();
+				if (iteration.isEmpty()) {
+					report.addHeartStorm(stats, this.runHeartStorm(seed, stats));
+				} else if (sampler == null) {
+					this.runTimed(iteration.get(), seed, stats);
+					report.addScenario(stats);
+				} else {
+					sampler.start();
+					this.runTimed(iteration.get(), seed, stats);
+					report.addScenario(stats, sampler.stop());
+				}
+				log.info("{} : {} req, {} req/s, p99 {}ms, errors {}", stats.getName(), stats.getRequests(),
+						String.format("%.1f", stats.getThroughput()),
+						String.format("%.2f", stats.getLatency().getValueAtPercentile(99) / 1000.0),
+						stats.getErrors());
+			}
+			return report;
+		} finally {
+			workers.shutdownNow();
+			if (sampler != null) {
+				sampler.shutdown();
+			}
+		}
+	}
+
+	// warmup 동안은 기록하지 않고 돌린 뒤, duration 동안 기록
+	private void runTimed(Scenario.Iteration iteration, SeedData seed, ScenarioStats stats) throws InterruptedException {
+		long warmupEndsAt = System.nanoTime() + TimeUnit.SECONDS.toNanos(options.getWarmupSeconds());
+		long endsAt = warmupEndsAt + TimeUnit.SECONDS.toNanos(options.getDurationSeconds());
+		stats.setRecording(false);
+
+		List<CompletableFuture<Void>> futures = new ArrayList<>();
+		for (int i = 0; i < options.getConcurrency(); i++) {
+			futures.add(CompletableFuture.runAsync(() -> {
+				while (System.nanoTime() < endsAt && !Thread.currentThread().isInterrupted()) {
+					iteration.iterate(client, seed, options, stats);
+				}
+			}, workers));
+		}
+
+		TimeUnit.NANOSECONDS.sleep(Math.max(0, warmupEndsAt - System.nanoTime()));
+		stats.setRecording(true);
+		stats.start();
+		CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+		stats.stop();
+	}
+
+	// 모든 storm 사용자가 준비된 뒤 동시에 좋아요, 끝나고 게시글의 좋아요 수가 성공 수와 같은지 확인
+	private HeartStormResult runHeartStorm(SeedData seed, ScenarioStats stats) {
+		List<String> tokens = seed.getStormUserTokens();
+		// 사용자마다 스레드 하나씩 두어 요청이 실제로 동시에 나가도록 함
+		ExecutorService stormWorkers = Executors.newFixedThreadPool(Math.max(1, tokens.size()));
+		CountDownLatch ready = new CountDownLatch(tokens.size());
+		CountDownLatch start = new CountDownLatch(1);
+		LongAdder succeeded = new LongAdder();
+
+		List<CompletableFuture<Void>> futures = new ArrayList<>();
+		for (String token : tokens) {
+			futures.add(CompletableFuture.runAsync(() -> {
+				ready.countDown();
+				try {
+					start.await();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					return;
+				}
+				HttpResponse<String> response = client.heartPost(token, seed.getStormPostId(), stats);
+				if (response != null && response.statusCode() == 200) {
+					succeeded.increment();
+				}
+			}, stormWorkers));
+		}
+
+		try {
+			ready.await();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		stats.start();
+		start.countDown();
+		CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+		stats.stop();
+		stormWorkers.shutdown();
+
+		HttpResponse<String> post = client.getPost(tokens.get(0), seed.getStormPostId(), new ScenarioStats("VERIFY"));
+		long heartCount = post == null ? -1 : client.readTree(post).get("heartCount").asLong();
+		return new HeartStormResult(seed.getStormPostId(), succeeded.sum(), heartCount);
+	}
+
+	/**
+	 * HeartStormResult.
+	 * heartCount 가 succeeded 와 다르면 동시 좋아요에서 유실 또는 중복이 있었던 것.
+	 */
+	public record HeartStormResult(long postId, long succeeded, long heartCount) {
+	}
+}
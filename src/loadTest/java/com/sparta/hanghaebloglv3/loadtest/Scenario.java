@@ -0,0 +1,82 @@
+package com.sparta.hanghaebloglv3.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.net.URLEncoder;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Scenario.
+ * iteration 이 있는 시나리오는 정해진 시간 동안 worker 마다 iteration 을 반복한다. (closed loop)
+ * HEART_STORM 은 iteration 이 없고, LoadTestRunner 가 storm 사용자마다 한 번씩 따로 실행한다.
+ */
+public enum Scenario {
+
+	// 회원가입 + 로그인 (BCrypt 비용 포함)
+	SIGNUP_LOGIN(Scenario::signupLogin),
+
+	// 피드 첫 페이지부터 keyset 으로 feedPages 장까지 넘김
+	FEED_BROWSE(Scenario::feedBrowse),
+
+	// 게시글 상세 (댓글 포함)
+	POST_DETAIL((client, seed, options, stats) -> client.getPost(seed.randomUserToken(), seed.randomPostId(), stats)),
+
+	// 임의의 게시글에 댓글 작성
+	COMMENT_WRITE((client, seed, options, stats) ->
+			client.createComment(seed.randomUserToken(), seed.randomPostId(), "load test comment", stats)),
+
+	// 게시글 하나에 stormUsers 명이 동시에 한 번씩 좋아요
+	HEART_STORM(null);
+
+	private static final int FEED_PAGE_SIZE = 20;
+	private static final AtomicInteger SIGNUP_SEQUENCE = new AtomicInteger();
+
+	private final Iteration iteration;
+
+	Scenario(Iteration iteration) {
+		this.iteration = iteration;
+	}
+
+	/**
+	 * Closed loop iteration, empty for scenarios the runner drives itself.
+	 */
+	Optional<Iteration> getIteration() {
+		return Optional.ofNullable(iteration);
+	}
+
+	private static void signupLogin(BlogClient client, SeedData seed, LoadTestOptions options, ScenarioStats stats) {
+		client.signupAndLogin("su" + SIGNUP_SEQUENCE.incrementAndGet(), stats);
+	}
+
+	private static void feedBrowse(BlogClient client, SeedData seed, LoadTestOptions options, ScenarioStats stats) {
+		String token = seed.randomUserToken();
+		String query = "?size=" + FEED_PAGE_SIZE;
+		for (int page = 0; page < options.getFeedPages(); page++) {
+			HttpResponse<String> response = client.getFeed(token, query, stats);
+			if (response == null || response.statusCode() != 200) {
+				return;
+			}
+			JsonNode items = client.readTree(response);
+			if (items.size() < FEED_PAGE_SIZE) {
+				return;
+			}
+			JsonNode last = items.get(items.size() - 1);
+			query = "?size=" + FEED_PAGE_SIZE
+					+ "&lastModifiedAt=" + URLEncoder.encode(last.get("modifiedAt").asText(), StandardCharsets.UTF_8)
+					+ "&lastPostId=" + last.get("postId").asLong();
+		}
+	}
+
+	/**
+	 * Iteration.
+	 * closed loop 시나리오의 한 번의 반복.
+	 */
+	@FunctionalInterface
+	interface Iteration {
+
+		void iterate(BlogClient client, SeedData seed, LoadTestOptions options, ScenarioStats stats);
+	}
+}
@@ -0,0 +1,97 @@
+package com.sparta.hanghaebloglv3.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * ScenarioStats.
+ * 시나리오 하나의 응답 시간 분포(HdrHistogram), 상태 코드 별 응답 수, 오류 수.
+ * 여러 worker 스레드가 동시에 기록한다.
+ */
+public class ScenarioStats {
+
+	// 1us ~ 1분, 유효숫자 3자리
+	private static final long MAX_LATENCY_MICROS = TimeUnit.MINUTES.toMicros(1);
+
+	private final String name;
+	private final Histogram latency = new ConcurrentHistogram(MAX_LATENCY_MICROS, 3);
+	private final ConcurrentHashMap<Integer, LongAdder> statusCounts = new ConcurrentHashMap<>();
+	private final LongAdder requests = new LongAdder();
+	private final LongAdder errors = new LongAdder(); // 4xx, 5xx, 연결 실패
+	private volatile boolean recording = true;
+	private long startedAt;
+	private long elapsedNanos;
+
+	public ScenarioStats(String name) {
+		this.name = name;
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * Record response. (status 0 : 응답을 받지 못함)
+	 */
+	public void record(int status, long latencyNanos) {
+		if (!recording) {
+			return;
+		}
+		requests.increment();
+		statusCounts.computeIfAbsent(status, key -> new LongAdder()).increment();
+		if (status == 0 || status >= 400) {
+			errors.increment();
+		}
+		latency.recordValue(Math.min(MAX_LATENCY_MICROS, Math.max(1, TimeUnit.NANOSECONDS.toMicros(latencyNanos))));
+	}
+
+	// warmup 구간은 기록하지 않음
+	public void setRecording(boolean recording) {
+		this.recording = recording;
+	}
+
+	public void start() {
+		this.startedAt = System.nanoTime();
+	}
+
+	public void stop() {
+		this.elapsedNanos = System.nanoTime() - startedAt;
+	}
+
+	public long getRequests() {
+		return requests.sum();
+	}
+
+	public long getErrors() {
+		return errors.sum();
+	}
+
+	public double getElapsedSeconds() {
+		return elapsedNanos / 1_000_000_000.0;
+	}
+
+	public double getThroughput() {
+		return elapsedNanos == 0 ? 0 : this.getRequests() / this.getElapsedSeconds();
+	}
+
+	public double getErrorRate() {
+		long count = this.getRequests();
+		return count == 0 ? 0 : (double) this.getErrors() / count;
+	}
+
+	public Histogram getLatency() {
+		return latency;
+	}
+
+	public Map<Integer, Long> getStatusCounts() {
+		Map<Integer, Long> counts = new TreeMap<>();
+		statusCounts.forEach((status, count) -> counts.put(status, count.sum()));
+		return counts;
+	}
+}
@@ -0,0 +1,97 @@
+package com.sparta.hanghaebloglv3.loadtest;
+
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.IntFunction;
+
+/**
+ * SeedData.
+ * 시나리오 실행 전에 API 로 만들어 두는 사용자(토큰), 게시글, 댓글.
+ * 서비스 로직(이벤트, feed_item 갱신 등)을 그대로 거치도록 DB 에 직접 넣지 않는다.
+ */
+public class SeedData {
+
+	private final List<String> userTokens;
+	private final List<Long> postIds;
+	private final long stormPostId;
+	private final List<String> stormUserTokens;
+
+	private SeedData(List<String> userTokens, List<Long> postIds, long stormPostId, List<String> stormUserTokens) {
+		this.userTokens = userTokens;
+		this.postIds = postIds;
+		this.stormPostId = stormPostId;
+		this.stormUserTokens = stormUserTokens;
+	}
+
+	/**
+	 * Create seed data with options.
+	 */
+	public static SeedData create(BlogClient client, LoadTestOptions options, ExecutorService executor, ScenarioStats stats) {
+		List<String> userTokens = parallel(executor, options.getUsers(),
+				index -> client.signupAndLogin("seed" + index, stats));
+
+		List<Long> postIds = parallel(executor, options.getPosts(), index -> {
+			String token = userTokens.get(index % userTokens.size());
+			HttpResponse<String> response = client.createPost(token, "title " + index, content(index), stats);
+			return response == null || response.statusCode() != 200 ? null : client.readTree(response).get("postId").asLong();
+		});
+
+		parallel(executor, postIds.size() * options.getCommentsPerPost(), index -> {
+			String token = userTokens.get(ThreadLocalRandom.current().nextInt(userTokens.size()));
+			return client.createComment(token, postIds.get(index % postIds.size()), "comment " + index, stats);
+		});
+
+		// 좋아요 폭주 대상 게시글은 따로 작성 (seed 사용자의 좋아요가 섞이지 않도록)
+		HttpResponse<String> stormPost = client.createPost(userTokens.get(0), "heart storm", content(0), stats);
+		if (stormPost == null || stormPost.statusCode() != 200) {
+			throw new IllegalStateException("failed to create heart storm post");
+		}
+		List<String> stormUserTokens = parallel(executor, options.getStormUsers(),
+				index -> client.signupAndLogin("storm" + index, stats));
+
+		return new SeedData(userTokens, postIds, client.readTree(stormPost).get("postId").asLong(), stormUserTokens);
+	}
+
+	public String randomUserToken() {
+		return userTokens.get(ThreadLocalRandom.current().nextInt(userTokens.size()));
+	}
+
+	public long randomPostId() {
+		return postIds.get(ThreadLocalRandom.current().nextInt(postIds.size()));
+	}
+
+	public long getStormPostId() {
+		return stormPostId;
+	}
+
+	public List<String> getStormUserTokens() {
+		return stormUserTokens;
+	}
+
+	// 본문 길이를 섞어서 excerpt 잘림이 일어나는 게시글도 포함 (content 컬럼 255자 이내)
+	private static String content(int index) {
+		return "content ".repeat(1 + index % 30);
+	}
+
+	// count 개의 작업을 executor 에서 나눠 실행, 실패(null) 결과는 제외
+	private static <T> List<T> parallel(ExecutorService executor, int count, IntFunction<T> task) {
+		List<CompletableFuture<T>> futures = new ArrayList<>(count);
+		for (int i = 0; i < count; i++) {
+			int index = i;
+			futures.add(CompletableFuture.supplyAsync(() -> task.apply(index), executor));
+		}
+		List<T> results = futures.stream()
+				.map(CompletableFuture::join)
+				.filter(Objects::nonNull)
+				.toList();
+		if (results.isEmpty() && count > 0) {
+			throw new IllegalStateException("seed failed, check the server is running");
+		}
+		return results;
+	}
+}
@@ -0,0 +1,77 @@
+package com.sparta.hanghaebloglv3.loadtest;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ServerMetricsSampler.
+ * 시나리오 실행 중 읽기 서버의 live thread 수와 heap 사용량을 주기적으로 읽어 최대값, 평균을 남긴다.
+ * servlet 서버(요청마다 스레드)와 reactive 서버(event loop)의 동시성, 메모리 비교용.
+ */
+public class ServerMetricsSampler {
+
+	private static final long INTERVAL_MILLIS = 500;
+	private static final double MB = 1024 * 1024;
+
+	private final BlogClient client;
+	private final String adminToken;
+	private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+
+	private ScheduledFuture<?> task;
+	private int samples;
+	private double peakThreads;
+	private double sumThreads;
+	private double peakHeapMb;
+	private double sumHeapMb;
+
+	public ServerMetricsSampler(BlogClient client, String adminToken) {
+		this.client = client;
+		this.adminToken = adminToken;
+	}
+
+	public synchronized void start() {
+		samples = 0;
+		peakThreads = sumThreads = peakHeapMb = sumHeapMb = 0;
+		task = scheduler.scheduleWithFixedDelay(this::sample, 0, INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+	}
+
+	/**
+	 * Stop sampling, return summary (샘플이 없으면 빈 map).
+	 */
+	public synchronized Map<String, Object> stop() {
+		task.cancel(false);
+		Map<String, Object> map = new LinkedHashMap<>();
+		if (samples == 0) {
+			return map;
+		}
+		map.put("samples", samples);
+		map.put("peakThreads", peakThreads);
+		map.put("meanThreads", sumThreads / samples);
+		map.put("peakHeapMb", peakHeapMb);
+		map.put("meanHeapMb", sumHeapMb / samples);
+		return map;
+	}
+
+	public void shutdown() {
+		scheduler.shutdownNow();
+	}
+
+	private void sample() {
+		double threads = client.getMetric(adminToken, "jvm.threads.live");
+		double heapMb = client.getMetric(adminToken, "jvm.memory.used?tag=area:heap") / MB;
+		if (Double.isNaN(threads) || Double.isNaN(heapMb)) {
+			return;
+		}
+		synchronized (this) {
+			samples++;
+			peakThreads = Math.max(peakThreads, threads);
+			sumThreads += threads;
+			peakHeapMb = Math.max(peakHeapMb, heapMb);
+			sumHeapMb += heapMb;
+		}
+	}
+}
@@ -4,11 +4,13 @@ import jakarta.annotation.PostConstruct;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 import java.time.ZoneId;
 import java.util.TimeZone;
 
 @EnableJpaAuditing
+@EnableScheduling
 @SpringBootApplication
 public class HanghaeBlogLv3Application {
 
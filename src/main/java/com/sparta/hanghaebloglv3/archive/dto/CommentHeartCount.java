@@ -0,0 +1,10 @@
+package com.sparta.hanghaebloglv3.archive.dto;
+
+/**
+ * CommentHeartCount.
+ */
+public interface CommentHeartCount {
+	Long getCommentId();
+
+	long getHeartCount();
+}
@@ -0,0 +1,63 @@
+package com.sparta.hanghaebloglv3.archive.entity;
+
+import com.sparta.hanghaebloglv3.user.entity.UserEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+/**
+ * ArchivedCommentEntity.
+ * 보관된 댓글 (읽기 전용). 게시글과 같은 archive_month 파티션에 저장된다.
+ */
+@Getter
+@Entity
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@IdClass(ArchivedCommentEntity.Key.class)
+@Table(name = "tb_comment_archive", indexes = {
+		@Index(name = "idx_comment_archive_post_id", columnList = "post_id"),
+		@Index(name = "idx_comment_archive_user_id", columnList = "user_id"), // 사용자 통계 재계산
+		@Index(name = "idx_comment_archive_comment_id", columnList = "comment_id") // 백업 keyset, 보관 중복 확인
+})
+public class ArchivedCommentEntity {
+
+	@Id
+	@Column(name = "comment_id")
+	private Long commentId;
+
+	@Id
+	@Column(name = "post_id")
+	private Long postId;
+
+	@Id
+	@Column(name = "archive_month")
+	private Integer archiveMonth;
+
+	@ManyToOne(fetch = FetchType.LAZY)
+	@JoinColumn(name = "user_id", foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT))
+	private UserEntity userEntity;
+
+	@Column(name = "content", nullable = false)
+	private String content;
+
+	@Column(name = "created_at")
+	private LocalDateTime createdAt;
+
+	@Column(name = "modified_at")
+	private LocalDateTime modifiedAt;
+
+	@Getter
+	@EqualsAndHashCode
+	@NoArgsConstructor
+	@AllArgsConstructor
+	public static class Key implements Serializable {
+		private Long commentId;
+		private Long postId;
+		private Integer archiveMonth;
+	}
+}
@@ -0,0 +1,54 @@
+package com.sparta.hanghaebloglv3.archive.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+/**
+ * ArchivedHeartComment.
+ * 보관된 댓글 좋아요 (읽기 전용). 게시글 단위로 조회, 파티션하기 위해 post_id 를 함께 저장한다.
+ */
+@Getter
+@Entity
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@IdClass(ArchivedHeartComment.Key.class)
+@Table(name = "tb_heart_comment_archive", indexes = {
+		@Index(name = "idx_heart_comment_archive_post_id", columnList = "post_id"),
+		@Index(name = "idx_heart_comment_archive_user_id", columnList = "user_id"), // 사용자 통계 재계산
+		@Index(name = "idx_heart_comment_archive_heart_comment_id", columnList = "heart_comment_id") // 백업 keyset, 보관 중복 확인
+})
+public class ArchivedHeartComment {
+
+	@Id
+	@Column(name = "heart_comment_id")
+	private Long heartCommentId;
+
+	@Id
+	@Column(name = "post_id")
+	private Long postId;
+
+	@Id
+	@Column(name = "archive_month")
+	private Integer archiveMonth;
+
+	@Column(name = "comment_id", nullable = false)
+	private Long commentId;
+
+	@Column(name = "user_id")
+	private Long userId;
+
+	@Getter
+	@EqualsAndHashCode
+	@NoArgsConstructor
+	@AllArgsConstructor
+	public static class Key implements Serializable {
+		private Long heartCommentId;
+		private Long postId;
+		private Integer archiveMonth;
+	}
+}
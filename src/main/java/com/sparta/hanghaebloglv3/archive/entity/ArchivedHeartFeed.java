@@ -0,0 +1,51 @@
+package com.sparta.hanghaebloglv3.archive.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+/**
+ * ArchivedHeartFeed.
+ * 보관된 게시글 좋아요 (읽기 전용).
+ */
+@Getter
+@Entity
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@IdClass(ArchivedHeartFeed.Key.class)
+@Table(name = "tb_heart_feed_archive", indexes = {
+		@Index(name = "idx_heart_feed_archive_post_id", columnList = "post_id"),
+		@Index(name = "idx_heart_feed_archive_user_id", columnList = "user_id"), // 사용자 통계 재계산
+		@Index(name = "idx_heart_feed_archive_heart_feed_id", columnList = "heart_feed_id") // 백업 keyset, 보관 중복 확인
+})
+public class ArchivedHeartFeed {
+
+	@Id
+	@Column(name = "heart_feed_id")
+	private Long heartFeedId;
+
+	@Id
+	@Column(name = "post_id")
+	private Long postId;
+
+	@Id
+	@Column(name = "archive_month")
+	private Integer archiveMonth;
+
+	@Column(name = "user_id")
+	private Long userId;
+
+	@Getter
+	@EqualsAndHashCode
+	@NoArgsConstructor
+	@AllArgsConstructor
+	public static class Key implements Serializable {
+		private Long heartFeedId;
+		private Long postId;
+		private Integer archiveMonth;
+	}
+}
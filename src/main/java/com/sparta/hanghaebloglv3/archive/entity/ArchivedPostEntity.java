@@ -0,0 +1,64 @@
+package com.sparta.hanghaebloglv3.archive.entity;
+
+import com.sparta.hanghaebloglv3.user.entity.UserEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+/**
+ * ArchivedPostEntity.
+ * 보관된 게시글 (읽기 전용). archive_month(게시글 작성 월, yyyyMM) 로 월별 파티션되므로 primary key 에 포함되고,
+ * 파티션 테이블에는 외래 키를 둘 수 없어 연관 관계에 제약조건을 만들지 않는다.
+ */
+@Getter
+@Entity
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@IdClass(ArchivedPostEntity.Key.class)
+@Table(name = "tb_post_archive", indexes = {
+		@Index(name = "idx_post_archive_post_id", columnList = "post_id"),
+		@Index(name = "idx_post_archive_user_id", columnList = "user_id") // 사용자 통계 재계산
+})
+public class ArchivedPostEntity {
+
+	@Id
+	@Column(name = "post_id")
+	private Long postId;
+
+	@Id
+	@Column(name = "archive_month")
+	private Integer archiveMonth;
+
+	@ManyToOne(fetch = FetchType.LAZY)
+	@JoinColumn(name = "user_id", foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT))
+	private UserEntity userEntity;
+
+	@Column(name = "title", nullable = false)
+	private String title;
+
+	@Column(name = "content", nullable = false)
+	private String content;
+
+	@Column(name = "created_at")
+	private LocalDateTime createdAt;
+
+	@Column(name = "modified_at")
+	private LocalDateTime modifiedAt;
+
+	@Column(name = "archived_at", nullable = false)
+	private LocalDateTime archivedAt;
+
+	@Getter
+	@EqualsAndHashCode
+	@NoArgsConstructor
+	@AllArgsConstructor
+	public static class Key implements Serializable {
+		private Long postId;
+		private Integer archiveMonth;
+	}
+}
@@ -0,0 +1,38 @@
+package com.sparta.hanghaebloglv3.archive.repository;
+
+import com.sparta.hanghaebloglv3.archive.entity.ArchivedCommentEntity;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+import static com.sparta.hanghaebloglv3.archive.repository.ArchivedPostRepository.ARCHIVE_MONTH_OF_POST;
+
+/**
+ * ArchivedCommentRepository.
+ */
+@Repository
+public interface ArchivedCommentRepository extends JpaRepository<ArchivedCommentEntity, ArchivedCommentEntity.Key> {
+
+	/**
+	 * Find archived comments of post with authors (파티션 하나만 조회).
+	 */
+	@EntityGraph(attributePaths = "userEntity")
+	@Query("select c from ArchivedCommentEntity c where c.archiveMonth = :archiveMonth and c.postId = :postId order by c.modifiedAt desc")
+	List<ArchivedCommentEntity> findAllWithAuthorsByPost(@Param("archiveMonth") Integer archiveMonth, @Param("postId") Long postId);
+
+	/**
+	 * Copy comments of posts into archive. 이미 보관된 댓글은 제외.
+	 */
+	@Modifying
+	@Query(value = "insert into tb_comment_archive (comment_id, post_id, archive_month, user_id, content, created_at, modified_at) "
+			+ "select c.comment_id, c.post_id, " + ARCHIVE_MONTH_OF_POST + ", c.user_id, c.content, c.created_at, c.modified_at "
+			+ "from tb_comment c join tb_post p on p.post_id = c.post_id where c.post_id in :postIds "
+			+ "and not exists (select 1 from tb_comment_archive a where a.comment_id = c.comment_id)", nativeQuery = true)
+	int archive(@Param("postIds") Collection<Long> postIds);
+}
@@ -0,0 +1,36 @@
+package com.sparta.hanghaebloglv3.archive.repository;
+
+import com.sparta.hanghaebloglv3.archive.dto.CommentHeartCount;
+import com.sparta.hanghaebloglv3.archive.entity.ArchivedHeartComment;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+import static com.sparta.hanghaebloglv3.archive.repository.ArchivedPostRepository.ARCHIVE_MONTH_OF_POST;
+
+@Repository
+public interface ArchivedHeartCommentRepository extends JpaRepository<ArchivedHeartComment, ArchivedHeartComment.Key> {
+
+	/**
+	 * Count hearts of each comment of post.
+	 */
+	@Query("select h.commentId as commentId, count(h) as heartCount from ArchivedHeartComment h "
+			+ "where h.archiveMonth = :archiveMonth and h.postId = :postId group by h.commentId")
+	List<CommentHeartCount> countByComment(@Param("archiveMonth") Integer archiveMonth, @Param("postId") Long postId);
+
+	/**
+	 * Copy comment hearts of posts into archive. 이미 보관된 좋아요는 제외.
+	 */
+	@Modifying
+	@Query(value = "insert into tb_heart_comment_archive (heart_comment_id, post_id, archive_month, comment_id, user_id) "
+			+ "select h.heart_comment_id, c.post_id, " + ARCHIVE_MONTH_OF_POST + ", h.comment_id, h.user_id "
+			+ "from tb_heart_comment h join tb_comment c on c.comment_id = h.comment_id join tb_post p on p.post_id = c.post_id "
+			+ "where c.post_id in :postIds "
+			+ "and not exists (select 1 from tb_heart_comment_archive a where a.heart_comment_id = h.heart_comment_id)", nativeQuery = true)
+	int archive(@Param("postIds") Collection<Long> postIds);
+}
@@ -0,0 +1,27 @@
+package com.sparta.hanghaebloglv3.archive.repository;
+
+import com.sparta.hanghaebloglv3.archive.entity.ArchivedHeartFeed;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+
+import static com.sparta.hanghaebloglv3.archive.repository.ArchivedPostRepository.ARCHIVE_MONTH_OF_POST;
+
+@Repository
+public interface ArchivedHeartFeedRepository extends JpaRepository<ArchivedHeartFeed, ArchivedHeartFeed.Key> {
+	long countByArchiveMonthAndPostId(Integer archiveMonth, Long postId);
+
+	/**
+	 * Copy hearts of posts into archive. 이미 보관된 좋아요는 제외.
+	 */
+	@Modifying
+	@Query(value = "insert into tb_heart_feed_archive (heart_feed_id, post_id, archive_month, user_id) "
+			+ "select h.heart_feed_id, h.post_id, " + ARCHIVE_MONTH_OF_POST + ", h.user_id "
+			+ "from tb_heart_feed h join tb_post p on p.post_id = h.post_id where h.post_id in :postIds "
+			+ "and not exists (select 1 from tb_heart_feed_archive a where a.heart_feed_id = h.heart_feed_id)", nativeQuery = true)
+	int archive(@Param("postIds") Collection<Long> postIds);
+}
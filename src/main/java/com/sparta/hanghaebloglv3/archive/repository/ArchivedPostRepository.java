@@ -0,0 +1,59 @@
+package com.sparta.hanghaebloglv3.archive.repository;
+
+import com.sparta.hanghaebloglv3.archive.entity.ArchivedPostEntity;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Optional;
+
+/**
+ * ArchivedPostRepository.
+ */
+@Repository
+public interface ArchivedPostRepository extends JpaRepository<ArchivedPostEntity, ArchivedPostEntity.Key> {
+
+	// 게시글(p) 작성 월 yyyyMM, 게시글과 댓글, 좋아요를 같은 파티션에 둠
+	String ARCHIVE_MONTH_OF_POST = "(year(p.created_at) * 100 + month(p.created_at))";
+
+	/**
+	 * Find archived post with author.
+	 * archive_month 를 모르므로 파티션마다 post_id index 를 한 번씩 조회.
+	 */
+	@EntityGraph(attributePaths = "userEntity")
+	@Query("select a from ArchivedPostEntity a where a.postId = :postId")
+	Optional<ArchivedPostEntity> findWithAuthorByPostId(@Param("postId") Long postId);
+
+	/**
+	 * Find rename times of author and commenters, view count of archived post (ETag).
+	 * 보관된 게시글은 바뀌지 않지만 작성자, 댓글 작성자의 username 과 조회수(tb_post_view)는 바뀔 수 있음.
+	 */
+	@Query("select u.usernameModifiedAt as authorRenamedAt, "
+			+ "(select max(cu.usernameModifiedAt) from ArchivedCommentEntity c join c.userEntity cu where c.postId = a.postId) as commenterRenamedAt, "
+			+ "(select v.viewCount from PostViewEntity v where v.postId = a.postId) as viewCount "
+			+ "from ArchivedPostEntity a join a.userEntity u where a.postId = :postId")
+	Optional<ArchivedVersion> findVersionByPostId(@Param("postId") Long postId);
+
+	interface ArchivedVersion {
+		LocalDateTime getAuthorRenamedAt();
+
+		LocalDateTime getCommenterRenamedAt();
+
+		Long getViewCount();
+	}
+
+	/**
+	 * Copy posts into archive. 이미 보관된 게시글은 제외.
+	 */
+	@Modifying
+	@Query(value = "insert into tb_post_archive (post_id, archive_month, user_id, title, content, created_at, modified_at, archived_at) "
+			+ "select p.post_id, " + ARCHIVE_MONTH_OF_POST + ", p.user_id, p.title, p.content, p.created_at, p.modified_at, :archivedAt "
+			+ "from tb_post p where p.post_id in :postIds "
+			+ "and not exists (select 1 from tb_post_archive a where a.post_id = p.post_id)", nativeQuery = true)
+	int archive(@Param("postIds") Collection<Long> postIds, @Param("archivedAt") LocalDateTime archivedAt);
+}
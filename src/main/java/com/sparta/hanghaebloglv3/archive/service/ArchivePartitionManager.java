@@ -0,0 +1,115 @@
+package com.sparta.hanghaebloglv3.archive.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * ArchivePartitionManager.
+ * archive 테이블을 archive_month 기준 월별 RANGE 파티션으로 나누고, 다음 달 파티션을 미리 만들어 둔다.
+ * 처음에는 보관될 수 있는 가장 오래된 달부터 만들고, 이후에는 pmax 를 나눠서 새 달을 추가한다. (MySQL 만, 그외 DB 는 파티션 없이 사용)
+ */
+@Slf4j(topic = "보관 파티션")
+@Component
+@RequiredArgsConstructor
+public class ArchivePartitionManager {
+
+	private static final List<String> ARCHIVE_TABLES = List.of("tb_post_archive", "tb_comment_archive", "tb_heart_feed_archive", "tb_heart_comment_archive");
+	private static final String MAX_PARTITION = "partition pmax values less than maxvalue";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	/**
+	 * Ensure partitions on startup.
+	 */
+	@Order(0) // 시작 시 복원(BackupRestoreOnStartup)은 이보다 먼저 끝나므로 복원된 보관 데이터의 달까지 파티션을 만듦
+	@EventListener(ApplicationReadyEvent.class)
+	public void init() {
+		this.ensurePartitions();
+	}
+
+	/**
+	 * Ensure monthly partitions until next month.
+	 */
+	public void ensurePartitions() {
+		if (!this.isMySql()) {
+			return;
+		}
+		YearMonth lastMonth = YearMonth.now().plusMonths(1);
+		for (String table : ARCHIVE_TABLES) {
+			List<String> bounds = jdbcTemplate.queryForList(
+					"select partition_description from information_schema.partitions "
+							+ "where table_schema = database() and table_name = ? and partition_name is not null "
+							+ "order by partition_ordinal_position", String.class, table);
+
+			if (bounds.isEmpty()) {
+				List<String> partitions = this.monthPartitions(this.findFirstMonth(table), lastMonth);
+				partitions.add(MAX_PARTITION);
+				jdbcTemplate.execute("alter table " + table + " partition by range (archive_month) (" + String.join(", ", partitions) + ")");
+				log.info("{} partitioned. months : {}", table, partitions.size() - 1);
+				continue;
+			}
+
+			// pmax 바로 앞 파티션의 상한(다음 달)부터 추가
+			YearMonth nextMonth = bounds.stream()
+					.filter(bound -> !bound.equalsIgnoreCase("MAXVALUE"))
+					.map(bound -> toYearMonth(Integer.parseInt(bound)))
+					.max(YearMonth::compareTo)
+					.orElse(YearMonth.now());
+			if (nextMonth.isAfter(lastMonth)) {
+				continue;
+			}
+			List<String> partitions = this.monthPartitions(nextMonth, lastMonth);
+			partitions.add(MAX_PARTITION);
+			jdbcTemplate.execute("alter table " + table + " reorganize partition pmax into (" + String.join(", ", partitions) + ")");
+			log.info("{} partitions added : {}", table, partitions.size() - 1);
+		}
+	}
+
+	private static int toArchiveMonth(YearMonth yearMonth) {
+		return yearMonth.getYear() * 100 + yearMonth.getMonthValue();
+	}
+
+	private static YearMonth toYearMonth(int archiveMonth) {
+		return YearMonth.of(archiveMonth / 100, archiveMonth % 100);
+	}
+
+	// 아직 보관되지 않은 게시글, 이미 보관된 row 중 가장 오래된 달
+	private YearMonth findFirstMonth(String table) {
+		LocalDateTime oldestPost = jdbcTemplate.queryForObject("select min(created_at) from tb_post", LocalDateTime.class);
+		Integer oldestArchived = jdbcTemplate.queryForObject("select min(archive_month) from " + table, Integer.class);
+
+		YearMonth firstMonth = YearMonth.now();
+		if (oldestPost != null && YearMonth.from(oldestPost).isBefore(firstMonth)) {
+			firstMonth = YearMonth.from(oldestPost);
+		}
+		if (oldestArchived != null && toYearMonth(oldestArchived).isBefore(firstMonth)) {
+			firstMonth = toYearMonth(oldestArchived);
+		}
+		return firstMonth;
+	}
+
+	// from ~ to 각 달의 파티션 정의 (p202401 values less than (202402))
+	private List<String> monthPartitions(YearMonth from, YearMonth to) {
+		List<String> partitions = new ArrayList<>();
+		for (YearMonth month = from; !month.isAfter(to); month = month.plusMonths(1)) {
+			partitions.add("partition p" + toArchiveMonth(month) + " values less than (" + toArchiveMonth(month.plusMonths(1)) + ")");
+		}
+		return partitions;
+	}
+
+	private boolean isMySql() {
+		String productName = jdbcTemplate.execute((ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName());
+		return "MySQL".equalsIgnoreCase(productName);
+	}
+}
@@ -0,0 +1,209 @@
+package com.sparta.hanghaebloglv3.archive.service;
+
+import com.sparta.hanghaebloglv3.archive.dto.CommentHeartCount;
+import com.sparta.hanghaebloglv3.archive.entity.ArchivedPostEntity;
+import com.sparta.hanghaebloglv3.archive.repository.ArchivedCommentRepository;
+import com.sparta.hanghaebloglv3.archive.repository.ArchivedHeartCommentRepository;
+import com.sparta.hanghaebloglv3.archive.repository.ArchivedHeartFeedRepository;
+import com.sparta.hanghaebloglv3.archive.repository.ArchivedPostRepository;
+import com.sparta.hanghaebloglv3.comment.dto.CommentResponseDto;
+import com.sparta.hanghaebloglv3.comment.repository.CommentRepository;
+import com.sparta.hanghaebloglv3.common.event.ChangeEvent;
+import com.sparta.hanghaebloglv3.common.event.ChangeType;
+import com.sparta.hanghaebloglv3.common.event.PostChangedEvent;
+import com.sparta.hanghaebloglv3.common.maintenance.MaintenanceLock;
+import com.sparta.hanghaebloglv3.heart.heartComment.repository.HeartCommentRepository;
+import com.sparta.hanghaebloglv3.heart.heartFeed.repository.HeartFeedRepository;
+import com.sparta.hanghaebloglv3.post.dto.PostResponseDto;
+import com.sparta.hanghaebloglv3.post.dto.PostVersion;
+import com.sparta.hanghaebloglv3.post.entity.PostEntity;
+import com.sparta.hanghaebloglv3.post.repository.PostRepository;
+import com.sparta.hanghaebloglv3.post.repository.PostViewRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * PostArchiveService.
+ * 오래된 게시글을 댓글, 좋아요와 함께 월별 파티션 archive 테이블로 옮겨 hot 테이블(tb_post, tb_comment 등)을 작게 유지한다.
+ * 보관된 게시글은 단건 조회만 가능하고(읽기 전용), 목록, 피드에서는 빠진다.
+ */
+@Slf4j(topic = "게시글 보관")
+@Service
+public class PostArchiveService {
+
+	private static final String ARCHIVE_JOB = "archive";
+
+	private final PostRepository postRepository;
+	private final CommentRepository commentRepository;
+	private final HeartFeedRepository heartFeedRepository;
+	private final HeartCommentRepository heartCommentRepository;
+	private final ArchivedPostRepository archivedPostRepository;
+	private final ArchivedCommentRepository archivedCommentRepository;
+	private final ArchivedHeartFeedRepository archivedHeartFeedRepository;
+	private final ArchivedHeartCommentRepository archivedHeartCommentRepository;
+	private final PostViewRepository postViewRepository;
+	private final ArchivePartitionManager archivePartitionManager;
+	private final MaintenanceLock maintenanceLock;
+	private final ApplicationEventPublisher eventPublisher;
+	private final TransactionTemplate transactionTemplate;
+	private final TransactionTemplate readOnlyTransactionTemplate;
+	private final long minAgeDays;
+	private final int batchSize;
+
+	public PostArchiveService(PostRepository postRepository,
+	                          CommentRepository commentRepository,
+	                          HeartFeedRepository heartFeedRepository,
+	                          HeartCommentRepository heartCommentRepository,
+	                          ArchivedPostRepository archivedPostRepository,
+	                          ArchivedCommentRepository archivedCommentRepository,
+	                          ArchivedHeartFeedRepository archivedHeartFeedRepository,
+	                          ArchivedHeartCommentRepository archivedHeartCommentRepository,
+	                          PostViewRepository postViewRepository,
+	                          ArchivePartitionManager archivePartitionManager,
+	                          MaintenanceLock maintenanceLock,
+	                          ApplicationEventPublisher eventPublisher,
+	                          PlatformTransactionManager transactionManager,
+	                          @Value("${archive.min-age-days}") long minAgeDays,
+	                          @Value("${archive.batch-size}") int batchSize) {
+		this.postRepository = postRepository;
+		this.commentRepository = commentRepository;
+		this.heartFeedRepository = heartFeedRepository;
+		this.heartCommentRepository = heartCommentRepository;
+		this.archivedPostRepository = archivedPostRepository;
+		this.archivedCommentRepository = archivedCommentRepository;
+		this.archivedHeartFeedRepository = archivedHeartFeedRepository;
+		this.archivedHeartCommentRepository = archivedHeartCommentRepository;
+		this.postViewRepository = postViewRepository;
+		this.archivePartitionManager = archivePartitionManager;
+		this.maintenanceLock = maintenanceLock;
+		this.eventPublisher = eventPublisher;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.readOnlyTransactionTemplate = new TransactionTemplate(transactionManager);
+		this.readOnlyTransactionTemplate.setReadOnly(true);
+		this.minAgeDays = minAgeDays;
+		this.batchSize = batchSize;
+	}
+
+	/**
+	 * Scheduled archive (archive.cron).
+	 */
+	@Scheduled(cron = "${archive.cron}")
+	public void scheduledArchive() {
+		this.archive(LocalDateTime.now().minusDays(minAgeDays));
+	}
+
+	/**
+	 * Move posts not modified (including comments) since cutoff into archive.
+	 * 게시글 id 순 chunk 마다 하나의 짧은 트랜잭션에서 복사, 삭제하므로 중간에 실패해도 다음 실행에서 이어서 진행된다.
+	 */
+	public int archive(LocalDateTime cutoff) {
+		if (!maintenanceLock.tryLock(ARCHIVE_JOB)) {
+			log.info("archive skipped. running : {}", maintenanceLock.getOwner());
+			return 0;
+		}
+		try {
+			archivePartitionManager.ensurePartitions();
+			int archived = 0;
+			Long lastPostId = 0L;
+			while (true) {
+				Long afterPostId = lastPostId;
+				List<Long> postIds = readOnlyTransactionTemplate.execute(status ->
+						postRepository.findArchivableIdsAfter(afterPostId, cutoff, PageRequest.of(0, batchSize))
+				);
+				if (postIds == null || postIds.isEmpty()) {
+					break;
+				}
+				Integer moved = transactionTemplate.execute(status -> this.move(postIds, cutoff));
+				archived += moved == null ? 0 : moved;
+				lastPostId = postIds.get(postIds.size() - 1);
+			}
+			log.info("posts archived : {}, cutoff : {}", archived, cutoff);
+			return archived;
+		} finally {
+			maintenanceLock.unlock(ARCHIVE_JOB);
+		}
+	}
+
+	/**
+	 * Get archived post with comments.
+	 */
+	@Transactional(readOnly = true)
+	public Optional<PostResponseDto> findArchivedPost(Long postId) {
+		return archivedPostRepository.findWithAuthorByPostId(postId).map(this::toResponseDto);
+	}
+
+	/**
+	 * Get ETag of archived post. 보관된 게시글은 바뀌지 않으므로 id, 작성자 이름 변경 시각, 반영된 조회수(PostVersion 과 같음)로 정해진다.
+	 */
+	@Transactional(readOnly = true)
+	public Optional<String> findArchivedETag(Long postId) {
+		return archivedPostRepository.findVersionByPostId(postId).map(version -> "W/\"a" + Long.toString(postId, 36)
+				+ "-" + PostVersion.toToken(version.getAuthorRenamedAt())
+				+ "." + PostVersion.toToken(version.getCommenterRenamedAt())
+				+ "-" + PostVersion.toViewToken(version.getViewCount()) + "\"");
+	}
+
+	// 잠근 뒤에도 보관 조건을 만족하는 게시글만 archive 로 복사하고 hot 테이블에서 삭제 (외래 키 역순)
+	private int move(List<Long> candidatePostIds, LocalDateTime cutoff) {
+		List<Long> postIds = postRepository.findArchivableForUpdate(candidatePostIds, cutoff).stream()
+				.map(PostEntity::getPostId)
+				.toList();
+		if (postIds.isEmpty()) {
+			return 0;
+		}
+
+		LocalDateTime archivedAt = LocalDateTime.now();
+		archivedPostRepository.archive(postIds, archivedAt);
+		archivedCommentRepository.archive(postIds);
+		archivedHeartFeedRepository.archive(postIds);
+		archivedHeartCommentRepository.archive(postIds);
+
+		heartCommentRepository.deleteAllByPostIds(postIds);
+		heartFeedRepository.deleteAllByPostIds(postIds);
+		commentRepository.deleteAllByPostIds(postIds);
+		postRepository.deleteAllByPostIds(postIds);
+
+		// feed_item, 응답 캐시, 실시간 구독 정리, 동기화에서는 삭제로 보냄 (feed 에서 빠지므로)
+		postIds.forEach(postId -> {
+			eventPublisher.publishEvent(new PostChangedEvent(postId));
+			eventPublisher.publishEvent(ChangeEvent.delete(ChangeType.POST, postId));
+		});
+		return postIds.size();
+	}
+
+	private PostResponseDto toResponseDto(ArchivedPostEntity archivedPost) {
+		Integer archiveMonth = archivedPost.getArchiveMonth();
+		Long postId = archivedPost.getPostId();
+		PostResponseDto postResponseDto = new PostResponseDto(archivedPost,
+				(int) archivedHeartFeedRepository.countByArchiveMonthAndPostId(archiveMonth, postId));
+		postViewRepository.findById(postId).ifPresent(postResponseDto::setViews); // 조회수는 보관되지 않고 tb_post_view 에 그대로 남음
+
+		Map<Long, Long> heartCounts = archivedHeartCommentRepository.countByComment(archiveMonth, postId).stream()
+				.collect(Collectors.toMap(CommentHeartCount::getCommentId, CommentHeartCount::getHeartCount));
+		archivedCommentRepository.findAllWithAuthorsByPost(archiveMonth, postId).forEach(archivedComment ->
+				postResponseDto.addCommentResponseDtoList(CommentResponseDto.builder()
+						.postId(postId)
+						.commentId(archivedComment.getCommentId())
+						.content(archivedComment.getContent())
+						.userName(archivedComment.getUserEntity().getUsername())
+						.createdAt(archivedComment.getCreatedAt())
+						.modifiedAt(archivedComment.getModifiedAt())
+						.heartCount(heartCounts.getOrDefault(archivedComment.getCommentId(), 0L).intValue())
+						.build())
+		);
+		return postResponseDto;
+	}
+}
@@ -0,0 +1,29 @@
+package com.sparta.hanghaebloglv3.backup.controller;
+
+import com.sparta.hanghaebloglv3.backup.dto.BackupResultDto;
+import com.sparta.hanghaebloglv3.backup.service.BackupService;
+import com.sparta.hanghaebloglv3.common.security.UserDetailsImpl;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * BackupController.
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/backup")
+public class BackupController {
+
+	private final BackupService backupService;
+
+	/**
+	 * Write backup file (admin).
+	 */
+	@PostMapping
+	public BackupResultDto backup(@AuthenticationPrincipal UserDetailsImpl userDetails) {
+		return backupService.backup(userDetails.getUser());
+	}
+}
@@ -0,0 +1,26 @@
+package com.sparta.hanghaebloglv3.backup.dto;
+
+import lombok.Getter;
+
+import java.util.Map;
+
+/**
+ * BackupResultDto.
+ */
+@Getter
+public class BackupResultDto {
+
+	private String fileName;
+	private Map<String, Long> rowCounts; // 테이블 별 row 수
+	private int segmentCount;
+	private long bytes;
+	private long elapsedMillis;
+
+	public BackupResultDto(String fileName, Map<String, Long> rowCounts, int segmentCount, long bytes, long elapsedMillis) {
+		this.fileName = fileName;
+		this.rowCounts = rowCounts;
+		this.segmentCount = segmentCount;
+		this.bytes = bytes;
+		this.elapsedMillis = elapsedMillis;
+	}
+}
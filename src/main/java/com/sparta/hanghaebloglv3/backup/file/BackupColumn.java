@@ -0,0 +1,15 @@
+package com.sparta.hanghaebloglv3.backup.file;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * BackupColumn.
+ */
+@Getter
+@RequiredArgsConstructor
+public class BackupColumn {
+
+	private final String name;
+	private final ColumnType type;
+}
@@ -0,0 +1,34 @@
+package com.sparta.hanghaebloglv3.backup.file;
+
+import java.nio.ByteBuffer;
+import java.util.zip.CRC32C;
+
+/**
+ * BackupFileFormat.
+ * <pre>
+ * file    : MAGIC(int) VERSION(int) segment* END(byte 0) segmentCount(int)
+ * segment : tableCode(byte) rowCount(int) firstId(long) lastId(long) payloadLength(int) checksum(int) payload
+ * payload : row* (컬럼 순서대로 ColumnType 표현)
+ * </pre>
+ * checksum 은 segment header(checksum 제외) + payload 의 CRC32C.
+ */
+final class BackupFileFormat {
+
+	static final int MAGIC = 0x4842424B; // "HBBK"
+	static final int VERSION = 1;
+	static final int FILE_HEADER_SIZE = Integer.BYTES * 2;
+	static final byte END = 0;
+	static final int SEGMENT_HEADER_SIZE = Byte.BYTES + Integer.BYTES + Long.BYTES * 2 + Integer.BYTES * 2;
+	static final int CHECKSUM_OFFSET = SEGMENT_HEADER_SIZE - Integer.BYTES;
+	static final int MAX_PAYLOAD_LENGTH = 256 * 1024 * 1024; // 손상된 header 로 큰 buffer 를 잡지 않도록
+
+	private BackupFileFormat() {
+	}
+
+	static int checksum(ByteBuffer header, ByteBuffer payload) {
+		CRC32C crc = new CRC32C();
+		crc.update(header.duplicate().position(0).limit(CHECKSUM_OFFSET));
+		crc.update(payload.duplicate());
+		return (int) crc.getValue();
+	}
+}
@@ -0,0 +1,122 @@
+package com.sparta.hanghaebloglv3.backup.file;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * BackupFileReader.
+ * segment header 를 차례로 읽고, 필요한 segment 만 payload 를 읽어 checksum 검증 후 insert 인자로 변환한다.
+ */
+public class BackupFileReader implements Closeable {
+
+	private final FileChannel channel;
+	private final ByteBuffer header = ByteBuffer.allocate(BackupFileFormat.SEGMENT_HEADER_SIZE);
+	private ByteBuffer payload = ByteBuffer.allocate(0);
+	private int segmentCount;
+
+	private BackupFileReader(Path path) throws IOException {
+		this.channel = FileChannel.open(path, StandardOpenOption.READ);
+		ByteBuffer fileHeader = readFully(ByteBuffer.allocate(BackupFileFormat.FILE_HEADER_SIZE));
+		if (fileHeader.getInt() != BackupFileFormat.MAGIC) {
+			throw new IllegalStateException("not a backup file : " + path);
+		}
+		int version = fileHeader.getInt();
+		if (version != BackupFileFormat.VERSION) {
+			throw new IllegalStateException("unsupported backup version : " + version);
+		}
+	}
+
+	public static BackupFileReader open(Path path) throws IOException {
+		return new BackupFileReader(path);
+	}
+
+	/**
+	 * Read next segment header.
+	 * 끝 표시를 만나면 null, 끝 표시 없이 파일이 끝나면 예외.
+	 */
+	public BackupSegment next() throws IOException {
+		header.clear().limit(Byte.BYTES);
+		readFully(header);
+		if (header.get(0) == BackupFileFormat.END) {
+			int expectedCount = readFully(ByteBuffer.allocate(Integer.BYTES)).getInt();
+			if (expectedCount != segmentCount) {
+				throw new IllegalStateException("segment count mismatch. expected : " + expectedCount + ", read : " + segmentCount);
+			}
+			return null;
+		}
+
+		header.limit(BackupFileFormat.SEGMENT_HEADER_SIZE).position(Byte.BYTES);
+		readFully(header);
+		BackupSegment segment = new BackupSegment(
+				BackupTable.ofCode(header.get()),
+				header.getInt(),
+				header.getLong(),
+				header.getLong(),
+				header.getInt(),
+				header.getInt()
+		);
+		if (segment.getPayloadLength() < 0 || segment.getPayloadLength() > BackupFileFormat.MAX_PAYLOAD_LENGTH) {
+			throw new IllegalStateException("corrupted segment header. payload length : " + segment.getPayloadLength());
+		}
+		segmentCount++;
+		return segment;
+	}
+
+	/**
+	 * Skip payload of segment (already restored).
+	 */
+	public void skip(BackupSegment segment) throws IOException {
+		channel.position(channel.position() + segment.getPayloadLength());
+	}
+
+	/**
+	 * Read payload of segment, verify checksum and decode rows.
+	 */
+	public List<Object[]> readRows(BackupSegment segment) throws IOException {
+		if (payload.capacity() < segment.getPayloadLength()) {
+			payload = ByteBuffer.allocate(segment.getPayloadLength());
+		}
+		payload.clear().limit(segment.getPayloadLength());
+		readFully(payload);
+		if (BackupFileFormat.checksum(header, payload) != segment.getChecksum()) {
+			throw new IllegalStateException("checksum mismatch. table : " + segment.getTable()
+					+ ", ids : " + segment.getFirstId() + " ~ " + segment.getLastId());
+		}
+
+		List<BackupColumn> columns = segment.getTable().getColumns();
+		List<Object[]> rows = new ArrayList<>(segment.getRowCount());
+		for (int i = 0; i < segment.getRowCount(); i++) {
+			Object[] row = new Object[columns.size()];
+			for (int j = 0; j < row.length; j++) {
+				row[j] = columns.get(j).getType().read(payload);
+			}
+			rows.add(row);
+		}
+		if (payload.hasRemaining()) {
+			throw new IllegalStateException("segment has trailing bytes. table : " + segment.getTable());
+		}
+		return rows;
+	}
+
+	@Override
+	public void close() throws IOException {
+		channel.close();
+	}
+
+	// buffer 의 limit 까지 채우고 읽기 위치로 되돌려 반환
+	private ByteBuffer readFully(ByteBuffer buffer) throws IOException {
+		while (buffer.hasRemaining()) {
+			if (channel.read(buffer) < 0) {
+				throw new EOFException("backup file ended without end marker");
+			}
+		}
+		return buffer.flip();
+	}
+}
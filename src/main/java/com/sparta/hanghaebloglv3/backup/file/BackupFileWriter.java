@@ -0,0 +1,121 @@
+package com.sparta.hanghaebloglv3.backup.file;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * BackupFileWriter.
+ * 조회 결과(ResultSet)를 객체로 만들지 않고 바로 segment 로 인코딩하여 FileChannel 에 쓴다.
+ * 작성 중에는 "*.part" 파일에 쓰고 finish 에서 fsync 후 이름을 바꾸므로, 최종 이름의 파일은 항상 완전한 백업이다.
+ */
+public class BackupFileWriter implements Closeable {
+
+	private static final int INITIAL_PAYLOAD_CAPACITY = 64 * 1024;
+
+	private final Path target;
+	private final Path partial;
+	private final FileChannel channel;
+	private final PayloadBuffer payload = new PayloadBuffer(INITIAL_PAYLOAD_CAPACITY);
+	private final ByteBuffer header = ByteBuffer.allocate(BackupFileFormat.SEGMENT_HEADER_SIZE);
+	private int segmentCount;
+	private boolean finished;
+
+	private BackupFileWriter(Path target) throws IOException {
+		this.target = target;
+		this.partial = target.resolveSibling(target.getFileName() + ".part");
+		this.channel = FileChannel.open(partial, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+		writeFully(ByteBuffer.allocate(BackupFileFormat.FILE_HEADER_SIZE)
+				.putInt(BackupFileFormat.MAGIC)
+				.putInt(BackupFileFormat.VERSION)
+				.flip());
+	}
+
+	public static BackupFileWriter create(Path target) throws IOException {
+		return new BackupFileWriter(target);
+	}
+
+	/**
+	 * Write rows of result set as one segment.
+	 * 조회 결과가 없으면 아무것도 쓰지 않고 null.
+	 */
+	public BackupSegment writeSegment(BackupTable table, ResultSet resultSet) throws SQLException, IOException {
+		List<BackupColumn> columns = table.getColumns();
+		payload.clear();
+		int rowCount = 0;
+		long firstId = 0;
+		long lastId = 0;
+		while (resultSet.next()) {
+			lastId = resultSet.getLong(1);
+			if (rowCount++ == 0) {
+				firstId = lastId;
+			}
+			for (int i = 0; i < columns.size(); i++) {
+				columns.get(i).getType().write(resultSet, i + 1, payload);
+			}
+		}
+		if (rowCount == 0) {
+			return null;
+		}
+
+		ByteBuffer payloadView = payload.flip();
+		header.clear()
+				.put(table.getCode())
+				.putInt(rowCount)
+				.putLong(firstId)
+				.putLong(lastId)
+				.putInt(payload.size());
+		int checksum = BackupFileFormat.checksum(header, payloadView);
+		header.putInt(checksum).flip();
+
+		// header + payload 를 한 번의 gathering write 로
+		ByteBuffer[] buffers = {header, payloadView};
+		while (payloadView.hasRemaining()) {
+			channel.write(buffers);
+		}
+		segmentCount++;
+		return new BackupSegment(table, rowCount, firstId, lastId, payload.size(), checksum);
+	}
+
+	/**
+	 * Write end marker, flush to disk and publish file.
+	 */
+	public long finish() throws IOException {
+		writeFully(ByteBuffer.allocate(Byte.BYTES + Integer.BYTES)
+				.put(BackupFileFormat.END)
+				.putInt(segmentCount)
+				.flip());
+		long size = channel.size();
+		channel.force(true);
+		channel.close();
+		Files.move(partial, target, StandardCopyOption.ATOMIC_MOVE);
+		finished = true;
+		return size;
+	}
+
+	/**
+	 * Close without finish discards partial file.
+	 */
+	@Override
+	public void close() throws IOException {
+		if (finished) {
+			return;
+		}
+		channel.close();
+		Files.deleteIfExists(partial);
+	}
+
+	private void writeFully(ByteBuffer buffer) throws IOException {
+		while (buffer.hasRemaining()) {
+			channel.write(buffer);
+		}
+	}
+}
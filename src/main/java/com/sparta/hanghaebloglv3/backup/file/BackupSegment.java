@@ -0,0 +1,20 @@
+package com.sparta.hanghaebloglv3.backup.file;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * BackupSegment.
+ * 백업 파일의 한 구간 (테이블 하나의 id 연속 chunk). 복원은 segment 단위로 검증, commit 된다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class BackupSegment {
+
+	private final BackupTable table;
+	private final int rowCount;
+	private final long firstId;
+	private final long lastId;
+	private final int payloadLength;
+	private final int checksum;
+}
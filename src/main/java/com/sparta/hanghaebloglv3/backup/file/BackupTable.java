@@ -0,0 +1,144 @@
+package com.sparta.hanghaebloglv3.backup.file;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static com.sparta.hanghaebloglv3.backup.file.ColumnType.BYTES;
+import static com.sparta.hanghaebloglv3.backup.file.ColumnType.LONG;
+import static com.sparta.hanghaebloglv3.backup.file.ColumnType.STRING;
+import static com.sparta.hanghaebloglv3.backup.file.ColumnType.TIMESTAMP;
+
+/**
+ * BackupTable.
+ * 백업 대상 테이블과 컬럼. 복원 시 외래 키 순서를 지키도록 참조되는 테이블부터 선언한다.
+ * 첫 번째 컬럼이 keyset 으로 사용하는 id 컬럼.
+ */
+public enum BackupTable {
+
+	USER(1, "tb_user",
+			new BackupColumn("user_id", LONG),
+			new BackupColumn("username", STRING),
+			new BackupColumn("password", STRING),
+			new BackupColumn("introduction", STRING),
+			new BackupColumn("role", STRING)),
+	POST(2, "tb_post",
+			new BackupColumn("post_id", LONG),
+			new BackupColumn("user_id", LONG),
+			new BackupColumn("title", STRING),
+			new BackupColumn("content", STRING),
+			new BackupColumn("excerpt", STRING),
+			new BackupColumn("created_at", TIMESTAMP),
+			new BackupColumn("modified_at", TIMESTAMP)),
+	COMMENT(3, "tb_comment",
+			new BackupColumn("comment_id", LONG),
+			new BackupColumn("post_id", LONG),
+			new BackupColumn("user_id", LONG),
+			new BackupColumn("content", STRING),
+			new BackupColumn("created_at", TIMESTAMP),
+			new BackupColumn("modified_at", TIMESTAMP)),
+	HEART_FEED(4, "tb_heart_feed",
+			new BackupColumn("heart_feed_id", LONG),
+			new BackupColumn("post_id", LONG),
+			new BackupColumn("user_id", LONG)),
+	HEART_COMMENT(5, "tb_heart_comment",
+			new BackupColumn("heart_comment_id", LONG),
+			new BackupColumn("comment_id", LONG),
+			new BackupColumn("user_id", LONG)),
+	// 보관된 게시글 (archive_month 는 int 컬럼이지만 LONG 으로 저장)
+	POST_ARCHIVE(6, "tb_post_archive",
+			new BackupColumn("post_id", LONG),
+			new BackupColumn("archive_month", LONG),
+			new BackupColumn("user_id", LONG),
+			new BackupColumn("title", STRING),
+			new BackupColumn("content", STRING),
+			new BackupColumn("created_at", TIMESTAMP),
+			new BackupColumn("modified_at", TIMESTAMP),
+			new BackupColumn("archived_at", TIMESTAMP)),
+	COMMENT_ARCHIVE(7, "tb_comment_archive",
+			new BackupColumn("comment_id", LONG),
+			new BackupColumn("post_id", LONG),
+			new BackupColumn("archive_month", LONG),
+			new BackupColumn("user_id", LONG),
+			new BackupColumn("content", STRING),
+			new BackupColumn("created_at", TIMESTAMP),
+			new BackupColumn("modified_at", TIMESTAMP)),
+	HEART_FEED_ARCHIVE(8, "tb_heart_feed_archive",
+			new BackupColumn("heart_feed_id", LONG),
+			new BackupColumn("post_id", LONG),
+			new BackupColumn("archive_month", LONG),
+			new BackupColumn("user_id", LONG)),
+	HEART_COMMENT_ARCHIVE(9, "tb_heart_comment_archive",
+			new BackupColumn("heart_comment_id", LONG),
+			new BackupColumn("post_id", LONG),
+			new BackupColumn("archive_month", LONG),
+			new BackupColumn("comment_id", LONG),
+			new BackupColumn("user_id", LONG)),
+	// 조회수 (게시글이 보관되어도 남으므로 외래 키 없음, 조회자 sketch 는 HyperLogLog 직렬화 값)
+	POST_VIEW(10, "tb_post_view",
+			new BackupColumn("post_id", LONG),
+			new BackupColumn("view_count", LONG),
+			new BackupColumn("unique_viewers", LONG),
+			new BackupColumn("viewer_sketch", BYTES));
+
+	private final byte code; // 파일에 기록되는 테이블 구분값 (순서를 바꿔도 기존 파일을 읽을 수 있도록 ordinal 대신 사용)
+	private final String tableName;
+	private final List<BackupColumn> columns;
+	private final String selectChunkSql;
+	private final String maxIdSql;
+	private final String insertSql;
+	private final int[] sqlTypes;
+
+	BackupTable(int code, String tableName, BackupColumn... columns) {
+		this.code = (byte) code;
+		this.tableName = tableName;
+		this.columns = List.of(columns);
+
+		String idColumn = columns[0].getName();
+		String columnNames = this.columns.stream().map(BackupColumn::getName).collect(Collectors.joining(", "));
+		this.selectChunkSql = "select " + columnNames + " from " + tableName
+				+ " where " + idColumn + " > ? and " + idColumn + " <= ? order by " + idColumn + " limit ?";
+		this.maxIdSql = "select coalesce(max(" + idColumn + "), 0) from " + tableName;
+		this.insertSql = "insert into " + tableName + " (" + columnNames + ") values ("
+				+ this.columns.stream().map(column -> "?").collect(Collectors.joining(", ")) + ")";
+		this.sqlTypes = this.columns.stream().mapToInt(column -> column.getType().getSqlType()).toArray();
+	}
+
+	public static BackupTable ofCode(byte code) {
+		return Arrays.stream(values())
+				.filter(table -> table.code == code)
+				.findFirst()
+				.orElseThrow(() -> new IllegalStateException("unknown backup table code : " + code));
+	}
+
+	public byte getCode() {
+		return code;
+	}
+
+	public String getTableName() {
+		return tableName;
+	}
+
+	public List<BackupColumn> getColumns() {
+		return columns;
+	}
+
+	/**
+	 * (lastId, upperId] 범위를 id 순으로 최대 limit 개 조회하는 SQL.
+	 */
+	public String getSelectChunkSql() {
+		return selectChunkSql;
+	}
+
+	public String getMaxIdSql() {
+		return maxIdSql;
+	}
+
+	public String getInsertSql() {
+		return insertSql;
+	}
+
+	public int[] getSqlTypes() {
+		return sqlTypes;
+	}
+}
@@ -0,0 +1,127 @@
+package com.sparta.hanghaebloglv3.backup.file;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * ColumnType.
+ * 백업 파일에 저장되는 컬럼 값의 binary 표현. null 은 앞의 1 byte(문자열은 길이 -1)로 구분한다.
+ */
+public enum ColumnType {
+
+	LONG(Types.BIGINT) {
+		@Override
+		void write(ResultSet resultSet, int index, PayloadBuffer buffer) throws SQLException {
+			long value = resultSet.getLong(index);
+			if (resultSet.wasNull()) {
+				buffer.putByte(NULL);
+				return;
+			}
+			buffer.putByte(PRESENT);
+			buffer.putLong(value);
+		}
+
+		@Override
+		Object read(ByteBuffer payload) {
+			return payload.get() == NULL ? null : payload.getLong();
+		}
+	},
+
+	STRING(Types.VARCHAR) {
+		@Override
+		void write(ResultSet resultSet, int index, PayloadBuffer buffer) throws SQLException {
+			String value = resultSet.getString(index);
+			if (value == null) {
+				buffer.putInt(-1);
+				return;
+			}
+			byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+			buffer.putInt(bytes.length);
+			buffer.putBytes(bytes);
+		}
+
+		@Override
+		Object read(ByteBuffer payload) {
+			int length = payload.getInt();
+			if (length < 0) {
+				return null;
+			}
+			String value = new String(payload.array(), payload.arrayOffset() + payload.position(), length, StandardCharsets.UTF_8);
+			payload.position(payload.position() + length);
+			return value;
+		}
+	},
+
+	BYTES(Types.VARBINARY) {
+		@Override
+		void write(ResultSet resultSet, int index, PayloadBuffer buffer) throws SQLException {
+			byte[] value = resultSet.getBytes(index);
+			if (value == null) {
+				buffer.putInt(-1);
+				return;
+			}
+			buffer.putInt(value.length);
+			buffer.putBytes(value);
+		}
+
+		@Override
+		Object read(ByteBuffer payload) {
+			int length = payload.getInt();
+			if (length < 0) {
+				return null;
+			}
+			byte[] value = new byte[length];
+			payload.get(value);
+			return value;
+		}
+	},
+
+	// 시간대 변환 없이 DB 에 저장된 LocalDateTime 그대로 (초 + 나노초)
+	TIMESTAMP(Types.TIMESTAMP) {
+		@Override
+		void write(ResultSet resultSet, int index, PayloadBuffer buffer) throws SQLException {
+			LocalDateTime value = resultSet.getObject(index, LocalDateTime.class);
+			if (value == null) {
+				buffer.putByte(NULL);
+				return;
+			}
+			buffer.putByte(PRESENT);
+			buffer.putLong(value.toEpochSecond(ZoneOffset.UTC));
+			buffer.putInt(value.getNano());
+		}
+
+		@Override
+		Object read(ByteBuffer payload) {
+			if (payload.get() == NULL) {
+				return null;
+			}
+			long epochSecond = payload.getLong();
+			int nano = payload.getInt();
+			return Timestamp.valueOf(LocalDateTime.ofEpochSecond(epochSecond, nano, ZoneOffset.UTC));
+		}
+	};
+
+	private static final byte NULL = 0;
+	private static final byte PRESENT = 1;
+
+	private final int sqlType;
+
+	ColumnType(int sqlType) {
+		this.sqlType = sqlType;
+	}
+
+	public int getSqlType() {
+		return sqlType;
+	}
+
+	abstract void write(ResultSet resultSet, int index, PayloadBuffer buffer) throws SQLException;
+
+	// insert 의 batch 인자로 바로 쓸 수 있는 값 (Long, String, byte[], Timestamp)
+	abstract Object read(ByteBuffer payload);
+}
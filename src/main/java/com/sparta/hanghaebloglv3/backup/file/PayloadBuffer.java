@@ -0,0 +1,54 @@
+package com.sparta.hanghaebloglv3.backup.file;
+
+import java.nio.ByteBuffer;
+
+/**
+ * PayloadBuffer.
+ * segment 하나의 row 들을 모으는 재사용 buffer. 부족하면 두 배로 늘린다.
+ */
+class PayloadBuffer {
+
+	private ByteBuffer buffer;
+
+	PayloadBuffer(int initialCapacity) {
+		this.buffer = ByteBuffer.allocate(initialCapacity);
+	}
+
+	void clear() {
+		buffer.clear();
+	}
+
+	int size() {
+		return buffer.position();
+	}
+
+	// 쓰기용 view (position 0 ~ 지금까지 쓴 길이)
+	ByteBuffer flip() {
+		return buffer.duplicate().flip();
+	}
+
+	void putByte(byte value) {
+		ensureRemaining(Byte.BYTES).put(value);
+	}
+
+	void putInt(int value) {
+		ensureRemaining(Integer.BYTES).putInt(value);
+	}
+
+	void putLong(long value) {
+		ensureRemaining(Long.BYTES).putLong(value);
+	}
+
+	void putBytes(byte[] value) {
+		ensureRemaining(value.length).put(value);
+	}
+
+	private ByteBuffer ensureRemaining(int length) {
+		if (buffer.remaining() < length) {
+			ByteBuffer grown = ByteBuffer.allocate(Math.max(buffer.capacity() * 2, buffer.position() + length));
+			grown.put(buffer.flip());
+			buffer = grown;
+		}
+		return buffer;
+	}
+}
@@ -0,0 +1,53 @@
+package com.sparta.hanghaebloglv3.backup.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.nio.file.Path;
+
+/**
+ * BackupRestoreOnStartup.
+ * backup.restore-file 이 지정되면 web server 가 요청을 받기 전에 복원한다.
+ * SmartLifecycle 은 모든 bean 이 초기화된 뒤 phase 순서대로 시작되므로, web server 보다 앞선 phase 에서 실행한다.
+ * (@Scheduled 작업, ApplicationReadyEvent 처리도 모두 복원이 끝난 뒤에 시작됨)
+ * 빈 DB 에서 시작하는 것을 전제로 한다. 중간에 실패하면 시작도 실패하고, 같은 파일로 다시 시작하면 이어서 복원.
+ */
+@Component
+public class BackupRestoreOnStartup implements SmartLifecycle {
+
+	private final BackupService backupService;
+	private final String restoreFile;
+	private volatile boolean running;
+
+	public BackupRestoreOnStartup(BackupService backupService,
+	                              @Value("${backup.restore-file}") String restoreFile) {
+		this.backupService = backupService;
+		this.restoreFile = restoreFile;
+	}
+
+	@Override
+	public void start() {
+		if (StringUtils.hasText(restoreFile)) {
+			backupService.restore(Path.of(restoreFile));
+		}
+		running = true;
+	}
+
+	@Override
+	public void stop() {
+		running = false;
+	}
+
+	@Override
+	public boolean isRunning() {
+		return running;
+	}
+
+	// web server(WebServerStartStopLifecycle) 를 포함한 다른 lifecycle 보다 먼저 시작
+	@Override
+	public int getPhase() {
+		return Integer.MIN_VALUE;
+	}
+}
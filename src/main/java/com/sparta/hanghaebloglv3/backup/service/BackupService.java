@@ -0,0 +1,223 @@
+package com.sparta.hanghaebloglv3.backup.service;
+
+import com.sparta.hanghaebloglv3.backup.dto.BackupResultDto;
+import com.sparta.hanghaebloglv3.backup.file.BackupFileReader;
+import com.sparta.hanghaebloglv3.backup.file.BackupFileWriter;
+import com.sparta.hanghaebloglv3.backup.file.BackupSegment;
+import com.sparta.hanghaebloglv3.backup.file.BackupTable;
+import com.sparta.hanghaebloglv3.common.maintenance.MaintenanceLock;
+import com.sparta.hanghaebloglv3.user.entity.UserEntity;
+import com.sparta.hanghaebloglv3.user.entity.UserRoleEnum;
+import com.sparta.hanghaebloglv3.user.service.UsernameAvailabilityService;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.MessageSource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * BackupService.
+ * 블로그 데이터(회원, 게시글, 댓글, 좋아요, 조회수)를 id 순 chunk 단위로 읽어 백업 파일에 쓰고, 시작 시 백업 파일로 복원한다.
+ * chunk 마다 짧은 조회 / 짧은 트랜잭션만 사용하므로 테이블을 잠그거나 긴 트랜잭션을 잡지 않는다.
+ */
+@Slf4j(topic = "백업")
+@Service
+public class BackupService {
+
+	private static final DateTimeFormatter FILE_TIME_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+	private static final String BACKUP_JOB = "backup";
+	private static final String RESTORE_JOB = "restore";
+
+	private final JdbcTemplate jdbcTemplate;
+	private final TransactionTemplate transactionTemplate;
+	private final EntityManagerFactory entityManagerFactory;
+	private final UsernameAvailabilityService usernameAvailabilityService;
+	private final MessageSource messageSource;
+	private final MaintenanceLock maintenanceLock;
+	private final Path backupDir;
+	private final int chunkSize;
+
+	public BackupService(JdbcTemplate jdbcTemplate,
+	                     PlatformTransactionManager transactionManager,
+	                     EntityManagerFactory entityManagerFactory,
+	                     UsernameAvailabilityService usernameAvailabilityService,
+	                     MessageSource messageSource,
+	                     MaintenanceLock maintenanceLock,
+	                     @Value("${backup.dir}") String backupDir,
+	                     @Value("${backup.chunk-size}") int chunkSize) {
+		this.jdbcTemplate = jdbcTemplate;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.entityManagerFactory = entityManagerFactory;
+		this.usernameAvailabilityService = usernameAvailabilityService;
+		this.messageSource = messageSource;
+		this.maintenanceLock = maintenanceLock;
+		this.backupDir = Path.of(backupDir);
+		this.chunkSize = chunkSize;
+	}
+
+	/**
+	 * Backup (admin only).
+	 */
+	public BackupResultDto backup(UserEntity user) {
+		if (!user.getRole().equals(UserRoleEnum.ADMIN)) {
+			throw new IllegalArgumentException(
+					messageSource.getMessage(
+							"unauthorized.user",
+							null,
+							"Un Authorized User",
+							Locale.getDefault()
+					)
+			);
+		}
+		return this.backup();
+	}
+
+	/**
+	 * Scheduled backup (backup.cron, "-" 이면 실행하지 않음).
+	 */
+	@Scheduled(cron = "${backup.cron}")
+	public void scheduledBackup() {
+		this.backup();
+	}
+
+	/**
+	 * Write all tables to new backup file in backup.dir.
+	 * 시작 시점의 최대 id 까지만 백업하여, 진행 중에 추가된 댓글, 좋아요가 백업되지 않은 게시글을 참조하지 않도록 한다.
+	 */
+	public BackupResultDto backup() {
+		if (!maintenanceLock.tryLock(BACKUP_JOB)) {
+			throw new IllegalArgumentException(
+					messageSource.getMessage(
+							"maintenance.in.progress",
+							null,
+							"Maintenance In Progress",
+							Locale.getDefault()
+					)
+			);
+		}
+		try {
+			long started = System.nanoTime();
+			Map<BackupTable, Long> upperIds = this.findMaxIds();
+			Files.createDirectories(backupDir);
+			String fileName = "blog-" + LocalDateTime.now().format(FILE_TIME_FORMAT) + ".hbk";
+
+			Map<String, Long> rowCounts = new LinkedHashMap<>();
+			int segmentCount = 0;
+			long bytes;
+			try (BackupFileWriter writer = BackupFileWriter.create(backupDir.resolve(fileName))) {
+				for (BackupTable table : BackupTable.values()) {
+					ResultSetExtractor<BackupSegment> segmentWriter = resultSet -> writeSegment(writer, table, resultSet);
+					long rowCount = 0;
+					long lastId = 0;
+					while (true) {
+						// chunk 마다 connection 을 새로 얻고 바로 반환 (트랜잭션 없음)
+						BackupSegment segment = jdbcTemplate.query(table.getSelectChunkSql(), segmentWriter, lastId, upperIds.get(table), chunkSize);
+						if (segment == null) {
+							break;
+						}
+						rowCount += segment.getRowCount();
+						lastId = segment.getLastId();
+						segmentCount++;
+					}
+					rowCounts.put(table.getTableName(), rowCount);
+				}
+				bytes = writer.finish();
+			}
+
+			long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+			log.info("backup written. file : {}, rows : {}, bytes : {}, elapsed : {}ms", fileName, rowCounts, bytes, elapsedMillis);
+			return new BackupResultDto(fileName, rowCounts, segmentCount, bytes, elapsedMillis);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		} finally {
+			maintenanceLock.unlock(BACKUP_JOB);
+		}
+	}
+
+	/**
+	 * Restore backup file (시작 시 BackupRestoreOnStartup 에서 호출).
+	 * segment 마다 checksum 을 검증하고 batch insert 후 commit 한다.
+	 * 테이블에 이미 있는 최대 id 까지의 segment 는 이전 실행에서 commit 된 것이므로 읽지 않고 건너뛴다.
+	 */
+	public void restore(Path file) {
+		if (!maintenanceLock.tryLock(RESTORE_JOB)) {
+			throw new IllegalStateException("maintenance in progress : " + maintenanceLock.getOwner());
+		}
+		try {
+			long started = System.nanoTime();
+			Map<BackupTable, Long> restoredIds = this.findMaxIds();
+			long restoredRows = 0;
+			int skippedSegments = 0;
+
+			try (BackupFileReader reader = BackupFileReader.open(file)) {
+				BackupSegment segment;
+				while ((segment = reader.next()) != null) {
+					BackupTable table = segment.getTable();
+					long restoredId = restoredIds.get(table);
+					if (segment.getLastId() <= restoredId) {
+						reader.skip(segment);
+						skippedSegments++;
+						continue;
+					}
+
+					List<Object[]> rows = reader.readRows(segment);
+					if (segment.getFirstId() <= restoredId) {
+						rows = rows.stream().filter(row -> (Long) row[0] > restoredId).toList();
+					}
+					List<Object[]> batch = rows;
+					transactionTemplate.executeWithoutResult(status ->
+							jdbcTemplate.batchUpdate(table.getInsertSql(), batch, table.getSqlTypes())
+					);
+					restoredRows += batch.size();
+				}
+			}
+
+			// JdbcTemplate 로 넣은 row 는 2차 캐시, username filter 에 반영되지 않으므로 비우고 다시 만든다.
+			entityManagerFactory.unwrap(SessionFactory.class).getCache().evictAllRegions();
+			usernameAvailabilityService.rebuild();
+			log.info("backup restored. file : {}, rows : {}, skipped segments : {}, elapsed : {}ms",
+					file, restoredRows, skippedSegments, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		} finally {
+			maintenanceLock.unlock(RESTORE_JOB);
+		}
+	}
+
+	private Map<BackupTable, Long> findMaxIds() {
+		Map<BackupTable, Long> maxIds = new EnumMap<>(BackupTable.class);
+		for (BackupTable table : BackupTable.values()) {
+			maxIds.put(table, jdbcTemplate.queryForObject(table.getMaxIdSql(), Long.class));
+		}
+		return maxIds;
+	}
+
+	private static BackupSegment writeSegment(BackupFileWriter writer, BackupTable table, ResultSet resultSet) throws SQLException {
+		try {
+			return writer.writeSegment(table, resultSet);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+}
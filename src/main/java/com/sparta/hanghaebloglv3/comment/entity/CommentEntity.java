@@ -14,9 +14,15 @@ import java.util.List;
 @Getter
 @Setter
 @Entity
+@NamedEntityGraph(name = CommentEntity.WITH_AUTHOR, attributeNodes = @NamedAttributeNode("userEntity"))
+@NamedEntityGraph(name = CommentEntity.WITH_AUTHOR_AND_HEARTS, attributeNodes = {@NamedAttributeNode("userEntity"), @NamedAttributeNode("heartCommentList")})
 @Table(name = "tb_comment")
 public class CommentEntity extends Timestamped {
 
+	// fetch plan (repository @EntityGraph 에서 사용)
+	public static final String WITH_AUTHOR = "CommentEntity.withAuthor"; // 작성자
+	public static final String WITH_AUTHOR_AND_HEARTS = "CommentEntity.withAuthorAndHearts"; // 작성자 + 좋아요 (응답 DTO 조립용)
+
 	@Id
 	@GeneratedValue(strategy = GenerationType.IDENTITY)
 	@Column(name = "comment_id")
@@ -1,14 +1,111 @@
 package com.sparta.hanghaebloglv3.comment.repository;
 
 import com.sparta.hanghaebloglv3.comment.entity.CommentEntity;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+
 /**
  * CommentRepository.
  */
 @Repository
 public interface CommentRepository extends JpaRepository<CommentEntity, Long> {
-    List<CommentEntity> findAllByOrderByModifiedAtDesc();
+    /**
+     * Find latest comments of each post (게시글마다 최대 limit 개, 수정 시간 역순) with comment count of post.
+     * 창 함수로 게시글 수와 관계없이 SQL 1회, 결과는 게시글 수 x limit 개 이하. 댓글이 없는 게시글은 결과에 없음.
+     */
+    @Query(value = "select r.comment_id as commentId, r.post_id as postId, r.content as content, u.username as userName, "
+        + "r.created_at as createdAt, r.modified_at as modifiedAt, r.comment_count as commentCount, "
+        + "(select count(*) from tb_heart_comment h where h.comment_id = r.comment_id) as heartCount "
+        + "from (select c.comment_id, c.post_id, c.user_id, c.content, c.created_at, c.modified_at, "
+        + "row_number() over (partition by c.post_id order by c.modified_at desc, c.comment_id desc) as rn, "
+        + "count(*) over (partition by c.post_id) as comment_count "
+        + "from tb_comment c where c.post_id in (:postIds)) r "
+        + "join tb_user u on u.user_id = r.user_id "
+        + "where r.rn <= :limit order by r.post_id, r.rn", nativeQuery = true)
+    List<CommentPreview> findPreviewsByPostIds(@Param("postIds") Collection<Long> postIds, @Param("limit") int limit);
+
+    interface CommentPreview {
+        Long getCommentId();
+
+        Long getPostId();
+
+        String getContent();
+
+        String getUserName();
+
+        LocalDateTime getCreatedAt();
+
+        LocalDateTime getModifiedAt();
+
+        long getCommentCount();
+
+        int getHeartCount();
+    }
+
+    /**
+     * Find comments of post with authors, hearts.
+     */
+    @EntityGraph(CommentEntity.WITH_AUTHOR_AND_HEARTS)
+    @Query("select c from CommentEntity c where c.postEntity.postId = :postId order by c.modifiedAt desc")
+    List<CommentEntity> findAllWithAuthorsByPostId(@Param("postId") Long postId);
+
+    /**
+     * Find comments of posts with authors, hearts (여러 게시글 조회).
+     */
+    @EntityGraph(CommentEntity.WITH_AUTHOR_AND_HEARTS)
+    @Query("select c from CommentEntity c where c.postEntity.postId in :postIds order by c.modifiedAt desc")
+    List<CommentEntity> findAllWithAuthorsByPostIds(@Param("postIds") Collection<Long> postIds);
+
+    /**
+     * Find comments by ids with authors, hearts (동기화).
+     */
+    @EntityGraph(CommentEntity.WITH_AUTHOR_AND_HEARTS)
+    @Query("select c from CommentEntity c where c.commentId in :commentIds")
+    List<CommentEntity> findAllWithAuthorsByIds(@Param("commentIds") Collection<Long> commentIds);
+
+    /**
+     * Find comment with author.
+     */
+    @EntityGraph(CommentEntity.WITH_AUTHOR)
+    @Query("select c from CommentEntity c where c.commentId = :id")
+    Optional<CommentEntity> findWithAuthorById(@Param("id") Long id);
+
+    long countByPostEntityPostId(Long postId);
+
+    /**
+     * Find ids of comments written by user with post ids (username 변경 시 동기화 기록, 피드 갱신).
+     */
+    @Query("select c.commentId as commentId, c.postEntity.postId as postId from CommentEntity c where c.userEntity.userId = :userId")
+    List<CommentIds> findIdsByUserId(@Param("userId") Long userId);
+
+    interface CommentIds {
+        Long getCommentId();
+
+        Long getPostId();
+    }
+
+    /**
+     * Find latest comments of post with author.
+     */
+    @EntityGraph(CommentEntity.WITH_AUTHOR)
+    @Query("select c from CommentEntity c where c.postEntity.postId = :postId "
+        + "order by c.createdAt desc, c.commentId desc")
+    List<CommentEntity> findLatestByPostId(@Param("postId") Long postId, Pageable pageable);
+
+    /**
+     * Delete comments of posts (archived).
+     */
+    @Modifying
+    @Query("delete from CommentEntity c where c.postEntity.postId in :postIds")
+    int deleteAllByPostIds(@Param("postIds") Collection<Long> postIds);
 }
@@ -6,12 +6,18 @@ import com.sparta.hanghaebloglv3.comment.entity.CommentEntity;
 import com.sparta.hanghaebloglv3.comment.repository.CommentRepository;
 import com.sparta.hanghaebloglv3.common.constant.ProjConst;
 import com.sparta.hanghaebloglv3.common.dto.ApiResult;
+import com.sparta.hanghaebloglv3.common.event.AuditEvent;
+import com.sparta.hanghaebloglv3.common.event.ChangeEvent;
+import com.sparta.hanghaebloglv3.common.event.ChangeType;
+import com.sparta.hanghaebloglv3.common.event.PostChangedEvent;
 import com.sparta.hanghaebloglv3.common.exception.IdNotFoundException;
 import com.sparta.hanghaebloglv3.post.entity.PostEntity;
 import com.sparta.hanghaebloglv3.post.repository.PostRepository;
 import com.sparta.hanghaebloglv3.user.entity.UserEntity;
 import com.sparta.hanghaebloglv3.user.entity.UserRoleEnum;
+import com.sparta.hanghaebloglv3.user.service.UserStatsService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.MessageSource;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
@@ -29,6 +35,8 @@ public class CommentService {
 	private final PostRepository postRepository;
 	private final CommentRepository commentRepository;
 	private final MessageSource messageSource;
+	private final ApplicationEventPublisher eventPublisher;
+	private final UserStatsService userStatsService;
 
 	/**
 	 * Create Comment.
@@ -59,6 +67,9 @@ public class CommentService {
 		entity.setPostEntity(postEntity);
 
 		commentRepository.save(entity);
+		userStatsService.commentCreated(user.getUserId());
+		eventPublisher.publishEvent(new PostChangedEvent(postEntity.getPostId()));
+		eventPublisher.publishEvent(ChangeEvent.upsert(ChangeType.COMMENT, entity.getCommentId()));
 
 		return CommentResponseDto.builder()
 				.postId(postEntity.getPostId())
@@ -113,6 +124,8 @@ public class CommentService {
 
 		commentEntity.setContent(commentRequestDto.getContent());
 		commentRepository.save(commentEntity);
+		eventPublisher.publishEvent(new PostChangedEvent(commentEntity.getPostEntity().getPostId()));
+		eventPublisher.publishEvent(ChangeEvent.upsert(ChangeType.COMMENT, commentId));
 
 		return CommentResponseDto.builder()
 				.postId(commentEntity.getPostEntity().getPostId())
@@ -148,7 +161,11 @@ public class CommentService {
 			);
 		}
 
+		userStatsService.commentDeleting(commentId); // 함께 지워지는 좋아요도 삭제 전에 집계
 		commentRepository.delete(commentEntity);
+		eventPublisher.publishEvent(new PostChangedEvent(commentEntity.getPostEntity().getPostId()));
+		eventPublisher.publishEvent(ChangeEvent.delete(ChangeType.COMMENT, commentId));
+		eventPublisher.publishEvent(AuditEvent.delete("comment", commentId, user.getUsername()));
 
 		return ApiResult.builder()
 				.msg(ProjConst.DELETE_SUCCESS)
@@ -157,10 +174,10 @@ public class CommentService {
 	}
 
 	/**
-	 * 요청 온 comment 찾아오기
+	 * 요청 온 comment 찾아오기 (작성자 함께 조회)
 	 */
 	private CommentEntity checkValidComment(Long commentId) {
-		return commentRepository.findById(commentId).orElseThrow(() ->
+		return commentRepository.findWithAuthorById(commentId).orElseThrow(() ->
 				new IdNotFoundException(
 						messageSource.getMessage(
 								"not.found.comment",
@@ -0,0 +1,37 @@
+package com.sparta.hanghaebloglv3.common.config;
+
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+/**
+ * BinaryContentConfig.
+ * Accept: application/cbor 또는 application/x-jackson-smile 이면 JSON 대신 binary 형식으로 응답 (같은 DTO, 같은 필드 이름).
+ * JSON 응답과 같은 설정(spring.jackson.*, 날짜 형식 등)의 ObjectMapper 를 사용하고, 응답 stream 에 바로 쓴다.
+ */
+@Configuration
+public class BinaryContentConfig {
+
+	public static final MediaType APPLICATION_SMILE = new MediaType("application", "x-jackson-smile");
+
+	// 기본 CBOR converter 를 대체 (Spring Boot 의 Jackson 설정 적용)
+	@Bean
+	public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder jackson2ObjectMapperBuilder) {
+		return new MappingJackson2CborHttpMessageConverter(jackson2ObjectMapperBuilder.factory(new CBORFactory()).build());
+	}
+
+	// 같은 문자열 값(작성자 이름 등)은 두 번째부터 back reference 로 씀
+	@Bean
+	public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder jackson2ObjectMapperBuilder) {
+		SmileFactory smileFactory = SmileFactory.builder()
+				.enable(SmileGenerator.Feature.CHECK_SHARED_STRING_VALUES)
+				.build();
+		return new MappingJackson2SmileHttpMessageConverter(jackson2ObjectMapperBuilder.factory(smileFactory).build());
+	}
+}
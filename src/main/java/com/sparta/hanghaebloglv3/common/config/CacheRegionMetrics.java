@@ -0,0 +1,71 @@
+package com.sparta.hanghaebloglv3.common.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.JCacheMetrics;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.ehcache.config.CacheRuntimeConfiguration;
+import org.ehcache.config.ResourceType;
+import org.ehcache.config.SizedResourcePool;
+import org.ehcache.core.config.ExpiryUtils;
+import org.ehcache.jsr107.Eh107Configuration;
+import org.hibernate.cache.jcache.internal.JCacheRegionFactory;
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.springframework.stereotype.Component;
+
+import javax.cache.Cache;
+import javax.cache.CacheManager;
+import java.time.Duration;
+
+/**
+ * CacheRegionMetrics.
+ * JPA 2차 캐시 region 별 설정(최대 개수, TTL)과 JCache 통계를 /actuator/metrics 에 등록.
+ * 적중률 등 Hibernate 통계(hibernate.second.level.cache.*)는 hibernate-micrometer 가 등록한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class CacheRegionMetrics implements MeterBinder {
+
+	private final EntityManagerFactory entityManagerFactory;
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public void bindTo(MeterRegistry registry) {
+		RegionFactory regionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class).getCache().getRegionFactory();
+		if (!(regionFactory instanceof JCacheRegionFactory jCacheRegionFactory)) {
+			return;
+		}
+
+		CacheManager cacheManager = jCacheRegionFactory.getCacheManager();
+		for (String region : cacheManager.getCacheNames()) {
+			Cache<Object, Object> cache = cacheManager.getCache(region);
+			Tags tags = Tags.of("region", region);
+			JCacheMetrics.monitor(registry, cache, tags);
+
+			Eh107Configuration<Object, Object> eh107Configuration = cache.getConfiguration(Eh107Configuration.class);
+			CacheRuntimeConfiguration<Object, Object> configuration = eh107Configuration.unwrap(CacheRuntimeConfiguration.class);
+
+			SizedResourcePool heapPool = configuration.getResourcePools().getPoolForResource(ResourceType.Core.HEAP);
+			if (heapPool != null) {
+				Gauge.builder("cache.region.heap.max", heapPool, SizedResourcePool::getSize)
+						.tags(tags)
+						.baseUnit(heapPool.getUnit().toString())
+						.description("Configured heap size of second level cache region")
+						.register(registry);
+			}
+
+			// TTL (만료 없음은 -1)
+			Duration ttl = configuration.getExpiryPolicy().getExpiryForCreation(null, null);
+			double ttlSeconds = ttl == null || ExpiryUtils.isExpiryDurationInfinite(ttl) ? -1 : ttl.toSeconds();
+			Gauge.builder("cache.region.ttl", () -> ttlSeconds)
+					.tags(tags)
+					.baseUnit("seconds")
+					.description("Configured time to live of second level cache region")
+					.register(registry);
+		}
+	}
+}
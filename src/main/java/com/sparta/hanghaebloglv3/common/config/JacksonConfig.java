@@ -0,0 +1,32 @@
+package com.sparta.hanghaebloglv3.common.config;
+
+import com.fasterxml.jackson.annotation.JsonFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import com.sparta.hanghaebloglv3.post.dto.PostProjection;
+import com.sparta.hanghaebloglv3.post.dto.PostResponseDto;
+import org.springframework.boot.autoconfigure.jackson.Jackson2ObjectMapperBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * JacksonConfig.
+ * 게시글 응답의 필드 선택(fields 파라미터)을 위한 filter 를 mix-in 으로 지정.
+ * DTO 에 직접 @JsonFilter 를 붙이지 않아서 Spring Boot 설정을 쓰지 않는 ObjectMapper(reactive 읽기 API 등)는 영향이 없다.
+ * 요청마다 filter 를 지정하지 않으면(MappingJacksonValue) 모든 필드를 직렬화.
+ */
+@Configuration
+public class JacksonConfig {
+
+	// JSON, CBOR, Smile converter 와 직렬화 캐시(PostResponseCache)가 모두 이 설정의 ObjectMapper 를 사용
+	@Bean
+	public Jackson2ObjectMapperBuilderCustomizer postFieldsFilterCustomizer() {
+		return builder -> builder
+				.mixIn(PostResponseDto.class, PostFieldsFilter.class)
+				.filters(new SimpleFilterProvider().setDefaultFilter(SimpleBeanPropertyFilter.serializeAll()));
+	}
+
+	@JsonFilter(PostProjection.FILTER_ID)
+	private interface PostFieldsFilter {
+	}
+}
@@ -0,0 +1,67 @@
+package com.sparta.hanghaebloglv3.common.config;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import com.sparta.hanghaebloglv3.common.logging.RingBufferFileAppender;
+import com.sparta.hanghaebloglv3.common.logging.SampledSqlStatementInspector;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.hibernate.cfg.AvailableSettings;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.Iterator;
+
+/**
+ * LoggingConfig.
+ * 비동기 로그(RingBufferFileAppender) 상태를 metric 으로 등록하고, SQL 로그를 샘플링으로 남긴다.
+ */
+@Configuration
+public class LoggingConfig {
+
+	// show_sql 대신 일부 SQL 만 "sql" logger 로 남김 (0 이면 남기지 않음)
+	@Bean
+	public HibernatePropertiesCustomizer sampledSqlLogging(@Value("${logging.sql.sample-rate}") double sampleRate) {
+		return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, new SampledSqlStatementInspector(sampleRate));
+	}
+
+	// log.ring.* : buffer 에 쌓인 수, 버린 수(audit 따로), 파일에 쓴 수
+	@Bean
+	public MeterBinder ringBufferLogMetrics() {
+		return registry -> {
+			if (!(LoggerFactory.getILoggerFactory() instanceof LoggerContext loggerContext)) {
+				return;
+			}
+			Logger root = loggerContext.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME);
+			for (Iterator<Appender<ILoggingEvent>> iterator = root.iteratorForAppenders(); iterator.hasNext(); ) {
+				if (!(iterator.next() instanceof RingBufferFileAppender appender)) {
+					continue;
+				}
+				Gauge.builder("log.ring.queued", appender, RingBufferFileAppender::getQueuedCount)
+						.tag("appender", appender.getName())
+						.description("Log events waiting in ring buffer")
+						.register(registry);
+				Gauge.builder("log.ring.capacity", appender, RingBufferFileAppender::getCapacity)
+						.tag("appender", appender.getName())
+						.register(registry);
+				FunctionCounter.builder("log.ring.dropped", appender, RingBufferFileAppender::getDroppedCount)
+						.tag("appender", appender.getName())
+						.description("Log events dropped because ring buffer was full")
+						.register(registry);
+				FunctionCounter.builder("log.ring.dropped.audit", appender, RingBufferFileAppender::getDroppedAuditCount)
+						.tag("appender", appender.getName())
+						.description("Audit log events dropped because ring buffer was full")
+						.register(registry);
+				FunctionCounter.builder("log.ring.written", appender, RingBufferFileAppender::getWrittenCount)
+						.tag("appender", appender.getName())
+						.register(registry);
+			}
+		};
+	}
+}
@@ -0,0 +1,20 @@
+package com.sparta.hanghaebloglv3.common.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sparta.hanghaebloglv3.common.timing.TimedJackson2HttpMessageConverter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+/**
+ * ServerTimingConfig.
+ */
+@Configuration
+public class ServerTimingConfig {
+
+	// 기본 Jackson converter 를 대체 (직렬화 시간을 ser 구간으로 기록)
+	@Bean
+	public MappingJackson2HttpMessageConverter mappingJackson2HttpMessageConverter(ObjectMapper objectMapper) {
+		return new TimedJackson2HttpMessageConverter(objectMapper);
+	}
+}
@@ -1,8 +1,13 @@
 package com.sparta.hanghaebloglv3.common.config;
 
 import com.sparta.hanghaebloglv3.common.jwt.JwtUtil;
+import com.sparta.hanghaebloglv3.common.ratelimit.RateLimiter;
 import com.sparta.hanghaebloglv3.common.security.*;
+import com.sparta.hanghaebloglv3.user.entity.UserRoleEnum;
+import com.sparta.hanghaebloglv3.user.service.TokenRevocationService;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.security.servlet.PathRequest;
 import org.springframework.context.MessageSource;
 import org.springframework.context.annotation.Bean;
@@ -27,6 +32,13 @@ public class WebSecurityConfig {
 	private final UserDetailsServiceImpl userDetailsService;
 	private final AuthenticationConfiguration authenticationConfiguration;
 	private final MessageSource messageSource;
+	private final TokenRevocationService tokenRevocationService;
+
+	@Value("${rate-limit.max-buckets}") // route 별 user/ip 버킷 최대 보관 수
+	private int rateLimitMaxBuckets;
+
+	@Value("${rate-limit.enabled}")
+	private boolean rateLimitEnabled;
 
 	@Bean
 	public AuthenticationManager authenticationManager(AuthenticationConfiguration configuration) throws Exception {
@@ -52,7 +64,12 @@ public class WebSecurityConfig {
 
 	@Bean
 	public JwtAuthorizationFilter jwtAuthorizationFilter() {
-		return new JwtAuthorizationFilter(jwtUtil, userDetailsService, messageSource);
+		return new JwtAuthorizationFilter(jwtUtil, userDetailsService, messageSource, tokenRevocationService);
+	}
+
+	@Bean
+	public RateLimitFilter rateLimitFilter() {
+		return new RateLimitFilter(new RateLimiter(rateLimitMaxBuckets), rateLimitEnabled);
 	}
 
 	@Bean
@@ -74,6 +91,9 @@ public class WebSecurityConfig {
 				authorizeHttpRequests
 						.requestMatchers(PathRequest.toStaticResources().atCommonLocations()).permitAll() // resources 접근 허용 설정
 						.requestMatchers("/api/user/**").permitAll()
+						.requestMatchers("/actuator/health").permitAll()
+						.requestMatchers("/actuator/**").hasAuthority(UserRoleEnum.Authority.ADMIN) // metrics 는 관리자만
+						.dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll() // SSE 등 비동기 응답 완료 시의 재디스패치 (최초 요청에서 이미 인가됨)
 						.anyRequest().authenticated()   // 그외 모든 요청 인증 처리
 		);
 
@@ -87,9 +107,10 @@ public class WebSecurityConfig {
 //						.permitAll()
 //				);
 
-		// 필터 관리 (필터 사용순서 설정)
-		http.addFilterBefore(jwtAuthorizationFilter(), JwtAuthenticationFilter.class);
+		// 필터 관리 (필터 사용순서 설정) : JWT 인가 -> 요청 수 제한 -> 로그인
 		http.addFilterBefore(jwtAuthenticationFilter(), UsernamePasswordAuthenticationFilter.class);
+		http.addFilterBefore(rateLimitFilter(), JwtAuthenticationFilter.class);
+		http.addFilterBefore(jwtAuthorizationFilter(), RateLimitFilter.class);
 
 		return http.build();
 	}
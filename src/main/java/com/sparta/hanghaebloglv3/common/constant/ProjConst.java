@@ -15,5 +15,9 @@ public final class ProjConst { // class를 final로 선언하면, 오버라이
   public static final String DELETE_SUCCESS = "삭제 성공";
   public static final String INVALID_TOKEN = "토큰이 유효하지 않습니다.";
   public static final String NOT_FOUND_TOKEN = "토큰을 찾을 수 없습니다.";
+  public static final String TOKEN_REFRESH_SUCCESS = "토큰 재발급 성공";
+  public static final String LOGOUT_SUCCESS = "로그아웃 성공";
+  public static final String FEED_REBUILD_SUCCESS = "피드 재생성 성공";
+  public static final String TOO_MANY_REQUESTS = "요청이 너무 많습니다. 잠시 후 다시 시도해 주세요.";
 
 }
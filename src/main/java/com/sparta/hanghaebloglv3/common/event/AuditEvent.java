@@ -0,0 +1,27 @@
+package com.sparta.hanghaebloglv3.common.event;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * AuditEvent.
+ * 삭제, 좋아요처럼 트랜잭션 안에서 일어나는 audit 대상 변경. commit 된 뒤에만 audit 로그에 남는다 (AuditEventListener).
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class AuditEvent {
+
+	private final boolean deleted; // true : delete, false : heart
+	private final String target;
+	private final Long id;
+	private final String username;
+
+	public static AuditEvent delete(String target, Long id, String username) {
+		return new AuditEvent(true, target, id, username);
+	}
+
+	public static AuditEvent heart(String target, Long id, String username) {
+		return new AuditEvent(false, target, id, username);
+	}
+}
@@ -0,0 +1,27 @@
+package com.sparta.hanghaebloglv3.common.event;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * ChangeEvent.
+ * 동기화(GET /api/sync) 대상인 게시글, 댓글, 게시글 좋아요 수가 바뀌었을 때 발행.
+ * 발행한 트랜잭션이 commit 되기 직전에 같은 트랜잭션에서 change_log 에 기록된다 (ChangeLogService).
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class ChangeEvent {
+
+	private final ChangeType type;
+	private final Long id; // POST, POST_HEART : postId, COMMENT : commentId
+	private final boolean deleted;
+
+	public static ChangeEvent upsert(ChangeType type, Long id) {
+		return new ChangeEvent(type, id, false);
+	}
+
+	public static ChangeEvent delete(ChangeType type, Long id) {
+		return new ChangeEvent(type, id, true);
+	}
+}
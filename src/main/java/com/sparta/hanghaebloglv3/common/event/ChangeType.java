@@ -0,0 +1,10 @@
+package com.sparta.hanghaebloglv3.common.event;
+
+/**
+ * ChangeType.
+ */
+public enum ChangeType {
+	POST, // 게시글 작성, 수정, 삭제, 보관
+	COMMENT, // 댓글 작성, 수정, 삭제, 댓글 좋아요
+	POST_HEART // 게시글 좋아요 수
+}
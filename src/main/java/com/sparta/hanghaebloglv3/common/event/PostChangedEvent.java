@@ -0,0 +1,14 @@
+package com.sparta.hanghaebloglv3.common.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * PostChangedEvent.
+ * 게시글 단건 응답(게시글, 댓글, 좋아요)에 영향을 주는 변경이 있을 때 발행.
+ */
+@Getter
+@RequiredArgsConstructor
+public class PostChangedEvent {
+	private final Long postId;
+}
@@ -0,0 +1,14 @@
+package com.sparta.hanghaebloglv3.common.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * UserRenamedEvent.
+ * username 이 바뀌었을 때 발행. (작성자 캐시 무효화)
+ */
+@Getter
+@RequiredArgsConstructor
+public class UserRenamedEvent {
+	private final Long userId;
+}
@@ -15,6 +15,7 @@ import org.springframework.util.StringUtils;
 import java.security.Key;
 import java.util.Base64;
 import java.util.Date;
+import java.util.UUID;
 
 @Slf4j(topic = "JwtUtil")
 @Component
@@ -24,12 +25,22 @@ public class JwtUtil {
 
 	// Header KEY 값
 	public static final String AUTHORIZATION_HEADER = "Authorization";
+	public static final String REFRESH_TOKEN_HEADER = "Refresh-Token";
 	// 사용자 권한 값의 KEY
 	public static final String AUTHORIZATION_KEY = "auth";
+	// 토큰 종류(access/refresh) 값의 KEY
+	public static final String TOKEN_TYPE_KEY = "typ";
+	public static final String ACCESS_TOKEN_TYPE = "access";
+	public static final String REFRESH_TOKEN_TYPE = "refresh";
+	// 로그인 한 번에서 이어지는 토큰들의 식별자. refresh 토큰 재사용이 감지되면 family 전체를 폐기
+	public static final String FAMILY_KEY = "fam";
+	// 발급 시각(ms). iat 는 초 단위라서 같은 초에 있었던 사용자 전체 폐기(비밀번호, username 변경)와 선후를 가릴 수 없음
+	public static final String ISSUED_AT_MILLIS_KEY = "iat_ms";
 	// Token 식별자
 	public static final String BEARER_PREFIX = "Bearer ";
-	// 토큰 만료시간
-	private final long TOKEN_TIME = 60 * 60 * 1000L * 24 * 3; // 60분 x 24 x 3
+	// 토큰 만료시간 : access 토큰은 짧게 두고, 만료되면 refresh 토큰으로 재발급
+	public static final long ACCESS_TOKEN_TIME = 30 * 60 * 1000L; // 30분
+	public static final long REFRESH_TOKEN_TIME = 60 * 60 * 1000L * 24 * 14; // 60분 x 24 x 14
 
 	@Value("${jwt.secret.key}") // Base64 Encode 한 SecretKey
 	private String secretKey;
@@ -42,23 +53,48 @@ public class JwtUtil {
 		key = Keys.hmacShaKeyFor(bytes);
 	}
 
-	// 토큰 생성
-	public String createToken(String username, UserRoleEnum role) {
+	// 토큰 생성 (access)
+	public String createToken(String username, UserRoleEnum role, String family) {
 		Date date = new Date();
 
 		return BEARER_PREFIX +
 				Jwts.builder()
+						.setId(UUID.randomUUID().toString()) // 토큰 식별자(jti) - 폐기(로그아웃) 확인용
 						.setSubject(username) // 사용자 식별자값(ID)
 						.claim(AUTHORIZATION_KEY, role) // 사용자 권한
-						.setExpiration(new Date(date.getTime() + TOKEN_TIME)) // 만료 시간
+						.claim(TOKEN_TYPE_KEY, ACCESS_TOKEN_TYPE)
+						.claim(FAMILY_KEY, family)
+						.claim(ISSUED_AT_MILLIS_KEY, date.getTime())
+						.setExpiration(new Date(date.getTime() + ACCESS_TOKEN_TIME)) // 만료 시간
 						.setIssuedAt(date) // 발급일
 						.signWith(key, signatureAlgorithm) // 암호화 알고리즘
 						.compact();
 	}
 
+	// refresh 토큰 생성
+	public String createRefreshToken(String username, String family) {
+		Date date = new Date();
+
+		return BEARER_PREFIX +
+				Jwts.builder()
+						.setId(UUID.randomUUID().toString())
+						.setSubject(username)
+						.claim(TOKEN_TYPE_KEY, REFRESH_TOKEN_TYPE)
+						.claim(FAMILY_KEY, family)
+						.claim(ISSUED_AT_MILLIS_KEY, date.getTime())
+						.setExpiration(new Date(date.getTime() + REFRESH_TOKEN_TIME))
+						.setIssuedAt(date)
+						.signWith(key, signatureAlgorithm)
+						.compact();
+	}
+
 	// header 에서 JWT 가져오기
 	public String getJwtFromHeader(HttpServletRequest request) {
-		String bearerToken = request.getHeader(AUTHORIZATION_HEADER);
+		return this.substringToken(request.getHeader(AUTHORIZATION_HEADER));
+	}
+
+	// "Bearer " 제거
+	public String substringToken(String bearerToken) {
 		if (StringUtils.hasText(bearerToken) && bearerToken.startsWith(BEARER_PREFIX)) {
 			return bearerToken.substring(7);
 		}
@@ -71,13 +107,13 @@ public class JwtUtil {
 			Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token);
 			return true;
 		} catch (SecurityException | MalformedJwtException | SignatureException e) {
-			log.error("Invalid JWT signature, 유효하지 않는 JWT 서명 입니다.");
+			log.info("Invalid JWT signature, 유효하지 않는 JWT 서명 입니다.");
 		} catch (ExpiredJwtException e) {
-			log.error("Expired JWT token, 만료된 JWT token 입니다.");
+			log.info("Expired JWT token, 만료된 JWT token 입니다.");
 		} catch (UnsupportedJwtException e) {
-			log.error("Unsupported JWT token, 지원되지 않는 JWT 토큰 입니다.");
+			log.info("Unsupported JWT token, 지원되지 않는 JWT 토큰 입니다.");
 		} catch (IllegalArgumentException e) {
-			log.error("JWT claims is empty, 잘못된 JWT 토큰 입니다.");
+			log.info("JWT claims is empty, 잘못된 JWT 토큰 입니다.");
 		}
 		return false;
 	}
@@ -86,4 +122,25 @@ public class JwtUtil {
 	public Claims getUserInfoFromToken(String token) {
 		return Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token).getBody();
 	}
+
+	// 토큰 종류 확인
+	public boolean isTokenType(Claims claims, String tokenType) {
+		return tokenType.equals(claims.get(TOKEN_TYPE_KEY, String.class));
+	}
+
+	// 로그인 시 새 토큰 family 생성
+	public String newFamily() {
+		return UUID.randomUUID().toString();
+	}
+
+	// 발급 시각(ms). iat_ms 도입 전에 발급된 토큰은 iat 초의 시작 (같은 초의 폐기에도 폐기되도록)
+	public static long getIssuedAtMillis(Claims claims) {
+		Long issuedAtMillis = claims.get(ISSUED_AT_MILLIS_KEY, Long.class);
+		return issuedAtMillis != null ? issuedAtMillis : claims.getIssuedAt().getTime();
+	}
+
+	// 토큰 family (family 도입 전에 발급된 토큰은 null)
+	public static String getFamily(Claims claims) {
+		return claims.get(FAMILY_KEY, String.class);
+	}
 }
\ No newline at end of file
@@ -0,0 +1,134 @@
+package com.sparta.hanghaebloglv3.common.jwt;
+
+import com.sparta.hanghaebloglv3.common.util.BloomFilter;
+import io.jsonwebtoken.Claims;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * RevocationRegistry.
+ * tb_revoked_token 의 메모리 사본. jti, family 는 Bloom filter 로, 사용자 전체 폐기는 username -> 폐기 시각(epoch ms)으로 보관한다.
+ * servlet(TokenRevocationService), reactive(ReactiveTokenRevocationService) 애플리케이션이 같이 사용하고, DB 조회만 각자 구현한다.
+ */
+public class RevocationRegistry {
+
+	private static final double FALSE_POSITIVE_PROBABILITY = 0.001;
+	// 서버 간 시계 차이, 늦게 commit 된 row 를 놓치지 않도록 이전 polling 구간과 겹쳐서 조회
+	private static final Duration POLL_OVERLAP = Duration.ofSeconds(30);
+
+	private final long expectedRevocations;
+
+	private volatile BloomFilter revokedIds; // 로그아웃 등으로 폐기된 jti, 재사용으로 폐기된 family (둘 다 UUID)
+	private final ConcurrentHashMap<String, Long> revokedUsers = new ConcurrentHashMap<>(); // username -> 폐기 시각(epoch ms), 이전에 발급된 토큰 전체 무효
+	private volatile LocalDateTime lastPolledAt = LocalDateTime.now();
+
+	public RevocationRegistry(long expectedRevocations) {
+		this.expectedRevocations = expectedRevocations;
+		this.revokedIds = new BloomFilter(expectedRevocations, FALSE_POSITIVE_PROBABILITY);
+	}
+
+	/**
+	 * Check token is issued before user-wide revocation (password, username change).
+	 * 발급 시각(ms)으로 비교하므로 폐기 직후(같은 초)에 다시 로그인, 재발급한 토큰은 폐기되지 않는다. (폐기와 같은 ms 에 발급된 토큰도 유지)
+	 */
+	public boolean isUserRevoked(Claims claims) {
+		Long revokedAtMillis = revokedUsers.get(claims.getSubject());
+		return revokedAtMillis != null && JwtUtil.getIssuedAtMillis(claims) < revokedAtMillis;
+	}
+
+	/**
+	 * Get jti to check in DB.
+	 * Bloom filter 에 없으면 확실히 폐기되지 않은 토큰이므로 null (DB 조회 없음), 있으면 폐기된 토큰이거나 오탐.
+	 */
+	public String suspectedJti(Claims claims) {
+		String jti = claims.getId();
+		return jti != null && revokedIds.mightContain(jti) ? jti : null;
+	}
+
+	/**
+	 * Get family to check in DB. (suspectedJti 와 같음)
+	 */
+	public String suspectedFamily(Claims claims) {
+		String family = JwtUtil.getFamily(claims);
+		return family != null && revokedIds.mightContain(family) ? family : null;
+	}
+
+	/**
+	 * Put revoked jti or family (revoked on this server).
+	 */
+	public void put(String id) {
+		revokedIds.put(id);
+	}
+
+	/**
+	 * Revoke all tokens of user issued until revokedAt.
+	 */
+	public void revokeUser(String username, LocalDateTime revokedAt) {
+		long revokedAtMillis = revokedAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+		revokedUsers.merge(username, revokedAtMillis, Math::max);
+	}
+
+	/**
+	 * Get start of next polling. (revoked_at >= 이 값인 row 를 조회)
+	 */
+	public LocalDateTime getPollFrom() {
+		return lastPolledAt.minus(POLL_OVERLAP);
+	}
+
+	/**
+	 * Apply polled revocations.
+	 *
+	 * @param polledAt 조회 직전 시각 (다음 polling 은 이 시각부터)
+	 */
+	public void applyPolled(List<Revocation> revocations, LocalDateTime polledAt) {
+		revocations.forEach(this::apply);
+		lastPolledAt = polledAt;
+	}
+
+	/**
+	 * Rebuild filter from unexpired revocations.
+	 * Bloom filter 는 삭제가 안되므로, 만료된 폐기 정보를 정리하면서 주기적으로 새로 만든다.
+	 *
+	 * @param now 조회 직전 시각
+	 */
+	public void rebuild(List<Revocation> revocations, LocalDateTime now) {
+		BloomFilter bloomFilter = new BloomFilter(Math.max(expectedRevocations, revocations.size() * 2L), FALSE_POSITIVE_PROBABILITY);
+		revocations.forEach(revocation -> {
+			if (revocation.jti() != null) {
+				bloomFilter.put(revocation.jti());
+			} else if (revocation.family() != null) {
+				bloomFilter.put(revocation.family());
+			}
+		});
+		revokedIds = bloomFilter;
+
+		long expiredMillis = now.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli() - JwtUtil.REFRESH_TOKEN_TIME;
+		revokedUsers.values().removeIf(revokedAtMillis -> revokedAtMillis < expiredMillis);
+		revocations.stream()
+				.filter(revocation -> revocation.jti() == null && revocation.family() == null)
+				.forEach(this::apply);
+
+		// 교체 직전에 이전 filter 에만 추가된 jti 는 다음 polling 에서 다시 반영됨
+		lastPolledAt = now;
+	}
+
+	private void apply(Revocation revocation) {
+		if (revocation.jti() != null) {
+			revokedIds.put(revocation.jti());
+		} else if (revocation.family() != null) {
+			revokedIds.put(revocation.family());
+		} else {
+			this.revokeUser(revocation.username(), revocation.revokedAt());
+		}
+	}
+
+	/**
+	 * tb_revoked_token 의 row 하나. (jti, family, username 중 하나만 있음)
+	 */
+	public record Revocation(String jti, String family, String username, LocalDateTime revokedAt) {
+	}
+}
@@ -0,0 +1,41 @@
+package com.sparta.hanghaebloglv3.common.logging;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * AccessLogFilter.
+ * 요청마다 "access" logger 에 key=value 한 줄을 남긴다.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1) // ServerTimingFilter 다음
+public class AccessLogFilter extends OncePerRequestFilter {
+
+	private static final Logger log = LoggerFactory.getLogger("access");
+
+	@Override
+	protected boolean shouldNotFilter(HttpServletRequest request) {
+		return !log.isInfoEnabled();
+	}
+
+	@Override
+	protected void doFilterInternal(HttpServletRequest req, HttpServletResponse res, FilterChain filterChain) throws ServletException, IOException {
+		long startedAt = System.nanoTime();
+		try {
+			filterChain.doFilter(req, res);
+		} finally {
+			long micros = (System.nanoTime() - startedAt) / 1_000;
+			log.info("method={} path={} status={} duration_us={} ip={}", req.getMethod(), req.getRequestURI(), res.getStatus(), micros, req.getRemoteAddr());
+		}
+	}
+}
@@ -0,0 +1,23 @@
+package com.sparta.hanghaebloglv3.common.logging;
+
+import com.sparta.hanghaebloglv3.common.event.AuditEvent;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * AuditEventListener.
+ * 삭제, 좋아요 audit 로그를 commit 이후에 남긴다. rollback 된 변경은 기록하지 않는다.
+ */
+@Component
+public class AuditEventListener {
+
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+	public void onAudit(AuditEvent event) {
+		if (event.isDeleted()) {
+			AuditLog.delete(event.getTarget(), event.getId(), event.getUsername());
+		} else {
+			AuditLog.heart(event.getTarget(), event.getId(), event.getUsername());
+		}
+	}
+}
@@ -0,0 +1,35 @@
+package com.sparta.hanghaebloglv3.common.logging;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * AuditLog.
+ * 로그인, 토큰 거부, 삭제, 좋아요 이벤트를 "audit" logger 에 key=value 한 줄로 남긴다.
+ * 삭제, 좋아요는 트랜잭션 commit 이후에 남기도록 AuditEvent 를 발행하고 AuditEventListener 가 호출한다.
+ */
+public final class AuditLog {
+
+	public static final String LOGGER_NAME = "audit";
+
+	private static final Logger log = LoggerFactory.getLogger(LOGGER_NAME);
+
+	private AuditLog() {
+	}
+
+	public static void login(String username, String ip, boolean success) {
+		log.info("event=login result={} username={} ip={}", success ? "success" : "failure", username, ip);
+	}
+
+	public static void tokenRejected(String reason, String ip) {
+		log.info("event=token-rejected reason={} ip={}", reason, ip);
+	}
+
+	public static void delete(String target, Long id, String username) {
+		log.info("event=delete target={} id={} username={}", target, id, username);
+	}
+
+	public static void heart(String target, Long id, String username) {
+		log.info("event=heart target={} id={} username={}", target, id, username);
+	}
+}
@@ -0,0 +1,82 @@
+package com.sparta.hanghaebloglv3.common.logging;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * RingBuffer.
+ * 여러 생산자, 단일 소비자용 고정 크기 lock-free ring buffer.
+ * 칸마다 sequence 를 두어 생산자는 CAS 로 칸을 예약하고, 소비자는 sequence 로 쓰기가 끝난 칸만 읽는다.
+ * 가득 차면 offer 가 바로 false 를 반환한다. (대기하지 않음)
+ */
+public class RingBuffer<E> {
+
+	private final Object[] elements;
+	private final AtomicLongArray sequences;
+	private final int mask;
+	private final AtomicLong tail = new AtomicLong(); // 다음에 쓸 위치 (생산자)
+	private long head;                                // 다음에 읽을 위치 (소비자 스레드만 사용)
+
+	/**
+	 * Initializer.
+	 *
+	 * @param capacity 2의 거듭제곱으로 올림
+	 */
+	public RingBuffer(int capacity) {
+		int size = Integer.highestOneBit(Math.max(2, capacity - 1)) << 1;
+		this.elements = new Object[size];
+		this.sequences = new AtomicLongArray(size);
+		for (int i = 0; i < size; i++) {
+			sequences.set(i, i);
+		}
+		this.mask = size - 1;
+	}
+
+	public int capacity() {
+		return elements.length;
+	}
+
+	/**
+	 * Offer element. 가득 찼으면 false.
+	 */
+	public boolean offer(E element) {
+		while (true) {
+			long position = tail.get();
+			int index = (int) (position & mask);
+			long sequence = sequences.get(index);
+			if (sequence == position) {
+				if (tail.compareAndSet(position, position + 1)) {
+					elements[index] = element;
+					sequences.set(index, position + 1); // 쓰기 완료 표시 (소비자에게 공개)
+					return true;
+				}
+			} else if (sequence < position) {
+				return false; // 소비자가 아직 비우지 않은 칸 -> 가득 참
+			}
+			// 다른 생산자가 먼저 예약함, 다시 시도
+		}
+	}
+
+	/**
+	 * Poll element. 비었으면 null. (소비자 스레드 하나에서만 호출)
+	 */
+	@SuppressWarnings("unchecked")
+	public E poll() {
+		int index = (int) (head & mask);
+		if (sequences.get(index) != head + 1) {
+			return null;
+		}
+		E element = (E) elements[index];
+		elements[index] = null;
+		sequences.set(index, head + elements.length); // 한 바퀴 뒤의 생산자에게 칸을 돌려줌
+		head++;
+		return element;
+	}
+
+	/**
+	 * Approximate size.
+	 */
+	public int size() {
+		return (int) Math.max(0, Math.min(elements.length, tail.get() - head));
+	}
+}
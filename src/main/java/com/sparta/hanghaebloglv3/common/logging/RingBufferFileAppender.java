@@ -0,0 +1,219 @@
+package com.sparta.hanghaebloglv3.common.logging;
+
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.UnsynchronizedAppenderBase;
+import ch.qos.logback.core.encoder.Encoder;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * RingBufferFileAppender.
+ * 로그를 요청 스레드에서 ring buffer 에 넣기만 하고, 전용 스레드 하나가 모아서 FileChannel 로 한 번에 쓴다.
+ * buffer 가 가득 차면 기다리지 않고 버리며, 버린 수(그중 audit 로그 수)는 다음 쓰기 때 파일에 한 줄로 남기고
+ * DROPPED_LOGGER(logback-spring.xml 에서 콘솔에만 연결)로 WARN 을 남긴다.
+ * logback-spring.xml 에서 설정 (file, capacity, batchSize, idleMillis, encoder).
+ */
+public class RingBufferFileAppender extends UnsynchronizedAppenderBase<ILoggingEvent> {
+
+	public static final String DROPPED_LOGGER = "log.dropped";
+
+	private static final int WRITE_BUFFER_SIZE = 256 * 1024;
+
+	private String file;
+	private int capacity = 8192;
+	private int batchSize = 512;
+	private long idleMillis = 5;
+	private Encoder<ILoggingEvent> encoder;
+
+	private RingBuffer<ILoggingEvent> ringBuffer;
+	private FileChannel channel;
+	private ByteBuffer writeBuffer;
+	private Thread consumer;
+	private volatile boolean running;
+	private final LongAdder dropped = new LongAdder();
+	private final LongAdder droppedAudit = new LongAdder();
+	private long reportedDropped; // 소비자 스레드만 사용
+	private long reportedDroppedAudit; // 소비자 스레드만 사용
+	private volatile long written;
+
+	@Override
+	public void start() {
+		if (file == null || encoder == null) {
+			addError("file and encoder are required for appender [" + name + "]");
+			return;
+		}
+		try {
+			Path path = Path.of(file);
+			if (path.getParent() != null) {
+				Files.createDirectories(path.getParent());
+			}
+			// APPEND : 외부에서 파일을 비워도(logrotate copytruncate) 항상 끝에 씀
+			channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+		} catch (IOException e) {
+			addError("failed to open log file " + file, e);
+			return;
+		}
+		ringBuffer = new RingBuffer<>(capacity);
+		writeBuffer = ByteBuffer.allocateDirect(WRITE_BUFFER_SIZE);
+		running = true;
+		consumer = new Thread(this::consume, "log-writer-" + name);
+		consumer.setDaemon(true);
+		consumer.start();
+		super.start();
+	}
+
+	@Override
+	protected void append(ILoggingEvent event) {
+		// MDC, 호출 스레드 이름 등을 지금 값으로 고정 (다른 스레드에서 포맷하므로)
+		event.prepareForDeferredProcessing();
+		if (!ringBuffer.offer(event)) {
+			dropped.increment();
+			if (AuditLog.LOGGER_NAME.equals(event.getLoggerName())) {
+				droppedAudit.increment();
+			}
+		}
+	}
+
+	@Override
+	public void stop() {
+		if (!isStarted()) {
+			return;
+		}
+		super.stop();
+		running = false;
+		LockSupport.unpark(consumer);
+		try {
+			consumer.join(TimeUnit.SECONDS.toMillis(5));
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		try {
+			channel.close();
+		} catch (IOException e) {
+			addError("failed to close log file " + file, e);
+		}
+	}
+
+	public long getDroppedCount() {
+		return dropped.sum();
+	}
+
+	public long getDroppedAuditCount() {
+		return droppedAudit.sum();
+	}
+
+	public long getWrittenCount() {
+		return written;
+	}
+
+	public int getQueuedCount() {
+		return ringBuffer == null ? 0 : ringBuffer.size();
+	}
+
+	public int getCapacity() {
+		return ringBuffer == null ? capacity : ringBuffer.capacity();
+	}
+
+	// 종료 신호를 받아도 남은 로그는 모두 쓰고 끝냄
+	private void consume() {
+		while (true) {
+			int count = this.drainBatch();
+			if (count == 0) {
+				if (!running) {
+					return;
+				}
+				LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(idleMillis));
+			}
+		}
+	}
+
+	private int drainBatch() {
+		int count = 0;
+		this.appendDroppedNotice();
+		ILoggingEvent event;
+		while (count < batchSize && (event = ringBuffer.poll()) != null) {
+			this.put(encoder.encode(event));
+			count++;
+		}
+		this.flush();
+		written += count;
+		return count;
+	}
+
+	private void appendDroppedNotice() {
+		long total = dropped.sum();
+		if (total > reportedDropped) {
+			long totalAudit = droppedAudit.sum();
+			String message = "dropped " + (total - reportedDropped) + " log events, audit " + (totalAudit - reportedDroppedAudit) + " (buffer full)";
+			this.put((Instant.now() + "  WARN --- [" + consumer.getName() + "] " + name + " : " + message + System.lineSeparator())
+					.getBytes(StandardCharsets.UTF_8));
+			// 파일에 남긴 줄과 별개로 콘솔에도 알림 (audit 로그 유실은 파일만 봐서는 알기 어려움)
+			if (getContext() instanceof LoggerContext loggerContext) {
+				loggerContext.getLogger(DROPPED_LOGGER).warn("appender={} {}", name, message);
+			}
+			reportedDropped = total;
+			reportedDroppedAudit = totalAudit;
+		}
+	}
+
+	private void put(byte[] bytes) {
+		if (bytes.length > writeBuffer.remaining()) {
+			this.flush();
+		}
+		if (bytes.length > writeBuffer.capacity()) {
+			this.write(ByteBuffer.wrap(bytes));
+			return;
+		}
+		writeBuffer.put(bytes);
+	}
+
+	private void flush() {
+		if (writeBuffer.position() == 0) {
+			return;
+		}
+		writeBuffer.flip();
+		this.write(writeBuffer);
+		writeBuffer.clear();
+	}
+
+	private void write(ByteBuffer buffer) {
+		try {
+			while (buffer.hasRemaining()) {
+				channel.write(buffer);
+			}
+		} catch (IOException e) {
+			addError("failed to write log file " + file, e);
+		}
+	}
+
+	public void setFile(String file) {
+		this.file = file;
+	}
+
+	public void setCapacity(int capacity) {
+		this.capacity = capacity;
+	}
+
+	public void setBatchSize(int batchSize) {
+		this.batchSize = batchSize;
+	}
+
+	public void setIdleMillis(long idleMillis) {
+		this.idleMillis = idleMillis;
+	}
+
+	public void setEncoder(Encoder<ILoggingEvent> encoder) {
+		this.encoder = encoder;
+	}
+}
@@ -0,0 +1,30 @@
+package com.sparta.hanghaebloglv3.common.logging;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * SampledSqlStatementInspector.
+ * show_sql(stdout 동기 출력) 대신, 실행되는 SQL 중 일부만 "sql" logger 로 남긴다. (SQL 은 바꾸지 않음)
+ */
+public class SampledSqlStatementInspector implements StatementInspector {
+
+	private static final Logger log = LoggerFactory.getLogger("sql");
+
+	private final double sampleRate;
+
+	public SampledSqlStatementInspector(double sampleRate) {
+		this.sampleRate = sampleRate;
+	}
+
+	@Override
+	public String inspect(String sql) {
+		if (sampleRate > 0 && ThreadLocalRandom.current().nextDouble() < sampleRate && log.isInfoEnabled()) {
+			log.info(sql);
+		}
+		return sql;
+	}
+}
@@ -0,0 +1,34 @@
+package com.sparta.hanghaebloglv3.common.maintenance;
+
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * MaintenanceLock.
+ * 백업, 복원, 게시글 보관처럼 여러 테이블을 차례로 읽고 옮기는 작업이 서로 겹치지 않도록 한다.
+ * (보관 중에 백업하면 hot / archive 테이블 사이를 옮겨가는 게시글이 백업에서 빠질 수 있음)
+ */
+@Component
+public class MaintenanceLock {
+
+	private final AtomicReference<String> owner = new AtomicReference<>();
+
+	/**
+	 * Try lock for job. 다른 작업이 실행 중이면 false.
+	 */
+	public boolean tryLock(String job) {
+		return owner.compareAndSet(null, job);
+	}
+
+	public void unlock(String job) {
+		owner.compareAndSet(job, null);
+	}
+
+	/**
+	 * Running job name or null.
+	 */
+	public String getOwner() {
+		return owner.get();
+	}
+}
@@ -0,0 +1,45 @@
+package com.sparta.hanghaebloglv3.common.ratelimit;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * RateLimitRoute.
+ */
+public enum RateLimitRoute {
+	LOGIN(1, 5),     // 로그인, 회원가입 (IP 기준 brute force 방지)
+	FEED(5, 20),     // GET /api/post (전체 게시글 조회)
+	HEART(2, 10),    // 게시글, 댓글 좋아요
+	DEFAULT(20, 50); // 그외 모든 요청
+
+	private final long emissionInterval; // 토큰 하나가 채워지는 간격(ns)
+	private final long burstTolerance;   // 한번에 몰아서 허용되는 양(ns)
+
+	RateLimitRoute(int permitsPerSecond, int burst) {
+		this.emissionInterval = TimeUnit.SECONDS.toNanos(1) / permitsPerSecond;
+		this.burstTolerance = this.emissionInterval * (burst - 1);
+	}
+
+	public long getEmissionInterval() {
+		return this.emissionInterval;
+	}
+
+	public long getBurstTolerance() {
+		return this.burstTolerance;
+	}
+
+	/**
+	 * Resolve route by request method and uri.
+	 */
+	public static RateLimitRoute resolve(String method, String uri) {
+		if (uri.startsWith("/api/heart-")) {
+			return HEART;
+		}
+		if (uri.equals("/api/post") && method.equals("GET")) {
+			return FEED;
+		}
+		if (uri.equals("/api/user/login") || uri.equals("/api/user/signup")) {
+			return LOGIN;
+		}
+		return DEFAULT;
+	}
+}
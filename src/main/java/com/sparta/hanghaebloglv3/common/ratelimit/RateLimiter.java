@@ -0,0 +1,102 @@
+package com.sparta.hanghaebloglv3.common.ratelimit;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * RateLimiter.
+ */
+public class RateLimiter {
+
+	private static final long SWEEP_INTERVAL = TimeUnit.SECONDS.toNanos(1);
+
+	private final Map<RateLimitRoute, BucketTable> userTables = new EnumMap<>(RateLimitRoute.class);
+	private final Map<RateLimitRoute, BucketTable> ipTables = new EnumMap<>(RateLimitRoute.class);
+
+	/**
+	 * Initializer.
+	 *
+	 * @param maxBucketsPerTable route 별, user/ip 별 보관할 버킷 수 (넘으면 정리)
+	 */
+	public RateLimiter(int maxBucketsPerTable) {
+		for (RateLimitRoute route : RateLimitRoute.values()) {
+			userTables.put(route, new BucketTable(route, maxBucketsPerTable));
+			ipTables.put(route, new BucketTable(route, maxBucketsPerTable));
+		}
+	}
+
+	/**
+	 * Try acquire by username.
+	 *
+	 * @return 0 이면 허용, 0보다 크면 다음 요청까지 기다려야 하는 시간(ns)
+	 */
+	public long tryAcquireForUser(RateLimitRoute route, String username, long now) {
+		return userTables.get(route).tryAcquire(username, now);
+	}
+
+	/**
+	 * Try acquire by client ip.
+	 *
+	 * @return 0 이면 허용, 0보다 크면 다음 요청까지 기다려야 하는 시간(ns)
+	 */
+	public long tryAcquireForIp(RateLimitRoute route, String ip, long now) {
+		return ipTables.get(route).tryAcquire(ip, now);
+	}
+
+	/**
+	 * route + key 종류(user/ip) 하나에 대한 버킷 저장소.
+	 */
+	private static class BucketTable {
+		private final RateLimitRoute route;
+		private final int maxBuckets;
+		private final ConcurrentHashMap<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+		private final AtomicLong nextSweepAt = new AtomicLong(System.nanoTime());
+
+		BucketTable(RateLimitRoute route, int maxBuckets) {
+			this.route = route;
+			this.maxBuckets = maxBuckets;
+		}
+
+		long tryAcquire(String key, long now) {
+			TokenBucket bucket = buckets.get(key);
+			if (bucket == null) {
+				bucket = this.newBucket(key, now);
+			}
+			return bucket.tryConsume(now, route.getEmissionInterval(), route.getBurstTolerance());
+		}
+
+		// 새 key 는 항상 자기 버킷을 받는다. (key 를 많이 만드는 client 가 있어도 다른 사용자와 버킷을 나눠 쓰지 않음)
+		// 저장소가 가득 차면 버킷을 정리하는데, 정리는 초당 한 번이므로 그 사이에 생긴 key 만큼은 잠시 한도를 넘을 수 있다.
+		private TokenBucket newBucket(String key, long now) {
+			if (buckets.size() >= maxBuckets) {
+				this.evict(now);
+			}
+			return buckets.computeIfAbsent(key, k -> new TokenBucket(now));
+		}
+
+		// 가득 찬(idle) 버킷은 새 버킷과 상태가 같으므로 먼저 제거해도 제한이 느슨해지지 않는다.
+		// 그래도 한도의 7/8 을 넘으면 가득 찬 상태에 가까운 버킷부터 제거 (잃는 상태가 가장 적음, 제거된 key 는 다음 요청에서 새 버킷).
+		// 제거 직전에 버킷을 집어간 요청의 소비 1회가 사라질 수 있으나 무시할 수준.
+		private void evict(long now) {
+			long next = nextSweepAt.get();
+			if (now - next < 0 || !nextSweepAt.compareAndSet(next, now + SWEEP_INTERVAL)) {
+				return;
+			}
+			buckets.values().removeIf(bucket -> bucket.isIdle(now));
+
+			int excess = buckets.size() - (maxBuckets - maxBuckets / 8);
+			if (excess <= 0) {
+				return;
+			}
+			long[] nanosUntilFull = buckets.values().stream().mapToLong(bucket -> bucket.getNanosUntilFull(now)).sorted().toArray();
+			if (nanosUntilFull.length == 0) {
+				return;
+			}
+			long threshold = nanosUntilFull[Math.min(excess, nanosUntilFull.length) - 1];
+			buckets.values().removeIf(bucket -> bucket.getNanosUntilFull(now) <= threshold);
+		}
+	}
+}
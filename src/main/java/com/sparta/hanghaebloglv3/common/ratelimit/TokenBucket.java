@@ -0,0 +1,54 @@
+package com.sparta.hanghaebloglv3.common.ratelimit;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * TokenBucket.
+ */
+public class TokenBucket {
+
+	// GCRA(Generic Cell Rate Algorithm) 방식의 토큰 버킷.
+	// "남은 토큰 수 + 마지막 충전 시각" 대신 "버킷이 가득 차는 이론적 시각(TAT)" 하나만 저장하므로
+	// long 하나에 대한 CAS 만으로 lock 없이 토큰을 소비할 수 있다.
+	private final AtomicLong theoreticalArrivalTime;
+
+	public TokenBucket(long now) {
+		this.theoreticalArrivalTime = new AtomicLong(now);
+	}
+
+	/**
+	 * Try consume one token.
+	 *
+	 * @return 0 이면 허용, 0보다 크면 다음 토큰까지 기다려야 하는 시간(ns)
+	 */
+	public long tryConsume(long now, long emissionInterval, long burstTolerance) {
+		while (true) {
+			long tat = theoreticalArrivalTime.get();
+			// System.nanoTime() 은 long 범위를 넘어 감길 수 있으므로 Math.max 대신 차이로 비교
+			long base = tat - now > 0 ? tat : now;
+			// 이번 요청 전의 TAT 가 허용 범위(burstTolerance) 안이면 허용 -> 가득 찬 버킷에서 burst 개까지
+			long waitNanos = base - now - burstTolerance;
+			if (waitNanos > 0) {
+				return waitNanos;
+			}
+			if (theoreticalArrivalTime.compareAndSet(tat, base + emissionInterval)) {
+				return 0;
+			}
+		}
+	}
+
+	/**
+	 * Get time until bucket is full (ns). 0 이하면 가득 찬 상태, 작을수록 가득 찬 상태에 가까움.
+	 */
+	public long getNanosUntilFull(long now) {
+		return theoreticalArrivalTime.get() - now;
+	}
+
+	/**
+	 * Check bucket is full.
+	 */
+	public boolean isIdle(long now) {
+		// TAT가 현재 시각 이전이면 버킷이 가득 찬 상태 -> 새로 만든 버킷과 동일하므로 제거해도 상태 손실이 없다.
+		return theoreticalArrivalTime.get() - now <= 0;
+	}
+}
@@ -2,6 +2,7 @@ package com.sparta.hanghaebloglv3.common.security;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.sparta.hanghaebloglv3.common.jwt.JwtUtil;
+import com.sparta.hanghaebloglv3.common.logging.AuditLog;
 import com.sparta.hanghaebloglv3.user.dto.LoginRequestDto;
 import com.sparta.hanghaebloglv3.user.entity.UserRoleEnum;
 import jakarta.servlet.FilterChain;
@@ -20,6 +21,8 @@ import java.io.IOException;
 
 @Slf4j(topic = "로그인처리 및 JWT 생성")
 public class JwtAuthenticationFilter extends UsernamePasswordAuthenticationFilter {
+	private static final String LOGIN_USERNAME_ATTRIBUTE = JwtAuthenticationFilter.class.getName() + ".username";
+
 	private final JwtUtil jwtUtil;
 	private final AuthenticationSuccessHandler successHandler;
 	private final AuthenticationFailureHandler failureHandler;
@@ -33,9 +36,9 @@ public class JwtAuthenticationFilter extends UsernamePasswordAuthenticationFilte
 
 	@Override
 	public Authentication attemptAuthentication(HttpServletRequest request, HttpServletResponse response) throws AuthenticationException {
-		log.info("로그인 시도");
 		try {
 			LoginRequestDto requestDto = new ObjectMapper().readValue(request.getInputStream(), LoginRequestDto.class);
+			request.setAttribute(LOGIN_USERNAME_ATTRIBUTE, requestDto.getId()); // 실패 audit 로그용
 
 			return getAuthenticationManager().authenticate(
 					new UsernamePasswordAuthenticationToken(
@@ -56,9 +59,12 @@ public class JwtAuthenticationFilter extends UsernamePasswordAuthenticationFilte
 		String username = ((UserDetailsImpl) authResult.getPrincipal()).getUsername();
 		UserRoleEnum role = ((UserDetailsImpl) authResult.getPrincipal()).getUser().getRole();
 
-		String token = jwtUtil.createToken(username, role);
+		String family = jwtUtil.newFamily();
+		String token = jwtUtil.createToken(username, role, family);
 		response.addHeader(JwtUtil.AUTHORIZATION_HEADER, token);
+		response.addHeader(JwtUtil.REFRESH_TOKEN_HEADER, jwtUtil.createRefreshToken(username, family));
 
+		AuditLog.login(username, request.getRemoteAddr(), true);
 		successHandler.onAuthenticationSuccess(request, response, authResult);
 	}
 
@@ -66,6 +72,7 @@ public class JwtAuthenticationFilter extends UsernamePasswordAuthenticationFilte
 	@Override
 	protected void unsuccessfulAuthentication(HttpServletRequest request, HttpServletResponse response, AuthenticationException failed) throws ServletException, IOException {
 		response.setStatus(401);
+		AuditLog.login((String) request.getAttribute(LOGIN_USERNAME_ATTRIBUTE), request.getRemoteAddr(), false);
 
 		failureHandler.onAuthenticationFailure(request, response, failed);
 	}
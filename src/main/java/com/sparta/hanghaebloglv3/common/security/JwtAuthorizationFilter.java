@@ -5,6 +5,10 @@ import com.sparta.hanghaebloglv3.common.constant.ProjConst;
 import com.sparta.hanghaebloglv3.common.dto.ApiResult;
 import com.sparta.hanghaebloglv3.common.exception.RestApiException;
 import com.sparta.hanghaebloglv3.common.jwt.JwtUtil;
+import com.sparta.hanghaebloglv3.common.logging.AuditLog;
+import com.sparta.hanghaebloglv3.common.timing.RequestTiming;
+import com.sparta.hanghaebloglv3.common.timing.TimingPhase;
+import com.sparta.hanghaebloglv3.user.service.TokenRevocationService;
 import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -34,11 +38,13 @@ public class JwtAuthorizationFilter extends OncePerRequestFilter {
 	private final JwtUtil jwtUtil;
 	private final UserDetailsServiceImpl userDetailsService;
 	private final MessageSource messageSource;
+	private final TokenRevocationService tokenRevocationService;
 
-	public JwtAuthorizationFilter(JwtUtil jwtUtil, UserDetailsServiceImpl userDetailsService, MessageSource messageSource) {
+	public JwtAuthorizationFilter(JwtUtil jwtUtil, UserDetailsServiceImpl userDetailsService, MessageSource messageSource, TokenRevocationService tokenRevocationService) {
 		this.jwtUtil = jwtUtil;
 		this.userDetailsService = userDetailsService;
 		this.messageSource = messageSource;
+		this.tokenRevocationService = tokenRevocationService;
 	}
 
 	@Override
@@ -69,36 +75,58 @@ public class JwtAuthorizationFilter extends OncePerRequestFilter {
 
 		if (StringUtils.hasText(tokenValue)) {
 
-			if (!jwtUtil.validateToken(tokenValue)) {
-				log.error("Token Error");
-//				// !problem! -> 콘솔쪽에 메세지가 띄워지고 Http body에는 예외처리 내용 반환이 안됨
-//				throw new IllegalArgumentException(
-//						messageSource.getMessage(
-//								"invalid.token",
-//								null,
-//								"Invalid Token",
-//								Locale.getDefault()
-//						)
-//				);
-				ObjectMapper objectMapper = new ObjectMapper();
-				res.setContentType("application/json; charset=UTF-8");
-				res.getWriter().print(objectMapper.writeValueAsString(new ApiResult(ProjConst.INVALID_TOKEN, HttpStatus.BAD_REQUEST.value())));
-				return;
+			// 토큰 검증 시간 (Server-Timing jwt 구간)
+			Claims info;
+			RequestTiming.enter(TimingPhase.JWT);
+			try {
+				if (!jwtUtil.validateToken(tokenValue)) {
+					AuditLog.tokenRejected("invalid", req.getRemoteAddr());
+//					// !problem! -> 콘솔쪽에 메세지가 띄워지고 Http body에는 예외처리 내용 반환이 안됨
+//					throw new IllegalArgumentException(
+//							messageSource.getMessage(
+//									"invalid.token",
+//									null,
+//									"Invalid Token",
+//									Locale.getDefault()
+//							)
+//					);
+					this.writeInvalidToken(res);
+					return;
+				}
+
+				info = jwtUtil.getUserInfoFromToken(tokenValue);
+
+				// refresh 토큰으로는 API 호출 불가, 로그아웃/비밀번호 변경으로 폐기된 토큰 거부 (메모리에서 확인)
+				if (!jwtUtil.isTokenType(info, JwtUtil.ACCESS_TOKEN_TYPE) || tokenRevocationService.isRevoked(info)) {
+					AuditLog.tokenRejected("revoked", req.getRemoteAddr());
+					this.writeInvalidToken(res);
+					return;
+				}
+			} finally {
+				RequestTiming.exit();
 			}
 
-			Claims info = jwtUtil.getUserInfoFromToken(tokenValue);
-
+			// 인증 사용자 조회 시간 (Server-Timing user 구간)
+			RequestTiming.enter(TimingPhase.USER);
 			try {
 				setAuthentication(info.getSubject());
 			} catch (Exception e) {
 				log.error(e.getMessage());
 				return;
+			} finally {
+				RequestTiming.exit();
 			}
 		}
 
 		filterChain.doFilter(req, res);
 	}
 
+	private void writeInvalidToken(HttpServletResponse res) throws IOException {
+		ObjectMapper objectMapper = new ObjectMapper();
+		res.setContentType("application/json; charset=UTF-8");
+		res.getWriter().print(objectMapper.writeValueAsString(new ApiResult(ProjConst.INVALID_TOKEN, HttpStatus.BAD_REQUEST.value())));
+	}
+
 	// 인증 처리
 	public void setAuthentication(String username) {
 		SecurityContext context = SecurityContextHolder.createEmptyContext();
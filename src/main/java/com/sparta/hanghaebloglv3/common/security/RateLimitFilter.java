@@ -0,0 +1,74 @@
+package com.sparta.hanghaebloglv3.common.security;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sparta.hanghaebloglv3.common.constant.ProjConst;
+import com.sparta.hanghaebloglv3.common.dto.ApiResult;
+import com.sparta.hanghaebloglv3.common.ratelimit.RateLimitRoute;
+import com.sparta.hanghaebloglv3.common.ratelimit.RateLimiter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+public class RateLimitFilter extends OncePerRequestFilter {
+
+	private final RateLimiter rateLimiter;
+	private final boolean enabled;
+	// 429 응답 body는 항상 같으므로 미리 직렬화해 둔다.
+	private final byte[] tooManyRequestsBody;
+
+	public RateLimitFilter(RateLimiter rateLimiter, boolean enabled) {
+		this.rateLimiter = rateLimiter;
+		this.enabled = enabled;
+		try {
+			this.tooManyRequestsBody = new ObjectMapper()
+					.writeValueAsString(new ApiResult(ProjConst.TOO_MANY_REQUESTS, HttpStatus.TOO_MANY_REQUESTS.value()))
+					.getBytes(StandardCharsets.UTF_8);
+		} catch (JsonProcessingException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	// 부하 테스트처럼 한 IP 에서 많은 사용자를 흉내낼 때만 끈다. (rate-limit.enabled=false)
+	@Override
+	protected boolean shouldNotFilter(HttpServletRequest request) {
+		return !enabled;
+	}
+
+	@Override
+	protected void doFilterInternal(HttpServletRequest req, HttpServletResponse res, FilterChain filterChain) throws ServletException, IOException {
+		RateLimitRoute route = RateLimitRoute.resolve(req.getMethod(), req.getRequestURI());
+		long now = System.nanoTime();
+
+		// 모든 요청은 IP 기준으로, 인증된 요청은 username 기준으로도 한 번 더 제한
+		// -> 토큰 여러 개를 돌려쓰는 한 IP 도, 여러 IP 에서 같은 토큰을 쓰는 사용자도 한도를 넘지 못함.
+		// IP 버킷에서 거절되면 user 버킷은 소비하지 않는다.
+		// getRemoteAddr() 는 신뢰하는 proxy 를 거친 요청이면 X-Forwarded-For 의 client IP (server.forward-headers-strategy=native)
+		long waitNanos = rateLimiter.tryAcquireForIp(route, req.getRemoteAddr(), now);
+		Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+		if (waitNanos == 0 && authentication != null && authentication.getPrincipal() instanceof UserDetailsImpl userDetails) {
+			waitNanos = rateLimiter.tryAcquireForUser(route, userDetails.getUsername(), now);
+		}
+
+		if (waitNanos > 0) {
+			long retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + TimeUnit.SECONDS.toNanos(1) - 1));
+			res.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+			res.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+			res.setContentType("application/json; charset=UTF-8");
+			res.getOutputStream().write(tooManyRequestsBody);
+			return;
+		}
+
+		filterChain.doFilter(req, res);
+	}
+}
@@ -0,0 +1,150 @@
+package com.sparta.hanghaebloglv3.common.timing;
+
+/**
+ * RequestTiming.
+ * 요청 하나의 구간별 처리 시간(System.nanoTime). ServerTimingFilter 가 요청 스레드에 두고, 각 구간에서 enter/exit 로 기록한다.
+ * 구간이 중첩되면 안쪽 구간이 끝날 때까지 바깥 구간 시간은 멈추므로, 구간별 시간의 합이 전체 처리 시간을 넘지 않는다.
+ * 요청 스레드 하나에서만 사용되므로 동기화하지 않는다.
+ */
+public final class RequestTiming {
+
+	private static final ThreadLocal<RequestTiming> CURRENT = new ThreadLocal<>();
+	private static final TimingPhase[] PHASES = TimingPhase.values();
+	private static final int MAX_DEPTH = 16;
+
+	private final long startedAt = System.nanoTime();
+	private final long[] nanos = new long[PHASES.length];
+	private final int[] counts = new int[PHASES.length];
+	private final TimingPhase[] stack = new TimingPhase[MAX_DEPTH];
+	private int depth;
+	private int absorbedDepth; // inclusive 구간 안에서 시작되어 따로 기록하지 않는 구간 수
+	private long resumedAt;    // 현재 구간이 시작(재개)된 시각
+
+	private RequestTiming() {
+	}
+
+	/**
+	 * Start timing of current request thread.
+	 */
+	public static RequestTiming start() {
+		RequestTiming timing = new RequestTiming();
+		CURRENT.set(timing);
+		return timing;
+	}
+
+	public static boolean isActive() {
+		return CURRENT.get() != null;
+	}
+
+	public static void clear() {
+		CURRENT.remove();
+	}
+
+	/**
+	 * Enter phase. 요청 스레드가 아니면(스케줄러, 이벤트 처리 스레드 등) 아무것도 하지 않음.
+	 * 반드시 try-finally 로 exit 와 짝을 맞춘다.
+	 */
+	public static void enter(TimingPhase phase) {
+		RequestTiming timing = CURRENT.get();
+		if (timing != null) {
+			timing.push(phase);
+		}
+	}
+
+	public static void exit() {
+		RequestTiming timing = CURRENT.get();
+		if (timing != null) {
+			timing.pop();
+		}
+	}
+
+	public long getElapsedNanos() {
+		return System.nanoTime() - startedAt;
+	}
+
+	public long getNanos(TimingPhase phase) {
+		return nanos[phase.ordinal()];
+	}
+
+	public int getCount(TimingPhase phase) {
+		return counts[phase.ordinal()];
+	}
+
+	/**
+	 * Server-Timing header value. (ex. jwt;dur=0.120, db;desc="3";dur=2.310, total;dur=4.002)
+	 */
+	public String toHeaderValue() {
+		StringBuilder builder = new StringBuilder(128);
+		for (TimingPhase phase : PHASES) {
+			int count = counts[phase.ordinal()];
+			if (count == 0) {
+				continue;
+			}
+			builder.append(phase.getMetricName());
+			if (phase == TimingPhase.DB) {
+				builder.append(";desc=\"").append(count).append('"');
+			}
+			appendMillis(builder.append(";dur="), nanos[phase.ordinal()]).append(", ");
+		}
+		return appendMillis(builder.append("total;dur="), this.getElapsedNanos()).toString();
+	}
+
+	/**
+	 * Structured log fields. (ex. jwt=0.120 db=2.310 db_count=3 total=4.002)
+	 */
+	public String toLogFields(long totalNanos) {
+		StringBuilder builder = new StringBuilder(128);
+		for (TimingPhase phase : PHASES) {
+			int count = counts[phase.ordinal()];
+			if (count == 0) {
+				continue;
+			}
+			appendMillis(builder.append(phase.getMetricName()).append('='), nanos[phase.ordinal()]).append(' ');
+			if (phase == TimingPhase.DB) {
+				builder.append("db_count=").append(count).append(' ');
+			}
+		}
+		return appendMillis(builder.append("total="), totalNanos).toString();
+	}
+
+	private void push(TimingPhase phase) {
+		if (absorbedDepth > 0 || depth == MAX_DEPTH || (depth > 0 && stack[depth - 1].isInclusive())) {
+			absorbedDepth++;
+			return;
+		}
+		long now = System.nanoTime();
+		if (depth > 0) {
+			nanos[stack[depth - 1].ordinal()] += now - resumedAt;
+		}
+		stack[depth++] = phase;
+		counts[phase.ordinal()]++;
+		resumedAt = now;
+	}
+
+	private void pop() {
+		if (absorbedDepth > 0) {
+			absorbedDepth--;
+			return;
+		}
+		if (depth == 0) {
+			return;
+		}
+		long now = System.nanoTime();
+		nanos[stack[--depth].ordinal()] += now - resumedAt;
+		resumedAt = now;
+	}
+
+	// ms 소수점 3자리 (요청마다 호출되므로 String.format 대신 직접 붙임)
+	private static StringBuilder appendMillis(StringBuilder builder, long nanos) {
+		long micros = nanos / 1_000;
+		long fraction = micros % 1_000;
+		builder.append(micros / 1_000).append('.');
+		if (fraction < 100) {
+			builder.append('0');
+		}
+		if (fraction < 10) {
+			builder.append('0');
+		}
+		return builder.append(fraction);
+	}
+}
@@ -0,0 +1,197 @@
+package com.sparta.hanghaebloglv3.common.timing;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import com.sparta.hanghaebloglv3.user.entity.UserRoleEnum;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ServerTimingFilter.
+ * 요청마다 RequestTiming 을 시작하고, 요청이 끝나면 구간별 시간을 histogram(http.server.phase)에 기록하고, 일부(샘플링) 또는 느린 요청은 로그로 남긴다.
+ * Server-Timing 헤더는 내부 처리 시간(인증, DB 호출 수 등)을 드러내므로 server-timing.header-enabled 일 때 관리자 요청에만,
+ * 응답 body 를 쓰기 직전에 붙인다.
+ */
+@Slf4j(topic = "요청 구간 시간")
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE) // 보안 필터(JWT 검증) 시간까지 포함하도록 가장 먼저 실행
+public class ServerTimingFilter extends OncePerRequestFilter {
+
+	public static final String SERVER_TIMING_HEADER = "Server-Timing";
+
+	private static final String UNKNOWN_URI = "UNKNOWN";
+	private static final TimingPhase[] PHASES = TimingPhase.values();
+
+	private final MeterRegistry meterRegistry;
+	private final boolean enabled;
+	private final boolean headerEnabled;
+	private final double logSampleRate;
+	private final long slowNanos;
+	// uri 패턴 -> 구간별 Timer (요청마다 Timer 를 새로 찾지 않도록 보관)
+	private final ConcurrentHashMap<String, Timer[]> timers = new ConcurrentHashMap<>();
+
+	public ServerTimingFilter(MeterRegistry meterRegistry,
+	                          @Value("${server-timing.enabled}") boolean enabled,
+	                          @Value("${server-timing.header-enabled}") boolean headerEnabled,
+	                          @Value("${server-timing.log-sample-rate}") double logSampleRate,
+	                          @Value("${server-timing.slow-ms}") long slowMillis) {
+		this.meterRegistry = meterRegistry;
+		this.enabled = enabled;
+		this.headerEnabled = headerEnabled;
+		this.logSampleRate = logSampleRate;
+		this.slowNanos = TimeUnit.MILLISECONDS.toNanos(slowMillis);
+	}
+
+	@Override
+	protected boolean shouldNotFilter(HttpServletRequest request) {
+		return !enabled;
+	}
+
+	@Override
+	protected void doFilterInternal(HttpServletRequest req, HttpServletResponse res, FilterChain filterChain) throws ServletException, IOException {
+		RequestTiming timing = RequestTiming.start();
+		if (!headerEnabled) {
+			try {
+				filterChain.doFilter(req, res);
+			} finally {
+				RequestTiming.clear();
+				this.record(req, res, timing, timing.getElapsedNanos());
+			}
+			return;
+		}
+
+		ServerTimingResponse response = new ServerTimingResponse(res, timing);
+		try {
+			filterChain.doFilter(req, response);
+		} finally {
+			RequestTiming.clear();
+			// body 없는 응답 (304 등)
+			response.addServerTimingHeader();
+			this.record(req, res, timing, timing.getElapsedNanos());
+		}
+	}
+
+	private void record(HttpServletRequest req, HttpServletResponse res, RequestTiming timing, long totalNanos) {
+		Object pattern = req.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+		String uri = pattern == null ? UNKNOWN_URI : pattern.toString();
+		Timer[] phaseTimers = timers.computeIfAbsent(uri, this::createTimers);
+		for (TimingPhase phase : PHASES) {
+			if (timing.getCount(phase) > 0) {
+				phaseTimers[phase.ordinal()].record(timing.getNanos(phase), TimeUnit.NANOSECONDS);
+			}
+		}
+
+		if (totalNanos >= slowNanos || ThreadLocalRandom.current().nextDouble() < logSampleRate) {
+			log.info("method={} uri={} status={} {}", req.getMethod(), uri, res.getStatus(), timing.toLogFields(totalNanos));
+		}
+	}
+
+	private Timer[] createTimers(String uri) {
+		Timer[] phaseTimers = new Timer[PHASES.length];
+		for (TimingPhase phase : PHASES) {
+			phaseTimers[phase.ordinal()] = Timer.builder("http.server.phase")
+					.description("Request time spent in each phase (jwt, user, db, app, ser)")
+					.tag("uri", uri)
+					.tag("phase", phase.getMetricName())
+					.publishPercentileHistogram()
+					.maximumExpectedValue(Duration.ofSeconds(10))
+					.register(meterRegistry);
+		}
+		return phaseTimers;
+	}
+
+	/**
+	 * 응답 body 를 처음 쓰려는 시점(헤더가 나가기 직전)에 관리자 요청이면 Server-Timing 헤더를 한 번 붙인다.
+	 * 요청이 끝나면 인증 정보가 정리되므로, 관리자 여부는 응답 상태, body 를 쓰는 시점(filter chain 안)에 확인해 둔다.
+	 */
+	private static class ServerTimingResponse extends HttpServletResponseWrapper {
+
+		private final RequestTiming timing;
+		private boolean headerAdded;
+		private boolean admin;
+
+		ServerTimingResponse(HttpServletResponse response, RequestTiming timing) {
+			super(response);
+			this.timing = timing;
+		}
+
+		void addServerTimingHeader() {
+			this.checkAdmin();
+			if (admin && !headerAdded && !this.isCommitted()) {
+				headerAdded = true;
+				this.setHeader(SERVER_TIMING_HEADER, timing.toHeaderValue());
+			}
+		}
+
+		private void checkAdmin() {
+			if (admin) {
+				return;
+			}
+			Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+			admin = authentication != null && authentication.getAuthorities().stream()
+					.anyMatch(authority -> UserRoleEnum.Authority.ADMIN.equals(authority.getAuthority()));
+		}
+
+		@Override
+		public void setStatus(int sc) {
+			this.checkAdmin();
+			super.setStatus(sc);
+		}
+
+		@Override
+		public ServletOutputStream getOutputStream() throws IOException {
+			this.addServerTimingHeader();
+			return super.getOutputStream();
+		}
+
+		@Override
+		public PrintWriter getWriter() throws IOException {
+			this.addServerTimingHeader();
+			return super.getWriter();
+		}
+
+		@Override
+		public void flushBuffer() throws IOException {
+			this.addServerTimingHeader();
+			super.flushBuffer();
+		}
+
+		@Override
+		public void sendError(int sc, String msg) throws IOException {
+			this.addServerTimingHeader();
+			super.sendError(sc, msg);
+		}
+
+		@Override
+		public void sendError(int sc) throws IOException {
+			this.addServerTimingHeader();
+			super.sendError(sc);
+		}
+
+		@Override
+		public void sendRedirect(String location) throws IOException {
+			this.addServerTimingHeader();
+			super.sendRedirect(location);
+		}
+	}
+}
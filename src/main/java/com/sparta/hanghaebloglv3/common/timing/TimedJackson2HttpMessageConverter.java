@@ -0,0 +1,39 @@
+package com.sparta.hanghaebloglv3.common.timing;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+
+/**
+ * TimedJackson2HttpMessageConverter.
+ * JSON 을 응답 stream 에 바로 쓰면서 ser 구간을 잰다. (body 를 메모리에 모으지 않음, stream 에 쓰는 시간도 ser 에 포함)
+ * 헤더는 body 를 쓰기 전에 나가므로 직렬화 시간은 Server-Timing 헤더에는 없고 histogram, 로그에만 기록된다.
+ */
+public class TimedJackson2HttpMessageConverter extends MappingJackson2HttpMessageConverter {
+
+	public TimedJackson2HttpMessageConverter(ObjectMapper objectMapper) {
+		super(objectMapper);
+	}
+
+	@Override
+	protected void writeInternal(Object object, Type type, HttpOutputMessage outputMessage) throws IOException, HttpMessageNotWritableException {
+		// 요청 스레드가 아니면 (SSE 이벤트 전송 등) 그대로 씀
+		if (!RequestTiming.isActive()) {
+			super.writeInternal(object, type, outputMessage);
+			return;
+		}
+
+		// body 를 먼저 열어서 헤더(Server-Timing 포함)를 ser 구간 시작 전에 확정
+		outputMessage.getBody();
+		RequestTiming.enter(TimingPhase.SER);
+		try {
+			super.writeInternal(object, type, outputMessage);
+		} finally {
+			RequestTiming.exit();
+		}
+	}
+}
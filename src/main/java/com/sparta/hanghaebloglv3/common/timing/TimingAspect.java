@@ -0,0 +1,36 @@
+package com.sparta.hanghaebloglv3.common.timing;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+/**
+ * TimingAspect.
+ * repository 호출은 db, service 호출은 app 구간으로 기록한다.
+ * 요청 스레드가 아니면 RequestTiming 이 없으므로 기록하지 않는다.
+ */
+@Aspect
+@Component
+public class TimingAspect {
+
+	@Around("this(org.springframework.data.repository.Repository)")
+	public Object timeRepository(ProceedingJoinPoint joinPoint) throws Throwable {
+		RequestTiming.enter(TimingPhase.DB);
+		try {
+			return joinPoint.proceed();
+		} finally {
+			RequestTiming.exit();
+		}
+	}
+
+	@Around("within(com.sparta.hanghaebloglv3..*) && @within(org.springframework.stereotype.Service)")
+	public Object timeService(ProceedingJoinPoint joinPoint) throws Throwable {
+		RequestTiming.enter(TimingPhase.APP);
+		try {
+			return joinPoint.proceed();
+		} finally {
+			RequestTiming.exit();
+		}
+	}
+}
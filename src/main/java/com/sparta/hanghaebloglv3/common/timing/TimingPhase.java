@@ -0,0 +1,29 @@
+package com.sparta.hanghaebloglv3.common.timing;
+
+/**
+ * TimingPhase.
+ * 요청 처리 구간. name 은 Server-Timing 헤더, 로그, metric tag 에 그대로 사용.
+ */
+public enum TimingPhase {
+	JWT("jwt", true),   // 토큰 검증, claims 파싱
+	USER("user", true), // 인증 사용자 조회 (조회 SQL 포함)
+	DB("db", false),    // repository 호출
+	APP("app", false),  // service 로직, DTO 조립 (repository 호출 시간 제외)
+	SER("ser", false);  // JSON 직렬화
+
+	private final String metricName;
+	private final boolean inclusive; // true 면 구간 안에서 시작된 다른 구간도 이 구간 시간으로 계산
+
+	TimingPhase(String metricName, boolean inclusive) {
+		this.metricName = metricName;
+		this.inclusive = inclusive;
+	}
+
+	public String getMetricName() {
+		return this.metricName;
+	}
+
+	public boolean isInclusive() {
+		return this.inclusive;
+	}
+}
@@ -0,0 +1,76 @@
+package com.sparta.hanghaebloglv3.common.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * BloomFilter.
+ * 문자열 key 에 대한 lock-free Bloom filter.
+ * mightContain 이 false 이면 확실히 없음, true 이면 있을 수도 있음(오탐률 fpp).
+ */
+public class BloomFilter {
+
+	private final AtomicLongArray bits;
+	private final long bitSize;
+	private final int hashCount;
+
+	/**
+	 * Initializer.
+	 *
+	 * @param expectedInsertions 예상 key 수
+	 * @param fpp                허용 오탐률 (ex. 0.001)
+	 */
+	public BloomFilter(long expectedInsertions, double fpp) {
+		long n = Math.max(1, expectedInsertions);
+		long m = (long) Math.ceil(-n * Math.log(fpp) / (Math.log(2) * Math.log(2)));
+		this.bits = new AtomicLongArray((int) Math.max(1, (m + 63) >>> 6));
+		this.bitSize = (long) bits.length() << 6;
+		this.hashCount = Math.max(1, (int) Math.round((double) bitSize / n * Math.log(2)));
+	}
+
+	public void put(String key) {
+		long hash = hash(key);
+		long h1 = hash;
+		long h2 = (hash >>> 32) | 1;
+		for (int i = 0; i < hashCount; i++) {
+			long bitIndex = Math.floorMod(h1 + i * h2, bitSize);
+			int index = (int) (bitIndex >>> 6);
+			long mask = 1L << bitIndex;
+			long word;
+			do {
+				word = bits.get(index);
+				if ((word & mask) != 0) {
+					break;
+				}
+			} while (!bits.compareAndSet(index, word, word | mask));
+		}
+	}
+
+	public boolean mightContain(String key) {
+		long hash = hash(key);
+		long h1 = hash;
+		long h2 = (hash >>> 32) | 1;
+		for (int i = 0; i < hashCount; i++) {
+			long bitIndex = Math.floorMod(h1 + i * h2, bitSize);
+			if ((bits.get((int) (bitIndex >>> 6)) & (1L << bitIndex)) == 0) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	// 64bit FNV-1a + splitmix64 finalizer (String.hashCode 는 32bit 라 bit 분포가 부족함)
+	private static long hash(String key) {
+		long hash = 0xcbf29ce484222325L;
+		for (byte b : key.getBytes(StandardCharsets.UTF_8)) {
+			hash ^= b;
+			hash *= 0x100000001b3L;
+		}
+		hash ^= hash >>> 33;
+		hash *= 0xff51afd7ed558ccdL;
+		hash ^= hash >>> 33;
+		hash *= 0xc4ceb9fe1a85ec53L;
+		hash ^= hash >>> 33;
+		return hash;
+	}
+}
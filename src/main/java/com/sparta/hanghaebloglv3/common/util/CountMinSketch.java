@@ -0,0 +1,83 @@
+package com.sparta.hanghaebloglv3.common.util;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+/**
+ * CountMinSketch.
+ * 값마다 등장 횟수를 고정 크기(DEPTH x width 개의 long)로 추정하는 lock-free sketch.
+ * 추정값은 실제 횟수보다 작지 않고, 전체 횟수의 약 e / width 이상 크게 나올 확률은 e^-DEPTH 이하이다.
+ */
+public class CountMinSketch {
+
+	private static final int DEPTH = 4;
+	private static final VarHandle COUNTER = MethodHandles.arrayElementVarHandle(long[].class);
+
+	private final long[] counters;
+	private final int mask;
+
+	/**
+	 * @param width 행마다 counter 수 (2 의 거듭제곱으로 올림)
+	 */
+	public CountMinSketch(int width) {
+		int size = Integer.highestOneBit(Math.max(width - 1, 1)) << 1;
+		this.counters = new long[DEPTH * size];
+		this.mask = size - 1;
+	}
+
+	/**
+	 * Add value and return estimated count (추가한 뒤의 값).
+	 */
+	public long add(long value) {
+		long hash = hash(value);
+		long estimate = Long.MAX_VALUE;
+		for (int row = 0; row < DEPTH; row++) {
+			long count = (long) COUNTER.getAndAdd(counters, this.index(row, hash), 1L) + 1;
+			estimate = Math.min(estimate, count);
+		}
+		return estimate;
+	}
+
+	/**
+	 * Estimate count of value.
+	 */
+	public long estimate(long value) {
+		long hash = hash(value);
+		long estimate = Long.MAX_VALUE;
+		for (int row = 0; row < DEPTH; row++) {
+			estimate = Math.min(estimate, (long) COUNTER.getVolatile(counters, this.index(row, hash)));
+		}
+		return estimate;
+	}
+
+	/**
+	 * Halve all counters (오래된 횟수의 비중을 줄여서 최근에 많이 나온 값이 위로 오도록).
+	 * counter 마다 CAS 로 바꾸므로 동시에 add 된 값은 빠지지 않는다.
+	 */
+	public void halve() {
+		for (int i = 0; i < counters.length; i++) {
+			long count;
+			do {
+				count = (long) COUNTER.getVolatile(counters, i);
+				if (count == 0) {
+					break;
+				}
+			} while (!COUNTER.compareAndSet(counters, i, count, count >>> 1));
+		}
+	}
+
+	// 64bit hash 하나를 행마다 다르게 섞어서 사용 (double hashing)
+	private int index(int row, long hash) {
+		int h1 = (int) hash;
+		int h2 = (int) (hash >>> 32);
+		return row * (mask + 1) + ((h1 + row * h2) & mask);
+	}
+
+	// splitmix64 finalizer (연속된 id 도 bit 가 고르게 퍼지도록)
+	private static long hash(long value) {
+		long hash = value + 0x9e3779b97f4a7c15L;
+		hash = (hash ^ (hash >>> 30)) * 0xbf58476d1ce4e5b9L;
+		hash = (hash ^ (hash >>> 27)) * 0x94d049bb133111ebL;
+		return hash ^ (hash >>> 31);
+	}
+}
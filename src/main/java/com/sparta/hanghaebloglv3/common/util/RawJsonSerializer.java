@@ -0,0 +1,35 @@
+package com.sparta.hanghaebloglv3.common.util;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+
+/**
+ * RawJsonSerializer.
+ * 저장된 JSON 문자열을 JSON 응답에는 다시 파싱하지 않고 그대로(@JsonRawValue 처럼) 쓰고,
+ * raw 값을 쓸 수 없는 binary 형식(CBOR, Smile) 응답에는 파싱해서 같은 구조로 쓴다.
+ */
+public class RawJsonSerializer extends StdSerializer<String> {
+
+	private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+	public RawJsonSerializer() {
+		super(String.class);
+	}
+
+	@Override
+	public void serialize(String value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+		if (!generator.canWriteBinaryNatively()) {
+			generator.writeRawValue(value);
+			return;
+		}
+		try (JsonParser parser = JSON_FACTORY.createParser(value)) {
+			parser.nextToken();
+			generator.copyCurrentStructure(parser);
+		}
+	}
+}
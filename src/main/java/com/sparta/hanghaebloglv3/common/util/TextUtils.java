@@ -0,0 +1,21 @@
+package com.sparta.hanghaebloglv3.common.util;
+
+/**
+ * TextUtils.
+ */
+public final class TextUtils {
+
+	private TextUtils() {
+		// 객체 생성을 금지함.
+	}
+
+	/**
+	 * Cut text to max length (code point 기준, 이모지 등이 중간에 잘리지 않도록).
+	 */
+	public static String cut(String text, int maxLength) {
+		if (text == null || text.length() <= maxLength || text.codePointCount(0, text.length()) <= maxLength) {
+			return text;
+		}
+		return text.substring(0, text.offsetByCodePoints(0, maxLength));
+	}
+}
@@ -0,0 +1,42 @@
+package com.sparta.hanghaebloglv3.feed.controller;
+
+import com.sparta.hanghaebloglv3.common.dto.ApiResult;
+import com.sparta.hanghaebloglv3.common.security.UserDetailsImpl;
+import com.sparta.hanghaebloglv3.feed.dto.FeedItemResponseDto;
+import com.sparta.hanghaebloglv3.feed.service.FeedService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * FeedController.
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/feed")
+public class FeedController {
+
+	private final FeedService feedService;
+
+	/**
+	 * Get feed page (keyset paging).
+	 */
+	@GetMapping
+	public List<FeedItemResponseDto> getFeed(@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime lastModifiedAt,
+	                                         @RequestParam(required = false) Long lastPostId,
+	                                         @RequestParam(defaultValue = "" + FeedService.DEFAULT_PAGE_SIZE) int size) {
+		return feedService.getFeed(lastModifiedAt, lastPostId, size);
+	}
+
+	/**
+	 * Rebuild feed from source tables (admin).
+	 */
+	@PostMapping("/rebuild")
+	public ApiResult rebuild(@AuthenticationPrincipal UserDetailsImpl userDetails) {
+		return feedService.rebuild(userDetails.getUser());
+	}
+}
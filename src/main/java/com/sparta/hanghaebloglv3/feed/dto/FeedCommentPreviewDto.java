@@ -0,0 +1,25 @@
+package com.sparta.hanghaebloglv3.feed.dto;
+
+import com.sparta.hanghaebloglv3.comment.entity.CommentEntity;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * FeedCommentPreviewDto.
+ */
+@Getter
+public class FeedCommentPreviewDto {
+
+	private long commentId;
+	private String userName;
+	private String content;
+	private LocalDateTime createdAt;
+
+	public FeedCommentPreviewDto(CommentEntity commentEntity, String content) {
+		this.commentId = commentEntity.getCommentId();
+		this.userName = commentEntity.getUserEntity().getUsername();
+		this.content = content;
+		this.createdAt = commentEntity.getCreatedAt();
+	}
+}
@@ -0,0 +1,55 @@
+package com.sparta.hanghaebloglv3.feed.dto;
+
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.sparta.hanghaebloglv3.common.util.RawJsonSerializer;
+import com.sparta.hanghaebloglv3.feed.entity.FeedItemEntity;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * FeedItemResponseDto.
+ * 다음 페이지는 마지막 항목의 modifiedAt, postId 를 lastModifiedAt, lastPostId 로 전달하여 조회.
+ */
+@Getter
+public class FeedItemResponseDto {
+
+	private long postId;
+	private String title;
+	private String excerpt;
+	private String username;
+	private long commentCount;
+	private long heartCount;
+	@JsonSerialize(using = RawJsonSerializer.class) // 저장된 JSON 을 다시 파싱하지 않고 그대로 출력 (binary 응답은 파싱해서)
+	private String latestComments;
+	private LocalDateTime createdAt;
+	private LocalDateTime modifiedAt;
+
+	public FeedItemResponseDto(FeedItemEntity feedItem) {
+		this.postId = feedItem.getPostId();
+		this.title = feedItem.getTitle();
+		this.excerpt = feedItem.getExcerpt();
+		this.username = feedItem.getAuthorName();
+		this.commentCount = feedItem.getCommentCount();
+		this.heartCount = feedItem.getHeartCount();
+		this.latestComments = feedItem.getLatestComments();
+		this.createdAt = feedItem.getCreatedAt();
+		this.modifiedAt = feedItem.getModifiedAt();
+	}
+
+	/**
+	 * initializer for rows read without JPA (reactive read API).
+	 */
+	public FeedItemResponseDto(long postId, String title, String excerpt, String username, long commentCount, long heartCount,
+	                           String latestComments, LocalDateTime createdAt, LocalDateTime modifiedAt) {
+		this.postId = postId;
+		this.title = title;
+		this.excerpt = excerpt;
+		this.username = username;
+		this.commentCount = commentCount;
+		this.heartCount = heartCount;
+		this.latestComments = latestComments;
+		this.createdAt = createdAt;
+		this.modifiedAt = modifiedAt;
+	}
+}
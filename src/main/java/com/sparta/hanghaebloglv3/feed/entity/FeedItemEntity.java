@@ -0,0 +1,73 @@
+package com.sparta.hanghaebloglv3.feed.entity;
+
+import com.sparta.hanghaebloglv3.post.entity.PostEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * FeedItemEntity.
+ * 게시글 목록 조회용 읽기 모델. 게시글, 작성자, 댓글, 좋아요를 join 없이 한 row 로 읽도록 반정규화한 테이블.
+ * 원본 테이블이 변경되면 FeedProjectionService 가 다시 계산하여 저장한다.
+ */
+@Getter
+@Entity
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "feed_item", indexes = @Index(name = "idx_feed_item_modified_at", columnList = "modified_at, post_id"))
+public class FeedItemEntity {
+
+	@Id
+	@Column(name = "post_id")
+	private Long postId;
+
+	@Column(name = "user_id", nullable = false)
+	private Long userId;
+
+	@Column(name = "author_name", nullable = false)
+	private String authorName;
+
+	@Column(name = "title", nullable = false)
+	private String title;
+
+	@Column(name = "excerpt", nullable = false, length = PostEntity.EXCERPT_LENGTH)
+	private String excerpt;
+
+	@Column(name = "comment_count", nullable = false)
+	private long commentCount;
+
+	@Column(name = "heart_count", nullable = false)
+	private long heartCount;
+
+	// 최근 댓글 미리보기 (JSON 배열, 응답에 그대로 포함)
+	@Column(name = "latest_comments", nullable = false, length = 2000)
+	private String latestComments;
+
+	@Column(name = "created_at")
+	private LocalDateTime createdAt;
+
+	@Column(name = "modified_at")
+	private LocalDateTime modifiedAt;
+
+	public FeedItemEntity(Long postId) {
+		this.postId = postId;
+	}
+
+	/**
+	 * Update projection.
+	 */
+	public void update(Long userId, String authorName, String title, String excerpt, long commentCount, long heartCount,
+	                   String latestComments, LocalDateTime createdAt, LocalDateTime modifiedAt) {
+		this.userId = userId;
+		this.authorName = authorName;
+		this.title = title;
+		this.excerpt = excerpt;
+		this.commentCount = commentCount;
+		this.heartCount = heartCount;
+		this.latestComments = latestComments;
+		this.createdAt = createdAt;
+		this.modifiedAt = modifiedAt;
+	}
+}
@@ -0,0 +1,50 @@
+package com.sparta.hanghaebloglv3.feed.repository;
+
+import com.sparta.hanghaebloglv3.feed.entity.FeedItemEntity;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * FeedItemRepository.
+ */
+@Repository
+public interface FeedItemRepository extends JpaRepository<FeedItemEntity, Long> {
+
+	/**
+	 * Find first page of feed.
+	 */
+	List<FeedItemEntity> findAllByOrderByModifiedAtDescPostIdDesc(Pageable pageable);
+
+	/**
+	 * Find next page of feed after (modifiedAt, postId).
+	 * (modified_at, post_id) index 의 range scan 한 번으로 조회되도록 선두 컬럼 조건을 따로 둠.
+	 */
+	@Query("select f from FeedItemEntity f "
+			+ "where f.modifiedAt <= :modifiedAt and (f.modifiedAt < :modifiedAt or f.postId < :postId) "
+			+ "order by f.modifiedAt desc, f.postId desc")
+	List<FeedItemEntity> findPageAfter(@Param("modifiedAt") LocalDateTime modifiedAt, @Param("postId") Long postId, Pageable pageable);
+
+	/**
+	 * Find feed items with write lock.
+	 */
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	@Query("select f from FeedItemEntity f where f.postId in :postIds")
+	List<FeedItemEntity> findAllForUpdate(@Param("postIds") Collection<Long> postIds);
+
+	/**
+	 * Delete feed items of deleted posts.
+	 */
+	@Modifying
+	@Query("delete from FeedItemEntity f where not exists (select p from PostEntity p where p.postId = f.postId)")
+	int deleteOrphans();
+}
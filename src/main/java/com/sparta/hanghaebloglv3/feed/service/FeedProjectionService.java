@@ -0,0 +1,238 @@
+package com.sparta.hanghaebloglv3.feed.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sparta.hanghaebloglv3.comment.repository.CommentRepository;
+import com.sparta.hanghaebloglv3.common.event.PostChangedEvent;
+import com.sparta.hanghaebloglv3.common.util.TextUtils;
+import com.sparta.hanghaebloglv3.feed.dto.FeedCommentPreviewDto;
+import com.sparta.hanghaebloglv3.feed.entity.FeedItemEntity;
+import com.sparta.hanghaebloglv3.feed.repository.FeedItemRepository;
+import com.sparta.hanghaebloglv3.heart.heartFeed.repository.HeartFeedRepository;
+import com.sparta.hanghaebloglv3.post.entity.PostEntity;
+import com.sparta.hanghaebloglv3.post.repository.PostRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.UncheckedIOException;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * FeedProjectionService.
+ * 게시글, 댓글, 좋아요 변경 이벤트를 받아 feed_item 을 원본 테이블 기준으로 다시 계산한다.
+ */
+@Slf4j(topic = "피드 갱신")
+@Service
+public class FeedProjectionService {
+
+	private static final int COMMENT_EXCERPT_LENGTH = 100;
+	private static final int LATEST_COMMENT_COUNT = 3;
+	private static final int REBUILD_CHUNK_SIZE = 500;
+	private static final int MAX_ATTEMPTS = 3;
+
+	private final FeedItemRepository feedItemRepository;
+	private final PostRepository postRepository;
+	private final CommentRepository commentRepository;
+	private final HeartFeedRepository heartFeedRepository;
+	private final ObjectMapper objectMapper;
+	private final TransactionTemplate transactionTemplate;
+	private final TransactionTemplate readOnlyTransactionTemplate;
+	private final ExecutorService projectionExecutor;
+
+	private final Set<Long> pendingPostIds = ConcurrentHashMap.newKeySet(); // 계산 대기 중인 게시글
+	private final AtomicInteger backlog = new AtomicInteger(); // 대기 + 계산 중인 작업 수
+
+	public FeedProjectionService(FeedItemRepository feedItemRepository,
+	                             PostRepository postRepository,
+	                             CommentRepository commentRepository,
+	                             HeartFeedRepository heartFeedRepository,
+	                             ObjectMapper objectMapper,
+	                             PlatformTransactionManager transactionManager,
+	                             MeterRegistry meterRegistry,
+	                             @Value("${feed.projection.threads}") int projectionThreads) {
+		this.feedItemRepository = feedItemRepository;
+		this.postRepository = postRepository;
+		this.commentRepository = commentRepository;
+		this.heartFeedRepository = heartFeedRepository;
+		this.objectMapper = objectMapper;
+		// commit 이후에 호출되므로 항상 새 트랜잭션에서 실행
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+		this.readOnlyTransactionTemplate = new TransactionTemplate(transactionManager);
+		this.readOnlyTransactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+		this.readOnlyTransactionTemplate.setReadOnly(true);
+		this.projectionExecutor = Executors.newFixedThreadPool(projectionThreads);
+		Gauge.builder("feed.projection.backlog", backlog, AtomicInteger::get)
+				.description("feed_item projections waiting or running")
+				.register(meterRegistry);
+	}
+
+	/**
+	 * Project post when post, comment, heart changed.
+	 * 원본 트랜잭션 commit 이후 새 트랜잭션에서 feed_item row 를 먼저 잠그고 다시 계산한다.
+	 * commit 전에 계산하면 먼저 시작된 스냅샷을 읽어 동시에 commit 된 다른 변경(좋아요 등)이 빠질 수 있기 때문.
+	 * 요청 스레드는 commit 직후에도 원래 connection(afterCommit 단계에서는 아직 반환 전)을 잡고 있으므로, 여기서 connection 을 하나 더 얻으면
+	 * 동시 요청이 pool 크기를 넘을 때 서로 기다리다 멈춘다. 그래서 계산은 별도 스레드에 넘기고,
+	 * 같은 게시글이 이미 대기 중이면 한 번만 계산한다. (좋아요 폭주 시 묶어서 처리)
+	 */
+	@TransactionalEventListener
+	public void onPostChanged(PostChangedEvent event) {
+		Long postId = event.getPostId();
+		if (pendingPostIds.add(postId)) {
+			backlog.incrementAndGet();
+			projectionExecutor.execute(() -> this.projectPending(postId));
+		}
+	}
+
+	/**
+	 * Count of projections waiting or running.
+	 */
+	public int getBacklog() {
+		return backlog.get();
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		projectionExecutor.shutdown();
+	}
+
+	/**
+	 * Rebuild on startup when feed table is empty (first deploy).
+	 */
+	@Order(1) // 게시글 excerpt 채운 뒤 실행
+	@EventListener(ApplicationReadyEvent.class)
+	public void rebuildIfEmpty() {
+		if (feedItemRepository.count() == 0 && postRepository.count() > 0) {
+			this.rebuild();
+		}
+	}
+
+	/**
+	 * Rebuild feed table from source tables.
+	 * 게시글 id 순으로 chunk 단위로 나눠 각각의 트랜잭션에서 다시 계산하므로, 전체 게시글을 메모리에 올리거나 긴 트랜잭션을 잡지 않는다.
+	 */
+	public long rebuild() {
+		long projected = 0;
+		Long lastPostId = 0L;
+		while (true) {
+			Long afterPostId = lastPostId;
+			List<Long> postIds = readOnlyTransactionTemplate.execute(status ->
+					postRepository.findPostIdsAfter(afterPostId, PageRequest.of(0, REBUILD_CHUNK_SIZE))
+			);
+			if (postIds == null || postIds.isEmpty()) {
+				break;
+			}
+			this.projectChunk(postIds);
+			projected += postIds.size();
+			lastPostId = postIds.get(postIds.size() - 1);
+		}
+
+		Integer deleted = transactionTemplate.execute(status -> feedItemRepository.deleteOrphans());
+		log.info("feed rebuilt. projected : {}, deleted : {}", projected, deleted);
+		return projected;
+	}
+
+	// 계산 시작 전에 대기 목록에서 제거 -> 계산 중에 들어온 변경은 다시 예약됨
+	// 실패하면 로그만 남김 (이미 commit 된 요청과 무관, rebuild 로 복구 가능)
+	private void projectPending(Long postId) {
+		pendingPostIds.remove(postId);
+		try {
+			this.projectChunk(List.of(postId));
+		} catch (RuntimeException e) {
+			log.error("feed projection failed. postId : {}", postId, e);
+		} finally {
+			backlog.decrementAndGet();
+		}
+	}
+
+	// 같은 게시글의 feed_item 을 처음 만드는 트랜잭션이 동시에 insert 하면 한 쪽이 실패(중복 키, deadlock)하므로 다시 시도
+	private void projectChunk(Collection<Long> postIds) {
+		for (int attempt = 1; ; attempt++) {
+			try {
+				transactionTemplate.executeWithoutResult(status -> this.project(postIds));
+				return;
+			} catch (DataIntegrityViolationException | ConcurrencyFailureException e) {
+				if (attempt >= MAX_ATTEMPTS) {
+					throw e;
+				}
+			}
+		}
+	}
+
+	private void project(Collection<Long> postIds) {
+		// 잠금 조회를 트랜잭션의 첫 조회로 두어, 이후 조회가 잠금 획득 이후의 스냅샷을 읽도록 함
+		Map<Long, FeedItemEntity> feedItems = feedItemRepository.findAllForUpdate(postIds).stream()
+				.collect(Collectors.toMap(FeedItemEntity::getPostId, Function.identity()));
+
+		for (Long postId : postIds) {
+			Optional<PostEntity> postEntity = postRepository.findWithAuthorById(postId);
+			FeedItemEntity feedItem = feedItems.get(postId);
+
+			if (postEntity.isEmpty()) {
+				// 삭제된 게시글
+				if (feedItem != null) {
+					feedItemRepository.delete(feedItem);
+				}
+				continue;
+			}
+
+			if (feedItem == null) {
+				feedItem = new FeedItemEntity(postId);
+			}
+			this.update(feedItem, postEntity.get());
+			feedItemRepository.save(feedItem);
+		}
+	}
+
+	private void update(FeedItemEntity feedItem, PostEntity postEntity) {
+		Long postId = postEntity.getPostId();
+		List<FeedCommentPreviewDto> latestComments = commentRepository
+				.findLatestByPostId(postId, PageRequest.of(0, LATEST_COMMENT_COUNT)).stream()
+				.map(commentEntity -> new FeedCommentPreviewDto(commentEntity, TextUtils.cut(commentEntity.getContent(), COMMENT_EXCERPT_LENGTH)))
+				.toList();
+
+		feedItem.update(
+				postEntity.getUserEntity().getUserId(),
+				postEntity.getUserEntity().getUsername(),
+				postEntity.getTitle(),
+				postEntity.getExcerpt(), // 본문(lazy) 은 읽지 않음
+				commentRepository.countByPostEntityPostId(postId),
+				heartFeedRepository.countByPostEntityPostId(postId),
+				this.toJson(latestComments),
+				postEntity.getCreatedAt(),
+				postEntity.getModifiedAt()
+		);
+	}
+
+	private String toJson(List<FeedCommentPreviewDto> latestComments) {
+		try {
+			return objectMapper.writeValueAsString(latestComments);
+		} catch (JsonProcessingException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+}
@@ -0,0 +1,67 @@
+package com.sparta.hanghaebloglv3.feed.service;
+
+import com.sparta.hanghaebloglv3.common.constant.ProjConst;
+import com.sparta.hanghaebloglv3.common.dto.ApiResult;
+import com.sparta.hanghaebloglv3.feed.dto.FeedItemResponseDto;
+import com.sparta.hanghaebloglv3.feed.entity.FeedItemEntity;
+import com.sparta.hanghaebloglv3.feed.repository.FeedItemRepository;
+import com.sparta.hanghaebloglv3.user.entity.UserEntity;
+import com.sparta.hanghaebloglv3.user.entity.UserRoleEnum;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.MessageSource;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * FeedService.
+ */
+@Service
+@RequiredArgsConstructor
+public class FeedService {
+
+	public static final int DEFAULT_PAGE_SIZE = 20;
+	public static final int MAX_PAGE_SIZE = 100;
+
+	private final FeedItemRepository feedItemRepository;
+	private final FeedProjectionService feedProjectionService;
+	private final MessageSource messageSource;
+
+	/**
+	 * Get feed page.
+	 * lastModifiedAt, lastPostId 가 없으면 첫 페이지.
+	 */
+	@Transactional(readOnly = true)
+	public List<FeedItemResponseDto> getFeed(LocalDateTime lastModifiedAt, Long lastPostId, int size) {
+		PageRequest pageRequest = PageRequest.of(0, Math.min(Math.max(size, 1), MAX_PAGE_SIZE));
+
+		List<FeedItemEntity> feedItems = lastModifiedAt == null || lastPostId == null
+				? feedItemRepository.findAllByOrderByModifiedAtDescPostIdDesc(pageRequest)
+				: feedItemRepository.findPageAfter(lastModifiedAt, lastPostId, pageRequest);
+
+		return feedItems.stream().map(FeedItemResponseDto::new).toList();
+	}
+
+	/**
+	 * Rebuild feed (admin only).
+	 */
+	public ApiResult rebuild(UserEntity user) {
+		if (!user.getRole().equals(UserRoleEnum.ADMIN)) {
+			throw new IllegalArgumentException(
+					messageSource.getMessage(
+							"unauthorized.user",
+							null,
+							"Un Authorized User",
+							Locale.getDefault()
+					)
+			);
+		}
+		feedProjectionService.rebuild();
+		return new ApiResult(ProjConst.FEED_REBUILD_SUCCESS, HttpStatus.OK.value());
+	}
+}
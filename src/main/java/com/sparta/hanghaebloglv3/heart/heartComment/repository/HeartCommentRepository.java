@@ -2,8 +2,22 @@ package com.sparta.hanghaebloglv3.heart.heartComment.repository;
 
 import com.sparta.hanghaebloglv3.heart.heartComment.entity.HeartComment;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+
 @Repository
 public interface HeartCommentRepository extends JpaRepository<HeartComment, Long> {
+	boolean existsByCommentEntityCommentIdAndUserEntityUserId(Long commentId, Long userId);
+
+	/**
+	 * Delete comment hearts of posts (archived).
+	 */
+	@Modifying
+	@Query("delete from HeartComment h where h.commentEntity.commentId in "
+			+ "(select c.commentId from CommentEntity c where c.postEntity.postId in :postIds)")
+	int deleteAllByPostIds(@Param("postIds") Collection<Long> postIds);
 }
@@ -5,18 +5,23 @@ import com.sparta.hanghaebloglv3.comment.entity.CommentEntity;
 import com.sparta.hanghaebloglv3.comment.repository.CommentRepository;
 import com.sparta.hanghaebloglv3.common.constant.ProjConst;
 import com.sparta.hanghaebloglv3.common.dto.ApiResult;
+import com.sparta.hanghaebloglv3.common.event.AuditEvent;
+import com.sparta.hanghaebloglv3.common.event.ChangeEvent;
+import com.sparta.hanghaebloglv3.common.event.ChangeType;
+import com.sparta.hanghaebloglv3.common.event.PostChangedEvent;
 import com.sparta.hanghaebloglv3.common.exception.IdNotFoundException;
 import com.sparta.hanghaebloglv3.heart.heartComment.entity.HeartComment;
 import com.sparta.hanghaebloglv3.heart.heartComment.repository.HeartCommentRepository;
 import com.sparta.hanghaebloglv3.user.entity.UserEntity;
 import com.sparta.hanghaebloglv3.user.entity.UserRoleEnum;
+import com.sparta.hanghaebloglv3.user.service.UserStatsService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.MessageSource;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
 import java.util.Locale;
 
 @Service
@@ -26,12 +31,14 @@ public class HeartCommentService {
 	private final HeartCommentRepository heartCommentRepository;
 	private final CommentRepository commentRepository;
 	private final MessageSource messageSource;
+	private final ApplicationEventPublisher eventPublisher;
+	private final UserStatsService userStatsService;
 
 	@Transactional
 	public CommentResponseDto onClickCommentHeart(Long commentId, UserEntity user) {
 
-		// 좋아요 누른 댓글 find
-		CommentEntity commentEntity = commentRepository.findById(commentId).orElseThrow(() ->
+		// 좋아요 누른 댓글 find (작성자 함께 조회)
+		CommentEntity commentEntity = commentRepository.findWithAuthorById(commentId).orElseThrow(() ->
 				new IdNotFoundException(
 						messageSource.getMessage(
 								"not.found.comment",
@@ -54,24 +61,24 @@ public class HeartCommentService {
 			);
 		}
 
-		// 중복 좋아요 방지
-		List<CommentEntity> commentEntityList = commentRepository.findAll();
-		for (CommentEntity commentEntitys : commentEntityList) {
-			if (commentEntitys.getCommentId().equals(commentEntity.getCommentId())
-					&& commentEntitys.getUserEntity().getUserId().equals(user.getUserId())) {
-				throw new IllegalArgumentException(
-						messageSource.getMessage(
-								"overlap.heart",
-								null,
-								"Overlap Heart",
-								Locale.getDefault()
-						)
-				);
-			}
+		// 중복 좋아요 방지 (전체 댓글을 읽지 않고 존재 여부만 조회)
+		if (heartCommentRepository.existsByCommentEntityCommentIdAndUserEntityUserId(commentEntity.getCommentId(), user.getUserId())) {
+			throw new IllegalArgumentException(
+					messageSource.getMessage(
+							"overlap.heart",
+							null,
+							"Overlap Heart",
+							Locale.getDefault()
+					)
+			);
 		}
 
 		// HeartCommentRepository DB저장
 		heartCommentRepository.save(new HeartComment(commentEntity, user));
+		userStatsService.heartAdded(user.getUserId(), commentEntity.getUserEntity().getUserId());
+		eventPublisher.publishEvent(new PostChangedEvent(commentEntity.getPostEntity().getPostId()));
+		eventPublisher.publishEvent(ChangeEvent.upsert(ChangeType.COMMENT, commentEntity.getCommentId()));
+		eventPublisher.publishEvent(AuditEvent.heart("comment", commentId, user.getUsername()));
 
 
 		return CommentResponseDto.builder()
@@ -113,6 +120,10 @@ public class HeartCommentService {
 		}
 
 		heartCommentRepository.delete(heartComment);
+		userStatsService.heartRemoved(heartComment.getUserEntity().getUserId(), heartComment.getCommentEntity().getUserEntity().getUserId());
+		eventPublisher.publishEvent(new PostChangedEvent(heartComment.getCommentEntity().getPostEntity().getPostId()));
+		eventPublisher.publishEvent(ChangeEvent.upsert(ChangeType.COMMENT, heartComment.getCommentEntity().getCommentId()));
+		eventPublisher.publishEvent(AuditEvent.delete("heart-comment", heartCommentId, user.getUsername()));
 		return new ApiResult(ProjConst.DELETE_SUCCESS, HttpStatus.OK.value());
 	}
 
@@ -2,8 +2,43 @@ package com.sparta.hanghaebloglv3.heart.heartFeed.repository;
 
 import com.sparta.hanghaebloglv3.heart.heartFeed.entity.HeartFeed;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+
 @Repository
 public interface HeartFeedRepository extends JpaRepository<HeartFeed, Long> {
-}
\ No newline at end of file
+	long countByPostEntityPostId(Long postId);
+
+	boolean existsByPostEntityPostIdAndUserEntityUserId(Long postId, Long userId);
+
+	/**
+	 * Find posts liked by user among postIds.
+	 */
+	@Query("select h.postEntity.postId from HeartFeed h where h.userEntity.userId = :userId and h.postEntity.postId in :postIds")
+	List<Long> findPostIdsLikedBy(@Param("userId") Long userId, @Param("postIds") Collection<Long> postIds);
+
+	/**
+	 * Count hearts of posts (좋아요가 없는 게시글은 결과에 없음).
+	 */
+	@Query("select h.postEntity.postId as postId, count(h) as heartCount from HeartFeed h "
+			+ "where h.postEntity.postId in :postIds group by h.postEntity.postId")
+	List<PostHeartCount> countByPostIds(@Param("postIds") Collection<Long> postIds);
+
+	interface PostHeartCount {
+		Long getPostId();
+
+		long getHeartCount();
+	}
+
+	/**
+	 * Delete hearts of posts (archived).
+	 */
+	@Modifying
+	@Query("delete from HeartFeed h where h.postEntity.postId in :postIds")
+	int deleteAllByPostIds(@Param("postIds") Collection<Long> postIds);
+}
@@ -2,6 +2,10 @@ package com.sparta.hanghaebloglv3.heart.heartFeed.service;
 
 import com.sparta.hanghaebloglv3.common.constant.ProjConst;
 import com.sparta.hanghaebloglv3.common.dto.ApiResult;
+import com.sparta.hanghaebloglv3.common.event.AuditEvent;
+import com.sparta.hanghaebloglv3.common.event.ChangeEvent;
+import com.sparta.hanghaebloglv3.common.event.ChangeType;
+import com.sparta.hanghaebloglv3.common.event.PostChangedEvent;
 import com.sparta.hanghaebloglv3.common.exception.IdNotFoundException;
 import com.sparta.hanghaebloglv3.heart.heartFeed.entity.HeartFeed;
 import com.sparta.hanghaebloglv3.heart.heartFeed.repository.HeartFeedRepository;
@@ -10,13 +14,14 @@ import com.sparta.hanghaebloglv3.post.entity.PostEntity;
 import com.sparta.hanghaebloglv3.post.repository.PostRepository;
 import com.sparta.hanghaebloglv3.user.entity.UserEntity;
 import com.sparta.hanghaebloglv3.user.entity.UserRoleEnum;
+import com.sparta.hanghaebloglv3.user.service.UserStatsService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.MessageSource;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
 import java.util.Locale;
 
 @Service
@@ -26,12 +31,14 @@ public class HeartFeedService {
 	private final PostRepository postRepository;
 	private final HeartFeedRepository heartFeedRepository;
 	private final MessageSource messageSource;
+	private final ApplicationEventPublisher eventPublisher;
+	private final UserStatsService userStatsService;
 
 	@Transactional
 	public PostResponseDto onClickFeedkHeart(Long postId, UserEntity user) {
 
-		// 좋아요 누른 게시글 find
-		PostEntity postEntity = postRepository.findById(postId).orElseThrow(() ->
+		// 좋아요 누른 게시글 find (작성자 함께 조회)
+		PostEntity postEntity = postRepository.findWithAuthorById(postId).orElseThrow(() ->
 				new IdNotFoundException(
 						messageSource.getMessage(
 								"not.found.post",
@@ -54,24 +61,24 @@ public class HeartFeedService {
 			);
 		}
 
-		// 중복 좋아요 방지
-		List<HeartFeed> heartFeedList = heartFeedRepository.findAll();
-		for (HeartFeed heartFeeds : heartFeedList) {
-			if (postEntity.getPostId().equals(heartFeeds.getPostEntity().getPostId())
-					&& user.getIntroduction().equals(heartFeeds.getUserEntity().getUsername())) {
-				throw new IllegalArgumentException(
-						messageSource.getMessage(
-								"overlap.heart",
-								null,
-								"Overlap Heart",
-								Locale.getDefault()
-						)
-				);
-			}
+		// 중복 좋아요 방지 (전체 좋아요를 읽지 않고 존재 여부만 조회)
+		if (heartFeedRepository.existsByPostEntityPostIdAndUserEntityUserId(postEntity.getPostId(), user.getUserId())) {
+			throw new IllegalArgumentException(
+					messageSource.getMessage(
+							"overlap.heart",
+							null,
+							"Overlap Heart",
+							Locale.getDefault()
+					)
+			);
 		}
 
 		// HeartFeedRepository DB저장
 		heartFeedRepository.save(new HeartFeed(postEntity, user));
+		userStatsService.heartAdded(user.getUserId(), postEntity.getUserEntity().getUserId());
+		eventPublisher.publishEvent(new PostChangedEvent(postEntity.getPostId()));
+		eventPublisher.publishEvent(ChangeEvent.upsert(ChangeType.POST_HEART, postEntity.getPostId()));
+		eventPublisher.publishEvent(AuditEvent.heart("post", postId, user.getUsername()));
 
 		return new PostResponseDto(postEntity);
 	}
@@ -104,6 +111,10 @@ public class HeartFeedService {
 		}
 
 		heartFeedRepository.delete(heartFeed);
+		userStatsService.heartRemoved(heartFeed.getUserEntity().getUserId(), heartFeed.getPostEntity().getUserEntity().getUserId());
+		eventPublisher.publishEvent(new PostChangedEvent(heartFeed.getPostEntity().getPostId()));
+		eventPublisher.publishEvent(ChangeEvent.upsert(ChangeType.POST_HEART, heartFeed.getPostEntity().getPostId()));
+		eventPublisher.publishEvent(AuditEvent.delete("heart-post", heartFeedId, user.getUsername()));
 
 		return new ApiResult(ProjConst.DELETE_SUCCESS, HttpStatus.OK.value());
 	}
@@ -0,0 +1,90 @@
+package com.sparta.hanghaebloglv3.post.cache;
+
+import com.sparta.hanghaebloglv3.common.timing.RequestTiming;
+import com.sparta.hanghaebloglv3.common.timing.TimingPhase;
+import lombok.Getter;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * CachedPostResponse.
+ * 특정 버전(ETag)의 게시글 응답을 직렬화해 둔 JSON(UTF-8) / gzip body.
+ * gzip body 는 gzip 을 받는 요청이 처음 올 때 만든다.
+ */
+public class CachedPostResponse {
+
+	@Getter
+	private final String eTag;
+	private final ByteBuffer json;
+	private final boolean offHeap;
+	private volatile ByteBuffer gzip;
+
+	public CachedPostResponse(String eTag, byte[] json, boolean offHeap) {
+		this.eTag = eTag;
+		this.json = wrap(json, offHeap);
+		this.offHeap = offHeap;
+	}
+
+	public int getLength(boolean gzipped) {
+		return gzipped ? this.gzip().remaining() : json.remaining();
+	}
+
+	/**
+	 * Write body to output stream.
+	 */
+	public void writeTo(OutputStream outputStream, boolean gzipped) throws IOException {
+		// 여러 요청이 동시에 같은 버퍼를 읽으므로 position 을 공유하지 않도록 duplicate 사용
+		ByteBuffer body = (gzipped ? this.gzip() : json).duplicate();
+		if (body.hasArray()) {
+			outputStream.write(body.array(), body.arrayOffset() + body.position(), body.remaining());
+		} else {
+			Channels.newChannel(outputStream).write(body);
+		}
+	}
+
+	private ByteBuffer gzip() {
+		ByteBuffer gzipped = this.gzip;
+		if (gzipped == null) {
+			synchronized (this) {
+				gzipped = this.gzip;
+				if (gzipped == null) {
+					gzipped = wrap(this.compress(), offHeap);
+					this.gzip = gzipped;
+				}
+			}
+		}
+		return gzipped;
+	}
+
+	private byte[] compress() {
+		RequestTiming.enter(TimingPhase.SER);
+		try {
+			ByteBuffer body = json.duplicate();
+			ByteArrayOutputStream outputStream = new ByteArrayOutputStream(body.remaining() / 4 + 64);
+			try (GZIPOutputStream gzipOutputStream = new GZIPOutputStream(outputStream)) {
+				Channels.newChannel(gzipOutputStream).write(body);
+			}
+			return outputStream.toByteArray();
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		} finally {
+			RequestTiming.exit();
+		}
+	}
+
+	private static ByteBuffer wrap(byte[] bytes, boolean offHeap) {
+		if (!offHeap) {
+			return ByteBuffer.wrap(bytes);
+		}
+		// off-heap 에 두면 GC 가 큰 byte[] 를 복사/스캔하지 않음
+		ByteBuffer buffer = ByteBuffer.allocateDirect(bytes.length);
+		buffer.put(bytes).flip();
+		return buffer;
+	}
+}
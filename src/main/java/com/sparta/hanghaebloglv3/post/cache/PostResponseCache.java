@@ -0,0 +1,106 @@
+package com.sparta.hanghaebloglv3.post.cache;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.sparta.hanghaebloglv3.common.event.PostChangedEvent;
+import com.sparta.hanghaebloglv3.common.timing.RequestTiming;
+import com.sparta.hanghaebloglv3.common.timing.TimingPhase;
+import com.sparta.hanghaebloglv3.post.dto.PostResponseDto;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * PostResponseCache.
+ * 게시글 단건 응답을 버전(ETag) 별로 직렬화된 bytes 로 보관하여, 조회가 몰리는 게시글의 Jackson 직렬화를 생략한다.
+ */
+@Component
+public class PostResponseCache {
+
+	private final ObjectMapper objectMapper;
+	private final ObjectWriter streamingWriter; // response 의 output stream 을 닫지 않음
+	private final int maxEntries;
+	private final boolean offHeap;
+	private final ConcurrentHashMap<Long, CachedPostResponse> entries = new ConcurrentHashMap<>();
+
+	public PostResponseCache(ObjectMapper objectMapper,
+	                         @Value("${post.response-cache.max-entries}") int maxEntries,
+	                         @Value("${post.response-cache.off-heap}") boolean offHeap) {
+		this.objectMapper = objectMapper;
+		this.streamingWriter = objectMapper.writer().without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+		this.maxEntries = maxEntries;
+		this.offHeap = offHeap;
+	}
+
+	/**
+	 * Get cached response of post.
+	 * 저장된 버전과 요청된 버전이 다르면 null.
+	 */
+	public CachedPostResponse get(Long postId, String eTag) {
+		CachedPostResponse cached = entries.get(postId);
+		if (cached == null || !cached.getETag().equals(eTag)) {
+			return null;
+		}
+		return cached;
+	}
+
+	/**
+	 * Serialize and put response of post.
+	 */
+	public CachedPostResponse put(Long postId, String eTag, PostResponseDto responseDto) {
+		CachedPostResponse cached;
+		RequestTiming.enter(TimingPhase.SER);
+		try {
+			cached = new CachedPostResponse(eTag, objectMapper.writeValueAsBytes(responseDto), offHeap);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		} finally {
+			RequestTiming.exit();
+		}
+
+		// 최대 개수를 넘으면 임의의 항목을 하나 제거 (조회가 많은 게시글은 곧바로 다시 채워짐)
+		if (entries.size() >= maxEntries && !entries.containsKey(postId)) {
+			Iterator<Long> iterator = entries.keySet().iterator();
+			if (iterator.hasNext()) {
+				entries.remove(iterator.next());
+			}
+		}
+		entries.put(postId, cached);
+		return cached;
+	}
+
+	/**
+	 * Write response without caching (사용자별 값이 들어간 응답).
+	 * 한 번만 쓰이므로 bytes 로 모으지 않고 바로 output stream 에 직렬화, gzip 은 요청이 받을 때만.
+	 */
+	public void write(PostResponseDto responseDto, OutputStream outputStream, boolean gzipped) throws IOException {
+		RequestTiming.enter(TimingPhase.SER);
+		try {
+			if (!gzipped) {
+				streamingWriter.writeValue(outputStream, responseDto);
+				return;
+			}
+			GZIPOutputStream gzipOutputStream = new GZIPOutputStream(outputStream);
+			streamingWriter.writeValue(gzipOutputStream, responseDto);
+			gzipOutputStream.finish();
+		} finally {
+			RequestTiming.exit();
+		}
+	}
+
+	/**
+	 * Evict post when post, comment, heart changed.
+	 */
+	@TransactionalEventListener
+	public void evict(PostChangedEvent event) {
+		entries.remove(event.getPostId());
+	}
+}
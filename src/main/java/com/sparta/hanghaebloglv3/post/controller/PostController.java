@@ -1,14 +1,34 @@
 package com.sparta.hanghaebloglv3.post.controller;
 
+import com.sparta.hanghaebloglv3.common.config.BinaryContentConfig;
 import com.sparta.hanghaebloglv3.common.dto.ApiResult;
 import com.sparta.hanghaebloglv3.common.security.UserDetailsImpl;
+import com.sparta.hanghaebloglv3.post.cache.CachedPostResponse;
+import com.sparta.hanghaebloglv3.post.cache.PostResponseCache;
+import com.sparta.hanghaebloglv3.post.dto.PostBatchResponseDto;
+import com.sparta.hanghaebloglv3.post.dto.PostProjection;
 import com.sparta.hanghaebloglv3.post.dto.PostRequestDto;
 import com.sparta.hanghaebloglv3.post.dto.PostResponseDto;
+import com.sparta.hanghaebloglv3.post.hot.HotPostSampler;
+import com.sparta.hanghaebloglv3.post.live.PostLiveService;
 import com.sparta.hanghaebloglv3.post.service.PostService;
+import com.sparta.hanghaebloglv3.post.view.PostViewService;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.json.MappingJacksonValue;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.HttpMediaTypeNotAcceptableException;
+import org.springframework.web.accept.ContentNegotiationManager;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.io.IOException;
 import java.util.List;
 
 /**
@@ -18,7 +38,17 @@ import java.util.List;
 @RequiredArgsConstructor
 public class PostController {
 
+  // 클라이언트가 응답을 저장하되 매번 ETag 로 재검증하도록 함 (security 기본값인 no-store 를 대체)
+  private static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+  // 일부 필드를 제한 시간 안에 조회하지 못한 응답은 저장하지 않음 (같은 ETag 로 304 재사용되지 않도록)
+  private static final CacheControl NO_STORE = CacheControl.noStore();
+
   private final PostService postService;
+  private final PostResponseCache postResponseCache;
+  private final PostLiveService postLiveService;
+  private final PostViewService postViewService;
+  private final HotPostSampler hotPostSampler;
+  private final ContentNegotiationManager contentNegotiationManager;
 
   /**
    * Create post.
@@ -30,18 +60,99 @@ public class PostController {
 
   /**
    * Get post list.
+   * fields(응답 필드, 쉼표 구분), include=comments 로 필요한 것만 조회, 직렬화.
    */
   @GetMapping("/api/post")
-  public List<PostResponseDto> getPostList(@AuthenticationPrincipal UserDetailsImpl userDetails) {
-    return postService.getPostList(userDetails.getUser());
+  public ResponseEntity<MappingJacksonValue> getPostList(@RequestParam(required = false) String fields, @RequestParam(required = false) String include,
+                                                         WebRequest webRequest, @AuthenticationPrincipal UserDetailsImpl userDetails) {
+    PostProjection projection = postService.getListProjection(fields, include);
+    // If-None-Match 와 현재 버전이 같으면 목록 조립 없이 304 반환 (ETag 헤더는 checkNotModified 에서 설정됨)
+    if (webRequest.checkNotModified(postService.getPostListETag())) {
+      return null;
+    }
+    return ResponseEntity.ok()
+        .cacheControl(REVALIDATE)
+        .body(projection.toJacksonValue(postService.getPostList(userDetails.getUser(), projection)));
+  }
+
+  /**
+   * Get posts by ids (ids=1,2,3, 최대 PostService.MAX_BATCH_SIZE 개).
+   * 요청한 순서대로, 없는 게시글은 missingIds 로. fields, include 는 단건 조회와 같음.
+   */
+  @GetMapping("/api/post/batch")
+  public MappingJacksonValue getPosts(@RequestParam List<Long> ids, @RequestParam(required = false) String fields, @RequestParam(required = false) String include,
+                                      @AuthenticationPrincipal UserDetailsImpl userDetails) {
+    PostProjection projection = postService.getDetailProjection(fields, include);
+    PostBatchResponseDto batch = postService.getPosts(ids, userDetails.getUser(), projection);
+    batch.getPosts().forEach(post -> hotPostSampler.record(post.getPostId()));
+    return projection.toJacksonValue(batch);
   }
 
   /**
    * Get certain post.
+   * fields(응답 필드, 쉼표 구분), include=comments 로 필요한 것만 조회, 직렬화.
    */
   @GetMapping("/api/post/{id}")
-  public PostResponseDto getPost(@PathVariable Long id, @AuthenticationPrincipal UserDetailsImpl userDetails) {
-    return postService.getPost(id, userDetails.getUser());
+  public ResponseEntity<MappingJacksonValue> getPost(@PathVariable Long id, @RequestParam(required = false) String fields, @RequestParam(required = false) String include,
+                                                     ServletWebRequest webRequest, HttpServletResponse response, @AuthenticationPrincipal UserDetailsImpl userDetails)
+      throws IOException, HttpMediaTypeNotAcceptableException {
+    PostProjection projection = postService.getDetailProjection(fields, include);
+    String eTag = postService.getPostETag(id, userDetails.getUser());
+    if (eTag != null) {
+      // 304 로 응답하는 재조회도 조회수에 포함 (메모리에만 기록, 주기적으로 반영)
+      postViewService.record(id, userDetails.getUser().getUserId());
+      hotPostSampler.record(id); // 재시작 시 응답 캐시를 미리 채울 게시글 (PostCacheWarmer)
+    }
+    if (eTag != null && webRequest.checkNotModified(eTag)) {
+      return null;
+    }
+
+    // CBOR, Smile, 일부 필드만 요청한 응답은 직렬화해 둔 JSON 을 쓰지 않고 message converter 로 응답 (ETag 헤더는 checkNotModified 에서 설정됨)
+    if (!projection.isAll() || this.prefersBinary(webRequest)) {
+      PostResponseDto responseDto = postService.getPost(id, userDetails.getUser(), projection);
+      return ResponseEntity.ok()
+          .cacheControl(responseDto.getIncompleteFields() == null ? REVALIDATE : NO_STORE)
+          .varyBy(HttpHeaders.ACCEPT)
+          .body(projection.toJacksonValue(responseDto));
+    }
+
+    // 같은 버전으로 직렬화해 둔 응답이 있으면 DTO 조립, Jackson 직렬화 없이 bytes 를 그대로 내려줌
+    // 좋아요를 누른 사용자의 응답(ETag 가 다름), 버전을 모르는 응답(ETag 조회 후 생성된 게시글), 일부 필드가 빠진 응답은 공유하지 않고 바로 직렬화
+    CachedPostResponse cached = eTag == null ? null : postResponseCache.get(id, eTag);
+    PostResponseDto uncached = null;
+    if (cached == null) {
+      PostResponseDto responseDto = postService.getPost(id, userDetails.getUser(), projection);
+      if (eTag == null || Boolean.TRUE.equals(responseDto.getLikedByMe()) || responseDto.getIncompleteFields() != null) {
+        uncached = responseDto;
+      } else {
+        cached = postResponseCache.put(id, eTag, responseDto);
+      }
+    }
+
+    boolean gzipped = acceptsGzip(webRequest.getHeader(HttpHeaders.ACCEPT_ENCODING));
+
+    response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+    boolean incomplete = uncached != null && uncached.getIncompleteFields() != null;
+    response.setHeader(HttpHeaders.CACHE_CONTROL, (incomplete ? NO_STORE : REVALIDATE).getHeaderValue());
+    response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT + ", " + HttpHeaders.ACCEPT_ENCODING);
+    if (gzipped) {
+      response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+    }
+    if (uncached != null) {
+      postResponseCache.write(uncached, response.getOutputStream(), gzipped);
+      return null;
+    }
+    response.setContentLength(cached.getLength(gzipped));
+    cached.writeTo(response.getOutputStream(), gzipped);
+    return null;
+  }
+
+  /**
+   * Subscribe heart count, comment count of post (SSE).
+   */
+  @GetMapping(value = "/api/post/{id}/live", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+  public SseEmitter subscribeLive(@PathVariable Long id) {
+    return postLiveService.subscribe(id);
   }
 
   /**
@@ -59,4 +170,51 @@ public class PostController {
   public ApiResult deletePost(@PathVariable Long id, @AuthenticationPrincipal UserDetailsImpl userDetails) {
     return postService.deletePost(id, userDetails.getUser());
   }
+
+  // Accept-Encoding 에서 gzip 을 받는지 (gzip;q=0 은 거부, gzip 이 없으면 * 의 품질값을 따름)
+  private static boolean acceptsGzip(String acceptEncoding) {
+    if (acceptEncoding == null) {
+      return false;
+    }
+    Boolean wildcard = null;
+    for (String coding : acceptEncoding.split(",")) {
+      String[] parts = coding.split(";");
+      String name = parts[0].trim();
+      boolean accepted = qualityOf(parts) > 0;
+      if (name.equalsIgnoreCase("gzip") || name.equalsIgnoreCase("x-gzip")) {
+        return accepted;
+      }
+      if (name.equals("*")) {
+        wildcard = accepted;
+      }
+    }
+    return Boolean.TRUE.equals(wildcard);
+  }
+
+  private static double qualityOf(String[] parts) {
+    for (int i = 1; i < parts.length; i++) {
+      String param = parts[i].trim();
+      if (param.length() > 2 && (param.charAt(0) == 'q' || param.charAt(0) == 'Q') && param.charAt(1) == '=') {
+        try {
+          return Double.parseDouble(param.substring(2).trim());
+        } catch (NumberFormatException e) {
+          return 0;
+        }
+      }
+    }
+    return 1;
+  }
+
+  // Accept 에서 JSON 보다 CBOR, Smile 을 먼저 원하는지 (품질값, 구체적인 순서로 정렬된 목록)
+  private boolean prefersBinary(ServletWebRequest webRequest) throws HttpMediaTypeNotAcceptableException {
+    for (MediaType mediaType : contentNegotiationManager.resolveMediaTypes(webRequest)) {
+      if (mediaType.isCompatibleWith(MediaType.APPLICATION_JSON)) {
+        return false;
+      }
+      if (mediaType.isCompatibleWith(MediaType.APPLICATION_CBOR) || mediaType.isCompatibleWith(BinaryContentConfig.APPLICATION_SMILE)) {
+        return true;
+      }
+    }
+    return false;
+  }
 }
@@ -0,0 +1,17 @@
+package com.sparta.hanghaebloglv3.post.dto;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+/**
+ * PostBatchResponseDto.
+ * 여러 게시글 조회 결과. posts 는 요청한 id 순서, 없는(삭제된) 게시글은 missingIds 로.
+ */
+@Getter
+@RequiredArgsConstructor
+public class PostBatchResponseDto {
+	private final List<PostResponseDto> posts;
+	private final List<Long> missingIds;
+}
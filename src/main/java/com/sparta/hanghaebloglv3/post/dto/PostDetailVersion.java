@@ -0,0 +1,21 @@
+package com.sparta.hanghaebloglv3.post.dto;
+
+/**
+ * PostDetailVersion.
+ * 게시글 단건 응답에 사용자별 값(likedByMe)이 포함되므로, 같은 버전이라도 좋아요를 누른 사용자에게는 다른 ETag 를 준다.
+ */
+public interface PostDetailVersion extends PostVersion {
+	long getLikedCount();
+
+	/**
+	 * Weak ETag (좋아요를 누른 사용자면 "-l" 추가).
+	 */
+	@Override
+	default String toETag() {
+		String eTag = PostVersion.super.toETag();
+		if (getLikedCount() == 0) {
+			return eTag;
+		}
+		return eTag.substring(0, eTag.length() - 1) + "-l\"";
+	}
+}
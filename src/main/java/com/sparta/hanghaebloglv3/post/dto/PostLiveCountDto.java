@@ -0,0 +1,19 @@
+package com.sparta.hanghaebloglv3.post.dto;
+
+import lombok.Getter;
+
+/**
+ * PostLiveCountDto.
+ */
+@Getter
+public class PostLiveCountDto { // 게시글 실시간 구독(SSE)으로 전달되는 좋아요 수, 댓글 수
+	private long postId;
+	private long heartCount;
+	private long commentCount;
+
+	public PostLiveCountDto(long postId, PostVersion postVersion) {
+		this.postId = postId;
+		this.heartCount = postVersion.getHeartCount();
+		this.commentCount = postVersion.getCommentCount();
+	}
+}
@@ -0,0 +1,131 @@
+package com.sparta.hanghaebloglv3.post.dto;
+
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import org.springframework.http.converter.json.MappingJacksonValue;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * PostProjection.
+ * 게시글 조회(GET /api/post, /api/post/{id})의 fields, include 파라미터로 정한 응답 필드.
+ * 고르지 않은 필드는 조회하지 않고(댓글, 좋아요, 조회수 SQL 생략), 직렬화에서도 빠진다.
+ * fields 가 없으면 모든 필드와 댓글 (기존 응답과 같음), 있으면 지정한 필드만 + include=comments 일 때 댓글.
+ */
+public class PostProjection {
+
+	public static final String FILTER_ID = "postFields";
+	public static final PostProjection ALL = new PostProjection(null, true);
+
+	public static final String CONTENTS = "contents";
+	public static final String EXCERPT = "excerpt";
+	public static final String USERNAME = "username";
+	public static final String HEART_COUNT = "heartCount";
+	public static final String VIEW_COUNT = "viewCount";
+	public static final String UNIQUE_VIEWERS = "uniqueViewers";
+	public static final String LIKED_BY_ME = "likedByMe";
+	public static final String COMMENT_COUNT = "commentCount";
+
+	private static final Set<String> FIELDS = Set.of("postId", "title", CONTENTS, EXCERPT, USERNAME, "createdAt", "modifiedAt",
+			HEART_COUNT, VIEW_COUNT, UNIQUE_VIEWERS, LIKED_BY_ME, COMMENT_COUNT);
+	// 목록 응답에 채워지는 필드 (본문 대신 요약, 내 좋아요 여부 없음)
+	public static final Set<String> LIST_FIELDS = Set.of("postId", "title", EXCERPT, USERNAME, "createdAt", "modifiedAt",
+			HEART_COUNT, VIEW_COUNT, UNIQUE_VIEWERS, COMMENT_COUNT);
+	// 단건, 여러 게시글 응답에 채워지는 필드 (요약, 댓글 수 없음)
+	public static final Set<String> DETAIL_FIELDS = Set.of("postId", "title", CONTENTS, USERNAME, "createdAt", "modifiedAt",
+			HEART_COUNT, VIEW_COUNT, UNIQUE_VIEWERS, LIKED_BY_ME);
+	public static final String COMMENT_LIST = "commentList";
+	public static final String INCOMPLETE_FIELDS = "incompleteFields"; // 고르지 않아도 항상 포함 (값이 있을 때만 직렬화됨)
+	private static final String INCLUDE_COMMENTS = "comments";
+
+	private final Set<String> fields; // null 이면 전체
+	private final boolean comments;
+
+	private PostProjection(Set<String> fields, boolean comments) {
+		this.fields = fields;
+		this.comments = comments;
+	}
+
+	/**
+	 * Parse fields, include parameters (쉼표로 구분). 모르는 필드가 있으면 null.
+	 */
+	public static PostProjection of(String fields, String include) {
+		return of(fields, include, FIELDS);
+	}
+
+	/**
+	 * Parse fields, include parameters (쉼표로 구분). available 에 없는 필드(응답에 채워지지 않는 필드 포함)가 있으면 null.
+	 */
+	public static PostProjection of(String fields, String include, Set<String> available) {
+		if (fields == null && include == null) {
+			return ALL;
+		}
+		Set<String> selected = null;
+		if (fields != null) {
+			selected = split(fields);
+			if (selected.isEmpty() || !available.containsAll(selected)) {
+				return null;
+			}
+		}
+		// fields 나 include 를 지정하면 댓글은 include=comments 일 때만
+		boolean comments = false;
+		if (include != null) {
+			Set<String> includes = split(include);
+			if (!Set.of(INCLUDE_COMMENTS).containsAll(includes)) {
+				return null;
+			}
+			comments = includes.contains(INCLUDE_COMMENTS);
+		}
+		return new PostProjection(selected, comments);
+	}
+
+	public boolean has(String field) {
+		return fields == null || fields.contains(field);
+	}
+
+	public boolean includesComments() {
+		return comments;
+	}
+
+	public boolean hasViews() {
+		return this.has(VIEW_COUNT) || this.has(UNIQUE_VIEWERS);
+	}
+
+	public boolean isAll() {
+		return fields == null && comments;
+	}
+
+	/**
+	 * Wrap response body, 고른 필드만 직렬화되도록 filter 를 지정.
+	 */
+	public MappingJacksonValue toJacksonValue(Object body) {
+		MappingJacksonValue jacksonValue = new MappingJacksonValue(body);
+		if (this.isAll()) {
+			return jacksonValue;
+		}
+		SimpleBeanPropertyFilter filter;
+		if (fields == null) {
+			filter = SimpleBeanPropertyFilter.serializeAllExcept(COMMENT_LIST);
+		} else {
+			Set<String> properties = new HashSet<>(fields);
+			properties.add(INCOMPLETE_FIELDS);
+			if (comments) {
+				properties.add(COMMENT_LIST);
+			}
+			filter = SimpleBeanPropertyFilter.filterOutAllExcept(properties);
+		}
+		jacksonValue.setFilters(new SimpleFilterProvider().addFilter(FILTER_ID, filter));
+		return jacksonValue;
+	}
+
+	private static Set<String> split(String value) {
+		Set<String> values = new HashSet<>();
+		Arrays.stream(value.split(","))
+				.map(String::trim)
+				.filter(token -> !token.isEmpty())
+				.forEach(values::add);
+		return values;
+	}
+}
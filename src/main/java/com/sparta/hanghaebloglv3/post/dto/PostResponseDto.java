@@ -1,7 +1,10 @@
 package com.sparta.hanghaebloglv3.post.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.sparta.hanghaebloglv3.archive.entity.ArchivedPostEntity;
 import com.sparta.hanghaebloglv3.comment.dto.CommentResponseDto;
 import com.sparta.hanghaebloglv3.post.entity.PostEntity;
+import com.sparta.hanghaebloglv3.post.entity.PostViewEntity;
 import lombok.Builder;
 import lombok.Getter;
 
@@ -16,25 +19,132 @@ import java.util.List;
 public class PostResponseDto { // 게시물 CRUD 요청에 대한 응답으로 사용되는 DTO
     private long postId;
     private String title;
-    private String contents;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String contents; // 단건 조회
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String excerpt; // 목록 조회
     private String username;
     private LocalDateTime createdAt;
     private LocalDateTime modifiedAt;
-    private List<CommentResponseDto> commentList = new ArrayList<>();
+    private List<CommentResponseDto> commentList = new ArrayList<>(); // 목록 조회는 최근 댓글 미리보기만
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Long commentCount; // 목록 조회
     private int heartCount;
+    private long viewCount; // 마지막 반영(post.view.flush-ms) 시점의 값
+    private long uniqueViewers; // 추정값 (오차 약 2%)
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Boolean likedByMe; // 단건 조회
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private List<String> incompleteFields; // 단건 조회, 제한 시간(post.detail.timeout-ms) 안에 조회하지 못해 기본값으로 채운 필드
 
     /**
      * initializer using Builder.
      */
     @Builder
     public PostResponseDto(PostEntity postEntity) {
+        this(postEntity, postEntity.getContent(), postEntity.getUserEntity().getUsername(), postEntity.getHeartFeedList().size());
+    }
+
+    // contents 가 null 이면 본문 대신 요약
+    private PostResponseDto(PostEntity postEntity, String contents, String username, int heartCount) {
         this.postId = postEntity.getPostId();
         this.title = postEntity.getTitle();
-        this.contents = postEntity.getContent();
-        this.username = postEntity.getUserEntity().getUsername();
+        if (contents != null) {
+            this.contents = contents;
+        } else {
+            this.excerpt = postEntity.getExcerpt();
+        }
+        this.username = username;
         this.createdAt = postEntity.getCreatedAt();
         this.modifiedAt = postEntity.getModifiedAt();
-        this.heartCount = postEntity.getHeartFeedList().size();
+        this.heartCount = heartCount;
+    }
+
+    /**
+     * initializer for archived post.
+     */
+    public PostResponseDto(ArchivedPostEntity archivedPost, int heartCount) {
+        this.postId = archivedPost.getPostId();
+        this.title = archivedPost.getTitle();
+        this.contents = archivedPost.getContent();
+        this.username = archivedPost.getUserEntity().getUsername();
+        this.createdAt = archivedPost.getCreatedAt();
+        this.modifiedAt = archivedPost.getModifiedAt();
+        this.heartCount = heartCount;
+    }
+
+    /**
+     * initializer for rows read without JPA (reactive read API).
+     */
+    public PostResponseDto(long postId, String title, String contents, String username, LocalDateTime createdAt, LocalDateTime modifiedAt,
+                           int heartCount, long viewCount, long uniqueViewers) {
+        this.postId = postId;
+        this.title = title;
+        this.contents = contents;
+        this.username = username;
+        this.createdAt = createdAt;
+        this.modifiedAt = modifiedAt;
+        this.heartCount = heartCount;
+        this.viewCount = viewCount;
+        this.uniqueViewers = uniqueViewers;
+    }
+
+    /**
+     * initializer for post list (본문 대신 요약만 포함, lazy 로딩되는 본문을 읽지 않음).
+     * 좋아요 수는 게시글 여러 개를 한 번에 세어서 setHeartCount 로 채움 (좋아요 collection 을 읽지 않음).
+     */
+    public static PostResponseDto ofSummary(PostEntity postEntity, PostProjection projection) {
+        return new PostResponseDto(postEntity, null, usernameOf(postEntity, projection), 0);
+    }
+
+    /**
+     * initializer for post detail (좋아요는 따로 조회해서 setHeartCount, setLikedByMe 로 채움).
+     * 본문(lazy), 작성자는 projection 에 있을 때만 읽음.
+     */
+    public static PostResponseDto ofDetail(PostEntity postEntity, PostProjection projection) {
+        return ofDetail(postEntity, projection.has(PostProjection.CONTENTS) ? postEntity.getContent() : null, projection);
+    }
+
+    /**
+     * initializer for post detail with contents read separately (여러 게시글의 본문을 한 번에 조회, 게시글마다 lazy 로딩하지 않음).
+     */
+    public static PostResponseDto ofDetail(PostEntity postEntity, String contents, PostProjection projection) {
+        return new PostResponseDto(postEntity, contents, usernameOf(postEntity, projection), 0);
+    }
+
+    /**
+     * initializer for post detail with contents, author name read separately (작성자를 join 하지 않고 AuthorCacheService 에서 읽음).
+     */
+    public static PostResponseDto ofDetail(PostEntity postEntity, String contents, String username) {
+        return new PostResponseDto(postEntity, contents, username, 0);
+    }
+
+    private static String usernameOf(PostEntity postEntity, PostProjection projection) {
+        return projection.has(PostProjection.USERNAME) ? postEntity.getUserEntity().getUsername() : null;
+    }
+
+    public void setHeartCount(long heartCount) {
+        this.heartCount = (int) heartCount;
+    }
+
+    public void setLikedByMe(boolean likedByMe) {
+        this.likedByMe = likedByMe;
+    }
+
+    public void setCommentCount(long commentCount) {
+        this.commentCount = commentCount;
+    }
+
+    public void setViews(PostViewEntity postView) {
+        this.viewCount = postView.getViewCount();
+        this.uniqueViewers = postView.getUniqueViewers();
+    }
+
+    public void addIncompleteField(String field) {
+        if (this.incompleteFields == null) {
+            this.incompleteFields = new ArrayList<>();
+        }
+        this.incompleteFields.add(field);
     }
 
     public void addCommentResponseDtoList(CommentResponseDto responseDto) {
@@ -0,0 +1,55 @@
+package com.sparta.hanghaebloglv3.post.dto;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * PostVersion.
+ * 게시글 단건 응답(PostResponseDto)을 구성하는 값들이 바뀌었는지 판단하기 위한 조회 결과.
+ * 조회수는 tb_post_view 에 반영된 값을 포함한다. 반영(post.view.flush-ms) 때만 바뀌므로 인기 게시글도 캐시된 응답은 반영 주기마다 한 번만 다시 만들어진다.
+ */
+public interface PostVersion {
+	LocalDateTime getModifiedAt();
+
+	long getCommentCount();
+
+	LocalDateTime getCommentModifiedAt(); // 댓글 수정 시 댓글 수가 변하지 않으므로 함께 비교
+
+	long getHeartCount();
+
+	long getCommentHeartCount();
+
+	Long getMaxCommentHeartId(); // 댓글 사이에서 좋아요가 옮겨간 경우
+
+	LocalDateTime getAuthorRenamedAt(); // 작성자 username 변경
+
+	LocalDateTime getCommenterRenamedAt(); // 댓글 작성자 중 가장 최근의 username 변경
+
+	Long getViewCount(); // 마지막으로 반영된 조회수 (조회수, 순 조회자 수는 함께 반영됨), 아직 반영 전이면 null
+
+	/**
+	 * Weak ETag.
+	 */
+	default String toETag() {
+		return "W/\"" + toToken(getModifiedAt())
+				+ "-" + Long.toString(getCommentCount(), 36)
+				+ "-" + toToken(getCommentModifiedAt())
+				+ "-" + Long.toString(getHeartCount(), 36)
+				+ "-" + Long.toString(getCommentHeartCount(), 36)
+				+ "." + (getMaxCommentHeartId() == null ? "0" : Long.toString(getMaxCommentHeartId(), 36))
+				+ "-" + toToken(getAuthorRenamedAt())
+				+ "." + toToken(getCommenterRenamedAt())
+				+ "-" + toViewToken(getViewCount()) + "\"";
+	}
+
+	static String toViewToken(Long viewCount) {
+		return viewCount == null ? "0" : Long.toString(viewCount, 36);
+	}
+
+	static String toToken(LocalDateTime dateTime) {
+		if (dateTime == null) {
+			return "0";
+		}
+		return Long.toString(dateTime.toEpochSecond(ZoneOffset.UTC), 36) + "." + Integer.toString(dateTime.getNano(), 36);
+	}
+}
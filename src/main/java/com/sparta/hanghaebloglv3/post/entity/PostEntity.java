@@ -2,6 +2,7 @@ package com.sparta.hanghaebloglv3.post.entity;
 
 import com.sparta.hanghaebloglv3.comment.entity.CommentEntity;
 import com.sparta.hanghaebloglv3.common.entity.Timestamped;
+import com.sparta.hanghaebloglv3.common.util.TextUtils;
 import com.sparta.hanghaebloglv3.heart.heartFeed.entity.HeartFeed;
 import com.sparta.hanghaebloglv3.post.dto.PostRequestDto;
 import com.sparta.hanghaebloglv3.user.entity.UserEntity;
@@ -10,6 +11,8 @@ import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -20,9 +23,19 @@ import java.util.List;
 @Getter
 @Entity
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE) // 서버마다 따로 있는 캐시, id 로 찾는 쓰기 경로에서만 사용 (ehcache.xml 참고)
+@NamedEntityGraph(name = PostEntity.WITH_AUTHOR, attributeNodes = @NamedAttributeNode("userEntity"))
+@NamedEntityGraph(name = PostEntity.WITH_AUTHOR_AND_HEARTS, attributeNodes = {@NamedAttributeNode("userEntity"), @NamedAttributeNode("heartFeedList")})
 @Table(name = "tb_post")
 public class PostEntity extends Timestamped {
 
+	public static final int EXCERPT_LENGTH = 200;
+
+	// fetch plan (repository @EntityGraph 에서 사용)
+	public static final String WITH_AUTHOR = "PostEntity.withAuthor"; // 작성자
+	public static final String WITH_AUTHOR_AND_HEARTS = "PostEntity.withAuthorAndHearts"; // 작성자 + 좋아요 (응답 DTO 조립용)
+
 	@Id
 	@GeneratedValue(strategy = GenerationType.IDENTITY)
 	@Column(name = "post_id")
@@ -31,9 +44,15 @@ public class PostEntity extends Timestamped {
 	@Column(name = "title", nullable = false)
 	private String title;
 
+	// 본문은 단건 조회에서만 사용하므로 lazy 로딩 (bytecode enhancement 필요, build.gradle hibernate 설정)
+	@Basic(fetch = FetchType.LAZY)
 	@Column(name = "content", nullable = false)
 	private String content;
 
+	// 목록 조회용 본문 요약 (본문 앞 EXCERPT_LENGTH 글자)
+	@Column(name = "excerpt", length = EXCERPT_LENGTH)
+	private String excerpt;
+
 	@ManyToOne(fetch = FetchType.LAZY)
 	// FetchType.LAZY는 연관 관계로 걸린 엔티티가 참조 되어야 하는 시점에 읽는 방법.
 	// JPA N + 1 Problem을 방지하기 위한 가장 기초적인 옵션 값.
@@ -55,6 +74,7 @@ public class PostEntity extends Timestamped {
 	public PostEntity(PostRequestDto requestDto, UserEntity userEntity) {
 		this.title = requestDto.getTitle();
 		this.content = requestDto.getContent();
+		this.excerpt = TextUtils.cut(requestDto.getContent(), EXCERPT_LENGTH);
 		this.userEntity = userEntity;
 	}
 
@@ -64,5 +84,6 @@ public class PostEntity extends Timestamped {
 	public void update(PostRequestDto requestDto) {
 		this.title = requestDto.getTitle();
 		this.content = requestDto.getContent();
+		this.excerpt = TextUtils.cut(requestDto.getContent(), EXCERPT_LENGTH);
 	}
 }
\ No newline at end of file
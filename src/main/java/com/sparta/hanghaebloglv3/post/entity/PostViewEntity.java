@@ -0,0 +1,48 @@
+package com.sparta.hanghaebloglv3.post.entity;
+
+import com.sparta.hanghaebloglv3.common.util.HyperLogLog;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * PostViewEntity.
+ * 게시글 조회수와 순 조회자 수(HyperLogLog 추정값). 조회 시에는 쓰지 않고 PostViewService 가 주기적으로 모아서 반영한다.
+ * 게시글이 보관(archive)되어도 post_id 로 그대로 남는다.
+ */
+@Getter
+@Entity
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "tb_post_view")
+public class PostViewEntity {
+
+	@Id
+	@Column(name = "post_id")
+	private Long postId;
+
+	@Column(name = "view_count", nullable = false)
+	private long viewCount;
+
+	@Column(name = "unique_viewers", nullable = false)
+	private long uniqueViewers;
+
+	// 조회자 sketch (HyperLogLog.toByteArray), 다음 반영 시 합쳐서 다시 추정
+	@Column(name = "viewer_sketch", nullable = false, length = HyperLogLog.MAX_SERIALIZED_BYTES)
+	private byte[] viewerSketch;
+
+	public PostViewEntity(Long postId) {
+		this.postId = postId;
+	}
+
+	/**
+	 * Add views.
+	 */
+	public void add(long views, HyperLogLog viewers) {
+		HyperLogLog sketch = HyperLogLog.fromByteArray(viewerSketch);
+		sketch.merge(viewers);
+		this.viewCount += views;
+		this.uniqueViewers = sketch.estimate();
+		this.viewerSketch = sketch.toByteArray();
+	}
+}
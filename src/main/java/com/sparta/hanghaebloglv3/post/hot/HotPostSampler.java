@@ -0,0 +1,117 @@
+package com.sparta.hanghaebloglv3.post.hot;
+
+import com.sparta.hanghaebloglv3.common.util.CountMinSketch;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * HotPostSampler.
+ * 조회 요청된 게시글 id 를 count-min sketch 로 세고, 추정값이 큰 post.hot.top-k 개를 따로 유지한다.
+ * post.hot.snapshot-ms 마다(종료 시에도) 상위 게시글을 snapshot 파일에 쓰고, sketch 를 절반으로 줄여 최근 조회에 무게를 둔다.
+ * 요청 스레드는 sketch counter 증가와, 상위 목록에 들어갈 만큼 커진 경우에만 짧은 lock 을 잡는다.
+ */
+@Slf4j(topic = "인기 게시글")
+@Component
+public class HotPostSampler {
+
+	private final CountMinSketch sketch;
+	private final int topK;
+	private final Path snapshotPath;
+
+	private final Map<Long, Long> topPosts = new ConcurrentHashMap<>(); // 게시글 id -> 추정 조회 수
+	private volatile long threshold; // 상위 목록이 가득 찼을 때 가장 작은 추정값
+	private final Object admissionLock = new Object();
+
+	public HotPostSampler(@Value("${post.hot.sketch-width}") int sketchWidth,
+	                      @Value("${post.hot.top-k}") int topK,
+	                      @Value("${post.hot.snapshot-file}") String snapshotFile) {
+		this.sketch = new CountMinSketch(sketchWidth);
+		this.topK = topK;
+		this.snapshotPath = Path.of(snapshotFile);
+	}
+
+	/**
+	 * Record request of post.
+	 */
+	public void record(Long postId) {
+		long estimate = sketch.add(postId);
+		if (topPosts.computeIfPresent(postId, (id, count) -> Math.max(count, estimate)) != null) {
+			return;
+		}
+		if (topPosts.size() >= topK && estimate <= threshold) {
+			return;
+		}
+		synchronized (admissionLock) {
+			topPosts.merge(postId, estimate, Math::max);
+			if (topPosts.size() > topK) {
+				this.evictMin();
+			}
+			this.updateThreshold();
+		}
+	}
+
+	/**
+	 * Hot post ids and counts (많은 순).
+	 */
+	public List<long[]> getHotPosts() {
+		List<long[]> hotPosts = new ArrayList<>(topPosts.size());
+		topPosts.forEach((postId, count) -> hotPosts.add(new long[]{postId, count}));
+		hotPosts.sort(Comparator.comparingLong((long[] entry) -> entry[1]).reversed());
+		return hotPosts;
+	}
+
+	public Path getSnapshotPath() {
+		return snapshotPath;
+	}
+
+	/**
+	 * Write snapshot and decay counts.
+	 */
+	@Scheduled(fixedDelayString = "${post.hot.snapshot-ms}", initialDelayString = "${post.hot.snapshot-ms}")
+	public void snapshot() {
+		List<long[]> hotPosts = this.getHotPosts();
+		if (hotPosts.isEmpty()) {
+			return;
+		}
+		try {
+			HotPostSnapshot.write(snapshotPath, hotPosts);
+		} catch (IOException e) {
+			log.warn("hot post snapshot failed. file : {}", snapshotPath, e);
+		}
+
+		sketch.halve();
+		synchronized (admissionLock) {
+			topPosts.replaceAll((postId, count) -> count >>> 1);
+			topPosts.values().removeIf(count -> count == 0);
+			this.updateThreshold();
+		}
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		this.snapshot();
+	}
+
+	// admissionLock 안에서 호출
+	private void evictMin() {
+		topPosts.entrySet().stream()
+				.min(Map.Entry.comparingByValue())
+				.ifPresent(min -> topPosts.remove(min.getKey()));
+	}
+
+	// admissionLock 안에서 호출
+	private void updateThreshold() {
+		threshold = topPosts.size() < topK ? 0 : topPosts.values().stream().mapToLong(Long::longValue).min().orElse(0);
+	}
+}
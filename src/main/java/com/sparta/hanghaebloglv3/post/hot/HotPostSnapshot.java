@@ -0,0 +1,75 @@
+package com.sparta.hanghaebloglv3.post.hot;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * HotPostSnapshot.
+ * 조회가 많은 게시글 id 를 많은 순으로 저장하는 로컬 파일 (memory-mapped).
+ * 형식 : MAGIC(int), 개수(int), 저장 시각(long, epoch ms), (게시글 id(long), 추정 조회 수(long)) x 개수
+ * 임시 파일에 쓰고 force 한 뒤 이름을 바꾸므로, 쓰는 도중 종료되어도 이전 snapshot 이 남는다.
+ */
+public final class HotPostSnapshot {
+
+	private static final int MAGIC = 0x48505331; // "HPS1"
+	private static final int HEADER_BYTES = Integer.BYTES * 2 + Long.BYTES;
+	private static final int ENTRY_BYTES = Long.BYTES * 2;
+
+	private HotPostSnapshot() {
+	}
+
+	/**
+	 * Write post ids (많은 순) and counts.
+	 */
+	public static void write(Path path, List<long[]> entries) throws IOException {
+		if (path.getParent() != null) {
+			Files.createDirectories(path.getParent());
+		}
+		Path tempPath = path.resolveSibling(path.getFileName() + ".tmp");
+		try (FileChannel channel = FileChannel.open(tempPath, StandardOpenOption.CREATE, StandardOpenOption.READ,
+				StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+			MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_BYTES + (long) entries.size() * ENTRY_BYTES);
+			buffer.putInt(MAGIC).putInt(entries.size()).putLong(System.currentTimeMillis());
+			for (long[] entry : entries) {
+				buffer.putLong(entry[0]).putLong(entry[1]);
+			}
+			buffer.force();
+		}
+		Files.move(tempPath, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+	}
+
+	/**
+	 * Read post ids (많은 순). 파일이 없으면 빈 목록, 형식이 맞지 않으면 IOException.
+	 */
+	public static List<Long> read(Path path) throws IOException {
+		if (!Files.exists(path)) {
+			return List.of();
+		}
+		try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+			long size = channel.size();
+			if (size < HEADER_BYTES) {
+				throw new IOException("snapshot too short : " + size);
+			}
+			MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+			int magic = buffer.getInt();
+			int count = buffer.getInt();
+			buffer.getLong(); // 저장 시각
+			if (magic != MAGIC || count < 0 || size != HEADER_BYTES + (long) count * ENTRY_BYTES) {
+				throw new IOException("invalid snapshot. magic : " + Integer.toHexString(magic) + ", count : " + count + ", size : " + size);
+			}
+			List<Long> postIds = new ArrayList<>(count);
+			for (int i = 0; i < count; i++) {
+				postIds.add(buffer.getLong());
+				buffer.getLong(); // 추정 조회 수
+			}
+			return postIds;
+		}
+	}
+}
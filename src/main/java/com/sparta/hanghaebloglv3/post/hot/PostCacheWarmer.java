@@ -0,0 +1,98 @@
+package com.sparta.hanghaebloglv3.post.hot;
+
+import com.sparta.hanghaebloglv3.post.cache.PostResponseCache;
+import com.sparta.hanghaebloglv3.post.dto.PostProjection;
+import com.sparta.hanghaebloglv3.post.dto.PostResponseDto;
+import com.sparta.hanghaebloglv3.post.service.PostService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * PostCacheWarmer.
+ * 시작 시 이전 실행의 인기 게시글 snapshot(HotPostSampler)을 읽어, 게시글 응답 캐시를 post.hot.warm-up-batch-size 개씩 미리 채운다.
+ * ApplicationReadyEvent 처리가 끝난 뒤에 readiness 가 ACCEPTING_TRAFFIC 이 되므로, 채우는 동안에는 트래픽을 받지 않는다.
+ * 좋아요를 누르지 않은 사용자의 응답(공유되는 캐시 항목)만 채운다.
+ */
+@Slf4j(topic = "인기 게시글")
+@Component
+public class PostCacheWarmer {
+
+	private final PostService postService;
+	private final PostResponseCache postResponseCache;
+	private final HotPostSampler hotPostSampler;
+	private final TransactionTemplate readOnlyTransactionTemplate;
+	private final int batchSize;
+	private final int maxEntries;
+
+	public PostCacheWarmer(PostService postService,
+	                       PostResponseCache postResponseCache,
+	                       HotPostSampler hotPostSampler,
+	                       PlatformTransactionManager transactionManager,
+	                       @Value("${post.hot.warm-up-batch-size}") int batchSize,
+	                       @Value("${post.response-cache.max-entries}") int maxEntries) {
+		this.postService = postService;
+		this.postResponseCache = postResponseCache;
+		this.hotPostSampler = hotPostSampler;
+		this.readOnlyTransactionTemplate = new TransactionTemplate(transactionManager);
+		this.readOnlyTransactionTemplate.setReadOnly(true);
+		this.batchSize = Math.min(batchSize, PostService.MAX_BATCH_SIZE);
+		this.maxEntries = maxEntries;
+	}
+
+	/**
+	 * Warm up response cache on startup.
+	 * 실패해도 시작은 계속한다 (캐시는 요청마다 다시 채워짐).
+	 */
+	@Order(2) // feed rebuild 이후 실행
+	@EventListener(ApplicationReadyEvent.class)
+	public void warmUp() {
+		List<Long> postIds;
+		try {
+			postIds = HotPostSnapshot.read(hotPostSampler.getSnapshotPath());
+		} catch (IOException e) {
+			log.warn("hot post snapshot unreadable. file : {}", hotPostSampler.getSnapshotPath(), e);
+			return;
+		}
+		postIds = postIds.subList(0, Math.min(postIds.size(), maxEntries));
+		if (postIds.isEmpty()) {
+			return;
+		}
+
+		long start = System.currentTimeMillis();
+		int warmed = 0;
+		for (int from = 0; from < postIds.size(); from += batchSize) {
+			List<Long> chunk = postIds.subList(from, Math.min(from + batchSize, postIds.size()));
+			try {
+				warmed += this.warmUpChunk(chunk);
+			} catch (RuntimeException e) {
+				log.warn("cache warm-up failed. posts : {}", chunk.size(), e);
+			}
+		}
+		log.info("cache warmed up. posts : {} / {}, {} ms", warmed, postIds.size(), System.currentTimeMillis() - start);
+	}
+
+	// ETag 와 응답을 같은 트랜잭션(같은 snapshot)에서 조회해서 버전이 어긋난 응답이 캐시되지 않도록 함
+	private int warmUpChunk(List<Long> postIds) {
+		Integer warmed = readOnlyTransactionTemplate.execute(status -> {
+			Map<Long, String> eTags = postService.getPostETags(postIds);
+			if (eTags.isEmpty()) {
+				return 0;
+			}
+			List<PostResponseDto> posts = postService.getPosts(new ArrayList<>(eTags.keySet()), null, PostProjection.ALL).getPosts();
+			posts.forEach(post -> postResponseCache.put(post.getPostId(), eTags.get(post.getPostId()), post));
+			return posts.size();
+		});
+		return warmed == null ? 0 : warmed;
+	}
+}
@@ -0,0 +1,94 @@
+package com.sparta.hanghaebloglv3.post.live;
+
+import com.sparta.hanghaebloglv3.post.dto.PostLiveCountDto;
+import lombok.Getter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * LiveSubscriber.
+ * SSE 연결 하나. 아직 보내지 못한 값은 최신 값 하나만 보관하므로,
+ * 느린 클라이언트는 중간 값을 건너뛰고 가장 최근 값만 받는다.
+ * 전송(blocking write)이 오래 막힌 구독자는 drop 되어 더 이상 전송 작업을 올리지 않고, 막힌 쓰기가 끝나면 연결을 닫는다.
+ */
+public class LiveSubscriber {
+
+	@Getter
+	private final SseEmitter emitter;
+	private final AtomicReference<PostLiveCountDto> pending = new AtomicReference<>();
+	private final AtomicBoolean sending = new AtomicBoolean();
+	private final AtomicBoolean dropped = new AtomicBoolean();
+	private volatile boolean writing;
+	private volatile long writeStartedAt;
+
+	public LiveSubscriber(SseEmitter emitter) {
+		this.emitter = emitter;
+	}
+
+	/**
+	 * Offer latest counts.
+	 * 전송 중이면 값만 덮어쓰고, 아니면 전송 작업을 공용 executor 에 올린다. (연결 당 스레드 없음)
+	 */
+	public void offer(PostLiveCountDto countDto, Executor executor) {
+		if (dropped.get()) {
+			return;
+		}
+		pending.set(countDto);
+		if (sending.compareAndSet(false, true)) {
+			executor.execute(this::drain);
+		}
+	}
+
+	/**
+	 * Check current send has been blocked longer than timeout.
+	 */
+	public boolean isStuck(long now, long timeoutNanos) {
+		return writing && now - writeStartedAt > timeoutNanos;
+	}
+
+	/**
+	 * Stop sending to this subscriber.
+	 * 전송 중인 스레드가 emitter 를 잡고 있으므로 여기서 닫지 않고, 전송이 끝난 뒤 drain 에서 닫는다.
+	 * 그 사이 전송이 이미 끝났으면 여기서 닫는다.
+	 */
+	public void drop() {
+		dropped.set(true);
+		pending.set(null);
+		if (sending.compareAndSet(false, true)) {
+			emitter.complete();
+		}
+	}
+
+	private void drain() {
+		while (true) {
+			if (dropped.get()) {
+				emitter.complete();
+				return;
+			}
+			PostLiveCountDto countDto = pending.getAndSet(null);
+			if (countDto == null) {
+				sending.set(false);
+				// flag 를 내리는 사이에 새 값이 들어왔으면 이어서 전송
+				if (pending.get() != null && sending.compareAndSet(false, true)) {
+					continue;
+				}
+				return;
+			}
+			try {
+				writeStartedAt = System.nanoTime();
+				writing = true;
+				emitter.send(SseEmitter.event().name("counts").data(countDto));
+				writing = false;
+			} catch (Exception e) {
+				writing = false;
+				// 연결이 끊긴 경우 -> onError/onCompletion 콜백에서 구독 해제됨
+				emitter.completeWithError(e);
+				sending.set(false);
+				return;
+			}
+		}
+	}
+}
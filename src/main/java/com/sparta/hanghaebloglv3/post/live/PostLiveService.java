@@ -0,0 +1,147 @@
+package com.sparta.hanghaebloglv3.post.live;
+
+import com.sparta.hanghaebloglv3.common.event.PostChangedEvent;
+import com.sparta.hanghaebloglv3.common.exception.IdNotFoundException;
+import com.sparta.hanghaebloglv3.post.dto.PostLiveCountDto;
+import com.sparta.hanghaebloglv3.post.dto.PostVersion;
+import com.sparta.hanghaebloglv3.post.repository.PostRepository;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.MessageSource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * PostLiveService.
+ * 게시글 좋아요 수, 댓글 수 변경을 SSE 구독자에게 전달.
+ * 변경 이벤트는 게시글 별로 모아두었다가 post.live.coalesce-ms 마다 한 번만 조회해서 보낸다.
+ */
+@Service
+public class PostLiveService {
+
+	private final PostRepository postRepository;
+	private final MessageSource messageSource;
+	private final long emitterTimeout;
+	private final long sendTimeoutNanos;
+	private final ExecutorService sendExecutor;
+
+	private final ConcurrentHashMap<Long, Set<LiveSubscriber>> subscribers = new ConcurrentHashMap<>();
+	private final Set<Long> changedPostIds = ConcurrentHashMap.newKeySet();
+
+	public PostLiveService(PostRepository postRepository,
+	                       MessageSource messageSource,
+	                       @Value("${post.live.emitter-timeout-ms}") long emitterTimeout,
+	                       @Value("${post.live.send-threads}") int sendThreads,
+	                       @Value("${post.live.send-timeout-ms}") long sendTimeoutMillis) {
+		this.postRepository = postRepository;
+		this.messageSource = messageSource;
+		this.emitterTimeout = emitterTimeout;
+		this.sendTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(sendTimeoutMillis);
+		this.sendExecutor = Executors.newFixedThreadPool(sendThreads);
+	}
+
+	/**
+	 * Subscribe counts of post.
+	 */
+	public SseEmitter subscribe(Long postId) {
+		PostVersion postVersion = postRepository.findVersionByPostId(postId).orElseThrow(() ->
+				new IdNotFoundException(
+						messageSource.getMessage(
+								"not.found.post",
+								null,
+								"Not Found Post",
+								Locale.getDefault()
+						)
+				)
+		);
+
+		SseEmitter emitter = new SseEmitter(emitterTimeout);
+		LiveSubscriber subscriber = new LiveSubscriber(emitter);
+		subscribers.compute(postId, (id, set) -> {
+			Set<LiveSubscriber> postSubscribers = set == null ? new CopyOnWriteArraySet<>() : set;
+			postSubscribers.add(subscriber);
+			return postSubscribers;
+		});
+
+		Runnable unsubscribe = () -> this.unsubscribe(postId, subscriber);
+		emitter.onCompletion(unsubscribe);
+		emitter.onTimeout(unsubscribe);
+		emitter.onError(e -> unsubscribe.run());
+
+		// 구독 직후 현재 값 전송
+		subscriber.offer(new PostLiveCountDto(postId, postVersion), sendExecutor);
+		return emitter;
+	}
+
+	/**
+	 * Mark post changed.
+	 */
+	@TransactionalEventListener
+	public void onPostChanged(PostChangedEvent event) {
+		if (subscribers.containsKey(event.getPostId())) {
+			changedPostIds.add(event.getPostId());
+		}
+	}
+
+	/**
+	 * Publish coalesced counts.
+	 */
+	@Scheduled(fixedDelayString = "${post.live.coalesce-ms}")
+	public void publishChangedCounts() {
+		Iterator<Long> iterator = changedPostIds.iterator();
+		while (iterator.hasNext()) {
+			Long postId = iterator.next();
+			iterator.remove();
+
+			Set<LiveSubscriber> postSubscribers = subscribers.get(postId);
+			if (postSubscribers == null) {
+				continue;
+			}
+
+			Optional<PostVersion> postVersion = postRepository.findVersionByPostId(postId);
+			if (postVersion.isEmpty()) {
+				// 게시글이 삭제된 경우 구독 종료
+				postSubscribers.forEach(subscriber -> subscriber.getEmitter().complete());
+				subscribers.remove(postId);
+				continue;
+			}
+
+			PostLiveCountDto countDto = new PostLiveCountDto(postId, postVersion.get());
+			long now = System.nanoTime();
+			for (LiveSubscriber subscriber : postSubscribers) {
+				// 이전 값을 post.live.send-timeout-ms 넘게 보내지 못한 구독자는 끊어서 공용 전송 스레드를 계속 붙잡지 않게 함
+				if (subscriber.isStuck(now, sendTimeoutNanos)) {
+					subscriber.drop();
+					this.unsubscribe(postId, subscriber);
+				} else {
+					subscriber.offer(countDto, sendExecutor);
+				}
+			}
+		}
+	}
+
+	private void unsubscribe(Long postId, LiveSubscriber subscriber) {
+		subscribers.computeIfPresent(postId, (id, set) -> {
+			set.remove(subscriber);
+			return set.isEmpty() ? null : set;
+		});
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		sendExecutor.shutdownNow();
+		subscribers.values().forEach(set -> set.forEach(subscriber -> subscriber.getEmitter().complete()));
+	}
+}
@@ -1,10 +1,23 @@
 package com.sparta.hanghaebloglv3.post.repository;
 
+import com.sparta.hanghaebloglv3.post.dto.PostDetailVersion;
+import com.sparta.hanghaebloglv3.post.dto.PostVersion;
 import com.sparta.hanghaebloglv3.post.entity.PostEntity;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * PostRepository.
@@ -13,8 +26,126 @@ import java.util.List;
 public interface PostRepository extends JpaRepository<PostEntity, Long> {
 
   /**
-   * Find all by order by modified at desc.
+   * Find posts by ids with author (여러 게시글 조회, 동기화).
    */
-  List<PostEntity> findAllByOrderByModifiedAtDesc();
+  @EntityGraph(PostEntity.WITH_AUTHOR)
+  @Query("select p from PostEntity p where p.postId in :postIds")
+  List<PostEntity> findAllWithAuthorByIds(@Param("postIds") Collection<Long> postIds);
+
+  /**
+   * Find contents of posts (lazy 로딩되는 본문을 게시글마다 조회하지 않고 한 번에).
+   */
+  @Query("select p.postId as postId, p.content as content from PostEntity p where p.postId in :postIds")
+  List<PostContent> findContentsByIds(@Param("postIds") Collection<Long> postIds);
+
+  interface PostContent {
+    Long getPostId();
+
+    String getContent();
+  }
+
+  /**
+   * Find all with author by order by modified at desc.
+   * 작성자를 한 번에 조회하여 게시글 수와 관계없이 SQL 1회. 좋아요는 join 하지 않고 따로 센다. (HeartFeedRepository.countByPostIds)
+   */
+  @EntityGraph(PostEntity.WITH_AUTHOR)
+  List<PostEntity> findAllWithAuthorByOrderByModifiedAtDesc();
   // Repo interface에 JPA의 일련의 규칙을 따라 메서드를 생성하면, 자동으로 이에 대한 impletation method가 생성됨.
-}
\ No newline at end of file
+
+  /**
+   * Find post with author.
+   */
+  @EntityGraph(PostEntity.WITH_AUTHOR)
+  @Query("select p from PostEntity p where p.postId = :id")
+  Optional<PostEntity> findWithAuthorById(@Param("id") Long id);
+
+  /**
+   * Find post without author (2차 캐시를 거치지 않고 DB 에서, 같은 요청에서 조회한 버전(ETag)과 어긋나지 않도록).
+   */
+  @Query("select p from PostEntity p where p.postId = :id")
+  Optional<PostEntity> findUncachedById(@Param("id") Long id);
+
+  /**
+   * Find post with author, hearts.
+   */
+  @EntityGraph(PostEntity.WITH_AUTHOR_AND_HEARTS)
+  @Query("select p from PostEntity p where p.postId = :id")
+  Optional<PostEntity> findWithAuthorAndHeartsById(@Param("id") Long id);
+
+  /**
+   * Find post ids after postId (keyset).
+   */
+  @Query("select p.postId from PostEntity p where p.postId > :postId order by p.postId")
+  List<Long> findPostIdsAfter(@Param("postId") Long postId, Pageable pageable);
+
+  /**
+   * Fill excerpt of posts created before excerpt column added.
+   */
+  @Transactional
+  @Modifying
+  @Query("update PostEntity p set p.excerpt = substring(p.content, 1, " + PostEntity.EXCERPT_LENGTH + ") where p.excerpt is null")
+  int fillMissingExcerpts();
+
+  String VERSION_COLUMNS = "select p.modifiedAt as modifiedAt, "
+      + "(select count(c) from CommentEntity c where c.postEntity = p) as commentCount, "
+      + "(select max(c.modifiedAt) from CommentEntity c where c.postEntity = p) as commentModifiedAt, "
+      + "(select count(h) from HeartFeed h where h.postEntity = p) as heartCount, "
+      + "(select count(hc) from HeartComment hc where hc.commentEntity.postEntity = p) as commentHeartCount, "
+      + "(select max(hc.heartCommentId) from HeartComment hc where hc.commentEntity.postEntity = p) as maxCommentHeartId, "
+      + "p.userEntity.usernameModifiedAt as authorRenamedAt, "
+      + "(select max(cu.usernameModifiedAt) from CommentEntity c join c.userEntity cu where c.postEntity = p) as commenterRenamedAt, "
+      + "(select v.viewCount from PostViewEntity v where v.postId = p.postId) as viewCount ";
+
+  /**
+   * Find version of certain post.
+   */
+  @Query(VERSION_COLUMNS + "from PostEntity p where p.postId = :postId")
+  Optional<PostVersion> findVersionByPostId(@Param("postId") Long postId);
+
+  /**
+   * Find version of certain post for user (사용자의 좋아요 여부 포함).
+   */
+  @Query(VERSION_COLUMNS + ", (select count(h) from HeartFeed h where h.postEntity = p and h.userEntity.userId = :userId) as likedCount "
+      + "from PostEntity p where p.postId = :postId")
+  Optional<PostDetailVersion> findDetailVersionByPostId(@Param("postId") Long postId, @Param("userId") Long userId);
+
+  /**
+   * Find versions of posts (좋아요를 누르지 않은 사용자 기준, 응답 캐시 미리 채우기).
+   */
+  @Query(VERSION_COLUMNS + ", p.postId as postId from PostEntity p where p.postId in :postIds")
+  List<PostIdVersion> findVersionsByPostIds(@Param("postIds") Collection<Long> postIds);
+
+  interface PostIdVersion extends PostVersion {
+    Long getPostId();
+  }
+
+  /**
+   * Find ids of posts written by user (username 변경 시 동기화 기록).
+   */
+  @Query("select p.postId from PostEntity p where p.userEntity.userId = :userId")
+  List<Long> findIdsByUserId(@Param("userId") Long userId);
+
+  /**
+   * Find ids of posts not modified (including comments) since cutoff (keyset).
+   */
+  @Query("select p.postId from PostEntity p where p.postId > :postId and p.modifiedAt < :cutoff "
+      + "and not exists (select c from CommentEntity c where c.postEntity = p and c.modifiedAt >= :cutoff) "
+      + "order by p.postId")
+  List<Long> findArchivableIdsAfter(@Param("postId") Long postId, @Param("cutoff") LocalDateTime cutoff, Pageable pageable);
+
+  /**
+   * Lock posts still not modified since cutoff.
+   * 보관 대상 조회 이후에 댓글이 달린 게시글을 제외하고, 보관이 끝날 때까지 새 댓글, 좋아요를 막는다.
+   */
+  @Lock(LockModeType.PESSIMISTIC_WRITE)
+  @Query("select p from PostEntity p where p.postId in :postIds and p.modifiedAt < :cutoff "
+      + "and not exists (select c from CommentEntity c where c.postEntity = p and c.modifiedAt >= :cutoff)")
+  List<PostEntity> findArchivableForUpdate(@Param("postIds") Collection<Long> postIds, @Param("cutoff") LocalDateTime cutoff);
+
+  /**
+   * Delete posts (archived).
+   */
+  @Modifying
+  @Query("delete from PostEntity p where p.postId in :postIds")
+  int deleteAllByPostIds(@Param("postIds") Collection<Long> postIds);
+}
@@ -0,0 +1,34 @@
+package com.sparta.hanghaebloglv3.post.repository;
+
+import com.sparta.hanghaebloglv3.post.entity.PostViewEntity;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * PostViewRepository.
+ */
+@Repository
+public interface PostViewRepository extends JpaRepository<PostViewEntity, Long> {
+
+  /**
+   * Find views with write lock.
+   */
+  @Lock(LockModeType.PESSIMISTIC_WRITE)
+  @Query("select v from PostViewEntity v where v.postId in :postIds")
+  List<PostViewEntity> findAllForUpdate(@Param("postIds") Collection<Long> postIds);
+
+  /**
+   * Delete views of deleted post.
+   */
+  @Modifying
+  @Query("delete from PostViewEntity v where v.postId = :postId")
+  int deleteByPostId(@Param("postId") Long postId);
+}
@@ -0,0 +1,252 @@
+package com.sparta.hanghaebloglv3.post.service;
+
+import com.sparta.hanghaebloglv3.comment.dto.CommentResponseDto;
+import com.sparta.hanghaebloglv3.comment.repository.CommentRepository;
+import com.sparta.hanghaebloglv3.common.timing.RequestTiming;
+import com.sparta.hanghaebloglv3.common.timing.TimingPhase;
+import com.sparta.hanghaebloglv3.heart.heartFeed.repository.HeartFeedRepository;
+import com.sparta.hanghaebloglv3.post.dto.PostProjection;
+import com.sparta.hanghaebloglv3.post.dto.PostResponseDto;
+import com.sparta.hanghaebloglv3.post.entity.PostEntity;
+import com.sparta.hanghaebloglv3.post.entity.PostViewEntity;
+import com.sparta.hanghaebloglv3.post.repository.PostRepository;
+import com.sparta.hanghaebloglv3.post.view.PostViewService;
+import com.sparta.hanghaebloglv3.user.entity.UserEntity;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * PostDetailAssembler.
+ * 게시글 상세 응답을 이루는 서로 독립적인 조회(게시글+작성자, 댓글, 좋아요 수, 내 좋아요 여부, 조회수)를 동시에 실행하여
+ * 응답 시간이 조회 시간의 합이 아니라 가장 느린 조회 시간에 가깝게 한다.
+ * 게시글+작성자는 요청 스레드가 직접 조회하고, 나머지는 크기가 정해진 pool 에서 각자의 트랜잭션(connection)으로 조회한다.
+ * 요청 스레드는 이미 connection 을 잡고 있으므로(읽기 전용 트랜잭션) connection pool 에 남는 connection 이 없으면 나누지 않고 차례대로 조회하고,
+ * 그래도 post.detail.timeout-ms 안에 끝나지 않은 조회는 기다리지 않고 기본값으로 채워 incompleteFields 에 표시한다.
+ * 같은 조회를 다시 실행하지 않으며, worker 의 조회에는 트랜잭션 timeout(JPA query timeout)을 걸어 DB 에서도 끊기게 한다.
+ */
+@Component
+public class PostDetailAssembler {
+
+	private static final int FAN_OUT_QUERIES = 4;
+
+	private final PostRepository postRepository;
+	private final CommentRepository commentRepository;
+	private final HeartFeedRepository heartFeedRepository;
+	private final PostViewService postViewService;
+	private final PlatformTransactionManager transactionManager;
+	private final ThreadPoolExecutor fanOutExecutor;
+	private final long timeoutNanos;
+	private final HikariDataSource hikariDataSource; // Hikari 가 아니면 null (항상 동시에 조회)
+	private final Counter timeouts;
+	private final Counter sequential;
+
+	public PostDetailAssembler(PostRepository postRepository,
+	                           CommentRepository commentRepository,
+	                           HeartFeedRepository heartFeedRepository,
+	                           PostViewService postViewService,
+	                           PlatformTransactionManager transactionManager,
+	                           DataSource dataSource,
+	                           MeterRegistry meterRegistry,
+	                           @Value("${post.detail.threads}") int threads,
+	                           @Value("${post.detail.queue-size}") int queueSize,
+	                           @Value("${post.detail.timeout-ms}") long timeoutMillis) {
+		this.postRepository = postRepository;
+		this.commentRepository = commentRepository;
+		this.heartFeedRepository = heartFeedRepository;
+		this.postViewService = postViewService;
+		this.transactionManager = transactionManager;
+		this.fanOutExecutor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+				new ArrayBlockingQueue<>(queueSize), new ThreadPoolExecutor.CallerRunsPolicy());
+		this.timeoutNanos = TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+		this.hikariDataSource = dataSource instanceof HikariDataSource hikari ? hikari : null;
+		this.timeouts = Counter.builder("post.detail.fanout.timeouts")
+				.description("post detail queries not finished by deadline, field answered with default")
+				.register(meterRegistry);
+		this.sequential = Counter.builder("post.detail.fanout.sequential")
+				.description("post detail assembled sequentially, no idle connections")
+				.register(meterRegistry);
+	}
+
+	/**
+	 * Assemble post detail. 게시글이 없으면 empty.
+	 * projection 에 없는 필드(댓글, 좋아요, 조회수, 작성자, 본문)는 조회하지 않음.
+	 * 요청 스레드의 읽기 전용 트랜잭션 안에서 호출해야 함.
+	 */
+	public Optional<PostResponseDto> assemble(Long postId, UserEntity user, PostProjection projection) {
+		long deadline = System.nanoTime() + timeoutNanos;
+		boolean fanOut = this.hasIdleConnections();
+		if (!fanOut) {
+			sequential.increment();
+		}
+		FanOut<List<CommentResponseDto>> comments = projection.includesComments()
+				? this.submit(() -> PostService.getCommentResponseDtoList(commentRepository.findAllWithAuthorsByPostId(postId)), List.of(), deadline, fanOut)
+				: this.skip(List.of());
+		FanOut<Long> heartCount = projection.has(PostProjection.HEART_COUNT)
+				? this.submit(() -> heartFeedRepository.countByPostEntityPostId(postId), 0L, deadline, fanOut)
+				: this.skip(0L);
+		FanOut<Boolean> likedByMe = projection.has(PostProjection.LIKED_BY_ME)
+				? this.submit(() -> heartFeedRepository.existsByPostEntityPostIdAndUserEntityUserId(postId, user.getUserId()), null, deadline, fanOut)
+				: this.skip(null);
+		FanOut<PostViewEntity> views = projection.hasViews()
+				? this.submit(() -> postViewService.findViews(postId), null, deadline, fanOut)
+				: this.skip(null);
+
+		// 작성자 이름이 필요 없으면 작성자 join 생략 (응답이 ETag 로 검증되므로 2차 캐시의 게시글은 쓰지 않음)
+		Optional<PostEntity> postEntity = projection.has(PostProjection.USERNAME)
+				? postRepository.findWithAuthorById(postId)
+				: postRepository.findUncachedById(postId);
+		Optional<PostResponseDto> post = postEntity.map(entity -> PostResponseDto.ofDetail(entity, projection));
+		if (post.isEmpty()) {
+			List.of(comments, heartCount, likedByMe, views).forEach(FanOut::cancel);
+			return post;
+		}
+
+		// deadline 까지 끝나지 않은 조회는 기본값, 응답에 표시 (캐시, 304 재사용되지 않음)
+		PostResponseDto postResponseDto = post.get();
+		postResponseDto.setHeartCount(heartCount.join(deadline));
+		if (heartCount.isTimedOut()) {
+			postResponseDto.addIncompleteField(PostProjection.HEART_COUNT);
+		}
+		Boolean liked = likedByMe.join(deadline);
+		if (liked != null) {
+			postResponseDto.setLikedByMe(liked);
+		} else if (likedByMe.isTimedOut()) {
+			postResponseDto.addIncompleteField(PostProjection.LIKED_BY_ME);
+		}
+		PostViewEntity postView = views.join(deadline);
+		if (postView != null) {
+			postResponseDto.setViews(postView);
+		} else if (views.isTimedOut()) {
+			postResponseDto.addIncompleteField(PostProjection.VIEW_COUNT);
+			postResponseDto.addIncompleteField(PostProjection.UNIQUE_VIEWERS);
+		}
+		comments.join(deadline).forEach(postResponseDto::addCommentResponseDtoList);
+		if (comments.isTimedOut()) {
+			postResponseDto.addIncompleteField(PostProjection.COMMENT_LIST);
+		}
+		return post;
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		fanOutExecutor.shutdown();
+	}
+
+	// pool 이 아직 만들어지지 않았으면(첫 요청 전) 동시에 조회
+	private boolean hasIdleConnections() {
+		HikariPoolMXBean connectionPool = hikariDataSource == null ? null : hikariDataSource.getHikariPoolMXBean();
+		return connectionPool == null || connectionPool.getIdleConnections() >= FAN_OUT_QUERIES;
+	}
+
+	// fanOut 이 false 면 실행하지 않고, join 에서 요청 스레드가 직접 조회. fallback 은 deadline 이 지났을 때의 값
+	private <T> FanOut<T> submit(Supplier<T> query, T fallback, long deadline, boolean fanOut) {
+		if (!fanOut) {
+			return new FanOut<>(query, null, fallback);
+		}
+		CompletableFuture<T> future = CompletableFuture.supplyAsync(() -> {
+			// 기다리는 동안 deadline 이 지났으면 요청은 이미 기본값으로 응답함
+			long remainingNanos = deadline - System.nanoTime();
+			if (remainingNanos <= 0) {
+				throw new CancellationException("post detail deadline passed");
+			}
+			return this.readOnlyTransactionTemplate(remainingNanos).execute(status -> query.get());
+		}, fanOutExecutor);
+		return new FanOut<>(query, future, fallback);
+	}
+
+	// projection 에 없는 필드, 조회하지 않고 기본값
+	private <T> FanOut<T> skip(T value) {
+		return new FanOut<>(() -> value, null, value);
+	}
+
+	// worker 스레드에서는 새 트랜잭션, 요청 스레드에서 실행되면(queue 가득 참) 요청 트랜잭션에 참여
+	// timeout 은 초 단위이고 Hibernate 는 남은 시간을 초 단위로 내림해서 확인하므로, 남은 시간을 올린 뒤 1초를 더함
+	// 응답은 deadline 에 끝나고, DB 의 조회는 늦어도 그 뒤 2초 안에 끊김
+	private TransactionTemplate readOnlyTransactionTemplate(long remainingNanos) {
+		long secondNanos = TimeUnit.SECONDS.toNanos(1);
+		TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+		transactionTemplate.setReadOnly(true);
+		transactionTemplate.setTimeout((int) ((remainingNanos + secondNanos - 1) / secondNanos) + 1);
+		return transactionTemplate;
+	}
+
+	/**
+	 * FanOut.
+	 * worker 에서 실행 중인 조회와, deadline 까지 끝나지 않았을 때 대신 쓸 기본값.
+	 */
+	private final class FanOut<T> {
+
+		private final Supplier<T> query;
+		private final CompletableFuture<T> future; // null 이면 요청 스레드에서 조회
+		private final T fallback;
+		private boolean timedOut;
+
+		private FanOut(Supplier<T> query, CompletableFuture<T> future, T fallback) {
+			this.query = query;
+			this.future = future;
+			this.fallback = fallback;
+		}
+
+		private T join(long deadline) {
+			if (future == null) {
+				return query.get();
+			}
+			RequestTiming.enter(TimingPhase.DB);
+			try {
+				return future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+			} catch (TimeoutException e) {
+				future.cancel(false); // 아직 시작하지 않았으면 실행하지 않음, 실행 중인 조회는 트랜잭션 timeout 으로 끊김
+				return this.timeOut();
+			} catch (ExecutionException e) {
+				if (e.getCause() instanceof CancellationException) {
+					return this.timeOut();
+				}
+				if (e.getCause() instanceof RuntimeException runtimeException) {
+					throw runtimeException;
+				}
+				throw new IllegalStateException(e.getCause());
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new IllegalStateException(e);
+			} finally {
+				RequestTiming.exit();
+			}
+		}
+
+		private T timeOut() {
+			timeouts.increment();
+			timedOut = true;
+			return fallback;
+		}
+
+		private boolean isTimedOut() {
+			return timedOut;
+		}
+
+		private void cancel() {
+			if (future != null) {
+				future.cancel(false);
+			}
+		}
+	}
+}
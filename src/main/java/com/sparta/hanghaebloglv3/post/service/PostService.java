@@ -1,27 +1,51 @@
 package com.sparta.hanghaebloglv3.post.service;
 
+import com.sparta.hanghaebloglv3.archive.service.PostArchiveService;
 import com.sparta.hanghaebloglv3.comment.dto.CommentResponseDto;
 import com.sparta.hanghaebloglv3.comment.entity.CommentEntity;
 import com.sparta.hanghaebloglv3.comment.repository.CommentRepository;
+import com.sparta.hanghaebloglv3.comment.repository.CommentRepository.CommentPreview;
 import com.sparta.hanghaebloglv3.common.constant.ProjConst;
 import com.sparta.hanghaebloglv3.common.dto.ApiResult;
+import com.sparta.hanghaebloglv3.common.event.AuditEvent;
+import com.sparta.hanghaebloglv3.common.event.ChangeEvent;
+import com.sparta.hanghaebloglv3.common.event.ChangeType;
+import com.sparta.hanghaebloglv3.common.event.PostChangedEvent;
 import com.sparta.hanghaebloglv3.common.exception.IdNotFoundException;
 import com.sparta.hanghaebloglv3.common.jwt.JwtUtil;
+import com.sparta.hanghaebloglv3.heart.heartFeed.repository.HeartFeedRepository;
+import com.sparta.hanghaebloglv3.post.dto.PostBatchResponseDto;
+import com.sparta.hanghaebloglv3.post.dto.PostDetailVersion;
+import com.sparta.hanghaebloglv3.post.dto.PostProjection;
 import com.sparta.hanghaebloglv3.post.dto.PostRequestDto;
 import com.sparta.hanghaebloglv3.post.dto.PostResponseDto;
 import com.sparta.hanghaebloglv3.post.entity.PostEntity;
+import com.sparta.hanghaebloglv3.post.entity.PostViewEntity;
 import com.sparta.hanghaebloglv3.post.repository.PostRepository;
+import com.sparta.hanghaebloglv3.post.view.PostViewService;
+import com.sparta.hanghaebloglv3.sync.service.ChangeLogService;
 import com.sparta.hanghaebloglv3.user.entity.UserEntity;
 import com.sparta.hanghaebloglv3.user.entity.UserRoleEnum;
+import com.sparta.hanghaebloglv3.user.service.AuthorCacheService;
+import com.sparta.hanghaebloglv3.user.service.UserStatsService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.MessageSource;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 
 /**
  * PostService.
@@ -30,10 +54,23 @@ import java.util.Locale;
 @RequiredArgsConstructor
 public class PostService {
 
+	public static final int MAX_BATCH_SIZE = 100;
+	public static final int COMMENT_PREVIEW_COUNT = 3;
+	// 목록 조회의 IN 목록 최대 크기 (DB 의 IN 처리, 결과 크기 한도)
+	private static final int IN_CHUNK_SIZE = 500;
+
 	private final PostRepository postRepository;
 	private final CommentRepository commentRepository;
 	private final MessageSource messageSource;
 	private final JwtUtil jwtUtil;
+	private final ApplicationEventPublisher eventPublisher;
+	private final PostArchiveService postArchiveService;
+	private final PostViewService postViewService;
+	private final PostDetailAssembler postDetailAssembler;
+	private final HeartFeedRepository heartFeedRepository;
+	private final UserStatsService userStatsService;
+	private final ChangeLogService changeLogService;
+	private final AuthorCacheService authorCacheService;
 
 	/**
 	 * Create Post.
@@ -47,60 +84,238 @@ public class PostService {
 				.build();
 
 		postRepository.save(postEntity);
+		userStatsService.postCreated(user.getUserId());
+		eventPublisher.publishEvent(new PostChangedEvent(postEntity.getPostId()));
+		eventPublisher.publishEvent(ChangeEvent.upsert(ChangeType.POST, postEntity.getPostId()));
 		return new PostResponseDto(postEntity);
 	}
 
 	/**
 	 * Get all post.
+	 * 댓글은 게시글마다 최근 COMMENT_PREVIEW_COUNT 개와 전체 수만 포함.
+	 * projection 에 없는 필드(댓글, 좋아요, 조회수)는 조회하지 않음.
 	 */
 	@Transactional(readOnly = true) // readOnly true인 경우, JPA 영속성 컨텍스트에 갱신되지 않기 때문에, 조회 시 false로 설정하는 것보다 더 빠르게 조회가 가능함.
-	public List<PostResponseDto> getPostList(UserEntity user) {
+	public List<PostResponseDto> getPostList(UserEntity user, PostProjection projection) {
 
-		// Post Db > List<PostEntity>
-		List<PostEntity> postEntities = postRepository.findAllByOrderByModifiedAtDesc();
+		// Post Db > List<PostEntity> (작성자 함께 조회)
+		List<PostEntity> postEntities = postRepository.findAllWithAuthorByOrderByModifiedAtDesc();
 
-		// List<PostEntity> > List<PostResponseDto>
+		// List<PostEntity> > List<PostResponseDto> (본문 대신 요약만)
 		List<PostResponseDto> postResponseDtoList = new ArrayList<>();
-		postEntities.forEach(postEntity -> postResponseDtoList.add(new PostResponseDto(postEntity)));
-
-		// for문으로 게시글 하나 씩 돌 때 마다 댓글전체도 돌려 postId로 매칭시켜 postResponseDto에 댓글 add 해주기.
-		for (PostResponseDto postResponseDto : postResponseDtoList) {
-			for (CommentResponseDto commentResponseDto : this.getCommentResponseDtoList()) {
-				if (postResponseDto.getPostId() == commentResponseDto.getPostId()) {
-					postResponseDto.addCommentResponseDtoList(commentResponseDto);
-				}
+		Map<Long, PostResponseDto> postResponseDtoMap = new HashMap<>();
+		postEntities.forEach(postEntity -> {
+			PostResponseDto postResponseDto = PostResponseDto.ofSummary(postEntity, projection);
+			postResponseDtoList.add(postResponseDto);
+			postResponseDtoMap.put(postResponseDto.getPostId(), postResponseDto);
+		});
+
+		// 좋아요 수, 조회수, 최근 댓글은 게시글 IN_CHUNK_SIZE 개씩 묶어서 조회 (게시글이 많아도 IN 목록과 결과 크기가 제한됨)
+		boolean countComments = projection.has(PostProjection.COMMENT_COUNT);
+		if (countComments) {
+			postResponseDtoList.forEach(postResponseDto -> postResponseDto.setCommentCount(0));
+		}
+		List<Long> postIds = postResponseDtoList.stream().map(PostResponseDto::getPostId).toList();
+		for (int from = 0; from < postIds.size(); from += IN_CHUNK_SIZE) {
+			List<Long> chunk = postIds.subList(from, Math.min(from + IN_CHUNK_SIZE, postIds.size()));
+
+			// 좋아요 수는 좋아요 row 를 읽지 않고 게시글별로 세어서 조회
+			if (projection.has(PostProjection.HEART_COUNT)) {
+				heartFeedRepository.countByPostIds(chunk).forEach(heartCount ->
+						postResponseDtoMap.get(heartCount.getPostId()).setHeartCount(heartCount.getHeartCount()));
+			}
+
+			if (projection.hasViews()) {
+				postViewService.findViews(chunk).forEach((postId, postView) -> postResponseDtoMap.get(postId).setViews(postView));
+			}
+
+			// 게시글마다 최근 댓글과 댓글 수 (창 함수), 결과 크기가 게시글 수 x COMMENT_PREVIEW_COUNT 이하
+			if (projection.includesComments() || countComments) {
+				this.addCommentPreviews(chunk, postResponseDtoMap, projection);
 			}
 		}
 		return postResponseDtoList;
 	}
 
+	private void addCommentPreviews(List<Long> postIds, Map<Long, PostResponseDto> postResponseDtoMap, PostProjection projection) {
+		for (CommentPreview preview : commentRepository.findPreviewsByPostIds(postIds, COMMENT_PREVIEW_COUNT)) {
+			PostResponseDto postResponseDto = postResponseDtoMap.get(preview.getPostId());
+			if (projection.has(PostProjection.COMMENT_COUNT)) {
+				postResponseDto.setCommentCount(preview.getCommentCount());
+			}
+			if (projection.includesComments()) {
+				postResponseDto.addCommentResponseDtoList(CommentResponseDto.builder()
+						.postId(preview.getPostId())
+						.commentId(preview.getCommentId())
+						.content(preview.getContent())
+						.userName(preview.getUserName())
+						.createdAt(preview.getCreatedAt())
+						.modifiedAt(preview.getModifiedAt())
+						.heartCount(preview.getHeartCount())
+						.build());
+			}
+		}
+	}
+
 	/**
 	 * Get post by id.
+	 * 게시글, 댓글, 좋아요, 조회수를 동시에 조회 (PostDetailAssembler).
 	 */
 	@Transactional(readOnly = true)
-	public PostResponseDto getPost(Long id, UserEntity user) {
+	public PostResponseDto getPost(Long id, UserEntity user, PostProjection projection) {
 
-		PostEntity postEntity = postRepository.findById(id).orElseThrow(() ->
-				new IdNotFoundException(
-						messageSource.getMessage(
-								"not.found.post",
-								null,
-								"Not Found Post",
-								Locale.getDefault()
+		// hot 테이블에 없으면 보관된 게시글에서 조회 (보관된 게시글은 전체를 조회하고 직렬화에서만 필드를 거름)
+		return postDetailAssembler.assemble(id, user, projection)
+				.or(() -> postArchiveService.findArchivedPost(id))
+				.orElseThrow(() ->
+						new IdNotFoundException(
+								messageSource.getMessage(
+										"not.found.post",
+										null,
+										"Not Found Post",
+										Locale.getDefault()
+								)
 						)
-				)
-		);
+				);
+	}
 
-		PostResponseDto postResponseDto = new PostResponseDto(postEntity);
+	/**
+	 * Get posts by ids (요청한 id 순서).
+	 * 게시글, 작성자, 본문, 좋아요, 조회수, 댓글을 게시글 수와 관계없이 각각 한 번에 조회하고, projection 에 없는 것은 조회하지 않음.
+	 * hot 테이블에 없는 id 만 보관된 게시글에서 하나씩 조회하고, 그래도 없으면 missingIds 로 돌려줌.
+	 * user 가 null 이면 (응답 캐시 미리 채우기) 좋아요를 누르지 않은 사용자 기준.
+	 * 작성자 이름은 요청 응답에서는 2차 캐시(AuthorCacheService)에서 읽고, 응답 캐시를 채울 때는 join 해서 읽음.
+	 */
+	@Transactional(readOnly = true)
+	public PostBatchResponseDto getPosts(List<Long> ids, UserEntity user, PostProjection projection) {
+		if (ids.isEmpty() || ids.size() > MAX_BATCH_SIZE) {
+			throw new IllegalArgumentException(
+					messageSource.getMessage(
+							"wrong.batch.size",
+							null,
+							"Wrong Batch Size",
+							Locale.getDefault()
+					)
+			);
+		}
+		List<Long> postIds = ids.stream().distinct().toList();
+
+		Map<Long, String> contents = new HashMap<>();
+		if (projection.has(PostProjection.CONTENTS)) {
+			postRepository.findContentsByIds(postIds).forEach(content -> contents.put(content.getPostId(), content.getContent()));
+		}
+		Map<Long, PostResponseDto> postResponseDtoMap = new HashMap<>();
+		if (user == null) {
+			// 응답 캐시를 채우는 조회(버전(ETag) 별로 저장됨)는 작성자 캐시를 쓰지 않고 join
+			postRepository.findAllWithAuthorByIds(postIds).forEach(postEntity -> postResponseDtoMap.put(postEntity.getPostId(),
+					PostResponseDto.ofDetail(postEntity, contents.get(postEntity.getPostId()), projection)));
+		} else {
+			// 작성자 이름은 2차 캐시에서 읽음 (캐시에 없는 작성자만 한 번에 조회)
+			List<PostEntity> postEntities = postRepository.findAllById(postIds);
+			Map<Long, String> usernames = authorCacheService.getUsernames(
+					postEntities.stream().map(postEntity -> postEntity.getUserEntity().getUserId()).distinct().toList());
+			postEntities.forEach(postEntity -> postResponseDtoMap.put(postEntity.getPostId(), PostResponseDto.ofDetail(postEntity,
+					contents.get(postEntity.getPostId()), usernames.get(postEntity.getUserEntity().getUserId()))));
+		}
+		List<Long> foundIds = new ArrayList<>(postResponseDtoMap.keySet());
 
-		// for문으로 전체댓글 돌려 선택된 게시글과 postId로 매칭시켜 해당 게시글의 댓글까지 보이게 하기
-		for (CommentResponseDto commentResponseDto : this.getCommentResponseDtoList()) {
-			if (postResponseDto.getPostId() == commentResponseDto.getPostId()) {
-				postResponseDto.addCommentResponseDtoList(commentResponseDto);
+		if (!foundIds.isEmpty() && projection.has(PostProjection.HEART_COUNT)) {
+			heartFeedRepository.countByPostIds(foundIds).forEach(heartCount ->
+					postResponseDtoMap.get(heartCount.getPostId()).setHeartCount(heartCount.getHeartCount()));
+		}
+		if (!foundIds.isEmpty() && projection.has(PostProjection.LIKED_BY_ME)) {
+			Set<Long> likedPostIds = user == null ? Set.of() : new HashSet<>(heartFeedRepository.findPostIdsLikedBy(user.getUserId(), foundIds));
+			postResponseDtoMap.forEach((postId, postResponseDto) -> postResponseDto.setLikedByMe(likedPostIds.contains(postId)));
+		}
+		if (!foundIds.isEmpty() && projection.hasViews()) {
+			postViewService.findViews(foundIds).forEach((postId, postView) -> postResponseDtoMap.get(postId).setViews(postView));
+		}
+		if (!foundIds.isEmpty() && projection.includesComments()) {
+			for (CommentResponseDto commentResponseDto : getCommentResponseDtoList(commentRepository.findAllWithAuthorsByPostIds(foundIds))) {
+				postResponseDtoMap.get(commentResponseDto.getPostId()).addCommentResponseDtoList(commentResponseDto);
 			}
 		}
 
-		return postResponseDto;
+		List<PostResponseDto> posts = new ArrayList<>();
+		List<Long> missingIds = new ArrayList<>();
+		for (Long postId : postIds) {
+			Optional<PostResponseDto> post = Optional.ofNullable(postResponseDtoMap.get(postId))
+					.or(() -> postArchiveService.findArchivedPost(postId));
+			post.ifPresentOrElse(posts::add, () -> missingIds.add(postId));
+		}
+		return new PostBatchResponseDto(posts, missingIds);
+	}
+
+	/**
+	 * Get projection of post list from fields, include parameters.
+	 * 목록에 채워지지 않는 필드(contents, likedByMe)는 빈 값으로 응답하지 않고 거부.
+	 */
+	public PostProjection getListProjection(String fields, String include) {
+		return this.getProjection(fields, include, PostProjection.LIST_FIELDS);
+	}
+
+	/**
+	 * Get projection of post detail (단건, 여러 게시글) from fields, include parameters.
+	 * 단건 응답에 채워지지 않는 필드(excerpt, commentCount)는 빈 값으로 응답하지 않고 거부.
+	 */
+	public PostProjection getDetailProjection(String fields, String include) {
+		return this.getProjection(fields, include, PostProjection.DETAIL_FIELDS);
+	}
+
+	private PostProjection getProjection(String fields, String include, Set<String> available) {
+		PostProjection projection = PostProjection.of(fields, include, available);
+		if (projection == null) {
+			throw new IllegalArgumentException(
+					messageSource.getMessage(
+							"wrong.fields",
+							null,
+							"Wrong Fields",
+							Locale.getDefault()
+					)
+			);
+		}
+		return projection;
+	}
+
+	/**
+	 * Get ETag of post for user.
+	 * 게시글이 존재하지 않으면(보관된 게시글도 아니면) null.
+	 */
+	@Transactional(readOnly = true)
+	public String getPostETag(Long id, UserEntity user) {
+		return postRepository.findDetailVersionByPostId(id, user.getUserId())
+				.map(PostDetailVersion::toETag)
+				.or(() -> postArchiveService.findArchivedETag(id))
+				.orElse(null);
+	}
+
+	/**
+	 * Get ETags of posts for user who has not liked them (응답 캐시 미리 채우기).
+	 * 보관된 게시글, 없는 게시글은 빠짐.
+	 */
+	@Transactional(readOnly = true)
+	public Map<Long, String> getPostETags(List<Long> ids) {
+		Map<Long, String> eTags = new HashMap<>();
+		postRepository.findVersionsByPostIds(ids).forEach(version -> eTags.put(version.getPostId(), version.toETag()));
+		return eTags;
+	}
+
+	/**
+	 * Get ETag of post list.
+	 * 목록에 보이는 게시글, 댓글, 좋아요, 작성자 이름이 바뀌면 change_log 에 기록되므로 마지막 seq 하나로 정해진다.
+	 * 조회수는 반영 주기마다 바뀌므로 버전에 넣지 않는다. (304 응답의 조회수는 조금 늦을 수 있음)
+	 */
+	public String getPostListETag() {
+		return "W/\"s" + Long.toString(changeLogService.getLastSeq(), 36) + "\"";
+	}
+
+	/**
+	 * Fill excerpt of posts created before excerpt column added.
+	 */
+	@Order(0) // feed rebuild 보다 먼저 실행
+	@EventListener(ApplicationReadyEvent.class)
+	public void fillMissingExcerpts() {
+		postRepository.fillMissingExcerpts();
 	}
 
 	/**
@@ -109,7 +324,7 @@ public class PostService {
 	@Transactional
 	public PostResponseDto updatePost(Long id, PostRequestDto requestDto, UserEntity user) {
 
-		PostEntity postEntity = postRepository.findById(id).orElseThrow(() ->
+		PostEntity postEntity = postRepository.findWithAuthorAndHeartsById(id).orElseThrow(() ->
 				new IdNotFoundException(
 						messageSource.getMessage(
 								"not.found.post",
@@ -135,8 +350,12 @@ public class PostService {
 		}
 
 		postEntity.update(requestDto);
+		eventPublisher.publishEvent(new PostChangedEvent(postEntity.getPostId()));
+		eventPublisher.publishEvent(ChangeEvent.upsert(ChangeType.POST, postEntity.getPostId()));
 
-		return new PostResponseDto(postEntity);
+		PostResponseDto postResponseDto = new PostResponseDto(postEntity);
+		postResponseDto.setViews(postViewService.findViews(id));
+		return postResponseDto;
 	}
 
 	/**
@@ -170,16 +389,18 @@ public class PostService {
 			);
 		}
 
+		userStatsService.postDeleting(id); // 함께 지워지는 댓글, 좋아요도 삭제 전에 집계
 		postRepository.delete(postEntity);
+		postViewService.delete(id);
+		eventPublisher.publishEvent(new PostChangedEvent(postEntity.getPostId()));
+		eventPublisher.publishEvent(ChangeEvent.delete(ChangeType.POST, postEntity.getPostId()));
+		eventPublisher.publishEvent(AuditEvent.delete("post", id, user.getUsername()));
 
 		return new ApiResult(ProjConst.DELETE_SUCCESS, HttpStatus.OK.value());
 	}
 
-	// 전체 댓글 ResponseDto List로 만들기
-	private List<CommentResponseDto> getCommentResponseDtoList() {
-		// Comment DB > entityList
-		List<CommentEntity> commentEntityList = commentRepository.findAllByOrderByModifiedAtDesc();
-
+	// 댓글 ResponseDto List로 만들기 (작성자, 좋아요가 함께 조회된 댓글)
+	public static List<CommentResponseDto> getCommentResponseDtoList(List<CommentEntity> commentEntityList) {
 		// entityList > List<CommentResponseDto>
 		List<CommentResponseDto> commentResponseDtoList = new ArrayList<>();
 		for (CommentEntity commentEntity : commentEntityList) {
@@ -0,0 +1,196 @@
+package com.sparta.hanghaebloglv3.post.view;
+
+import com.sparta.hanghaebloglv3.common.util.HyperLogLog;
+import com.sparta.hanghaebloglv3.post.entity.PostViewEntity;
+import com.sparta.hanghaebloglv3.post.repository.PostViewRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * PostViewService.
+ * 게시글 조회수를 메모리에 모아 두었다가 post.view.flush-ms 마다 tb_post_view 에 한 번에 반영한다.
+ * 조회 요청은 lock 없이 게시글별 LongAdder(스레드별 cell 로 나뉜 counter)와 HyperLogLog 에만 기록하므로 DB 쓰기와 경합하지 않는다.
+ * 응답의 조회수는 마지막 반영 시점의 값. (서버가 비정상 종료되면 반영 전의 조회수는 잃어버림)
+ */
+@Slf4j(topic = "조회수")
+@Service
+public class PostViewService {
+
+	private static final int MAX_ATTEMPTS = 3;
+
+	private final PostViewRepository postViewRepository;
+	private final TransactionTemplate transactionTemplate;
+	private final int batchSize;
+
+	private final Map<Long, PendingViews> pendingViews = new ConcurrentHashMap<>();
+
+	public PostViewService(PostViewRepository postViewRepository,
+	                       PlatformTransactionManager transactionManager,
+	                       @Value("${post.view.batch-size}") int batchSize) {
+		this.postViewRepository = postViewRepository;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.batchSize = batchSize;
+	}
+
+	/**
+	 * Record view of post.
+	 */
+	public void record(Long postId, Long userId) {
+		PendingViews pending = pendingViews.computeIfAbsent(postId, id -> new PendingViews());
+		pending.count.increment();
+		pending.viewers.add(userId);
+		this.moveIfRetired(postId, pending);
+	}
+
+	/**
+	 * Find persisted views of post.
+	 */
+	@Transactional(readOnly = true)
+	public PostViewEntity findViews(Long postId) {
+		return postViewRepository.findById(postId).orElseGet(() -> new PostViewEntity(postId));
+	}
+
+	/**
+	 * Find persisted views of posts.
+	 */
+	@Transactional(readOnly = true)
+	public Map<Long, PostViewEntity> findViews(List<Long> postIds) {
+		return postViewRepository.findAllById(postIds).stream()
+				.collect(Collectors.toMap(PostViewEntity::getPostId, Function.identity()));
+	}
+
+	/**
+	 * Delete views of deleted post (반영 전의 조회수도 버림).
+	 */
+	@Transactional
+	public void delete(Long postId) {
+		pendingViews.remove(postId);
+		postViewRepository.deleteByPostId(postId);
+	}
+
+	/**
+	 * Write pending views into tb_post_view.
+	 * 게시글 batch-size 개씩 하나의 트랜잭션에서 잠금 조회 후 갱신. 실패한 chunk 는 다음 반영 때 다시 시도한다.
+	 */
+	@Scheduled(fixedDelayString = "${post.view.flush-ms}")
+	public void flush() {
+		Map<Long, PendingViews> drained = this.drain();
+		if (drained.isEmpty()) {
+			return;
+		}
+
+		List<Long> postIds = new ArrayList<>(drained.keySet());
+		for (int from = 0; from < postIds.size(); from += batchSize) {
+			List<Long> chunk = postIds.subList(from, Math.min(from + batchSize, postIds.size()));
+			try {
+				this.writeChunk(chunk, drained);
+			} catch (RuntimeException e) {
+				log.error("view flush failed. posts : {}", chunk.size(), e);
+				chunk.forEach(postId -> this.restore(postId, drained.get(postId)));
+			}
+		}
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		this.flush();
+	}
+
+	// 게시글별로 모인 값을 꺼냄. 이번 주기에 조회가 없던 게시글은 map 에서 제거 (HyperLogLog 4KB 를 계속 잡고 있지 않도록)
+	private Map<Long, PendingViews> drain() {
+		Map<Long, PendingViews> drained = new HashMap<>();
+		pendingViews.forEach((postId, pending) -> {
+			PendingViews views = new PendingViews();
+			if (pending.drainTo(views)) {
+				drained.put(postId, views);
+				return;
+			}
+			if (pendingViews.remove(postId, pending)) {
+				// 제거 직전에 기록된 값은 여기서 가져가거나, 기록한 스레드가 moveIfRetired 로 새 항목에 옮김
+				pending.retired = true;
+				if (pending.drainTo(views)) {
+					drained.put(postId, views);
+				}
+			}
+		});
+		return drained;
+	}
+
+	// 처음 조회되는 게시글의 row 를 동시에 insert 하면 한 쪽이 실패(중복 키, deadlock)하므로 다시 시도
+	private void writeChunk(List<Long> postIds, Map<Long, PendingViews> drained) {
+		for (int attempt = 1; ; attempt++) {
+			try {
+				transactionTemplate.executeWithoutResult(status -> this.write(postIds, drained));
+				return;
+			} catch (DataIntegrityViolationException | ConcurrencyFailureException e) {
+				if (attempt >= MAX_ATTEMPTS) {
+					throw e;
+				}
+			}
+		}
+	}
+
+	private void write(List<Long> postIds, Map<Long, PendingViews> drained) {
+		Map<Long, PostViewEntity> views = postViewRepository.findAllForUpdate(postIds).stream()
+				.collect(Collectors.toMap(PostViewEntity::getPostId, Function.identity()));
+		for (Long postId : postIds) {
+			PostViewEntity postView = views.get(postId);
+			if (postView == null) {
+				postView = new PostViewEntity(postId);
+			}
+			PendingViews pending = drained.get(postId);
+			postView.add(pending.count.sum(), pending.viewers);
+			postViewRepository.save(postView);
+		}
+	}
+
+	// 반영하지 못한 값을 다시 대기 항목에 더함
+	private void restore(Long postId, PendingViews views) {
+		PendingViews pending = pendingViews.computeIfAbsent(postId, id -> new PendingViews());
+		pending.count.add(views.count.sum());
+		pending.viewers.merge(views.viewers);
+		this.moveIfRetired(postId, pending);
+	}
+
+	// 기록 도중 flush 가 항목을 제거했으면, flush 가 가져가지 못한 값을 현재 항목으로 옮김 (값은 한 곳에서만 꺼내지므로 중복되지 않음)
+	private void moveIfRetired(Long postId, PendingViews pending) {
+		while (pending.retired) {
+			PendingViews live = pendingViews.computeIfAbsent(postId, id -> new PendingViews());
+			pending.drainTo(live);
+			pending = live;
+		}
+	}
+
+	/**
+	 * 반영 대기 중인 게시글 하나의 조회수, 조회자.
+	 */
+	private static class PendingViews {
+		private final LongAdder count = new LongAdder();
+		private final HyperLogLog viewers = new HyperLogLog();
+		private volatile boolean retired;
+
+		// register, counter cell 마다 꺼내면서 0 으로 바꾸므로 동시에 기록된 값은 이번 또는 다음 drain 에 남음
+		private boolean drainTo(PendingViews target) {
+			long count = this.count.sumThenReset();
+			target.count.add(count);
+			return this.viewers.drainTo(target.viewers) || count > 0;
+		}
+	}
+}
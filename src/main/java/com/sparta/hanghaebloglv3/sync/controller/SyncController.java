@@ -0,0 +1,27 @@
+package com.sparta.hanghaebloglv3.sync.controller;
+
+import com.sparta.hanghaebloglv3.sync.service.SyncService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.converter.json.MappingJacksonValue;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * SyncController.
+ */
+@RestController
+@RequiredArgsConstructor
+public class SyncController {
+
+	private final SyncService syncService;
+
+	/**
+	 * Get changes after watermark (since 없으면 reset + 현재 watermark).
+	 */
+	@GetMapping("/api/sync")
+	public MappingJacksonValue getChanges(@RequestParam(required = false) Long since,
+	                                      @RequestParam(defaultValue = "" + SyncService.DEFAULT_PAGE_SIZE) int size) {
+		return SyncService.POST_FIELDS.toJacksonValue(syncService.getChanges(since, size));
+	}
+}
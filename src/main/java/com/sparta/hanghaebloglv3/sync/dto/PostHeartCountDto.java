@@ -0,0 +1,15 @@
+package com.sparta.hanghaebloglv3.sync.dto;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * PostHeartCountDto.
+ * 좋아요 수만 바뀐 게시글.
+ */
+@Getter
+@RequiredArgsConstructor
+public class PostHeartCountDto {
+	private final long postId;
+	private final long heartCount;
+}
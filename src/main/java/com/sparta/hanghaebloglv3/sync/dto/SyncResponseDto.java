@@ -0,0 +1,53 @@
+package com.sparta.hanghaebloglv3.sync.dto;
+
+import com.sparta.hanghaebloglv3.comment.dto.CommentResponseDto;
+import com.sparta.hanghaebloglv3.post.dto.PostResponseDto;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * SyncResponseDto.
+ * since 이후의 변경. 다음 요청은 watermark 를 since 로 보내고, hasMore 이면 바로 이어서 요청.
+ * reset 이면 변경 목록 없이 watermark 만 있으므로 전체 목록(GET /api/feed)을 다시 받은 뒤 이 watermark 부터 동기화.
+ * 삭제된 게시글의 댓글은 따로 알려주지 않음 (게시글과 함께 삭제).
+ */
+@Getter
+public class SyncResponseDto {
+
+	private final long watermark;
+	private final boolean hasMore;
+	private final boolean reset;
+	private final List<PostResponseDto> posts; // 작성, 수정된 게시글 (본문 대신 요약)
+	private final List<PostHeartCountDto> heartCounts;
+	private final List<CommentResponseDto> comments; // 작성, 수정, 좋아요가 바뀐 댓글
+	private final List<Long> deletedPostIds; // 삭제, 보관된 게시글
+	private final List<Long> deletedCommentIds;
+
+	public SyncResponseDto(long watermark, boolean hasMore, List<PostResponseDto> posts, List<PostHeartCountDto> heartCounts,
+	                       List<CommentResponseDto> comments, List<Long> deletedPostIds, List<Long> deletedCommentIds) {
+		this.watermark = watermark;
+		this.hasMore = hasMore;
+		this.reset = false;
+		this.posts = posts;
+		this.heartCounts = heartCounts;
+		this.comments = comments;
+		this.deletedPostIds = deletedPostIds;
+		this.deletedCommentIds = deletedCommentIds;
+	}
+
+	private SyncResponseDto(long watermark) {
+		this.watermark = watermark;
+		this.hasMore = false;
+		this.reset = true;
+		this.posts = List.of();
+		this.heartCounts = List.of();
+		this.comments = List.of();
+		this.deletedPostIds = List.of();
+		this.deletedCommentIds = List.of();
+	}
+
+	public static SyncResponseDto reset(long watermark) {
+		return new SyncResponseDto(watermark);
+	}
+}
@@ -0,0 +1,46 @@
+package com.sparta.hanghaebloglv3.sync.entity;
+
+import com.sparta.hanghaebloglv3.common.event.ChangeType;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * ChangeLogEntity.
+ * 게시글, 댓글, 좋아요 수 변경 기록 (추가만 함). seq 는 commit 순서대로 증가하므로 클라이언트의 watermark 로 쓴다.
+ * 내용은 저장하지 않고, 동기화 요청 시 바뀐 것만 원본 테이블에서 조회한다.
+ */
+@Getter
+@Entity
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "change_log", indexes = @Index(name = "idx_change_log_created_at", columnList = "created_at"))
+public class ChangeLogEntity {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@Column(name = "seq")
+	private Long seq;
+
+	@Enumerated(EnumType.STRING)
+	@Column(name = "type", nullable = false, length = 20)
+	private ChangeType type;
+
+	@Column(name = "entity_id", nullable = false)
+	private Long entityId;
+
+	@Column(name = "deleted", nullable = false)
+	private boolean deleted;
+
+	@Column(name = "created_at", nullable = false)
+	private LocalDateTime createdAt;
+
+	public ChangeLogEntity(ChangeType type, Long entityId, boolean deleted) {
+		this.type = type;
+		this.entityId = entityId;
+		this.deleted = deleted;
+		this.createdAt = LocalDateTime.now();
+	}
+}
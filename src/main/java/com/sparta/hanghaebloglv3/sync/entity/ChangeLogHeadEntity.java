@@ -0,0 +1,29 @@
+package com.sparta.hanghaebloglv3.sync.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+
+/**
+ * ChangeLogHeadEntity.
+ * change_log 의 상태 (row 1개). change_log 에 기록하는 트랜잭션은 이 row 를 잠근 뒤에 기록하므로
+ * seq 가 commit 순서대로 정해진다. (늦게 commit 되는 트랜잭션이 작은 seq 를 가져서 클라이언트가 놓치는 일이 없음)
+ */
+@Getter
+@Entity
+@Table(name = "change_log_head")
+public class ChangeLogHeadEntity {
+
+	public static final Long ID = 1L;
+
+	@Id
+	@Column(name = "id")
+	private Long id = ID;
+
+	// 이 seq 까지 정리(삭제)됨. 이보다 오래된 watermark 는 전체를 다시 받아야 함
+	@Column(name = "pruned_seq", nullable = false)
+	private long prunedSeq;
+
+	public void prune(long seq) {
+		this.prunedSeq = Math.max(prunedSeq, seq);
+	}
+}
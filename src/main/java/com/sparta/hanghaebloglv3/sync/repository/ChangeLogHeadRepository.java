@@ -0,0 +1,25 @@
+package com.sparta.hanghaebloglv3.sync.repository;
+
+import com.sparta.hanghaebloglv3.sync.entity.ChangeLogHeadEntity;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+/**
+ * ChangeLogHeadRepository.
+ */
+@Repository
+public interface ChangeLogHeadRepository extends JpaRepository<ChangeLogHeadEntity, Long> {
+
+	/**
+	 * Lock head row until commit.
+	 */
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	@Query("select h from ChangeLogHeadEntity h where h.id = :id")
+	Optional<ChangeLogHeadEntity> findForUpdate(@Param("id") Long id);
+}
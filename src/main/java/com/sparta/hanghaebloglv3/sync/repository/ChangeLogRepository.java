@@ -0,0 +1,47 @@
+package com.sparta.hanghaebloglv3.sync.repository;
+
+import com.sparta.hanghaebloglv3.sync.entity.ChangeLogEntity;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * ChangeLogRepository.
+ */
+@Repository
+public interface ChangeLogRepository extends JpaRepository<ChangeLogEntity, Long> {
+
+	/**
+	 * Find changes after seq (seq 순).
+	 */
+	List<ChangeLogEntity> findBySeqGreaterThanOrderBySeqAsc(long seq, Pageable pageable);
+
+	@Query("select coalesce(max(c.seq), 0) from ChangeLogEntity c")
+	long findMaxSeq();
+
+	/**
+	 * Find last seq including pruned changes (정리된 뒤에도 줄어들지 않음).
+	 */
+	@Query("select greatest(coalesce(max(c.seq), 0), "
+			+ "coalesce((select h.prunedSeq from ChangeLogHeadEntity h where h.id = 1), 0)) from ChangeLogEntity c")
+	long findLastSeq();
+
+	/**
+	 * Find last seq recorded before cutoff (정리 대상).
+	 */
+	@Query("select coalesce(max(c.seq), 0) from ChangeLogEntity c where c.createdAt < :cutoff")
+	long findMaxSeqBefore(@Param("cutoff") LocalDateTime cutoff);
+
+	/**
+	 * Delete changes in seq range (from, to].
+	 */
+	@Modifying
+	@Query("delete from ChangeLogEntity c where c.seq > :from and c.seq <= :to")
+	int deleteRange(@Param("from") long from, @Param("to") long to);
+}
@@ -0,0 +1,119 @@
+package com.sparta.hanghaebloglv3.sync.service;
+
+import com.sparta.hanghaebloglv3.common.event.ChangeEvent;
+import com.sparta.hanghaebloglv3.sync.entity.ChangeLogEntity;
+import com.sparta.hanghaebloglv3.sync.entity.ChangeLogHeadEntity;
+import com.sparta.hanghaebloglv3.sync.repository.ChangeLogHeadRepository;
+import com.sparta.hanghaebloglv3.sync.repository.ChangeLogRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+
+/**
+ * ChangeLogService.
+ * 변경 이벤트(ChangeEvent)를 발행한 트랜잭션 안에서 change_log 에 기록하고, 보관 기간이 지난 기록을 정리한다.
+ * 기록은 commit 직전에 change_log_head row 를 잠근 뒤 하므로 쓰기 트랜잭션의 commit 이 이 row 에서 잠깐 차례로 처리되지만,
+ * 그 대신 seq 순서가 commit 순서와 같아서 동기화 요청이 아직 commit 되지 않은 변경을 건너뛰지 않는다.
+ */
+@Slf4j(topic = "변경 기록")
+@Service
+public class ChangeLogService {
+
+	private static final int PRUNE_CHUNK_SIZE = 10000;
+
+	private final ChangeLogRepository changeLogRepository;
+	private final ChangeLogHeadRepository changeLogHeadRepository;
+	private final TransactionTemplate transactionTemplate;
+	private final long retentionDays;
+
+	public ChangeLogService(ChangeLogRepository changeLogRepository,
+	                        ChangeLogHeadRepository changeLogHeadRepository,
+	                        PlatformTransactionManager transactionManager,
+	                        @Value("${sync.change-log.retention-days}") long retentionDays) {
+		this.changeLogRepository = changeLogRepository;
+		this.changeLogHeadRepository = changeLogHeadRepository;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.retentionDays = retentionDays;
+	}
+
+	/**
+	 * Record change before commit (같은 트랜잭션, rollback 되면 기록도 없음).
+	 */
+	@TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+	public void onChange(ChangeEvent event) {
+		this.lockHead();
+		changeLogRepository.save(new ChangeLogEntity(event.getType(), event.getId(), event.isDeleted()));
+	}
+
+	/**
+	 * Get seq of last committed change.
+	 * 게시글 목록에 보이는 값(게시글, 댓글, 좋아요 수)이 바뀌면 항상 증가하므로 목록의 버전으로 쓴다. (PK 끝 값이라 조회 비용이 일정)
+	 */
+	@Transactional(readOnly = true)
+	public long getLastSeq() {
+		return changeLogRepository.findLastSeq();
+	}
+
+	/**
+	 * Create head row on startup (first deploy).
+	 */
+	@EventListener(ApplicationReadyEvent.class)
+	public void createHead() {
+		transactionTemplate.executeWithoutResult(status -> {
+			if (!changeLogHeadRepository.existsById(ChangeLogHeadEntity.ID)) {
+				changeLogHeadRepository.save(new ChangeLogHeadEntity());
+			}
+		});
+	}
+
+	/**
+	 * Scheduled prune (sync.change-log.prune-cron).
+	 */
+	@Scheduled(cron = "${sync.change-log.prune-cron}")
+	public void scheduledPrune() {
+		this.prune(LocalDateTime.now().minusDays(retentionDays));
+	}
+
+	/**
+	 * Delete changes recorded before cutoff.
+	 * 정리할 seq 를 head 에 먼저 기록해서 그보다 오래된 watermark 의 동기화 요청은 삭제 도중에도 전체를 다시 받게 하고,
+	 * 삭제는 seq 구간마다 짧은 트랜잭션으로 나눈다.
+	 */
+	public int prune(LocalDateTime cutoff) {
+		long[] range = transactionTemplate.execute(status -> {
+			ChangeLogHeadEntity head = this.lockHead();
+			long from = head.getPrunedSeq();
+			head.prune(changeLogRepository.findMaxSeqBefore(cutoff));
+			return new long[]{from, head.getPrunedSeq()};
+		});
+		if (range == null) {
+			return 0;
+		}
+
+		int deleted = 0;
+		for (long from = range[0]; from < range[1]; from += PRUNE_CHUNK_SIZE) {
+			long to = Math.min(from + PRUNE_CHUNK_SIZE, range[1]);
+			long chunkFrom = from;
+			Integer count = transactionTemplate.execute(status -> changeLogRepository.deleteRange(chunkFrom, to));
+			deleted += count == null ? 0 : count;
+		}
+		log.info("change log pruned. deleted : {}, pruned seq : {}", deleted, range[1]);
+		return deleted;
+	}
+
+	// head row 가 없으면(시작 전에 들어온 변경) 만들어서 잠금
+	private ChangeLogHeadEntity lockHead() {
+		return changeLogHeadRepository.findForUpdate(ChangeLogHeadEntity.ID)
+				.orElseGet(() -> changeLogHeadRepository.saveAndFlush(new ChangeLogHeadEntity()));
+	}
+}
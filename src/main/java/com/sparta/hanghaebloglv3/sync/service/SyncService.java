@@ -0,0 +1,122 @@
+package com.sparta.hanghaebloglv3.sync.service;
+
+import com.sparta.hanghaebloglv3.comment.dto.CommentResponseDto;
+import com.sparta.hanghaebloglv3.comment.repository.CommentRepository;
+import com.sparta.hanghaebloglv3.common.event.ChangeType;
+import com.sparta.hanghaebloglv3.heart.heartFeed.repository.HeartFeedRepository;
+import com.sparta.hanghaebloglv3.post.dto.PostProjection;
+import com.sparta.hanghaebloglv3.post.dto.PostResponseDto;
+import com.sparta.hanghaebloglv3.post.repository.PostRepository;
+import com.sparta.hanghaebloglv3.post.service.PostService;
+import com.sparta.hanghaebloglv3.sync.dto.PostHeartCountDto;
+import com.sparta.hanghaebloglv3.sync.dto.SyncResponseDto;
+import com.sparta.hanghaebloglv3.sync.entity.ChangeLogEntity;
+import com.sparta.hanghaebloglv3.sync.entity.ChangeLogHeadEntity;
+import com.sparta.hanghaebloglv3.sync.repository.ChangeLogHeadRepository;
+import com.sparta.hanghaebloglv3.sync.repository.ChangeLogRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * SyncService.
+ * 클라이언트의 watermark 이후 change_log 만 읽고, 바뀐 게시글, 댓글, 좋아요 수만 원본 테이블에서 조회한다.
+ * 한 번의 동기화 비용은 전체 데이터 양이 아니라 그동안의 변경 수에 비례한다.
+ */
+@Service
+@RequiredArgsConstructor
+public class SyncService {
+
+	public static final int DEFAULT_PAGE_SIZE = 500;
+	public static final int MAX_PAGE_SIZE = 1000;
+
+	// 동기화 응답의 게시글 필드 (목록과 같이 본문 대신 요약, 댓글, 조회수 제외)
+	public static final PostProjection POST_FIELDS = PostProjection.of("postId,title,excerpt,username,createdAt,modifiedAt,heartCount", null);
+
+	private final ChangeLogRepository changeLogRepository;
+	private final ChangeLogHeadRepository changeLogHeadRepository;
+	private final PostRepository postRepository;
+	private final CommentRepository commentRepository;
+	private final HeartFeedRepository heartFeedRepository;
+
+	/**
+	 * Get changes after since.
+	 * since 가 없거나, 정리된 기록보다 오래되었거나, 기록보다 앞서 있으면(복원된 DB) reset.
+	 */
+	@Transactional(readOnly = true)
+	public SyncResponseDto getChanges(Long since, int size) {
+		// 모두 정리되어 기록이 없어도 watermark 는 정리된 seq 부터
+		long prunedSeq = changeLogHeadRepository.findById(ChangeLogHeadEntity.ID).map(ChangeLogHeadEntity::getPrunedSeq).orElse(0L);
+		long headSeq = Math.max(changeLogRepository.findMaxSeq(), prunedSeq);
+		if (since == null || since < prunedSeq || since > headSeq) {
+			return SyncResponseDto.reset(headSeq);
+		}
+
+		// 한 건 더 읽어서 다음 페이지가 있는지 확인
+		int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+		List<ChangeLogEntity> changes = changeLogRepository.findBySeqGreaterThanOrderBySeqAsc(since, PageRequest.of(0, pageSize + 1));
+		boolean hasMore = changes.size() > pageSize;
+		if (hasMore) {
+			changes = changes.subList(0, pageSize);
+		}
+		long watermark = changes.isEmpty() ? since : changes.get(changes.size() - 1).getSeq();
+
+		// 같은 대상의 변경은 마지막 것만
+		Map<ChangeType, Map<Long, Boolean>> latest = new HashMap<>();
+		for (ChangeLogEntity change : changes) {
+			latest.computeIfAbsent(change.getType(), type -> new LinkedHashMap<>()).put(change.getEntityId(), change.isDeleted());
+		}
+		Map<Long, Boolean> postChanges = latest.getOrDefault(ChangeType.POST, Map.of());
+		Map<Long, Boolean> commentChanges = latest.getOrDefault(ChangeType.COMMENT, Map.of());
+
+		// 지금은 없는 게시글, 댓글은 건너뜀 (삭제 기록이 뒤에 있음)
+		List<Long> postIds = this.upserted(postChanges);
+		List<PostResponseDto> posts = postIds.isEmpty() ? List.of() : postRepository.findAllWithAuthorByIds(postIds).stream()
+				.map(postEntity -> PostResponseDto.ofSummary(postEntity, POST_FIELDS))
+				.toList();
+		if (!posts.isEmpty()) {
+			Map<Long, PostResponseDto> postMap = new HashMap<>();
+			posts.forEach(post -> postMap.put(post.getPostId(), post));
+			heartFeedRepository.countByPostIds(postMap.keySet()).forEach(count -> postMap.get(count.getPostId()).setHeartCount(count.getHeartCount()));
+		}
+		List<Long> commentIds = this.upserted(commentChanges);
+		List<CommentResponseDto> comments = commentIds.isEmpty() ? List.of()
+				: PostService.getCommentResponseDtoList(commentRepository.findAllWithAuthorsByIds(commentIds));
+
+		// 게시글 전체를 보내지 않는 좋아요 수 변경
+		Set<Long> heartPostIds = new LinkedHashSet<>(latest.getOrDefault(ChangeType.POST_HEART, Map.of()).keySet());
+		heartPostIds.removeAll(postChanges.keySet());
+		List<PostHeartCountDto> heartCounts = this.countHearts(heartPostIds);
+
+		return new SyncResponseDto(watermark, hasMore, posts, heartCounts, comments,
+				this.deleted(postChanges), this.deleted(commentChanges));
+	}
+
+	private List<PostHeartCountDto> countHearts(Set<Long> postIds) {
+		if (postIds.isEmpty()) {
+			return List.of();
+		}
+		Map<Long, Long> counts = new HashMap<>();
+		heartFeedRepository.countByPostIds(postIds).forEach(count -> counts.put(count.getPostId(), count.getHeartCount()));
+		List<PostHeartCountDto> heartCounts = new ArrayList<>();
+		postIds.forEach(postId -> heartCounts.add(new PostHeartCountDto(postId, counts.getOrDefault(postId, 0L))));
+		return heartCounts;
+	}
+
+	private List<Long> upserted(Map<Long, Boolean> changes) {
+		return changes.entrySet().stream().filter(change -> !change.getValue()).map(Map.Entry::getKey).toList();
+	}
+
+	private List<Long> deleted(Map<Long, Boolean> changes) {
+		return changes.entrySet().stream().filter(Map.Entry::getValue).map(Map.Entry::getKey).toList();
+	}
+}
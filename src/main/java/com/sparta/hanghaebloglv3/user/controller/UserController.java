@@ -1,11 +1,13 @@
 package com.sparta.hanghaebloglv3.user.controller;
 
 import com.sparta.hanghaebloglv3.common.dto.ApiResult;
+import com.sparta.hanghaebloglv3.common.jwt.JwtUtil;
 import com.sparta.hanghaebloglv3.common.security.UserDetailsImpl;
 import com.sparta.hanghaebloglv3.user.dto.PasswordRequestDto;
 import com.sparta.hanghaebloglv3.user.dto.ProfileRequestDto;
 import com.sparta.hanghaebloglv3.user.dto.ProfileResponseDto;
 import com.sparta.hanghaebloglv3.user.dto.SignupRequestDto;
+import com.sparta.hanghaebloglv3.user.dto.UsernameAvailableResponseDto;
 import com.sparta.hanghaebloglv3.user.service.UserService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -49,6 +51,25 @@ UserController {
 		return userService.signup(signupRequestDto);
 	}
 
+	// username 사용 가능 여부 (회원가입 폼 입력 중 확인)
+	@GetMapping("/user/available")
+	public UsernameAvailableResponseDto checkUsernameAvailable(@RequestParam String username) {
+		return userService.checkUsernameAvailable(username);
+	}
+
+	// 토큰 재발급
+	@PostMapping("/user/refresh")
+	public ResponseEntity<ApiResult> refresh(@RequestHeader(JwtUtil.REFRESH_TOKEN_HEADER) String refreshToken) {
+		return userService.refresh(refreshToken);
+	}
+
+	// 로그아웃
+	@PostMapping("/user/logout")
+	public ApiResult logout(@RequestHeader(value = JwtUtil.AUTHORIZATION_HEADER, required = false) String accessToken,
+	                        @RequestHeader(value = JwtUtil.REFRESH_TOKEN_HEADER, required = false) String refreshToken) {
+		return userService.logout(accessToken, refreshToken);
+	}
+
 	// 프로필 조회
 	@GetMapping("/profile")
 	public ProfileResponseDto getProfile(@AuthenticationPrincipal UserDetailsImpl userDetails) {
@@ -1,14 +1,23 @@
 package com.sparta.hanghaebloglv3.user.dto;
 
+import com.sparta.hanghaebloglv3.user.entity.UserStatsEntity;
 import lombok.Getter;
 
 @Getter
 public class ProfileResponseDto {
 	private String username;
 	private String introduction;
+	private long postCount;
+	private long commentCount;
+	private long heartsGiven;
+	private long heartsReceived;
 
-    public ProfileResponseDto(String username, String introduction) {
+    public ProfileResponseDto(String username, String introduction, UserStatsEntity stats) {
         this.username = username;
         this.introduction = introduction;
+        this.postCount = stats.getPostCount();
+        this.commentCount = stats.getCommentCount();
+        this.heartsGiven = stats.getHeartsGiven();
+        this.heartsReceived = stats.getHeartsReceived();
     }
 }
\ No newline at end of file
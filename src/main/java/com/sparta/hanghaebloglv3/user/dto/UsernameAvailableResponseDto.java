@@ -0,0 +1,14 @@
+package com.sparta.hanghaebloglv3.user.dto;
+
+import lombok.Getter;
+
+@Getter
+public class UsernameAvailableResponseDto {
+	private String username;
+	private boolean available;
+
+	public UsernameAvailableResponseDto(String username, boolean available) {
+		this.username = username;
+		this.available = available;
+	}
+}
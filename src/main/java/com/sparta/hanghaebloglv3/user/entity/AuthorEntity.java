@@ -0,0 +1,35 @@
+package com.sparta.hanghaebloglv3.user.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.Immutable;
+
+import java.time.LocalDateTime;
+
+/**
+ * AuthorEntity.
+ * 응답에 보이는 작성자 정보만 읽는 tb_user 의 읽기 전용 매핑. 비밀번호, 권한이 없으므로 2차 캐시에 둔다. (UserEntity 는 캐시하지 않음)
+ * username 변경은 UserEntity 로 하고, 캐시는 AuthorCacheService 가 비운다.
+ */
+@Getter
+@Entity
+@Immutable
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_ONLY) // 서버마다 따로 있는 캐시 (ehcache.xml 참고)
+@Table(name = "tb_user")
+public class AuthorEntity {
+
+	@Id
+	private Long userId;
+
+	@Column(name = "username", nullable = false)
+	private String username;
+
+	@Column(name = "username_modified_at")
+	private LocalDateTime usernameModifiedAt;
+}
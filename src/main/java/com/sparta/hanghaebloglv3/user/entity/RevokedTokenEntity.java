@@ -0,0 +1,66 @@
+package com.sparta.hanghaebloglv3.user.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * RevokedTokenEntity.
+ * 폐기된 토큰. jti 가 있으면 토큰 하나(로그아웃, refresh 토큰 교체), family 가 있으면 같은 로그인에서 이어진 토큰 전체(refresh 토큰 재사용),
+ * 둘 다 없으면 username 의 revokedAt 이전 발급 토큰 전체(비밀번호 변경).
+ */
+@Getter
+@Entity
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+// jti 는 unique -> 같은 refresh 토큰을 두 번 폐기(교체)하려 하면 insert 가 실패하므로 재사용을 감지할 수 있음 (username 행은 jti 가 null)
+@Table(name = "tb_revoked_token", uniqueConstraints = @UniqueConstraint(name = "uk_revoked_token_jti", columnNames = "jti"), indexes = {
+		@Index(name = "idx_revoked_token_family", columnList = "family"),
+		@Index(name = "idx_revoked_token_revoked_at", columnList = "revoked_at"),
+		@Index(name = "idx_revoked_token_expires_at", columnList = "expires_at")
+})
+public class RevokedTokenEntity {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@Column(name = "revoked_token_id")
+	private Long revokedTokenId;
+
+	@Column(name = "jti", length = 36)
+	private String jti;
+
+	@Column(name = "family", length = 36)
+	private String family;
+
+	@Column(name = "username")
+	private String username;
+
+	@Column(name = "revoked_at", nullable = false)
+	private LocalDateTime revokedAt;
+
+	// 이 시각 이후에는 폐기 대상 토큰이 어차피 만료되므로 삭제 가능
+	@Column(name = "expires_at", nullable = false)
+	private LocalDateTime expiresAt;
+
+	private RevokedTokenEntity(String jti, String family, String username, LocalDateTime revokedAt, LocalDateTime expiresAt) {
+		this.jti = jti;
+		this.family = family;
+		this.username = username;
+		this.revokedAt = revokedAt;
+		this.expiresAt = expiresAt;
+	}
+
+	public static RevokedTokenEntity ofToken(String jti, LocalDateTime revokedAt, LocalDateTime expiresAt) {
+		return new RevokedTokenEntity(jti, null, null, revokedAt, expiresAt);
+	}
+
+	public static RevokedTokenEntity ofFamily(String family, LocalDateTime revokedAt, LocalDateTime expiresAt) {
+		return new RevokedTokenEntity(null, family, null, revokedAt, expiresAt);
+	}
+
+	public static RevokedTokenEntity ofUser(String username, LocalDateTime revokedAt, LocalDateTime expiresAt) {
+		return new RevokedTokenEntity(null, null, username, revokedAt, expiresAt);
+	}
+}
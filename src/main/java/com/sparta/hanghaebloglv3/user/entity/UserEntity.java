@@ -1,24 +1,31 @@
 package com.sparta.hanghaebloglv3.user.entity;
 
-import com.sparta.hanghaebloglv3.user.dto.ProfileRequestDto;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.time.LocalDateTime;
+
 /**
  * UserEntity.
+ * 비밀번호, 권한이 들어있고 서버 간 무효화 수단이 없으므로 2차 캐시에 두지 않는다. (변경 후에도 다른 서버에서 이전 비밀번호, 권한이 쓰일 수 있음)
+ * 작성자 이름은 같은 테이블의 읽기 전용 매핑인 AuthorEntity 로 캐시한다.
  */
 @Getter
 @NoArgsConstructor
 @Entity
-@Table(name = "tb_user")
+@Table(name = "tb_user",
+    uniqueConstraints = @UniqueConstraint(name = UserEntity.USERNAME_UNIQUE_CONSTRAINT, columnNames = "username"),
+    indexes = @Index(name = "idx_user_username_modified_at", columnList = "username_modified_at"))
 public class UserEntity {
 
+  public static final String USERNAME_UNIQUE_CONSTRAINT = "uk_user_username";
+
   @Id
   @GeneratedValue(strategy = GenerationType.IDENTITY)
   private Long userId;
 
-  @Column(name = "username")
+  @Column(name = "username", nullable = false)
   private String username;
 
   @Column(name = "password", nullable = false)
@@ -31,6 +38,10 @@ public class UserEntity {
   @Enumerated(value = EnumType.STRING)
   private UserRoleEnum role;
 
+  // username 이 마지막으로 바뀐 시각. 작성자, 댓글 작성자 이름이 들어간 게시글 응답의 버전(ETag)에 포함
+  @Column(name = "username_modified_at")
+  private LocalDateTime usernameModifiedAt;
+
   /**
    * Initializer.
    */
@@ -40,10 +51,16 @@ public class UserEntity {
     this.role = role;
   }
 
-  public void update(ProfileRequestDto requestDto) {
-    this.username = requestDto.getUsername();
-    this.password = requestDto.getPassword();
-    this.introduction = requestDto.getIntroduction();
+  /**
+   * Update profile. password 는 암호화된 값.
+   */
+  public void update(String username, String password, String introduction) {
+    if (!username.equals(this.username)) {
+      this.usernameModifiedAt = LocalDateTime.now();
+    }
+    this.username = username;
+    this.password = password;
+    this.introduction = introduction;
   }
 }
 
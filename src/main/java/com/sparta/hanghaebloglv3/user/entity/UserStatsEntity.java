@@ -0,0 +1,51 @@
+package com.sparta.hanghaebloglv3.user.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * UserStatsEntity.
+ * 사용자 활동 통계 (프로필). 작성, 삭제, 좋아요 트랜잭션에서 증감하고(UserStatsService), 주기적으로 원본 테이블과 맞춘다.
+ * 보관(archive)된 게시글, 댓글, 좋아요도 포함.
+ */
+@Getter
+@Entity
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "user_stats")
+public class UserStatsEntity {
+
+	@Id
+	@Column(name = "user_id")
+	private Long userId;
+
+	@Column(name = "post_count", nullable = false)
+	private long postCount;
+
+	@Column(name = "comment_count", nullable = false)
+	private long commentCount;
+
+	@Column(name = "hearts_given", nullable = false)
+	private long heartsGiven;
+
+	@Column(name = "hearts_received", nullable = false)
+	private long heartsReceived;
+
+	public UserStatsEntity(Long userId) {
+		this.userId = userId;
+	}
+
+	/**
+	 * Set counted values. 저장된 값과 달랐으면 true.
+	 */
+	public boolean reconcile(long postCount, long commentCount, long heartsGiven, long heartsReceived) {
+		boolean drifted = this.postCount != postCount || this.commentCount != commentCount
+				|| this.heartsGiven != heartsGiven || this.heartsReceived != heartsReceived;
+		this.postCount = postCount;
+		this.commentCount = commentCount;
+		this.heartsGiven = heartsGiven;
+		this.heartsReceived = heartsReceived;
+		return drifted;
+	}
+}
@@ -0,0 +1,32 @@
+package com.sparta.hanghaebloglv3.user.repository;
+
+import com.sparta.hanghaebloglv3.user.entity.RevokedTokenEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * RevokedTokenRepository.
+ */
+@Repository
+public interface RevokedTokenRepository extends JpaRepository<RevokedTokenEntity, Long> {
+
+	boolean existsByJti(String jti);
+
+	boolean existsByFamily(String family);
+
+	List<RevokedTokenEntity> findAllByExpiresAtAfter(LocalDateTime now);
+
+	List<RevokedTokenEntity> findAllByRevokedAtGreaterThanEqual(LocalDateTime revokedAt);
+
+	@Transactional
+	@Modifying
+	@Query("delete from RevokedTokenEntity r where r.expiresAt <= :now")
+	int deleteExpired(@Param("now") LocalDateTime now);
+}
@@ -2,8 +2,12 @@ package com.sparta.hanghaebloglv3.user.repository;
 
 import com.sparta.hanghaebloglv3.user.entity.UserEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -12,4 +16,18 @@ import java.util.Optional;
 @Repository
 public interface UserRepository extends JpaRepository<UserEntity, Long> {
 	Optional<UserEntity> findByUsername(String username);
-}
\ No newline at end of file
+
+	boolean existsByUsername(String username);
+
+	@Query("select max(u.userId) from UserEntity u")
+	Optional<Long> findMaxUserId();
+
+	@Query("select u.username from UserEntity u where u.userId > :userId and u.userId <= :maxUserId")
+	List<String> findUsernamesByUserIdBetween(@Param("userId") Long userId, @Param("maxUserId") Long maxUserId);
+
+	@Query("select u.username from UserEntity u where u.usernameModifiedAt >= :modifiedAt")
+	List<String> findUsernamesModifiedSince(@Param("modifiedAt") LocalDateTime modifiedAt);
+
+	@Query("select u.userId from UserEntity u where u.usernameModifiedAt >= :modifiedAt")
+	List<Long> findUserIdsModifiedSince(@Param("modifiedAt") LocalDateTime modifiedAt);
+}
@@ -0,0 +1,104 @@
+package com.sparta.hanghaebloglv3.user.repository;
+
+import com.sparta.hanghaebloglv3.user.entity.UserStatsEntity;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * UserStatsRepository.
+ */
+@Repository
+public interface UserStatsRepository extends JpaRepository<UserStatsEntity, Long> {
+
+	/**
+	 * Add to counters (row 가 없으면 생성). 증감은 순서와 관계없으므로 동시에 실행되어도 값이 틀어지지 않는다.
+	 */
+	@Modifying
+	@Query(value = "insert into user_stats (user_id, post_count, comment_count, hearts_given, hearts_received) "
+			+ "values (:userId, :posts, :comments, :heartsGiven, :heartsReceived) "
+			+ "on duplicate key update post_count = post_count + values(post_count), comment_count = comment_count + values(comment_count), "
+			+ "hearts_given = hearts_given + values(hearts_given), hearts_received = hearts_received + values(hearts_received)", nativeQuery = true)
+	int add(@Param("userId") Long userId, @Param("posts") long posts, @Param("comments") long comments,
+	        @Param("heartsGiven") long heartsGiven, @Param("heartsReceived") long heartsReceived);
+
+	/**
+	 * Create missing rows of users in (fromUserId, toUserId].
+	 */
+	@Modifying
+	@Query(value = "insert into user_stats (user_id, post_count, comment_count, hearts_given, hearts_received) "
+			+ "select u.user_id, 0, 0, 0, 0 from tb_user u where u.user_id > :fromUserId and u.user_id <= :toUserId "
+			+ "and not exists (select 1 from user_stats s where s.user_id = u.user_id)", nativeQuery = true)
+	int insertMissing(@Param("fromUserId") Long fromUserId, @Param("toUserId") Long toUserId);
+
+	/**
+	 * Lock stats of users in (fromUserId, toUserId].
+	 */
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	@Query("select s from UserStatsEntity s where s.userId > :fromUserId and s.userId <= :toUserId")
+	List<UserStatsEntity> findAllForUpdate(@Param("fromUserId") Long fromUserId, @Param("toUserId") Long toUserId);
+
+	/**
+	 * Count activity of users in (fromUserId, toUserId] from source tables (hot + archive).
+	 */
+	@Query(value = "select u.user_id as userId, "
+			+ "(select count(*) from tb_post p where p.user_id = u.user_id) "
+			+ "+ (select count(*) from tb_post_archive p where p.user_id = u.user_id) as postCount, "
+			+ "(select count(*) from tb_comment c where c.user_id = u.user_id) "
+			+ "+ (select count(*) from tb_comment_archive c where c.user_id = u.user_id) as commentCount, "
+			+ "(select count(*) from tb_heart_feed h where h.user_id = u.user_id) "
+			+ "+ (select count(*) from tb_heart_comment h where h.user_id = u.user_id) "
+			+ "+ (select count(*) from tb_heart_feed_archive h where h.user_id = u.user_id) "
+			+ "+ (select count(*) from tb_heart_comment_archive h where h.user_id = u.user_id) as heartsGiven, "
+			+ "(select count(*) from tb_heart_feed h join tb_post p on p.post_id = h.post_id where p.user_id = u.user_id) "
+			+ "+ (select count(*) from tb_heart_comment h join tb_comment c on c.comment_id = h.comment_id where c.user_id = u.user_id) "
+			+ "+ (select count(*) from tb_post_archive p join tb_heart_feed_archive h on h.post_id = p.post_id "
+			+ "and h.archive_month = p.archive_month where p.user_id = u.user_id) "
+			+ "+ (select count(*) from tb_comment_archive c join tb_heart_comment_archive h on h.post_id = c.post_id "
+			+ "and h.comment_id = c.comment_id and h.archive_month = c.archive_month where c.user_id = u.user_id) as heartsReceived "
+			+ "from tb_user u where u.user_id > :fromUserId and u.user_id <= :toUserId", nativeQuery = true)
+	List<UserActivityCount> countActivity(@Param("fromUserId") Long fromUserId, @Param("toUserId") Long toUserId);
+
+	/**
+	 * Count activity removed together with post (게시글, 댓글, 게시글 좋아요, 댓글 좋아요), user 별 여러 row.
+	 */
+	@Query(value = "select p.user_id as userId, count(*) as postCount, 0 as commentCount, 0 as heartsGiven, 0 as heartsReceived "
+			+ "from tb_post p where p.post_id = :postId group by p.user_id "
+			+ "union all select c.user_id, 0, count(*), 0, 0 from tb_comment c where c.post_id = :postId group by c.user_id "
+			+ "union all select h.user_id, 0, 0, count(*), 0 from tb_heart_feed h where h.post_id = :postId group by h.user_id "
+			+ "union all select p.user_id, 0, 0, 0, count(*) from tb_heart_feed h join tb_post p on p.post_id = h.post_id "
+			+ "where h.post_id = :postId group by p.user_id "
+			+ "union all select h.user_id, 0, 0, count(*), 0 from tb_heart_comment h join tb_comment c on c.comment_id = h.comment_id "
+			+ "where c.post_id = :postId group by h.user_id "
+			+ "union all select c.user_id, 0, 0, 0, count(*) from tb_heart_comment h join tb_comment c on c.comment_id = h.comment_id "
+			+ "where c.post_id = :postId group by c.user_id", nativeQuery = true)
+	List<UserActivityCount> countActivityOfPost(@Param("postId") Long postId);
+
+	/**
+	 * Count activity removed together with comment (댓글, 댓글 좋아요), user 별 여러 row.
+	 */
+	@Query(value = "select c.user_id as userId, 0 as postCount, count(*) as commentCount, 0 as heartsGiven, 0 as heartsReceived "
+			+ "from tb_comment c where c.comment_id = :commentId group by c.user_id "
+			+ "union all select h.user_id, 0, 0, count(*), 0 from tb_heart_comment h where h.comment_id = :commentId group by h.user_id "
+			+ "union all select c.user_id, 0, 0, 0, count(*) from tb_heart_comment h join tb_comment c on c.comment_id = h.comment_id "
+			+ "where h.comment_id = :commentId group by c.user_id", nativeQuery = true)
+	List<UserActivityCount> countActivityOfComment(@Param("commentId") Long commentId);
+
+	interface UserActivityCount {
+		Long getUserId();
+
+		long getPostCount();
+
+		long getCommentCount();
+
+		long getHeartsGiven();
+
+		long getHeartsReceived();
+	}
+}
@@ -0,0 +1,81 @@
+package com.sparta.hanghaebloglv3.user.service;
+
+import com.sparta.hanghaebloglv3.common.event.UserRenamedEvent;
+import com.sparta.hanghaebloglv3.user.entity.AuthorEntity;
+import com.sparta.hanghaebloglv3.user.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * AuthorCacheService.
+ * 작성자 이름을 2차 캐시(AuthorEntity region)에서 읽고, 캐시에 없는 작성자만 DB 에서 한 번에 읽는다.
+ * 캐시는 서버마다 따로 있으므로, 이 서버의 username 변경은 commit 후에 바로 비우고 다른 서버의 변경은 polling 으로 비운다.
+ * 그 사이(user.author-cache.poll-ms)에는 이전 이름이 보일 수 있으므로, 버전(ETag)으로 검증되거나 저장되는 응답에는 쓰지 않는다.
+ */
+@Service
+@RequiredArgsConstructor
+public class AuthorCacheService {
+
+	// DB 에서 한 번에 읽는 작성자 수 (IN 목록 크기)
+	private static final int LOAD_BATCH_SIZE = 500;
+	// username_modified_at 은 각 서버 시각으로 기록되고 commit 이 늦을 수 있어, 이전 polling 시각보다 앞에서부터 조회
+	private static final Duration POLL_OVERLAP = Duration.ofMinutes(1);
+
+	private final EntityManager entityManager;
+	private final EntityManagerFactory entityManagerFactory;
+	private final UserRepository userRepository;
+
+	private volatile LocalDateTime lastPolledAt = LocalDateTime.now();
+
+	/**
+	 * Get usernames of users (userId -> username, 없는 사용자는 빠짐).
+	 * 트랜잭션 안에서 호출해야 함.
+	 */
+	public Map<Long, String> getUsernames(Collection<Long> userIds) {
+		List<AuthorEntity> authors = entityManager.unwrap(Session.class)
+				.byMultipleIds(AuthorEntity.class)
+				.with(CacheMode.NORMAL) // 기본값은 2차 캐시를 확인하지 않음
+				.withBatchSize(LOAD_BATCH_SIZE)
+				.multiLoad(List.copyOf(userIds));
+		Map<Long, String> usernames = new HashMap<>();
+		authors.stream()
+				.filter(Objects::nonNull)
+				.forEach(author -> usernames.put(author.getUserId(), author.getUsername()));
+		return usernames;
+	}
+
+	/**
+	 * Evict author renamed on this server.
+	 */
+	@TransactionalEventListener
+	public void evict(UserRenamedEvent event) {
+		entityManagerFactory.getCache().evict(AuthorEntity.class, event.getUserId());
+	}
+
+	/**
+	 * Poll authors renamed on other servers and evict them.
+	 */
+	@Scheduled(fixedDelayString = "${user.author-cache.poll-ms}", initialDelayString = "${user.author-cache.poll-ms}")
+	@Transactional(readOnly = true)
+	public void poll() {
+		LocalDateTime polledAt = LocalDateTime.now();
+		userRepository.findUserIdsModifiedSince(lastPolledAt.minus(POLL_OVERLAP))
+				.forEach(userId -> entityManagerFactory.getCache().evict(AuthorEntity.class, userId));
+		lastPolledAt = polledAt;
+	}
+}
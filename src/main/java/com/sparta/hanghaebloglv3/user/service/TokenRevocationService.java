@@ -0,0 +1,145 @@
+package com.sparta.hanghaebloglv3.user.service;
+
+import com.sparta.hanghaebloglv3.common.jwt.JwtUtil;
+import com.sparta.hanghaebloglv3.common.jwt.RevocationRegistry;
+import com.sparta.hanghaebloglv3.common.jwt.RevocationRegistry.Revocation;
+import com.sparta.hanghaebloglv3.user.entity.RevokedTokenEntity;
+import com.sparta.hanghaebloglv3.user.repository.RevokedTokenRepository;
+import io.jsonwebtoken.Claims;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+/**
+ * TokenRevocationService.
+ * 폐기된 토큰 목록을 메모리(RevocationRegistry)에 두고 요청마다 DB 조회 없이 확인한다.
+ * 각 서버는 tb_revoked_token 을 주기적으로 polling 하여 다른 서버에서 폐기한 토큰을 반영한다.
+ */
+@Slf4j(topic = "토큰 폐기")
+@Service
+@RequiredArgsConstructor
+public class TokenRevocationService {
+
+	private final RevokedTokenRepository revokedTokenRepository;
+
+	@Value("${jwt.revocation.expected-revocations}")
+	private long expectedRevocations;
+
+	private RevocationRegistry registry;
+
+	@PostConstruct
+	public void init() {
+		this.registry = new RevocationRegistry(expectedRevocations);
+		this.rebuild();
+	}
+
+	/**
+	 * Check token is revoked.
+	 */
+	public boolean isRevoked(Claims claims) {
+		if (this.isFamilyOrUserRevoked(claims)) {
+			return true;
+		}
+		// Bloom filter 에 있을 때(폐기된 토큰이거나 오탐)만 DB 로 확인
+		String jti = registry.suspectedJti(claims);
+		return jti != null && revokedTokenRepository.existsByJti(jti);
+	}
+
+	/**
+	 * Check token is revoked by family (refresh token reuse) or user-wide revocation (password, username change).
+	 * 토큰 하나(jti)의 폐기는 보지 않음 -> refresh 토큰 교체 시 jti 폐기 insert 로 재사용을 확인.
+	 */
+	public boolean isFamilyOrUserRevoked(Claims claims) {
+		if (registry.isUserRevoked(claims)) {
+			return true;
+		}
+		String family = registry.suspectedFamily(claims);
+		return family != null && revokedTokenRepository.existsByFamily(family);
+	}
+
+	/**
+	 * Revoke token (logout, refresh token rotation).
+	 * jti 가 unique 이므로 같은 토큰은 한 번만 폐기된다. 트랜잭션 밖에서 호출해야 insert 실패가 호출한 쪽 트랜잭션을 rollback 시키지 않음.
+	 *
+	 * @return 이번에 폐기했으면 true, 이미 폐기된 토큰이면(교체된 refresh 토큰의 재사용, 동시 요청) false
+	 */
+	public boolean revokeToken(Claims claims) {
+		LocalDateTime expiresAt = LocalDateTime.ofInstant(claims.getExpiration().toInstant(), ZoneId.systemDefault());
+		try {
+			revokedTokenRepository.saveAndFlush(RevokedTokenEntity.ofToken(claims.getId(), LocalDateTime.now(), expiresAt));
+			return true;
+		} catch (DataIntegrityViolationException e) {
+			return false;
+		} finally {
+			registry.put(claims.getId());
+		}
+	}
+
+	/**
+	 * Revoke family of token (refresh token reuse).
+	 * 재사용된 토큰과 같은 로그인에서 이어진 토큰 전체 -> 먼저 교체해 간 쪽이 받은 새 토큰도 폐기된다.
+	 * family 가 없는(도입 전에 발급된) 토큰이면 사용자의 모든 토큰을 폐기.
+	 */
+	@Transactional
+	public void revokeFamily(Claims claims) {
+		String family = JwtUtil.getFamily(claims);
+		if (family == null) {
+			this.revokeAllTokensOf(claims.getSubject());
+			return;
+		}
+		LocalDateTime now = LocalDateTime.now();
+		LocalDateTime expiresAt = now.plus(Duration.ofMillis(JwtUtil.REFRESH_TOKEN_TIME));
+		revokedTokenRepository.save(RevokedTokenEntity.ofFamily(family, now, expiresAt));
+		registry.put(family);
+		log.warn("refresh token reused, family revoked. username : {}", claims.getSubject());
+	}
+
+	/**
+	 * Revoke all tokens of user issued until now (password change).
+	 */
+	@Transactional
+	public void revokeAllTokensOf(String username) {
+		LocalDateTime now = LocalDateTime.now();
+		LocalDateTime expiresAt = now.plus(Duration.ofMillis(JwtUtil.REFRESH_TOKEN_TIME));
+		revokedTokenRepository.save(RevokedTokenEntity.ofUser(username, now, expiresAt));
+		registry.revokeUser(username, now);
+	}
+
+	/**
+	 * Poll revocations from other servers.
+	 */
+	@Scheduled(fixedDelayString = "${jwt.revocation.poll-ms}", initialDelayString = "${jwt.revocation.poll-ms}")
+	public void poll() {
+		LocalDateTime polledAt = LocalDateTime.now();
+		registry.applyPolled(toRevocations(revokedTokenRepository.findAllByRevokedAtGreaterThanEqual(registry.getPollFrom())), polledAt);
+	}
+
+	/**
+	 * Rebuild filter from table. 만료된 폐기 정보도 여기서 삭제.
+	 */
+	@Scheduled(fixedDelayString = "${jwt.revocation.rebuild-ms}", initialDelayString = "${jwt.revocation.rebuild-ms}")
+	public void rebuild() {
+		LocalDateTime now = LocalDateTime.now();
+		int deleted = revokedTokenRepository.deleteExpired(now);
+
+		List<Revocation> revocations = toRevocations(revokedTokenRepository.findAllByExpiresAtAfter(now));
+		registry.rebuild(revocations, now);
+		log.info("revoked tokens loaded : {}, expired deleted : {}", revocations.size(), deleted);
+	}
+
+	private static List<Revocation> toRevocations(List<RevokedTokenEntity> revokedTokens) {
+		return revokedTokens.stream()
+				.map(revokedToken -> new Revocation(revokedToken.getJti(), revokedToken.getFamily(), revokedToken.getUsername(), revokedToken.getRevokedAt()))
+				.toList();
+	}
+}
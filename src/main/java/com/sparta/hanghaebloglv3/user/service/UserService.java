@@ -1,24 +1,40 @@
 package com.sparta.hanghaebloglv3.user.service;
 
+import com.sparta.hanghaebloglv3.comment.repository.CommentRepository;
+import com.sparta.hanghaebloglv3.comment.repository.CommentRepository.CommentIds;
 import com.sparta.hanghaebloglv3.common.constant.ProjConst;
 import com.sparta.hanghaebloglv3.common.dto.ApiResult;
+import com.sparta.hanghaebloglv3.common.event.ChangeEvent;
+import com.sparta.hanghaebloglv3.common.event.ChangeType;
+import com.sparta.hanghaebloglv3.common.event.PostChangedEvent;
+import com.sparta.hanghaebloglv3.common.event.UserRenamedEvent;
+import com.sparta.hanghaebloglv3.common.jwt.JwtUtil;
+import com.sparta.hanghaebloglv3.post.repository.PostRepository;
 import com.sparta.hanghaebloglv3.user.dto.PasswordRequestDto;
 import com.sparta.hanghaebloglv3.user.dto.ProfileRequestDto;
 import com.sparta.hanghaebloglv3.user.dto.ProfileResponseDto;
 import com.sparta.hanghaebloglv3.user.dto.SignupRequestDto;
+import com.sparta.hanghaebloglv3.user.dto.UsernameAvailableResponseDto;
 import com.sparta.hanghaebloglv3.user.entity.UserEntity;
 import com.sparta.hanghaebloglv3.user.entity.UserRoleEnum;
+import com.sparta.hanghaebloglv3.user.entity.UserStatsEntity;
 import com.sparta.hanghaebloglv3.user.repository.UserRepository;
+import com.sparta.hanghaebloglv3.user.repository.UserStatsRepository;
+import io.jsonwebtoken.Claims;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.MessageSource;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.HashSet;
 import java.util.Locale;
-import java.util.Optional;
+import java.util.Set;
 
 /**
  * UserService.
@@ -28,8 +44,15 @@ import java.util.Optional;
 public class UserService {
 
 	private final UserRepository userRepository;
+	private final UserStatsRepository userStatsRepository;
 	private final PasswordEncoder passwordEncoder;
 	private final MessageSource messageSource;
+	private final JwtUtil jwtUtil;
+	private final TokenRevocationService tokenRevocationService;
+	private final UsernameAvailabilityService usernameAvailabilityService;
+	private final PostRepository postRepository;
+	private final CommentRepository commentRepository;
+	private final ApplicationEventPublisher eventPublisher;
 
 	// ADMIN_TOKEN 관리자 암호
 	private final String ADMIN_TOKEN = "AAABnvxRVklrnYxKZ0aHgTBcXukeZygoC";
@@ -42,19 +65,6 @@ public class UserService {
 		String username = signupRequestDto.getUsername();
 		String password = passwordEncoder.encode(signupRequestDto.getPassword());
 
-		// 회원 중복 확인
-		Optional<UserEntity> checkUsername = userRepository.findByUsername(username);
-		if (checkUsername.isPresent()) {
-			throw new IllegalArgumentException(
-					messageSource.getMessage(
-							"in.used.username",
-							null,
-							"In Used Username",
-							Locale.getDefault()
-					)
-			);
-		}
-
 		// 관리자 권한 확인
 		UserRoleEnum role = UserRoleEnum.USER;
 		if (signupRequestDto.isAdmin()) {
@@ -71,18 +81,81 @@ public class UserService {
 			role = UserRoleEnum.ADMIN;
 		}
 
-		// 회원 등록처리
-		UserEntity userEntity = new UserEntity(username, password, role);
-		userRepository.save(userEntity);
+		// 회원 등록처리 (중복 확인은 username unique 제약조건으로 처리 -> 동시 가입 시에도 한 명만 성공)
+		try {
+			userRepository.saveAndFlush(new UserEntity(username, password, role));
+		} catch (DataIntegrityViolationException e) {
+			throw this.toInUsedUsernameException(e);
+		}
+		usernameAvailabilityService.markUsed(username); // commit 이후 중복 확인 filter 에 추가
 
 		return ResponseEntity.ok().body(new ApiResult(ProjConst.SIGN_UP_SUCCESS,HttpStatus.OK.value()));
 	}
 
-	// 프로필 조회
+	/**
+	 * Refresh tokens.
+	 * 사용한 refresh 토큰은 폐기하고 같은 family 로 새로 발급 (rotation). 폐기 insert 가 jti unique 제약에 걸리면
+	 * 이미 교체된 토큰을 다시 쓴 것(탈취 후 재사용, 동시 요청)이므로 family 전체를 폐기한다.
+	 * insert 실패가 다른 변경을 rollback 시키지 않도록 트랜잭션 없이 각 폐기를 따로 commit 한다.
+	 */
+	public ResponseEntity<ApiResult> refresh(String refreshToken) {
+		String tokenValue = jwtUtil.substringToken(refreshToken);
+		if (tokenValue == null || !jwtUtil.validateToken(tokenValue)) {
+			throw new IllegalArgumentException(this.getInvalidTokenMessage());
+		}
+
+		// 개별 폐기(jti)는 아래 insert 로 확인하므로 여기서는 family, 사용자 단위 폐기만 확인
+		Claims info = jwtUtil.getUserInfoFromToken(tokenValue);
+		if (!jwtUtil.isTokenType(info, JwtUtil.REFRESH_TOKEN_TYPE) || tokenRevocationService.isFamilyOrUserRevoked(info)) {
+			throw new IllegalArgumentException(this.getInvalidTokenMessage());
+		}
+
+		UserEntity user = userRepository.findByUsername(info.getSubject()).orElseThrow(() ->
+				new IllegalArgumentException(this.getInvalidTokenMessage())
+		);
+
+		if (!tokenRevocationService.revokeToken(info)) {
+			tokenRevocationService.revokeFamily(info);
+			throw new IllegalArgumentException(this.getInvalidTokenMessage());
+		}
+
+		// family 도입 전에 발급된 토큰이면 새 family 로 시작
+		String family = JwtUtil.getFamily(info) != null ? JwtUtil.getFamily(info) : jwtUtil.newFamily();
+
+		return ResponseEntity.ok()
+				.header(JwtUtil.AUTHORIZATION_HEADER, jwtUtil.createToken(user.getUsername(), user.getRole(), family))
+				.header(JwtUtil.REFRESH_TOKEN_HEADER, jwtUtil.createRefreshToken(user.getUsername(), family))
+				.body(new ApiResult(ProjConst.TOKEN_REFRESH_SUCCESS, HttpStatus.OK.value()));
+	}
+
+	/**
+	 * Logout.
+	 * 전달된 access, refresh 토큰을 폐기. 이미 폐기된 토큰은 무시.
+	 */
+	public ApiResult logout(String accessToken, String refreshToken) {
+		for (String token : new String[]{accessToken, refreshToken}) {
+			String tokenValue = jwtUtil.substringToken(token);
+			if (tokenValue != null && jwtUtil.validateToken(tokenValue)) {
+				tokenRevocationService.revokeToken(jwtUtil.getUserInfoFromToken(tokenValue));
+			}
+		}
+		return new ApiResult(ProjConst.LOGOUT_SUCCESS, HttpStatus.OK.value());
+	}
+
+	/**
+	 * Check username is available.
+	 */
+	@Transactional(readOnly = true)
+	public UsernameAvailableResponseDto checkUsernameAvailable(String username) {
+		return new UsernameAvailableResponseDto(username, usernameAvailabilityService.isAvailable(username));
+	}
+
+	// 프로필 조회 (활동 통계는 user_stats row 하나만 읽음, 아직 없으면 0)
 	@Transactional(readOnly = true)
 	public ProfileResponseDto getProfile(UserEntity user) {
 
-		return new ProfileResponseDto(user.getUsername(), user.getIntroduction()); // 해당 유저 정보 반환
+		UserStatsEntity stats = userStatsRepository.findById(user.getUserId()).orElseGet(() -> new UserStatsEntity(user.getUserId()));
+		return new ProfileResponseDto(user.getUsername(), user.getIntroduction(), stats); // 해당 유저 정보 반환
 	}
 
 	// 프로필 수정 전 패스워드 재확인
@@ -104,12 +177,82 @@ public class UserService {
 		return new ApiResult(ProjConst.PASSWORD_CHECK_OK, HttpStatus.OK.value()); // 수정 페이지로 넘어가기 전 비밀번호 확인
 	}
 
+	// username unique 제약조건 위반만 중복 username 으로 응답하고, 다른 제약조건 위반(컬럼 길이, not null 등)은 그대로 던짐
+	private RuntimeException toInUsedUsernameException(DataIntegrityViolationException e) {
+		String constraintName = e.getCause() instanceof ConstraintViolationException cause ? cause.getConstraintName() : null;
+		String detail = constraintName != null ? constraintName : e.getMostSpecificCause().getMessage();
+		if (detail == null || !detail.toLowerCase(Locale.ROOT).contains(UserEntity.USERNAME_UNIQUE_CONSTRAINT)) {
+			return e;
+		}
+		return new IllegalArgumentException(
+				messageSource.getMessage(
+						"in.used.username",
+						null,
+						"In Used Username",
+						Locale.getDefault()
+				)
+		);
+	}
+
+	private String getInvalidTokenMessage() {
+		return messageSource.getMessage(
+				"invalid.token",
+				null,
+				"Invalid Token",
+				Locale.getDefault()
+		);
+	}
+
 	// 프로필 수정
 	@Transactional
 	public ApiResult updateProfile(ProfileRequestDto requestDto, UserEntity user) {
 
-		user.update(requestDto); // 유저 정보 수정
+		// 인증 정보의 user 는 준영속 상태이므로 다시 조회하여 수정
+		UserEntity userEntity = userRepository.findById(user.getUserId()).orElseThrow(() ->
+				new IllegalArgumentException(this.getInvalidTokenMessage())
+		);
+		String username = requestDto.getUsername() != null ? requestDto.getUsername() : userEntity.getUsername();
+		String password = requestDto.getPassword() != null ? passwordEncoder.encode(requestDto.getPassword()) : userEntity.getPassword();
+
+		String oldUsername = userEntity.getUsername();
+		boolean renamed = !username.equals(oldUsername);
+		userEntity.update(username, password, requestDto.getIntroduction()); // 유저 정보 수정
+		try {
+			userRepository.flush();
+		} catch (DataIntegrityViolationException e) {
+			throw this.toInUsedUsernameException(e);
+		}
+		if (renamed) {
+			usernameAvailabilityService.markUsed(username); // commit 이후 중복 확인 filter 에 추가
+		}
+
+		// 비밀번호, username 변경 시 기존에 발급된 토큰 모두 폐기 (변경 전 username 기준)
+		// username 변경 후 다른 회원이 이전 username 으로 가입해도 이전 토큰으로 인증되지 않도록 함
+		if (requestDto.getPassword() != null || renamed) {
+			tokenRevocationService.revokeAllTokensOf(oldUsername);
+		}
+
+		if (renamed) {
+			this.publishRenamed(userEntity.getUserId());
+		}
 
 		return new ApiResult(ProjConst.UPDATE_PROFILE_SUCCESS, HttpStatus.OK.value());
 	}
+
+	// 작성한 게시글, 댓글에 보이는 작성자 이름이 바뀌었으므로 동기화 대상으로 기록하고(목록의 버전도 함께 바뀜)
+	// 작성자 이름을 저장해 둔 피드를 다시 계산한다.
+	// 게시글 단건 응답의 버전은 usernameModifiedAt 을 포함하므로 응답 캐시는 따로 무효화하지 않아도 됨
+	private void publishRenamed(Long userId) {
+		Set<Long> changedPostIds = new HashSet<>();
+		for (Long postId : postRepository.findIdsByUserId(userId)) {
+			eventPublisher.publishEvent(ChangeEvent.upsert(ChangeType.POST, postId));
+			changedPostIds.add(postId);
+		}
+		for (CommentIds commentIds : commentRepository.findIdsByUserId(userId)) {
+			eventPublisher.publishEvent(ChangeEvent.upsert(ChangeType.COMMENT, commentIds.getCommentId()));
+			changedPostIds.add(commentIds.getPostId());
+		}
+		changedPostIds.forEach(postId -> eventPublisher.publishEvent(new PostChangedEvent(postId)));
+		eventPublisher.publishEvent(new UserRenamedEvent(userId));
+	}
 }
\ No newline at end of file
@@ -0,0 +1,164 @@
+package com.sparta.hanghaebloglv3.user.service;
+
+import com.sparta.hanghaebloglv3.user.entity.UserStatsEntity;
+import com.sparta.hanghaebloglv3.user.repository.UserRepository;
+import com.sparta.hanghaebloglv3.user.repository.UserStatsRepository;
+import com.sparta.hanghaebloglv3.user.repository.UserStatsRepository.UserActivityCount;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * UserStatsService.
+ * 게시글, 댓글, 좋아요를 쓰거나 지우는 트랜잭션 안에서 user_stats 를 증감하고(프로필 조회는 row 하나만 읽음),
+ * 빠진 증감(직접 수정한 데이터, 실패한 배포 등)은 주기적으로 원본 테이블을 다시 세어 맞춘다.
+ * 증감은 user id 순으로 적용해서 여러 row 를 바꾸는 트랜잭션끼리 deadlock 이 나지 않게 한다.
+ */
+@Slf4j(topic = "사용자 통계")
+@Service
+public class UserStatsService {
+
+	private final UserStatsRepository userStatsRepository;
+	private final UserRepository userRepository;
+	private final TransactionTemplate transactionTemplate;
+	private final int reconcileChunkSize;
+
+	public UserStatsService(UserStatsRepository userStatsRepository,
+	                        UserRepository userRepository,
+	                        PlatformTransactionManager transactionManager,
+	                        @Value("${user.stats.reconcile-chunk-size}") int reconcileChunkSize) {
+		this.userStatsRepository = userStatsRepository;
+		this.userRepository = userRepository;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.reconcileChunkSize = reconcileChunkSize;
+	}
+
+	@Transactional(propagation = Propagation.MANDATORY)
+	public void postCreated(Long userId) {
+		userStatsRepository.add(userId, 1, 0, 0, 0);
+	}
+
+	@Transactional(propagation = Propagation.MANDATORY)
+	public void commentCreated(Long userId) {
+		userStatsRepository.add(userId, 0, 1, 0, 0);
+	}
+
+	/**
+	 * Heart added (누른 사용자 hearts_given, 게시글/댓글 작성자 hearts_received).
+	 */
+	@Transactional(propagation = Propagation.MANDATORY)
+	public void heartAdded(Long likerId, Long authorId) {
+		this.applyHeart(likerId, authorId, 1);
+	}
+
+	@Transactional(propagation = Propagation.MANDATORY)
+	public void heartRemoved(Long likerId, Long authorId) {
+		this.applyHeart(likerId, authorId, -1);
+	}
+
+	/**
+	 * Post is about to be deleted. 함께 지워지는 댓글, 좋아요까지 작성자, 누른 사용자별로 뺀다. (삭제 전에 호출)
+	 */
+	@Transactional(propagation = Propagation.MANDATORY)
+	public void postDeleting(Long postId) {
+		this.subtract(userStatsRepository.countActivityOfPost(postId));
+	}
+
+	/**
+	 * Comment is about to be deleted. 댓글 좋아요까지 함께 뺀다. (삭제 전에 호출)
+	 */
+	@Transactional(propagation = Propagation.MANDATORY)
+	public void commentDeleting(Long commentId) {
+		this.subtract(userStatsRepository.countActivityOfComment(commentId));
+	}
+
+	/**
+	 * Reconcile on startup when stats table is empty (first deploy).
+	 */
+	@EventListener(ApplicationReadyEvent.class)
+	public void reconcileIfEmpty() {
+		if (userStatsRepository.count() == 0 && userRepository.count() > 0) {
+			this.reconcile();
+		}
+	}
+
+	/**
+	 * Scheduled reconcile (user.stats.reconcile-cron).
+	 */
+	@Scheduled(cron = "${user.stats.reconcile-cron}")
+	public void scheduledReconcile() {
+		this.reconcile();
+	}
+
+	/**
+	 * Recount stats from source tables (보관된 게시글, 댓글, 좋아요 포함) and repair drift.
+	 * user id 구간마다 짧은 트랜잭션에서 통계 row 를 먼저 잠근 뒤 센다. 잠금을 기다린 쓰기는 다시 센 값에 증감하고,
+	 * 잠그기 전에 증감한 쓰기는 commit 된 뒤에 세므로 어느 쪽이든 두 번 세거나 빠뜨리지 않는다.
+	 */
+	public int reconcile() {
+		long maxUserId = userRepository.findMaxUserId().orElse(0L);
+		int repaired = 0;
+		for (long from = 0; from < maxUserId; from += reconcileChunkSize) {
+			long chunkFrom = from;
+			long to = Math.min(from + reconcileChunkSize, maxUserId);
+			Integer count = transactionTemplate.execute(status -> this.reconcileChunk(chunkFrom, to));
+			repaired += count == null ? 0 : count;
+		}
+		log.info("user stats reconciled. repaired : {}", repaired);
+		return repaired;
+	}
+
+	// (fromUserId, toUserId] 구간, 값이 달랐던 row 수
+	private int reconcileChunk(Long fromUserId, Long toUserId) {
+		userStatsRepository.insertMissing(fromUserId, toUserId);
+		Map<Long, UserStatsEntity> statsMap = userStatsRepository.findAllForUpdate(fromUserId, toUserId).stream()
+				.collect(Collectors.toMap(UserStatsEntity::getUserId, Function.identity()));
+
+		int repaired = 0;
+		for (UserActivityCount count : userStatsRepository.countActivity(fromUserId, toUserId)) {
+			UserStatsEntity stats = statsMap.get(count.getUserId());
+			if (stats != null && stats.reconcile(count.getPostCount(), count.getCommentCount(), count.getHeartsGiven(), count.getHeartsReceived())) {
+				repaired++;
+			}
+		}
+		return repaired;
+	}
+
+	private void applyHeart(Long likerId, Long authorId, long delta) {
+		Map<Long, long[]> deltas = new TreeMap<>();
+		deltas.computeIfAbsent(likerId, id -> new long[4])[2] += delta;
+		deltas.computeIfAbsent(authorId, id -> new long[4])[3] += delta;
+		this.apply(deltas);
+	}
+
+	// user 별로 합쳐서 뺌
+	private void subtract(List<UserActivityCount> counts) {
+		Map<Long, long[]> deltas = new TreeMap<>();
+		for (UserActivityCount count : counts) {
+			long[] delta = deltas.computeIfAbsent(count.getUserId(), id -> new long[4]);
+			delta[0] -= count.getPostCount();
+			delta[1] -= count.getCommentCount();
+			delta[2] -= count.getHeartsGiven();
+			delta[3] -= count.getHeartsReceived();
+		}
+		this.apply(deltas);
+	}
+
+	// deltas : user id 순 (posts, comments, heartsGiven, heartsReceived)
+	private void apply(Map<Long, long[]> deltas) {
+		deltas.forEach((userId, delta) -> userStatsRepository.add(userId, delta[0], delta[1], delta[2], delta[3]));
+	}
+}
@@ -0,0 +1,117 @@
+package com.sparta.hanghaebloglv3.user.service;
+
+import com.sparta.hanghaebloglv3.common.util.BloomFilter;
+import com.sparta.hanghaebloglv3.user.repository.UserRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * UsernameAvailabilityService.
+ * 사용 중인 username 을 Bloom filter 로 메모리에 두고, 회원가입 폼의 중복 확인을 DB 조회 없이 응답한다.
+ * filter 에 없으면 확실히 사용 가능, 있으면 사용 중이거나 오탐이므로 그때만 DB 로 확인.
+ * 다른 서버의 회원가입(id 증가분)과 username 변경(username_modified_at)은 polling 으로 반영되므로 그 사이의 "사용 가능" 응답은 틀릴 수 있다.
+ * 실제 중복 방지는 tb_user.username unique 제약조건이 담당한다.
+ */
+@Slf4j(topic = "username 중복 확인")
+@Service
+@RequiredArgsConstructor
+public class UsernameAvailabilityService {
+
+	private static final double FALSE_POSITIVE_PROBABILITY = 0.001;
+	private static final long LOAD_CHUNK_SIZE = 10_000;
+	// IDENTITY 는 id 순서와 commit 순서가 다를 수 있어, 이전 polling 구간과 겹쳐서 조회
+	private static final long POLL_OVERLAP_IDS = 1_000;
+	// username_modified_at 은 각 서버 시각으로 기록되고 commit 이 늦을 수 있어, 이전 polling 시각보다 앞에서부터 조회
+	private static final Duration POLL_OVERLAP_TIME = Duration.ofMinutes(1);
+
+	private final UserRepository userRepository;
+
+	@Value("${user.username-filter.expected-usernames}")
+	private long expectedUsernames;
+
+	private volatile BloomFilter usedUsernames;
+	private volatile long lastUserId;
+	private volatile LocalDateTime lastPolledAt;
+
+	@PostConstruct
+	public void init() {
+		this.rebuild();
+	}
+
+	/**
+	 * Check username is available.
+	 */
+	public boolean isAvailable(String username) {
+		if (!usedUsernames.mightContain(username)) {
+			return true;
+		}
+		return !userRepository.existsByUsername(username);
+	}
+
+	/**
+	 * Mark username used (signup, rename).
+	 * 트랜잭션 안이면 commit 이후에 추가하여, insert 실패나 rollback 된 username 이 filter 에 남아 DB 확인을 계속 일으키지 않도록 한다.
+	 * commit 과 추가 사이의 짧은 구간에 "사용 가능" 으로 응답해도 실제 가입, 변경은 username unique 제약조건이 막는다.
+	 */
+	public void markUsed(String username) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			usedUsernames.put(username);
+			return;
+		}
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				usedUsernames.put(username);
+			}
+		});
+	}
+
+	/**
+	 * Poll usernames signed up or renamed on other servers.
+	 */
+	@Scheduled(fixedDelayString = "${user.username-filter.poll-ms}", initialDelayString = "${user.username-filter.poll-ms}")
+	public void poll() {
+		LocalDateTime polledAt = LocalDateTime.now();
+		BloomFilter bloomFilter = usedUsernames;
+		lastUserId = this.load(bloomFilter, Math.max(0, lastUserId - POLL_OVERLAP_IDS));
+		userRepository.findUsernamesModifiedSince(lastPolledAt.minus(POLL_OVERLAP_TIME)).forEach(bloomFilter::put);
+		lastPolledAt = polledAt;
+	}
+
+	/**
+	 * Rebuild filter from table.
+	 * Bloom filter 는 삭제가 안되므로, 변경 전 username 을 정리하고 크기를 다시 맞추기 위해 주기적으로 새로 만든다.
+	 */
+	@Scheduled(fixedDelayString = "${user.username-filter.rebuild-ms}", initialDelayString = "${user.username-filter.rebuild-ms}")
+	public void rebuild() {
+		LocalDateTime loadedAt = LocalDateTime.now();
+		long userCount = userRepository.count();
+		BloomFilter bloomFilter = new BloomFilter(Math.max(expectedUsernames, userCount * 2), FALSE_POSITIVE_PROBABILITY);
+		long loadedUserId = this.load(bloomFilter, 0);
+
+		// 교체 직전에 이전 filter 에만 추가된 username 은 다음 polling 에서 다시 반영됨
+		usedUsernames = bloomFilter;
+		lastUserId = loadedUserId;
+		lastPolledAt = loadedAt;
+		log.info("usernames loaded : {}", userCount);
+	}
+
+	// fromUserId 초과 ~ 현재 최대 id 까지 chunk 단위로 읽어서 filter 에 추가, 읽은 최대 id 반환
+	private long load(BloomFilter bloomFilter, long fromUserId) {
+		long maxUserId = userRepository.findMaxUserId().orElse(0L);
+		for (long userId = fromUserId; userId < maxUserId; userId += LOAD_CHUNK_SIZE) {
+			userRepository.findUsernamesByUserIdBetween(userId, Math.min(userId + LOAD_CHUNK_SIZE, maxUserId))
+					.forEach(bloomFilter::put);
+		}
+		return Math.max(fromUserId, maxUserId);
+	}
+}
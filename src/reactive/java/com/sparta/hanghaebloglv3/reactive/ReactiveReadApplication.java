@@ -0,0 +1,28 @@
+package com.sparta.hanghaebloglv3.reactive;
+
+import com.sparta.hanghaebloglv3.common.exception.GlobalExceptionHandler;
+import com.sparta.hanghaebloglv3.common.jwt.JwtUtil;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.annotation.Import;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * ReactiveReadApplication.
+ * 피드, 게시글 상세, 댓글 페이지를 WebFlux + R2DBC 로 제공하는 읽기 전용 서버. (./gradlew reactiveRun, 기본 8081 포트)
+ * 쓰기 API 와 같은 DB 를 읽고, 응답 DTO, JWT 검증, 예외 응답은 servlet 애플리케이션의 것을 그대로 사용한다.
+ * 설정은 application.properties 위에 reactive.properties 를 덮어써서 사용.
+ */
+@EnableScheduling
+@SpringBootApplication
+@Import({JwtUtil.class, GlobalExceptionHandler.class})
+public class ReactiveReadApplication {
+
+	public static void main(String[] args) {
+		new SpringApplicationBuilder(ReactiveReadApplication.class)
+				.web(WebApplicationType.REACTIVE)
+				.properties("spring.config.name=application,reactive")
+				.run(args);
+	}
+}
@@ -0,0 +1,78 @@
+package com.sparta.hanghaebloglv3.reactive.controller;
+
+import com.sparta.hanghaebloglv3.comment.dto.CommentResponseDto;
+import com.sparta.hanghaebloglv3.common.exception.IdNotFoundException;
+import com.sparta.hanghaebloglv3.feed.dto.FeedItemResponseDto;
+import com.sparta.hanghaebloglv3.feed.service.FeedService;
+import com.sparta.hanghaebloglv3.post.dto.PostResponseDto;
+import com.sparta.hanghaebloglv3.reactive.repository.ReactivePostRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.MessageSource;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.Locale;
+
+/**
+ * ReactivePostController.
+ * servlet 애플리케이션과 같은 경로, 같은 응답 형태. 목록은 조회되는 대로 JSON 배열로 흘려보낸다. (Accept: application/x-ndjson 이면 한 줄에 하나씩)
+ * 조회수는 기록하지 않고(쓰기 서버에서만 기록), 보관된 게시글은 servlet 애플리케이션에서만 조회된다.
+ */
+@RestController
+@RequiredArgsConstructor
+public class ReactivePostController {
+
+  private static final int DEFAULT_COMMENT_PAGE_SIZE = 20;
+  private static final int MAX_COMMENT_PAGE_SIZE = 100;
+
+  private final ReactivePostRepository reactivePostRepository;
+  private final MessageSource messageSource;
+
+  /**
+   * Get feed page (keyset paging).
+   */
+  @GetMapping("/api/feed")
+  public Flux<FeedItemResponseDto> getFeed(@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime lastModifiedAt,
+                                           @RequestParam(required = false) Long lastPostId,
+                                           @RequestParam(defaultValue = "" + FeedService.DEFAULT_PAGE_SIZE) int size) {
+    int pageSize = Math.min(Math.max(size, 1), FeedService.MAX_PAGE_SIZE);
+    if (lastModifiedAt == null || lastPostId == null) {
+      return reactivePostRepository.findFeed(pageSize);
+    }
+    return reactivePostRepository.findFeedAfter(lastModifiedAt, lastPostId, pageSize);
+  }
+
+  /**
+   * Get certain post with comments.
+   * 게시글이 있을 때만 댓글을 조회 (connection 하나로 차례대로 실행).
+   */
+  @GetMapping("/api/post/{id}")
+  public Mono<PostResponseDto> getPost(@PathVariable Long id) {
+    return reactivePostRepository.findPost(id)
+        .switchIfEmpty(Mono.error(() -> new IdNotFoundException(
+            messageSource.getMessage(
+                "not.found.post",
+                null,
+                "Not Found Post",
+                Locale.getDefault()
+            )
+        )))
+        .flatMap(postResponseDto -> reactivePostRepository.findComments(id)
+            .doOnNext(postResponseDto::addCommentResponseDtoList)
+            .then(Mono.just(postResponseDto)));
+  }
+
+  /**
+   * Get comment page of post (keyset paging, 최신 댓글부터).
+   * 다음 페이지는 마지막 댓글의 commentId 를 lastCommentId 로 전달하여 조회.
+   */
+  @GetMapping("/api/post/{id}/comments")
+  public Flux<CommentResponseDto> getComments(@PathVariable Long id,
+                                              @RequestParam(required = false) Long lastCommentId,
+                                              @RequestParam(defaultValue = "" + DEFAULT_COMMENT_PAGE_SIZE) int size) {
+    return reactivePostRepository.findCommentPage(id, lastCommentId, Math.min(Math.max(size, 1), MAX_COMMENT_PAGE_SIZE));
+  }
+}
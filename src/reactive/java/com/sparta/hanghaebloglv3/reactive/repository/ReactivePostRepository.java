@@ -0,0 +1,131 @@
+package com.sparta.hanghaebloglv3.reactive.repository;
+
+import com.sparta.hanghaebloglv3.comment.dto.CommentResponseDto;
+import com.sparta.hanghaebloglv3.feed.dto.FeedItemResponseDto;
+import com.sparta.hanghaebloglv3.post.dto.PostResponseDto;
+import io.r2dbc.spi.Readable;
+import lombok.RequiredArgsConstructor;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+
+/**
+ * ReactivePostRepository.
+ * JPA 엔티티 없이 servlet 애플리케이션이 만든 테이블(feed_item, tb_post, tb_comment 등)을 R2DBC 로 읽어 응답 DTO 로 바로 변환한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ReactivePostRepository {
+
+	private static final String FEED_COLUMNS = "select post_id, title, excerpt, author_name, comment_count, heart_count, "
+			+ "latest_comments, created_at, modified_at from feed_item ";
+
+	private static final String COMMENT_COLUMNS = "select c.comment_id, c.post_id, c.content, u.username, c.created_at, c.modified_at, "
+			+ "(select count(*) from tb_heart_comment hc where hc.comment_id = c.comment_id) as heart_count "
+			+ "from tb_comment c join tb_user u on u.user_id = c.user_id ";
+
+	private final DatabaseClient databaseClient;
+
+	/**
+	 * Find first page of feed.
+	 */
+	public Flux<FeedItemResponseDto> findFeed(int size) {
+		return databaseClient.sql(FEED_COLUMNS + "order by modified_at desc, post_id desc limit :size")
+				.bind("size", size)
+				.map(ReactivePostRepository::toFeedItem)
+				.all();
+	}
+
+	/**
+	 * Find next page of feed after (modifiedAt, postId). FeedItemRepository.findPageAfter 와 같은 조건.
+	 */
+	public Flux<FeedItemResponseDto> findFeedAfter(LocalDateTime modifiedAt, Long postId, int size) {
+		return databaseClient.sql(FEED_COLUMNS
+						+ "where modified_at <= :modifiedAt and (modified_at < :modifiedAt or post_id < :postId) "
+						+ "order by modified_at desc, post_id desc limit :size")
+				.bind("modifiedAt", modifiedAt)
+				.bind("postId", postId)
+				.bind("size", size)
+				.map(ReactivePostRepository::toFeedItem)
+				.all();
+	}
+
+	/**
+	 * Find post with author, heart count, views (without comments).
+	 */
+	public Mono<PostResponseDto> findPost(Long postId) {
+		return databaseClient.sql("select p.post_id, p.title, p.content, u.username, p.created_at, p.modified_at, "
+						+ "(select count(*) from tb_heart_feed h where h.post_id = p.post_id) as heart_count, "
+						+ "v.view_count, v.unique_viewers "
+						+ "from tb_post p join tb_user u on u.user_id = p.user_id "
+						+ "left join tb_post_view v on v.post_id = p.post_id "
+						+ "where p.post_id = :postId")
+				.bind("postId", postId)
+				.map(row -> new PostResponseDto(
+						row.get("post_id", Long.class),
+						row.get("title", String.class),
+						row.get("content", String.class),
+						row.get("username", String.class),
+						row.get("created_at", LocalDateTime.class),
+						row.get("modified_at", LocalDateTime.class),
+						row.get("heart_count", Long.class).intValue(),
+						orZero(row.get("view_count", Long.class)),
+						orZero(row.get("unique_viewers", Long.class))))
+				.one();
+	}
+
+	/**
+	 * Find all comments of post (PostService.getPost 와 같은 순서).
+	 */
+	public Flux<CommentResponseDto> findComments(Long postId) {
+		return databaseClient.sql(COMMENT_COLUMNS + "where c.post_id = :postId order by c.modified_at desc")
+				.bind("postId", postId)
+				.map(ReactivePostRepository::toComment)
+				.all();
+	}
+
+	/**
+	 * Find comments of post by comment id desc (keyset).
+	 */
+	public Flux<CommentResponseDto> findCommentPage(Long postId, Long lastCommentId, int size) {
+		return databaseClient.sql(COMMENT_COLUMNS + "where c.post_id = :postId and c.comment_id < :lastCommentId "
+						+ "order by c.comment_id desc limit :size")
+				.bind("postId", postId)
+				.bind("lastCommentId", lastCommentId == null ? Long.MAX_VALUE : lastCommentId)
+				.bind("size", size)
+				.map(ReactivePostRepository::toComment)
+				.all();
+	}
+
+	private static FeedItemResponseDto toFeedItem(Readable row) {
+		return new FeedItemResponseDto(
+				row.get("post_id", Long.class),
+				row.get("title", String.class),
+				row.get("excerpt", String.class),
+				row.get("author_name", String.class),
+				row.get("comment_count", Long.class),
+				row.get("heart_count", Long.class),
+				row.get("latest_comments", String.class),
+				row.get("created_at", LocalDateTime.class),
+				row.get("modified_at", LocalDateTime.class));
+	}
+
+	private static CommentResponseDto toComment(Readable row) {
+		return CommentResponseDto.builder()
+				.commentId(row.get("comment_id", Long.class))
+				.postId(row.get("post_id", Long.class))
+				.content(row.get("content", String.class))
+				.userName(row.get("username", String.class))
+				.createdAt(row.get("created_at", LocalDateTime.class))
+				.modifiedAt(row.get("modified_at", LocalDateTime.class))
+				.heartCount(row.get("heart_count", Long.class).intValue())
+				.build();
+	}
+
+	private static long orZero(Long value) {
+		return value == null ? 0 : value;
+	}
+}
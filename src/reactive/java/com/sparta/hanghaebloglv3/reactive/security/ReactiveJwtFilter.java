@@ -0,0 +1,103 @@
+package com.sparta.hanghaebloglv3.reactive.security;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sparta.hanghaebloglv3.common.constant.ProjConst;
+import com.sparta.hanghaebloglv3.common.dto.ApiResult;
+import com.sparta.hanghaebloglv3.common.jwt.JwtUtil;
+import com.sparta.hanghaebloglv3.common.logging.AuditLog;
+import com.sparta.hanghaebloglv3.user.entity.UserRoleEnum;
+import io.jsonwebtoken.Claims;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+
+/**
+ * ReactiveJwtFilter.
+ * JwtAuthorizationFilter + WebSecurityConfig 의 인가 규칙을 WebFilter 로 옮긴 것. 모든 API 는 access 토큰이 필요하고, /actuator 는 관리자만.
+ * 서명 검증은 CPU 작업이라 event loop 에서 바로 처리하고, 폐기 여부 DB 확인만 non-blocking 으로 기다린다.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+public class ReactiveJwtFilter implements WebFilter {
+
+	// 인증된 요청의 username (ReactiveRateLimitFilter 가 사용자 기준 제한에 사용)
+	public static final String USERNAME_ATTRIBUTE = ReactiveJwtFilter.class.getName() + ".username";
+
+	private static final String HEALTH_PATH = "/actuator/health";
+	private static final String ACTUATOR_PATH = "/actuator/";
+
+	private final JwtUtil jwtUtil;
+	private final ReactiveTokenRevocationService reactiveTokenRevocationService;
+	private final ObjectMapper objectMapper;
+
+	@Override
+	public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+		String path = exchange.getRequest().getPath().value();
+		if (path.equals(HEALTH_PATH)) {
+			return chain.filter(exchange);
+		}
+
+		String tokenValue = jwtUtil.substringToken(exchange.getRequest().getHeaders().getFirst(JwtUtil.AUTHORIZATION_HEADER));
+		if (!StringUtils.hasText(tokenValue)) {
+			return this.writeStatus(exchange.getResponse(), HttpStatus.FORBIDDEN);
+		}
+		if (!jwtUtil.validateToken(tokenValue)) {
+			AuditLog.tokenRejected("invalid", this.remoteAddr(exchange));
+			return this.writeInvalidToken(exchange.getResponse());
+		}
+
+		Claims info = jwtUtil.getUserInfoFromToken(tokenValue);
+		if (!jwtUtil.isTokenType(info, JwtUtil.ACCESS_TOKEN_TYPE)) {
+			AuditLog.tokenRejected("revoked", this.remoteAddr(exchange));
+			return this.writeInvalidToken(exchange.getResponse());
+		}
+		if (path.startsWith(ACTUATOR_PATH) && !UserRoleEnum.ADMIN.name().equals(info.get(JwtUtil.AUTHORIZATION_KEY, String.class))) {
+			return this.writeStatus(exchange.getResponse(), HttpStatus.FORBIDDEN);
+		}
+
+		return reactiveTokenRevocationService.isRevoked(info).flatMap(revoked -> {
+			if (revoked) {
+				AuditLog.tokenRejected("revoked", this.remoteAddr(exchange));
+				return this.writeInvalidToken(exchange.getResponse());
+			}
+			exchange.getAttributes().put(USERNAME_ATTRIBUTE, info.getSubject());
+			return chain.filter(exchange);
+		});
+	}
+
+	private Mono<Void> writeStatus(ServerHttpResponse response, HttpStatus status) {
+		response.setStatusCode(status);
+		return response.setComplete();
+	}
+
+	private Mono<Void> writeInvalidToken(ServerHttpResponse response) {
+		byte[] body;
+		try {
+			body = objectMapper.writeValueAsBytes(new ApiResult(ProjConst.INVALID_TOKEN, HttpStatus.BAD_REQUEST.value()));
+		} catch (JsonProcessingException e) {
+			throw new UncheckedIOException(e);
+		}
+		response.setStatusCode(HttpStatus.BAD_REQUEST);
+		response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+		return response.writeWith(Mono.just(response.bufferFactory().wrap(body)));
+	}
+
+	private String remoteAddr(ServerWebExchange exchange) {
+		InetSocketAddress remoteAddress = exchange.getRequest().getRemoteAddress();
+		return remoteAddress == null ? null : remoteAddress.getHostString();
+	}
+}
@@ -0,0 +1,100 @@
+package com.sparta.hanghaebloglv3.reactive.security;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sparta.hanghaebloglv3.common.constant.ProjConst;
+import com.sparta.hanghaebloglv3.common.dto.ApiResult;
+import com.sparta.hanghaebloglv3.common.ratelimit.RateLimitRoute;
+import com.sparta.hanghaebloglv3.common.ratelimit.RateLimiter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+import java.net.InetSocketAddress;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * ReactiveRateLimitFilter.
+ * RateLimitFilter 를 WebFilter 로 옮긴 것. servlet 서버와 같은 순서(JWT 인가 -> 요청 수 제한)로 IP, username 기준 제한.
+ * client IP 는 신뢰하는 proxy(server.tomcat.remoteip.internal-proxies)를 거친 요청만 X-Forwarded-For 에서 읽는다.
+ * 버킷은 서버마다 따로이므로 읽기 서버(8081)의 한도는 쓰기 서버와 별개로 적용된다.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+public class ReactiveRateLimitFilter implements WebFilter {
+
+	private static final String X_FORWARDED_FOR = "X-Forwarded-For";
+
+	private final RateLimiter rateLimiter;
+	private final boolean enabled;
+	private final Pattern internalProxies; // servlet 서버(RemoteIpValve)와 같은 신뢰하는 proxy 주소
+	// 429 응답 body는 항상 같으므로 미리 직렬화해 둔다.
+	private final byte[] tooManyRequestsBody;
+
+	public ReactiveRateLimitFilter(ObjectMapper objectMapper,
+			@Value("${rate-limit.max-buckets}") int maxBuckets,
+			@Value("${rate-limit.enabled}") boolean enabled,
+			@Value("${server.tomcat.remoteip.internal-proxies}") String internalProxies) {
+		this.rateLimiter = new RateLimiter(maxBuckets);
+		this.enabled = enabled;
+		this.internalProxies = Pattern.compile(internalProxies);
+		try {
+			this.tooManyRequestsBody = objectMapper.writeValueAsBytes(new ApiResult(ProjConst.TOO_MANY_REQUESTS, HttpStatus.TOO_MANY_REQUESTS.value()));
+		} catch (JsonProcessingException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	@Override
+	public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+		if (!enabled) {
+			return chain.filter(exchange);
+		}
+		ServerHttpRequest request = exchange.getRequest();
+		RateLimitRoute route = RateLimitRoute.resolve(request.getMethod().name(), request.getPath().value());
+		long now = System.nanoTime();
+
+		// IP 버킷에서 거절되면 user 버킷은 소비하지 않는다.
+		long waitNanos = rateLimiter.tryAcquireForIp(route, this.clientIp(request), now);
+		String username = exchange.getAttribute(ReactiveJwtFilter.USERNAME_ATTRIBUTE);
+		if (waitNanos == 0 && username != null) {
+			waitNanos = rateLimiter.tryAcquireForUser(route, username, now);
+		}
+
+		if (waitNanos > 0) {
+			return this.writeTooManyRequests(exchange.getResponse(), waitNanos);
+		}
+		return chain.filter(exchange);
+	}
+
+	// RemoteIpValve 와 같은 규칙 : 직접 연결한 주소가 신뢰하는 proxy 일 때만 X-Forwarded-For 를 오른쪽부터 읽어서 처음 나오는 proxy 가 아닌 주소
+	private String clientIp(ServerHttpRequest request) {
+		InetSocketAddress remoteAddress = request.getRemoteAddress();
+		String ip = remoteAddress == null ? "" : remoteAddress.getAddress() == null ? remoteAddress.getHostString() : remoteAddress.getAddress().getHostAddress();
+		List<String> forwardedFor = request.getHeaders().getValuesAsList(X_FORWARDED_FOR);
+		for (int i = forwardedFor.size() - 1; i >= 0 && internalProxies.matcher(ip).matches(); i--) {
+			ip = forwardedFor.get(i).trim();
+		}
+		return ip;
+	}
+
+	private Mono<Void> writeTooManyRequests(ServerHttpResponse response, long waitNanos) {
+		long retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + TimeUnit.SECONDS.toNanos(1) - 1));
+		response.setStatusCode(HttpStatus.TOO_MANY_REQUESTS);
+		response.getHeaders().set(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+		response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+		return response.writeWith(Mono.just(response.bufferFactory().wrap(tooManyRequestsBody)));
+	}
+}
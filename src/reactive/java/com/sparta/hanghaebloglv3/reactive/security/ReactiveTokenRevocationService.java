@@ -0,0 +1,96 @@
+package com.sparta.hanghaebloglv3.reactive.security;
+
+import com.sparta.hanghaebloglv3.common.jwt.RevocationRegistry;
+import com.sparta.hanghaebloglv3.common.jwt.RevocationRegistry.Revocation;
+import io.jsonwebtoken.Claims;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * ReactiveTokenRevocationService.
+ * TokenRevocationService 와 같은 RevocationRegistry 로 tb_revoked_token 을 읽어 폐기된 토큰(jti, family, 사용자 전체)을 확인한다.
+ * 폐기와 만료된 폐기 정보 삭제는 servlet 애플리케이션이 담당.
+ */
+@Slf4j(topic = "토큰 폐기")
+@Service
+@RequiredArgsConstructor
+public class ReactiveTokenRevocationService {
+
+	private static final String COLUMNS = "select jti, family, username, revoked_at from tb_revoked_token ";
+
+	private final DatabaseClient databaseClient;
+
+	@Value("${jwt.revocation.expected-revocations}")
+	private long expectedRevocations;
+
+	private RevocationRegistry registry;
+
+	@PostConstruct
+	public void init() {
+		this.registry = new RevocationRegistry(expectedRevocations);
+		this.rebuild();
+	}
+
+	/**
+	 * Check token is revoked. Bloom filter 에 있을 때만 DB 로 확인.
+	 */
+	public Mono<Boolean> isRevoked(Claims claims) {
+		if (registry.isUserRevoked(claims)) {
+			return Mono.just(true);
+		}
+		String family = registry.suspectedFamily(claims);
+		String jti = registry.suspectedJti(claims);
+		Mono<Boolean> familyRevoked = family == null ? Mono.just(false) : this.exists("family", family);
+		return familyRevoked.flatMap(revoked -> revoked || jti == null ? Mono.just(revoked) : this.exists("jti", jti));
+	}
+
+	/**
+	 * Poll revocations (스케줄러 스레드에서 실행되므로 결과를 기다려도 요청 처리와 무관).
+	 */
+	@Scheduled(fixedDelayString = "${jwt.revocation.poll-ms}", initialDelayString = "${jwt.revocation.poll-ms}")
+	public void poll() {
+		LocalDateTime polledAt = LocalDateTime.now();
+		registry.applyPolled(this.findRevocations("where revoked_at >= :at", registry.getPollFrom()), polledAt);
+	}
+
+	/**
+	 * Rebuild filter from table.
+	 */
+	@Scheduled(fixedDelayString = "${jwt.revocation.rebuild-ms}", initialDelayString = "${jwt.revocation.rebuild-ms}")
+	public void rebuild() {
+		LocalDateTime now = LocalDateTime.now();
+		List<Revocation> revocations = this.findRevocations("where expires_at > :at", now);
+		registry.rebuild(revocations, now);
+		log.info("revoked tokens loaded : {}", revocations.size());
+	}
+
+	// column 은 이 클래스의 상수만 넘김
+	private Mono<Boolean> exists(String column, String value) {
+		return databaseClient.sql("select count(*) from tb_revoked_token where " + column + " = :value")
+				.bind("value", value)
+				.map(row -> row.get(0, Long.class) > 0)
+				.one();
+	}
+
+	private List<Revocation> findRevocations(String condition, LocalDateTime at) {
+		return databaseClient.sql(COLUMNS + condition)
+				.bind("at", at)
+				.map(row -> new Revocation(
+						row.get("jti", String.class),
+						row.get("family", String.class),
+						row.get("username", String.class),
+						row.get("revoked_at", LocalDateTime.class)))
+				.all()
+				.collectList()
+				.block();
+	}
+}
@@ -0,0 +1,300 @@
+package com.sparta.hanghaebloglv3;
+
+import com.sparta.hanghaebloglv3.common.security.UserDetailsImpl;
+import com.sparta.hanghaebloglv3.common.security.UserDetailsServiceImpl;
+import com.sparta.hanghaebloglv3.feed.service.FeedProjectionService;
+import com.sparta.hanghaebloglv3.post.hot.HotPostSampler;
+import com.sparta.hanghaebloglv3.post.hot.HotPostSnapshot;
+import com.sparta.hanghaebloglv3.post.hot.PostCacheWarmer;
+import com.sparta.hanghaebloglv3.sync.repository.ChangeLogRepository;
+import com.sparta.hanghaebloglv3.user.entity.UserEntity;
+import com.sparta.hanghaebloglv3.user.entity.UserRoleEnum;
+import com.sparta.hanghaebloglv3.user.repository.UserRepository;
+import com.sparta.hanghaebloglv3.user.service.AuthorCacheService;
+import com.sparta.hanghaebloglv3.user.service.UserStatsService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 조회 API 의 SQL 실행 수가 데이터 양과 관계없이 일정한지, 캐시가 적용되는지 확인.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class StatementCountTest {
+
+	private static final int USER_COUNT = 5;
+
+	@Autowired
+	private MockMvc mockMvc;
+	@Autowired
+	private UserRepository userRepository;
+	@Autowired
+	private PasswordEncoder passwordEncoder;
+	@Autowired
+	private UserDetailsServiceImpl userDetailsService;
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+	@Autowired
+	private FeedProjectionService feedProjectionService;
+	@Autowired
+	private ChangeLogRepository changeLogRepository;
+	@Autowired
+	private UserStatsService userStatsService;
+	@Autowired
+	private HotPostSampler hotPostSampler;
+	@Autowired
+	private PostCacheWarmer postCacheWarmer;
+	@Autowired
+	private AuthorCacheService authorCacheService;
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	private final List<UserEntity> users = new ArrayList<>();
+	private Statistics statistics;
+	private long postCount;
+
+	@BeforeAll
+	void setUp() {
+		for (int i = 0; i < USER_COUNT; i++) {
+			users.add(userRepository.save(new UserEntity("writer" + i, passwordEncoder.encode("Passw0rd!"), UserRoleEnum.USER)));
+		}
+		statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+	}
+
+	@BeforeEach
+	void evictCache() {
+		entityManagerFactory.getCache().evictAll();
+	}
+
+	@Test
+	void postListRunsFixedStatements() throws Exception {
+		this.writePosts(1);
+		long small = this.countStatements(() -> mockMvc.perform(get("/api/post").with(user(this.userDetails(0))))
+				.andExpect(status().isOk()));
+
+		this.writePosts(3);
+		long large = this.countStatements(() -> mockMvc.perform(get("/api/post").with(user(this.userDetails(0))))
+				.andExpect(status().isOk()));
+
+		// 버전(ETag) 조회 + 게시글(작성자) + 좋아요 수 + 조회수 + 게시글마다 최근 댓글(작성자, 좋아요 수), 댓글 수
+		assertThat(large).isEqualTo(small).isEqualTo(5);
+	}
+
+	@Test
+	void postDetailRunsFixedStatements() throws Exception {
+		long fewCommentsPostId = this.writePosts(1);
+		long manyCommentsPostId = this.writePosts(1);
+		for (int i = 0; i < USER_COUNT; i++) {
+			this.writeComment(manyCommentsPostId, i);
+		}
+
+		long few = this.countStatements(() -> mockMvc.perform(get("/api/post/" + fewCommentsPostId).with(user(this.userDetails(0))))
+				.andExpect(status().isOk()));
+		long many = this.countStatements(() -> mockMvc.perform(get("/api/post/" + manyCommentsPostId).with(user(this.userDetails(0))))
+				.andExpect(status().isOk()));
+
+		assertThat(many).isEqualTo(few);
+	}
+
+	@Test
+	void postListWithFieldsSkipsUnselectedQueries() throws Exception {
+		this.writePosts(1);
+		long pruned = this.countStatements(() -> mockMvc.perform(get("/api/post?fields=postId,title").with(user(this.userDetails(0))))
+				.andExpect(status().isOk()));
+
+		// 버전(ETag) 조회 + 게시글(작성자), 조회수, 댓글은 조회하지 않음
+		assertThat(pruned).isEqualTo(2);
+	}
+
+	@Test
+	void postDetailWithFieldsSkipsUnselectedQueries() throws Exception {
+		long postId = this.writePosts(1);
+		long full = this.countStatements(() -> mockMvc.perform(get("/api/post/" + postId).with(user(this.userDetails(0))))
+				.andExpect(status().isOk()));
+		long pruned = this.countStatements(() -> mockMvc.perform(get("/api/post/" + postId + "?fields=title").with(user(this.userDetails(0))))
+				.andExpect(status().isOk()));
+
+		// 댓글, 좋아요 수, 내 좋아요 여부, 조회수 조회 생략 (작성자 join 도 생략)
+		// 응답이 ETag 로 검증되므로 게시글은 2차 캐시에 있어도 DB 에서 읽음
+		assertThat(pruned).isLessThanOrEqualTo(full - 4);
+		assertThat(statistics.getSecondLevelCacheHitCount()).isZero();
+	}
+
+	@Test
+	void postBatchRunsFixedStatements() throws Exception {
+		long first = this.writePosts(1);
+		long last = this.writePosts(2);
+		String ids = LongStream.rangeClosed(first, last).mapToObj(String::valueOf).collect(Collectors.joining(","));
+		mockMvc.perform(get("/api/post/batch?ids=" + ids).with(user(this.userDetails(0)))).andExpect(status().isOk()); // 작성자 캐시 채우기
+
+		long few = this.countStatements(() -> mockMvc.perform(get("/api/post/batch?ids=" + first).with(user(this.userDetails(0))))
+				.andExpect(status().isOk()));
+		long many = this.countStatements(() -> mockMvc.perform(get("/api/post/batch?ids=" + ids).with(user(this.userDetails(0))))
+				.andExpect(status().isOk()));
+
+		// 본문 + 게시글 + 좋아요 수 + 내 좋아요 + 조회수 + 댓글(작성자, 좋아요), 게시글 작성자는 2차 캐시에서
+		assertThat(many).isEqualTo(few).isEqualTo(6);
+	}
+
+	@Test
+	void postBatchReadsAuthorsFromSecondLevelCache() throws Exception {
+		long last = this.writePosts(1);
+		String ids = LongStream.rangeClosed(last - USER_COUNT + 1, last).mapToObj(String::valueOf).collect(Collectors.joining(","));
+		long cold = this.countStatements(() -> mockMvc.perform(get("/api/post/batch?ids=" + ids).with(user(this.userDetails(0))))
+				.andExpect(status().isOk()));
+		long warm = this.countStatements(() -> mockMvc.perform(get("/api/post/batch?ids=" + ids).with(user(this.userDetails(0))))
+				.andExpect(status().isOk()));
+
+		// 작성자 USER_COUNT 명을 처음에는 한 번에 조회, 다음부터는 tb_user 를 읽지 않음
+		assertThat(warm).isEqualTo(cold - 1);
+		assertThat(statistics.getSecondLevelCacheHitCount()).isEqualTo(USER_COUNT);
+	}
+
+	@Test
+	void authorRenamedOnOtherServerIsEvictedByPolling() throws Exception {
+		UserEntity author = userRepository.save(new UserEntity("renamed0", passwordEncoder.encode("Passw0rd!"), UserRoleEnum.USER));
+		mockMvc.perform(post("/api/post").with(user(new UserDetailsImpl(author)))
+						.contentType(MediaType.APPLICATION_JSON)
+						.content("{\"title\":\"title\",\"content\":\"content\"}"))
+				.andExpect(status().isOk());
+		long postId = ++postCount;
+		mockMvc.perform(get("/api/post/batch?ids=" + postId).with(user(this.userDetails(0))))
+				.andExpect(jsonPath("$.posts[0].username").value("renamed0"));
+
+		// 다른 서버에서 username 변경 (이 서버의 after-commit 무효화 없음)
+		jdbcTemplate.update("update tb_user set username = ?, username_modified_at = ? where user_id = ?",
+				"renamed1", LocalDateTime.now(), author.getUserId());
+		mockMvc.perform(get("/api/post/batch?ids=" + postId).with(user(this.userDetails(0))))
+				.andExpect(jsonPath("$.posts[0].username").value("renamed0"));
+
+		authorCacheService.poll();
+		mockMvc.perform(get("/api/post/batch?ids=" + postId).with(user(this.userDetails(0))))
+				.andExpect(jsonPath("$.posts[0].username").value("renamed1"));
+	}
+
+	@Test
+	void syncRunsFixedStatements() throws Exception {
+		this.writePosts(1);
+		long since = changeLogRepository.findMaxSeq();
+		this.writePosts(1);
+		long small = this.countStatements(() -> mockMvc.perform(get("/api/sync?since=" + since).with(user(this.userDetails(0))))
+				.andExpect(status().isOk()));
+
+		long largeSince = changeLogRepository.findMaxSeq();
+		this.writePosts(3);
+		long large = this.countStatements(() -> mockMvc.perform(get("/api/sync?since=" + largeSince).with(user(this.userDetails(0))))
+				.andExpect(status().isOk()));
+
+		// head + 최대 seq + 변경 기록 + 게시글(작성자) + 좋아요 수 + 댓글(작성자, 좋아요), 전체 게시글 수와 관계없음
+		assertThat(large).isEqualTo(small).isEqualTo(6);
+	}
+
+	@Test
+	void cacheWarmUpRunsFixedStatementsPerBatch() throws Exception {
+		long first = this.writePosts(1);
+		HotPostSnapshot.write(hotPostSampler.getSnapshotPath(), List.of(new long[]{first, 1}));
+		long few = this.countStatements(() -> postCacheWarmer.warmUp());
+
+		long last = this.writePosts(2);
+		HotPostSnapshot.write(hotPostSampler.getSnapshotPath(), LongStream.rangeClosed(first, last).mapToObj(postId -> new long[]{postId, 1}).toList());
+		long many = this.countStatements(() -> postCacheWarmer.warmUp());
+
+		// batch 마다 ETag(버전) + 본문 + 게시글(작성자) + 좋아요 수 + 조회수 + 댓글(작성자, 좋아요)
+		assertThat(many).isEqualTo(few).isEqualTo(6);
+	}
+
+	@Test
+	void profileReadsStatsRowMatchingRecount() throws Exception {
+		long postId = this.writePosts(1);
+		mockMvc.perform(delete("/api/post/" + postId).with(user(this.userDetails(USER_COUNT - 1))))
+				.andExpect(status().isOk());
+		long statements = this.countStatements(() -> mockMvc.perform(get("/api/profile").with(user(this.userDetails(0))))
+				.andExpect(status().isOk()));
+
+		// 프로필은 user_stats row 하나만 읽고, 쓰기마다 증감한 값은 원본 테이블을 다시 센 값과 같음 (삭제된 댓글, 좋아요 포함)
+		assertThat(statements).isEqualTo(1);
+		assertThat(userStatsService.reconcile()).isZero();
+	}
+
+	@Test
+	void usernameLookupAlwaysReadsDatabase() throws Exception {
+		this.countStatements(() -> userDetailsService.loadUserByUsername("writer1"));
+		long again = this.countStatements(() -> userDetailsService.loadUserByUsername("writer1"));
+
+		// 비밀번호, 권한은 캐시하지 않으므로 매번 tb_user 를 읽음 (다른 서버의 변경이 바로 반영됨)
+		assertThat(again).isEqualTo(1);
+		assertThat(statistics.getSecondLevelCacheHitCount()).isZero();
+	}
+
+	// 작성자마다 게시글 작성, 다음 작성자가 댓글과 좋아요 작성. 마지막 게시글 id 반환
+	private long writePosts(int postsPerUser) throws Exception {
+		for (int i = 0; i < USER_COUNT; i++) {
+			for (int j = 0; j < postsPerUser; j++) {
+				mockMvc.perform(post("/api/post").with(user(this.userDetails(i)))
+								.contentType(MediaType.APPLICATION_JSON)
+								.content("{\"title\":\"title\",\"content\":\"content\"}"))
+						.andExpect(status().isOk());
+				postCount++;
+				this.writeComment(postCount, (i + 1) % USER_COUNT);
+				mockMvc.perform(post("/api/heart-feed/" + postCount).with(user(this.userDetails((i + 1) % USER_COUNT))))
+						.andExpect(status().isOk());
+			}
+		}
+		return postCount;
+	}
+
+	private void writeComment(long postId, int userIndex) throws Exception {
+		mockMvc.perform(post("/api/comment").with(user(this.userDetails(userIndex)))
+						.contentType(MediaType.APPLICATION_JSON)
+						.content("{\"postId\":" + postId + ",\"content\":\"comment\"}"))
+				.andExpect(status().isOk());
+	}
+
+	private UserDetailsImpl userDetails(int userIndex) {
+		return new UserDetailsImpl(users.get(userIndex));
+	}
+
+	private long countStatements(ThrowingRunnable runnable) throws Exception {
+		// 작성 API 가 남긴 feed_item 갱신(별도 스레드)이 끝난 뒤 측정
+		while (feedProjectionService.getBacklog() > 0) {
+			Thread.sleep(10);
+		}
+		statistics.clear();
+		runnable.run();
+		return statistics.getPrepareStatementCount();
+	}
+
+	@FunctionalInterface
+	private interface ThrowingRunnable {
+		void run() throws Exception;
+	}
+}
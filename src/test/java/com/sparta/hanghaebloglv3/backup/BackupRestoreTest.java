@@ -0,0 +1,168 @@
+package com.sparta.hanghaebloglv3.backup;
+
+import com.sparta.hanghaebloglv3.backup.dto.BackupResultDto;
+import com.sparta.hanghaebloglv3.backup.file.BackupColumn;
+import com.sparta.hanghaebloglv3.backup.file.BackupFileReader;
+import com.sparta.hanghaebloglv3.backup.file.BackupSegment;
+import com.sparta.hanghaebloglv3.backup.file.BackupTable;
+import com.sparta.hanghaebloglv3.backup.service.BackupService;
+import com.sparta.hanghaebloglv3.common.util.HyperLogLog;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 백업 파일 형식 왕복(백업 -> 복원), segment checksum(CRC32C) 검증, 중단된 복원 이어서 하기.
+ * 복원은 빈 DB 를 전제로 하므로 다른 테스트와 다른 DB 를 사용한다.
+ */
+@SpringBootTest(properties = {
+		"spring.datasource.url=jdbc:h2:mem:db_backup;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+		"backup.dir=build/test-backups",
+		"backup.chunk-size=2" // 테이블마다 segment 여러 개
+})
+@ActiveProfiles("test")
+class BackupRestoreTest {
+
+	private static final int ROWS_PER_TABLE = 5;
+	private static final List<BackupTable> SEEDED_TABLES = List.of(BackupTable.USER, BackupTable.POST, BackupTable.COMMENT, BackupTable.HEART_FEED,
+			BackupTable.POST_VIEW);
+
+	@Autowired
+	private BackupService backupService;
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@BeforeEach
+	void setUp() {
+		this.truncateAll();
+		Timestamp now = Timestamp.valueOf(LocalDateTime.of(2024, 1, 2, 3, 4, 5, 6_000));
+		// null, 한글(여러 byte) 문자열도 같은 값으로 돌아오는지 확인
+		for (long id = 1; id <= ROWS_PER_TABLE; id++) {
+			this.insert(BackupTable.USER, id, "user" + id, "password" + id, id % 2 == 0 ? null : "소개 " + id, "USER");
+		}
+		for (long id = 1; id <= ROWS_PER_TABLE; id++) {
+			this.insert(BackupTable.POST, id, id, "title" + id, "본문 " + id, "excerpt" + id, now, now);
+		}
+		for (long id = 1; id <= ROWS_PER_TABLE; id++) {
+			this.insert(BackupTable.COMMENT, id, id, (id % ROWS_PER_TABLE) + 1, "댓글 " + id, now, now);
+			this.insert(BackupTable.HEART_FEED, id, id, (id % ROWS_PER_TABLE) + 1);
+		}
+		// 조회수 sketch(BYTES) 는 sparse 직렬화 길이가 글마다 다름
+		for (long id = 1; id <= ROWS_PER_TABLE; id++) {
+			HyperLogLog viewers = new HyperLogLog();
+			for (long viewer = 1; viewer <= id * 10; viewer++) {
+				viewers.add(viewer);
+			}
+			this.insert(BackupTable.POST_VIEW, id, id * 100, viewers.estimate(), viewers.toByteArray());
+		}
+	}
+
+	@Test
+	void restoreReproducesBackedUpRows() throws IOException {
+		Map<BackupTable, List<Map<String, Object>>> before = this.readAll();
+		BackupResultDto result = backupService.backup();
+		assertThat(result.getRowCounts()).containsEntry("tb_post", (long) ROWS_PER_TABLE);
+		assertThat(result.getSegmentCount()).isEqualTo(SEEDED_TABLES.size() * 3); // 5 rows / chunk 2
+
+		this.truncateAll();
+		backupService.restore(this.pathOf(result));
+
+		assertThat(this.readAll()).isEqualTo(before);
+	}
+
+	@Test
+	void corruptedPayloadFailsChecksum() throws IOException {
+		Path file = this.pathOf(backupService.backup());
+
+		// 첫 segment payload 의 첫 byte 를 바꿈 (file header 8 + segment header 30 byte 뒤)
+		try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+			ByteBuffer buffer = ByteBuffer.allocate(1);
+			channel.read(buffer, 38);
+			buffer.put(0, (byte) (buffer.get(0) ^ 0x01)).position(0);
+			channel.write(buffer, 38);
+		}
+
+		try (BackupFileReader reader = BackupFileReader.open(file)) {
+			BackupSegment segment = reader.next();
+			assertThatThrownBy(() -> reader.readRows(segment))
+					.isInstanceOf(IllegalStateException.class)
+					.hasMessageContaining("checksum mismatch");
+		}
+		this.truncateAll();
+		assertThatThrownBy(() -> backupService.restore(file)).isInstanceOf(IllegalStateException.class);
+		assertThat(jdbcTemplate.queryForObject("select count(*) from tb_user", Long.class)).isZero();
+	}
+
+	@Test
+	void restoreResumesAfterCommittedSegments() throws IOException {
+		Map<BackupTable, List<Map<String, Object>>> before = this.readAll();
+		Path file = this.pathOf(backupService.backup());
+
+		// 좋아요 segment 일부만 commit 된 채 중단된 상황 (id 3 까지 commit, 중간 segment 의 일부 row 만 있음)
+		this.truncateAll();
+		backupService.restore(file);
+		jdbcTemplate.update("delete from tb_heart_feed where heart_feed_id > 3");
+
+		// 이미 있는 row 는 건너뛰고 나머지만 넣음 (중복 키 오류 없음)
+		backupService.restore(file);
+		assertThat(this.readAll()).isEqualTo(before);
+
+		// 모두 복원된 상태에서 다시 실행해도 그대로
+		backupService.restore(file);
+		assertThat(this.readAll()).isEqualTo(before);
+	}
+
+	private void insert(BackupTable table, Object... row) {
+		jdbcTemplate.update(table.getInsertSql(), row);
+	}
+
+	private Map<BackupTable, List<Map<String, Object>>> readAll() {
+		Map<BackupTable, List<Map<String, Object>>> rows = new EnumMap<>(BackupTable.class);
+		for (BackupTable table : SEEDED_TABLES) {
+			List<BackupColumn> columns = table.getColumns();
+			List<Map<String, Object>> tableRows = jdbcTemplate.queryForList("select "
+					+ columns.stream().map(BackupColumn::getName).collect(Collectors.joining(", "))
+					+ " from " + table.getTableName() + " order by " + columns.get(0).getName());
+			// byte[] 는 equals 로 비교되지 않으므로 hex 문자열로 바꿔서 비교
+			tableRows.forEach(row -> row.replaceAll((column, value) -> value instanceof byte[] bytes ? HexFormat.of().formatHex(bytes) : value));
+			rows.put(table, new ArrayList<>(tableRows));
+		}
+		return rows;
+	}
+
+	// 외래 키 순서와 관계없이 모든 백업 대상 테이블을 비움 (H2)
+	private void truncateAll() {
+		jdbcTemplate.execute("set referential_integrity false");
+		try {
+			for (BackupTable table : BackupTable.values()) {
+				jdbcTemplate.execute("truncate table " + table.getTableName());
+			}
+		} finally {
+			jdbcTemplate.execute("set referential_integrity true");
+		}
+	}
+
+	private Path pathOf(BackupResultDto result) {
+		return Path.of("build/test-backups").resolve(result.getFileName());
+	}
+}
@@ -0,0 +1,95 @@
+package com.sparta.hanghaebloglv3.common.jwt;
+
+import com.sparta.hanghaebloglv3.common.jwt.RevocationRegistry.Revocation;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * RevocationRegistry 의 사용자 전체 폐기(ms 단위 발급 시각 비교), jti, family 반영.
+ */
+class RevocationRegistryTest {
+
+	private static final LocalDateTime REVOKED_AT = LocalDateTime.of(2024, 1, 2, 3, 4, 5, 900_000_000);
+
+	@Test
+	void userRevocationComparesIssuedAtInMillis() {
+		RevocationRegistry registry = new RevocationRegistry(100);
+		registry.revokeUser("alice", REVOKED_AT);
+
+		// 폐기(05.900 초) 직후 같은 초에 다시 발급된 토큰은 유효, 바로 전에 발급된 토큰은 폐기
+		assertThat(registry.isUserRevoked(claims("alice", REVOKED_AT.plusNanos(1_000_000), null))).isFalse();
+		assertThat(registry.isUserRevoked(claims("alice", REVOKED_AT.minusNanos(1_000_000), null))).isTrue();
+		assertThat(registry.isUserRevoked(claims("bob", REVOKED_AT.minusDays(1), null))).isFalse();
+	}
+
+	@Test
+	void tokenWithoutIssuedAtMillisFallsBackToStartOfSecond() {
+		RevocationRegistry registry = new RevocationRegistry(100);
+		registry.revokeUser("alice", REVOKED_AT);
+
+		// iat_ms 도입 전에 발급된 토큰 : 같은 초면 폐기로 봄
+		Claims legacy = claims("alice", REVOKED_AT.plusNanos(50_000_000), null);
+		legacy.remove(JwtUtil.ISSUED_AT_MILLIS_KEY);
+		assertThat(registry.isUserRevoked(legacy)).isTrue();
+	}
+
+	@Test
+	void polledRevocationsAreSuspected() {
+		RevocationRegistry registry = new RevocationRegistry(100);
+		String jti = UUID.randomUUID().toString();
+		String family = UUID.randomUUID().toString();
+		Claims claims = claims("alice", REVOKED_AT.minusMinutes(1), family);
+		claims.setId(jti);
+
+		assertThat(registry.suspectedJti(claims)).isNull();
+		assertThat(registry.suspectedFamily(claims)).isNull();
+
+		registry.applyPolled(List.of(
+				new Revocation(jti, null, null, REVOKED_AT),
+				new Revocation(null, family, null, REVOKED_AT),
+				new Revocation(null, null, "alice", REVOKED_AT)), LocalDateTime.now());
+
+		assertThat(registry.suspectedJti(claims)).isEqualTo(jti);
+		assertThat(registry.suspectedFamily(claims)).isEqualTo(family);
+		assertThat(registry.isUserRevoked(claims)).isTrue();
+	}
+
+	@Test
+	void rebuildKeepsOnlyGivenRevocations() {
+		RevocationRegistry registry = new RevocationRegistry(100);
+		String expiredJti = UUID.randomUUID().toString();
+		String family = UUID.randomUUID().toString();
+		registry.put(expiredJti);
+
+		registry.rebuild(List.of(new Revocation(null, family, null, REVOKED_AT)), LocalDateTime.now());
+
+		Claims claims = claims("alice", REVOKED_AT, family);
+		claims.setId(expiredJti);
+		assertThat(registry.suspectedJti(claims)).isNull();
+		assertThat(registry.suspectedFamily(claims)).isEqualTo(family);
+	}
+
+	private static Claims claims(String username, LocalDateTime issuedAt, String family) {
+		Instant issuedAtInstant = issuedAt.atZone(ZoneId.systemDefault()).toInstant();
+		// JwtUtil 과 같이 iat 는 초 단위, iat_ms 는 ms
+		Claims claims = Jwts.claims()
+				.setSubject(username)
+				.setIssuedAt(Date.from(issuedAtInstant.truncatedTo(ChronoUnit.SECONDS)));
+		claims.put(JwtUtil.ISSUED_AT_MILLIS_KEY, issuedAtInstant.toEpochMilli());
+		if (family != null) {
+			claims.put(JwtUtil.FAMILY_KEY, family);
+		}
+		return claims;
+	}
+}
@@ -0,0 +1,63 @@
+package com.sparta.hanghaebloglv3.common.ratelimit;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * RateLimiter 의 버킷 저장소가 가득 찼을 때 : 새 key 도 자기 버킷을 받고, 가득 찬 상태에 가까운 버킷부터 정리.
+ */
+class RateLimiterTest {
+
+	private static final int MAX_BUCKETS = 16;
+	private static final RateLimitRoute ROUTE = RateLimitRoute.LOGIN; // 초당 1개, burst 5
+	private static final int BURST = 5;
+
+	@Test
+	void newKeysDoNotShareBucketWhenTableIsFull() {
+		RateLimiter rateLimiter = new RateLimiter(MAX_BUCKETS);
+		long now = System.nanoTime();
+
+		// 공격자가 IP 를 바꿔 가며 저장소를 채우고 각 버킷을 모두 소비
+		for (int i = 0; i < MAX_BUCKETS * 2; i++) {
+			drain(rateLimiter, "attacker-" + i, now);
+		}
+
+		// 새 사용자 둘은 서로의 요청에 영향을 받지 않고 각자 burst 만큼 허용
+		long later = now + TimeUnit.SECONDS.toNanos(2);
+		for (int i = 0; i < BURST; i++) {
+			assertThat(rateLimiter.tryAcquireForIp(ROUTE, "user-a", later)).isZero();
+		}
+		for (int i = 0; i < BURST; i++) {
+			assertThat(rateLimiter.tryAcquireForIp(ROUTE, "user-b", later)).isZero();
+		}
+		assertThat(rateLimiter.tryAcquireForIp(ROUTE, "user-a", later)).isPositive();
+	}
+
+	@Test
+	void evictionKeepsDrainedBuckets() {
+		RateLimiter rateLimiter = new RateLimiter(MAX_BUCKETS);
+		long now = System.nanoTime();
+
+		// 한 번만 요청한(가득 찬 상태에 가까운) key 들로 채우고, 마지막에 버킷을 모두 소비한 key 하나
+		for (int i = 0; i < MAX_BUCKETS - 1; i++) {
+			rateLimiter.tryAcquireForIp(ROUTE, "light-" + i, now);
+		}
+		drain(rateLimiter, "heavy", now);
+
+		// 저장소가 가득 찬 상태에서 새 key -> 정리는 가득 찬 상태에 가까운 버킷부터
+		long later = now + TimeUnit.MILLISECONDS.toNanos(500);
+		assertThat(rateLimiter.tryAcquireForIp(ROUTE, "new", later)).isZero();
+
+		// 소비한 key 는 정리되지 않았으므로 여전히 제한됨 (0.5초 동안 충전된 토큰 없음)
+		assertThat(rateLimiter.tryAcquireForIp(ROUTE, "heavy", later)).isPositive();
+	}
+
+	private static void drain(RateLimiter rateLimiter, String ip, long now) {
+		while (rateLimiter.tryAcquireForIp(ROUTE, ip, now) == 0) {
+			// burst 를 모두 소비
+		}
+	}
+}
@@ -0,0 +1,104 @@
+package com.sparta.hanghaebloglv3.common.ratelimit;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * TokenBucket(GCRA) 의 burst, 충전, 시각 경계 동작.
+ */
+class TokenBucketTest {
+
+	private static final long INTERVAL = TimeUnit.MILLISECONDS.toNanos(100); // 초당 10개
+	private static final long BURST = 5;
+	private static final long TOLERANCE = INTERVAL * (BURST - 1);
+
+	@Test
+	void allowsBurstThenRejectsWithWaitUntilNextToken() {
+		long now = 1_000_000_000L;
+		TokenBucket bucket = new TokenBucket(now);
+
+		for (int i = 0; i < BURST; i++) {
+			assertThat(bucket.tryConsume(now, INTERVAL, TOLERANCE)).isZero();
+		}
+		assertThat(bucket.tryConsume(now, INTERVAL, TOLERANCE)).isEqualTo(INTERVAL);
+	}
+
+	@Test
+	void rejectedRequestDoesNotConsume() {
+		long now = 0;
+		TokenBucket bucket = new TokenBucket(now);
+		for (int i = 0; i < BURST; i++) {
+			bucket.tryConsume(now, INTERVAL, TOLERANCE);
+		}
+
+		for (int i = 0; i < 10; i++) {
+			assertThat(bucket.tryConsume(now, INTERVAL, TOLERANCE)).isEqualTo(INTERVAL);
+		}
+		assertThat(bucket.tryConsume(now + INTERVAL, INTERVAL, TOLERANCE)).isZero();
+	}
+
+	@Test
+	void refillsOneTokenPerInterval() {
+		long now = 0;
+		TokenBucket bucket = new TokenBucket(now);
+		for (int i = 0; i < BURST; i++) {
+			bucket.tryConsume(now, INTERVAL, TOLERANCE);
+		}
+
+		// 한 간격에서 1ns 모자라면 거절, 정확히 한 간격이 지나면 토큰 하나만 허용
+		assertThat(bucket.tryConsume(now + INTERVAL - 1, INTERVAL, TOLERANCE)).isEqualTo(1);
+		assertThat(bucket.tryConsume(now + INTERVAL, INTERVAL, TOLERANCE)).isZero();
+		assertThat(bucket.tryConsume(now + INTERVAL, INTERVAL, TOLERANCE)).isEqualTo(INTERVAL);
+
+		// 세 간격이 지나면 세 개
+		long later = now + 4 * INTERVAL;
+		for (int i = 0; i < 3; i++) {
+			assertThat(bucket.tryConsume(later, INTERVAL, TOLERANCE)).isZero();
+		}
+		assertThat(bucket.tryConsume(later, INTERVAL, TOLERANCE)).isPositive();
+	}
+
+	@Test
+	void longIdleDoesNotAccumulateMoreThanBurst() {
+		long now = 0;
+		TokenBucket bucket = new TokenBucket(now);
+		bucket.tryConsume(now, INTERVAL, TOLERANCE);
+
+		long later = now + TimeUnit.HOURS.toNanos(1);
+		assertThat(bucket.isIdle(later)).isTrue();
+		for (int i = 0; i < BURST; i++) {
+			assertThat(bucket.tryConsume(later, INTERVAL, TOLERANCE)).isZero();
+		}
+		assertThat(bucket.tryConsume(later, INTERVAL, TOLERANCE)).isEqualTo(INTERVAL);
+	}
+
+	@Test
+	void worksAcrossNanoTimeOverflow() {
+		// System.nanoTime() 은 음수이거나 Long.MAX_VALUE 를 넘어 감길 수 있다.
+		long now = Long.MAX_VALUE - INTERVAL / 2;
+		TokenBucket bucket = new TokenBucket(now);
+		for (int i = 0; i < BURST; i++) {
+			assertThat(bucket.tryConsume(now, INTERVAL, TOLERANCE)).isZero();
+		}
+		assertThat(bucket.tryConsume(now, INTERVAL, TOLERANCE)).isEqualTo(INTERVAL);
+
+		long wrapped = now + INTERVAL; // overflow -> 음수
+		assertThat(wrapped).isNegative();
+		assertThat(bucket.tryConsume(wrapped, INTERVAL, TOLERANCE)).isZero();
+		assertThat(bucket.isIdle(wrapped)).isFalse();
+	}
+
+	@Test
+	void newBucketIsIdleUntilConsumed() {
+		long now = 0;
+		TokenBucket bucket = new TokenBucket(now);
+		assertThat(bucket.isIdle(now)).isTrue();
+
+		bucket.tryConsume(now, INTERVAL, TOLERANCE);
+		assertThat(bucket.isIdle(now)).isFalse();
+		assertThat(bucket.isIdle(now + INTERVAL)).isTrue();
+	}
+}
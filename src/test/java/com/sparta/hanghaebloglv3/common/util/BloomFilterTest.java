@@ -0,0 +1,66 @@
+package com.sparta.hanghaebloglv3.common.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * BloomFilter 의 false negative 없음, 오탐률, 동시 put.
+ */
+class BloomFilterTest {
+
+	private static final int INSERTIONS = 20_000;
+	private static final double FPP = 0.01;
+
+	@Test
+	void neverReportsInsertedKeyAsMissing() {
+		BloomFilter bloomFilter = new BloomFilter(INSERTIONS, FPP);
+		List<String> keys = IntStream.range(0, INSERTIONS).mapToObj(i -> UUID.randomUUID().toString()).toList();
+		keys.forEach(bloomFilter::put);
+
+		assertThat(keys).allMatch(bloomFilter::mightContain);
+	}
+
+	@Test
+	void falsePositiveRateStaysNearConfiguredProbability() {
+		BloomFilter bloomFilter = new BloomFilter(INSERTIONS, FPP);
+		IntStream.range(0, INSERTIONS).forEach(i -> bloomFilter.put("inserted-" + i));
+
+		int probes = 100_000;
+		long falsePositives = IntStream.range(0, probes).filter(i -> bloomFilter.mightContain("absent-" + i)).count();
+
+		// 기대값 1% (1000개), 해시 분포가 고르지 않으면 크게 벗어남
+		assertThat((double) falsePositives / probes).isLessThan(FPP * 2);
+	}
+
+	@Test
+	void emptyFilterContainsNothing() {
+		BloomFilter bloomFilter = new BloomFilter(INSERTIONS, FPP);
+
+		assertThat(bloomFilter.mightContain("")).isFalse();
+		assertThat(bloomFilter.mightContain(UUID.randomUUID().toString())).isFalse();
+	}
+
+	@Test
+	void concurrentPutsAreNotLost() {
+		BloomFilter bloomFilter = new BloomFilter(INSERTIONS, FPP);
+		List<CompletableFuture<Void>> futures = new ArrayList<>();
+		for (int thread = 0; thread < 8; thread++) {
+			int offset = thread;
+			futures.add(CompletableFuture.runAsync(() -> {
+				for (int i = offset; i < INSERTIONS; i += 8) {
+					bloomFilter.put("key-" + i);
+				}
+			}));
+		}
+		CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+
+		assertThat(IntStream.range(0, INSERTIONS)).allMatch(i -> bloomFilter.mightContain("key-" + i));
+	}
+}
@@ -0,0 +1,104 @@
+package com.sparta.hanghaebloglv3.common.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * CountMinSketch 의 과소 추정 없음, 과대 추정 한도, halve, 동시 add.
+ */
+class CountMinSketchTest {
+
+	private static final int WIDTH = 1024;
+	private static final int KEYS = 5_000;
+
+	@Test
+	void neverUnderestimates() {
+		CountMinSketch sketch = new CountMinSketch(WIDTH);
+		for (long key = 0; key < KEYS; key++) {
+			for (long i = 0; i <= key % 10; i++) {
+				sketch.add(key);
+			}
+		}
+
+		assertThat(LongStream.range(0, KEYS)).allMatch(key -> sketch.estimate(key) >= key % 10 + 1);
+	}
+
+	@Test
+	void overestimateStaysWithinErrorBound() {
+		CountMinSketch sketch = new CountMinSketch(WIDTH);
+		long total = 0;
+		for (long key = 0; key < KEYS; key++) {
+			for (long i = 0; i <= key % 10; i++) {
+				sketch.add(key);
+				total++;
+			}
+		}
+
+		// e / width x 전체 횟수 이상 크게 나올 확률은 e^-4 (약 1.8%) 이하
+		double bound = Math.E / WIDTH * total;
+		long exceeded = LongStream.range(0, KEYS).filter(key -> sketch.estimate(key) - (key % 10 + 1) > bound).count();
+		assertThat((double) exceeded / KEYS).isLessThan(0.05);
+	}
+
+	@Test
+	void heavyHitterStandsOut() {
+		CountMinSketch sketch = new CountMinSketch(WIDTH);
+		LongStream.range(0, KEYS).forEach(sketch::add);
+		long heavy = KEYS + 1;
+		for (int i = 0; i < 1_000; i++) {
+			sketch.add(heavy);
+		}
+
+		assertThat(sketch.estimate(heavy)).isBetween(1_000L, 1_000L + (long) (Math.E / WIDTH * (KEYS + 1_000)));
+		assertThat(sketch.estimate(KEYS + 2)).isLessThan(sketch.estimate(heavy) / 10);
+	}
+
+	@Test
+	void addReturnsEstimateAfterAdding() {
+		CountMinSketch sketch = new CountMinSketch(WIDTH);
+
+		assertThat(sketch.add(42)).isEqualTo(1);
+		assertThat(sketch.add(42)).isEqualTo(2);
+		assertThat(sketch.estimate(42)).isEqualTo(2);
+		assertThat(sketch.estimate(43)).isZero();
+	}
+
+	@Test
+	void halveHalvesCounts() {
+		CountMinSketch sketch = new CountMinSketch(WIDTH);
+		for (int i = 0; i < 100; i++) {
+			sketch.add(7);
+		}
+		sketch.add(8);
+
+		sketch.halve();
+
+		assertThat(sketch.estimate(7)).isEqualTo(50);
+		assertThat(sketch.estimate(8)).isZero();
+	}
+
+	@Test
+	void concurrentAddsAreNotLost() {
+		CountMinSketch sketch = new CountMinSketch(WIDTH);
+		int threads = 8;
+		int addsPerThread = 10_000;
+
+		List<CompletableFuture<Void>> futures = new ArrayList<>();
+		for (int t = 0; t < threads; t++) {
+			futures.add(CompletableFuture.runAsync(() -> {
+				for (int i = 0; i < addsPerThread; i++) {
+					sketch.add(1);
+				}
+			}));
+		}
+		futures.forEach(CompletableFuture::join);
+
+		assertThat(sketch.estimate(1)).isEqualTo((long) threads * addsPerThread);
+	}
+}
@@ -0,0 +1,68 @@
+package com.sparta.hanghaebloglv3.common.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * HyperLogLog 의 추정 오차, merge, 직렬화 왕복.
+ */
+class HyperLogLogTest {
+
+	// 표준 오차 1.04 / sqrt(4096) = 1.6%, 3 sigma 안에 들어와야 함
+	private static final double ERROR_BOUND = 3 * 1.04 / Math.sqrt(4096);
+
+	@Test
+	void estimateStaysWithinErrorBound() {
+		for (long cardinality : new long[] {100, 1_000, 10_000, 100_000, 1_000_000}) {
+			HyperLogLog hyperLogLog = new HyperLogLog();
+			LongStream.range(0, cardinality).forEach(hyperLogLog::add);
+
+			assertThat(relativeError(hyperLogLog.estimate(), cardinality)).as("cardinality %d", cardinality).isLessThan(ERROR_BOUND);
+		}
+	}
+
+	@Test
+	void duplicatesAreNotCounted() {
+		HyperLogLog hyperLogLog = new HyperLogLog();
+		for (int repeat = 0; repeat < 10; repeat++) {
+			LongStream.range(0, 1_000).forEach(hyperLogLog::add);
+		}
+
+		assertThat(relativeError(hyperLogLog.estimate(), 1_000)).isLessThan(ERROR_BOUND);
+	}
+
+	@Test
+	void mergeEstimatesUnion() {
+		HyperLogLog left = new HyperLogLog();
+		HyperLogLog right = new HyperLogLog();
+		LongStream.range(0, 60_000).forEach(left::add);
+		LongStream.range(40_000, 100_000).forEach(right::add); // 20,000 개 겹침
+
+		left.merge(right);
+
+		assertThat(relativeError(left.estimate(), 100_000)).isLessThan(ERROR_BOUND);
+	}
+
+	@Test
+	void serializationRoundTripKeepsEstimate() {
+		// sparse(값이 적음), dense(값이 많음) 형식 모두
+		for (long cardinality : new long[] {0, 50, 100_000}) {
+			HyperLogLog hyperLogLog = new HyperLogLog();
+			LongStream.range(0, cardinality).forEach(hyperLogLog::add);
+
+			byte[] bytes = hyperLogLog.toByteArray();
+			HyperLogLog restored = HyperLogLog.fromByteArray(bytes);
+
+			assertThat(bytes.length).isLessThanOrEqualTo(HyperLogLog.MAX_SERIALIZED_BYTES);
+			assertThat(restored.estimate()).isEqualTo(hyperLogLog.estimate());
+			assertThat(restored.toByteArray()).isEqualTo(bytes);
+		}
+	}
+
+	private static double relativeError(long estimate, long actual) {
+		return Math.abs(estimate - actual) / (double) actual;
+	}
+}
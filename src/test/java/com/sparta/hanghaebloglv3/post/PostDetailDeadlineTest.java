@@ -0,0 +1,76 @@
+package com.sparta.hanghaebloglv3.post;
+
+import com.sparta.hanghaebloglv3.common.security.UserDetailsImpl;
+import com.sparta.hanghaebloglv3.feed.service.FeedProjectionService;
+import com.sparta.hanghaebloglv3.user.entity.UserEntity;
+import com.sparta.hanghaebloglv3.user.entity.UserRoleEnum;
+import com.sparta.hanghaebloglv3.user.repository.UserRepository;
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 게시글 상세 조회가 제한 시간(post.detail.timeout-ms)을 넘긴 조회를 다시 실행하지 않고 기본값으로 응답하는지 확인.
+ * 제한 시간을 0 으로 두어 worker 의 조회가 모두 제한 시간을 넘기게 한다.
+ */
+@SpringBootTest(properties = "post.detail.timeout-ms=0")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class PostDetailDeadlineTest {
+
+	@Autowired
+	private MockMvc mockMvc;
+	@Autowired
+	private UserRepository userRepository;
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+	@Autowired
+	private FeedProjectionService feedProjectionService;
+	@Autowired
+	private HikariDataSource hikariDataSource;
+
+	@Test
+	void queriesPastDeadlineAreReportedNotRepeated() throws Exception {
+		UserDetailsImpl writer = new UserDetailsImpl(userRepository.save(new UserEntity("deadline0", "password", UserRoleEnum.USER)));
+		String created = mockMvc.perform(post("/api/post").with(user(writer))
+						.contentType(MediaType.APPLICATION_JSON)
+						.content("{\"title\":\"title\",\"content\":\"content\"}"))
+				.andExpect(status().isOk())
+				.andReturn().getResponse().getContentAsString();
+		long postId = Long.parseLong(created.replaceAll(".*\"postId\":(\\d+).*", "$1"));
+
+		// 작성 API 가 남긴 feed_item 갱신이 끝나고, 나눠서 조회할 connection 이 남아 있을 때 측정
+		while (feedProjectionService.getBacklog() > 0 || hikariDataSource.getHikariPoolMXBean().getIdleConnections() < 5) {
+			Thread.sleep(10);
+		}
+		Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		statistics.clear();
+
+		mockMvc.perform(get("/api/post/" + postId).with(user(writer)))
+				.andExpect(status().isOk())
+				.andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-store"))
+				.andExpect(jsonPath("$.title").value("title"))
+				.andExpect(jsonPath("$.incompleteFields", containsInAnyOrder("heartCount", "likedByMe", "viewCount", "uniqueViewers", "commentList")));
+
+		// 버전(ETag) + 게시글(작성자) + 본문(lazy) 만 요청 스레드에서 조회, 제한 시간을 넘긴 조회는 요청 스레드에서 다시 실행하지 않음
+		assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+	}
+}
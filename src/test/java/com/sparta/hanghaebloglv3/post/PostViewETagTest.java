@@ -0,0 +1,65 @@
+package com.sparta.hanghaebloglv3.post;
+
+import com.sparta.hanghaebloglv3.common.security.UserDetailsImpl;
+import com.sparta.hanghaebloglv3.post.view.PostViewService;
+import com.sparta.hanghaebloglv3.user.entity.UserEntity;
+import com.sparta.hanghaebloglv3.user.entity.UserRoleEnum;
+import com.sparta.hanghaebloglv3.user.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 게시글이 바뀌지 않아도 조회수가 반영되면 단건 응답의 버전(ETag)이 바뀌어, 캐시된 응답과 304 의 조회수가 멈춰 있지 않은지 확인.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class PostViewETagTest {
+
+	@Autowired
+	private MockMvc mockMvc;
+	@Autowired
+	private UserRepository userRepository;
+	@Autowired
+	private PostViewService postViewService;
+
+	@Test
+	void flushedViewsChangeETag() throws Exception {
+		UserDetailsImpl writer = new UserDetailsImpl(userRepository.save(new UserEntity("viewer0", "password", UserRoleEnum.USER)));
+		String created = mockMvc.perform(post("/api/post").with(user(writer))
+						.contentType(MediaType.APPLICATION_JSON)
+						.content("{\"title\":\"title\",\"content\":\"content\"}"))
+				.andExpect(status().isOk())
+				.andReturn().getResponse().getContentAsString();
+		long postId = Long.parseLong(created.replaceAll(".*\"postId\":(\\d+).*", "$1"));
+
+		String eTag = mockMvc.perform(get("/api/post/" + postId).with(user(writer)))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.viewCount").value(0))
+				.andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+		// 반영 전에는 같은 버전 (304 도 조회수에 포함)
+		mockMvc.perform(get("/api/post/" + postId).with(user(writer)).header(HttpHeaders.IF_NONE_MATCH, eTag))
+				.andExpect(status().isNotModified());
+
+		postViewService.flush();
+		String flushedETag = mockMvc.perform(get("/api/post/" + postId).with(user(writer)).header(HttpHeaders.IF_NONE_MATCH, eTag))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.viewCount").value(2))
+				.andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+		assertThat(flushedETag).isNotEqualTo(eTag);
+	}
+}
@@ -0,0 +1,35 @@
+package com.sparta.hanghaebloglv3.post.dto;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * PostProjection 의 fields 검사. 응답에 채워지지 않는 필드는 빈 값 대신 거부(null)되는지 확인.
+ */
+class PostProjectionTest {
+
+	@Test
+	void listRejectsFieldsOnlyFilledInDetail() {
+		assertThat(PostProjection.of("title,contents", null, PostProjection.LIST_FIELDS)).isNull();
+		assertThat(PostProjection.of("likedByMe", null, PostProjection.LIST_FIELDS)).isNull();
+
+		PostProjection projection = PostProjection.of("title,excerpt,commentCount", null, PostProjection.LIST_FIELDS);
+		assertThat(projection).isNotNull();
+		assertThat(projection.has(PostProjection.EXCERPT)).isTrue();
+		assertThat(projection.has(PostProjection.CONTENTS)).isFalse();
+	}
+
+	@Test
+	void detailRejectsFieldsOnlyFilledInList() {
+		assertThat(PostProjection.of("excerpt", null, PostProjection.DETAIL_FIELDS)).isNull();
+		assertThat(PostProjection.of("title,commentCount", null, PostProjection.DETAIL_FIELDS)).isNull();
+		assertThat(PostProjection.of("title,contents,likedByMe", "comments", PostProjection.DETAIL_FIELDS)).isNotNull();
+	}
+
+	@Test
+	void noFieldsSelectsEverything() {
+		assertThat(PostProjection.of(null, null, PostProjection.LIST_FIELDS)).isSameAs(PostProjection.ALL);
+		assertThat(PostProjection.of(null, "comments", PostProjection.DETAIL_FIELDS).has(PostProjection.CONTENTS)).isTrue();
+	}
+}
@@ -0,0 +1,163 @@
+package com.sparta.hanghaebloglv3.user;
+
+import com.sparta.hanghaebloglv3.common.jwt.JwtUtil;
+import com.sparta.hanghaebloglv3.user.entity.UserEntity;
+import com.sparta.hanghaebloglv3.user.entity.UserRoleEnum;
+import com.sparta.hanghaebloglv3.user.repository.UserRepository;
+import com.sparta.hanghaebloglv3.user.service.TokenRevocationService;
+import com.sparta.hanghaebloglv3.user.service.UserService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * refresh 토큰 교체(rotation)와 재사용 감지.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class RefreshTokenRotationTest {
+
+	private static final AtomicInteger USER_SEQUENCE = new AtomicInteger();
+
+	@Autowired
+	private UserService userService;
+	@Autowired
+	private UserRepository userRepository;
+	@Autowired
+	private TokenRevocationService tokenRevocationService;
+	@Autowired
+	private JwtUtil jwtUtil;
+
+	@Test
+	void rotationIssuesNewPairAndRevokesUsedToken() {
+		String first = this.login();
+
+		ResponseEntity<?> response = userService.refresh(first);
+		String second = response.getHeaders().getFirst(JwtUtil.REFRESH_TOKEN_HEADER);
+		String access = response.getHeaders().getFirst(JwtUtil.AUTHORIZATION_HEADER);
+
+		assertThat(second).isNotNull().isNotEqualTo(first);
+		assertThat(this.isRevoked(first)).isTrue();
+		assertThat(this.isRevoked(second)).isFalse();
+		assertThat(this.isRevoked(access)).isFalse();
+		// 같은 로그인에서 이어진 토큰은 같은 family
+		assertThat(this.familyOf(second)).isEqualTo(this.familyOf(first)).isEqualTo(this.familyOf(access));
+
+		userService.refresh(second);
+	}
+
+	@Test
+	void reusingRotatedTokenRevokesWholeFamily() {
+		String first = this.login();
+		ResponseEntity<?> response = userService.refresh(first);
+		String second = response.getHeaders().getFirst(JwtUtil.REFRESH_TOKEN_HEADER);
+		String access = response.getHeaders().getFirst(JwtUtil.AUTHORIZATION_HEADER);
+
+		assertThatThrownBy(() -> userService.refresh(first)).isInstanceOf(IllegalArgumentException.class);
+
+		// 먼저 교체해 간 쪽의 토큰도 더 이상 쓸 수 없음
+		assertThat(this.isRevoked(second)).isTrue();
+		assertThat(this.isRevoked(access)).isTrue();
+		assertThatThrownBy(() -> userService.refresh(second)).isInstanceOf(IllegalArgumentException.class);
+	}
+
+	@Test
+	void reuseDoesNotRevokeOtherLogins() {
+		String username = this.newUser();
+		String stolen = this.login(username);
+		String otherDevice = this.login(username);
+
+		userService.refresh(stolen);
+		assertThatThrownBy(() -> userService.refresh(stolen)).isInstanceOf(IllegalArgumentException.class);
+
+		assertThat(this.isRevoked(otherDevice)).isFalse();
+		userService.refresh(otherDevice);
+	}
+
+	@Test
+	void concurrentRefreshWithSameTokenLeavesNoValidToken() throws Exception {
+		String token = this.login();
+		int threads = 4;
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		CountDownLatch start = new CountDownLatch(1);
+		List<Future<String>> futures = new ArrayList<>();
+		for (int i = 0; i < threads; i++) {
+			Callable<String> refresh = () -> {
+				start.await();
+				try {
+					return userService.refresh(token).getHeaders().getFirst(JwtUtil.REFRESH_TOKEN_HEADER);
+				} catch (IllegalArgumentException e) {
+					return null;
+				}
+			};
+			futures.add(executor.submit(refresh));
+		}
+		start.countDown();
+
+		List<String> issued = new ArrayList<>();
+		for (Future<String> future : futures) {
+			String refreshToken = future.get();
+			if (refreshToken != null) {
+				issued.add(refreshToken);
+			}
+		}
+		executor.shutdown();
+
+		// 하나만 교체에 성공하고, 나머지가 재사용으로 감지되어 성공한 쪽이 받은 토큰까지 폐기됨
+		assertThat(issued).hasSize(1);
+		assertThat(this.isRevoked(issued.get(0))).isTrue();
+	}
+
+	@Test
+	void tokensIssuedRightAfterUserRevocationAreValid() {
+		String username = this.newUser();
+		String before = this.login(username);
+
+		// 비밀번호 변경 직후(같은 초) 다시 로그인, 재발급
+		tokenRevocationService.revokeAllTokensOf(username);
+		String after = this.login(username);
+		String access = jwtUtil.createToken(username, UserRoleEnum.USER, jwtUtil.newFamily());
+
+		assertThat(this.isRevoked(before)).isTrue();
+		assertThat(this.isRevoked(after)).isFalse();
+		assertThat(this.isRevoked(access)).isFalse();
+		assertThat(userService.refresh(after).getStatusCode().is2xxSuccessful()).isTrue();
+	}
+
+	private String newUser() {
+		String username = "rotation" + USER_SEQUENCE.incrementAndGet();
+		userRepository.save(new UserEntity(username, "password", UserRoleEnum.USER));
+		return username;
+	}
+
+	private String login() {
+		return this.login(this.newUser());
+	}
+
+	// 로그인 성공 시 발급되는 refresh 토큰 (JwtAuthenticationFilter 와 같은 방식)
+	private String login(String username) {
+		return jwtUtil.createRefreshToken(username, jwtUtil.newFamily());
+	}
+
+	private boolean isRevoked(String token) {
+		return tokenRevocationService.isRevoked(jwtUtil.getUserInfoFromToken(jwtUtil.substringToken(token)));
+	}
+
+	private String familyOf(String token) {
+		return JwtUtil.getFamily(jwtUtil.getUserInfoFromToken(jwtUtil.substringToken(token)));
+	}
+}
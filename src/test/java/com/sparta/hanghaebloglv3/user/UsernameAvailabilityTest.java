@@ -0,0 +1,102 @@
+package com.sparta.hanghaebloglv3.user;
+
+import com.sparta.hanghaebloglv3.common.util.BloomFilter;
+import com.sparta.hanghaebloglv3.user.dto.SignupRequestDto;
+import com.sparta.hanghaebloglv3.user.entity.UserEntity;
+import com.sparta.hanghaebloglv3.user.entity.UserRoleEnum;
+import com.sparta.hanghaebloglv3.user.repository.UserRepository;
+import com.sparta.hanghaebloglv3.user.service.UserService;
+import com.sparta.hanghaebloglv3.user.service.UsernameAvailabilityService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.MessageSource;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * username 중복 확인 filter 의 polling 과 중복 username 오류 처리.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class UsernameAvailabilityTest {
+
+	private static final AtomicInteger USER_SEQUENCE = new AtomicInteger();
+
+	@Autowired
+	private UserService userService;
+	@Autowired
+	private UserRepository userRepository;
+	@Autowired
+	private UsernameAvailabilityService usernameAvailabilityService;
+	@Autowired
+	private MessageSource messageSource;
+
+	@Test
+	void pollPicksUpRenameFromOtherServer() {
+		UserEntity user = userRepository.saveAndFlush(new UserEntity(this.nextUsername(), "password", UserRoleEnum.USER));
+		usernameAvailabilityService.poll();
+
+		// 다른 서버에서 변경된 것처럼 markUsed 없이 바로 수정 (id 는 그대로이므로 id 증가분 polling 으로는 알 수 없음)
+		String renamed = this.nextUsername();
+		user.update(renamed, user.getPassword(), null);
+		userRepository.saveAndFlush(user);
+		assertThat(this.usedUsernames().mightContain(renamed)).isFalse();
+
+		usernameAvailabilityService.poll();
+		assertThat(this.usedUsernames().mightContain(renamed)).isTrue();
+		assertThat(usernameAvailabilityService.isAvailable(renamed)).isFalse();
+	}
+
+	@Test
+	void usernameIsMarkedUsedOnlyAfterCommit() {
+		String username = this.nextUsername();
+		userService.signup(this.signupRequest(username));
+		assertThat(this.usedUsernames().mightContain(username)).isTrue();
+
+		// insert 가 실패한 username 은 filter 에 남지 않음
+		String tooLong = "b".repeat(300);
+		assertThatThrownBy(() -> userService.signup(this.signupRequest(tooLong)))
+				.isInstanceOf(DataIntegrityViolationException.class);
+		assertThat(this.usedUsernames().mightContain(tooLong)).isFalse();
+	}
+
+	@Test
+	void duplicateUsernameIsReportedAsInUsed() {
+		String username = this.nextUsername();
+		userService.signup(this.signupRequest(username));
+
+		assertThatThrownBy(() -> userService.signup(this.signupRequest(username)))
+				.isInstanceOf(IllegalArgumentException.class)
+				.hasMessage(messageSource.getMessage("in.used.username", null, "In Used Username", Locale.getDefault()));
+	}
+
+	@Test
+	void otherConstraintViolationIsNotReportedAsInUsed() {
+		// username 컬럼 길이(255) 초과는 중복이 아니므로 그대로 전달
+		assertThatThrownBy(() -> userService.signup(this.signupRequest("a".repeat(300))))
+				.isInstanceOf(DataIntegrityViolationException.class);
+	}
+
+	private SignupRequestDto signupRequest(String username) {
+		SignupRequestDto requestDto = new SignupRequestDto();
+		ReflectionTestUtils.setField(requestDto, "username", username);
+		ReflectionTestUtils.setField(requestDto, "password", "Passw0rd!");
+		return requestDto;
+	}
+
+	private BloomFilter usedUsernames() {
+		return (BloomFilter) ReflectionTestUtils.getField(usernameAvailabilityService, "usedUsernames");
+	}
+
+	private String nextUsername() {
+		return "avail" + USER_SEQUENCE.incrementAndGet();
+	}
+}